@@ -0,0 +1,190 @@
+package com.pragma.audit.application.service;
+
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated audit event slots.
+ * Producers claim a sequence with a compare-and-set, copy field references into the slot and
+ * publish it by writing the sequence into the slot's publication marker, so an enqueue takes no
+ * lock and allocates nothing. When the ring is full the event is rejected and counted instead
+ * of blocking the request thread. Only one thread may call {@link #drain}.
+ */
+public class AuthAuditRingBuffer {
+
+    private final Slot[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile long consumed;
+
+    /**
+     * @param requestedCapacity minimum number of slots; rounded up to a power of two
+     */
+    public AuthAuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity);
+        if (capacity < requestedCapacity) {
+            capacity <<= 1;
+        }
+        this.mask = capacity - 1;
+        this.slots = new Slot[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Enqueues an event.
+     *
+     * @return false if the ring is full and the event was discarded
+     */
+    public boolean offer(long timestampMillis, AuthOutcome outcome, String userId, String httpMethod, String uri,
+                         String clientIp, String userAgent, String detail) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                rejected.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        Slot slot = slots[index];
+        slot.timestampMillis = timestampMillis;
+        slot.outcome = outcome;
+        slot.userId = userId;
+        slot.httpMethod = httpMethod;
+        slot.uri = uri;
+        slot.clientIp = clientIp;
+        slot.userAgent = userAgent;
+        slot.detail = detail;
+        // Volatile write: makes the slot fields visible to the consumer
+        published.set(index, sequence);
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * Hands published events to the consumer in order, releasing each slot afterwards.
+     * Stops at the first slot that is claimed but not yet published.
+     *
+     * @param consumer receives each slot; must not keep a reference to it
+     * @param maxEvents maximum number of events to drain
+     * @return number of events drained
+     */
+    public int drain(SlotConsumer consumer, int maxEvents) {
+        long sequence = consumed;
+        int drained = 0;
+        while (drained < maxEvents) {
+            int index = (int) (sequence & mask);
+            if (published.get(index) != sequence) {
+                break;
+            }
+            Slot slot = slots[index];
+            try {
+                consumer.accept(slot);
+            } finally {
+                slot.clear();
+                consumed = ++sequence;
+            }
+            drained++;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Number of events waiting to be drained, including claimed slots not yet published.
+     */
+    public int size() {
+        return (int) Math.max(0, claimed.get() - consumed);
+    }
+
+    public long acceptedCount() {
+        return accepted.sum();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Receives drained slots.
+     */
+    @FunctionalInterface
+    public interface SlotConsumer {
+        void accept(Slot slot);
+    }
+
+    /**
+     * Preallocated event holder. Fields are written by one producer before publication and read
+     * by the consumer after it, never concurrently.
+     */
+    public static final class Slot {
+
+        private long timestampMillis;
+        private AuthOutcome outcome;
+        private String userId;
+        private String httpMethod;
+        private String uri;
+        private String clientIp;
+        private String userAgent;
+        private String detail;
+
+        private void clear() {
+            outcome = null;
+            userId = null;
+            httpMethod = null;
+            uri = null;
+            clientIp = null;
+            userAgent = null;
+            detail = null;
+        }
+
+        public long getTimestampMillis() {
+            return timestampMillis;
+        }
+
+        public AuthOutcome getOutcome() {
+            return outcome;
+        }
+
+        public String getUserId() {
+            return userId;
+        }
+
+        public String getHttpMethod() {
+            return httpMethod;
+        }
+
+        public String getUri() {
+            return uri;
+        }
+
+        public String getClientIp() {
+            return clientIp;
+        }
+
+        public String getUserAgent() {
+            return userAgent;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.pragma.audit.application.service;
+
+import com.pragma.audit.domain.model.AuthAuditEvent;
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import com.pragma.audit.domain.port.input.RecordAuthEventUseCase;
+import com.pragma.audit.domain.port.input.SearchAuthEventsUseCase;
+import com.pragma.audit.domain.port.output.AuthAuditEventRepository;
+import com.pragma.shared.config.AuthenticationProperties;
+import com.pragma.shared.security.ClientRequestInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Audit trail of authentication outcomes.
+ * Request threads only copy references into a {@link AuthAuditRingBuffer}; a dedicated writer
+ * thread sanitizes the values and stores the events in batches.
+ * Failures are always recorded, successful authentications only at the configured sample rate.
+ */
+@Service
+@Slf4j
+public class AuthAuditService implements RecordAuthEventUseCase, SearchAuthEventsUseCase, SmartLifecycle {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    private final AuthenticationProperties.Audit config;
+    private final AuthAuditEventRepository auditEventRepository;
+    private final AuthAuditRingBuffer ringBuffer;
+    private final List<AuthAuditEvent> batch;
+    private final Counter writtenEvents;
+    private final Counter failedEvents;
+    private final Counter unsampledEvents;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuthAuditService(AuthenticationProperties authProperties, AuthAuditEventRepository auditEventRepository,
+                            MeterRegistry meterRegistry) {
+        this.config = authProperties.getAudit();
+        this.auditEventRepository = auditEventRepository;
+        this.ringBuffer = new AuthAuditRingBuffer(config.getBufferSize());
+        this.batch = new ArrayList<>(config.getBatchSize());
+        FunctionCounter.builder("auth.audit.events", ringBuffer, AuthAuditRingBuffer::acceptedCount)
+                .description("Authentication audit events by pipeline stage")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.audit.events", ringBuffer, AuthAuditRingBuffer::rejectedCount)
+                .description("Authentication audit events by pipeline stage")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        this.writtenEvents = Counter.builder("auth.audit.events")
+                .description("Authentication audit events by pipeline stage")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.failedEvents = Counter.builder("auth.audit.events")
+                .description("Authentication audit events by pipeline stage")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.unsampledEvents = Counter.builder("auth.audit.events")
+                .description("Authentication audit events by pipeline stage")
+                .tag("result", "unsampled")
+                .register(meterRegistry);
+        Gauge.builder("auth.audit.buffer.size", ringBuffer, AuthAuditRingBuffer::size)
+                .description("Authentication audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean recordAuthEvent(AuthOutcome outcome, String userId, String httpMethod, String uri,
+                                   String clientIp, String userAgent, String detail) {
+        if (!config.isEnabled()) {
+            return false;
+        }
+        if (outcome == AuthOutcome.SUCCESS && !isSampled()) {
+            unsampledEvents.increment();
+            return false;
+        }
+        boolean accepted = ringBuffer.offer(System.currentTimeMillis(), outcome, userId, httpMethod, uri,
+                clientIp, userAgent, detail);
+        if (!accepted && outcome != AuthOutcome.SUCCESS
+                && config.getOverflowPolicy() == AuthenticationProperties.OverflowPolicy.LOG_FAILURES) {
+            log.warn("AUTH_AUDIT_OVERFLOW - Audit event dropped: outcome={}, userId={}, method={}, uri={}, clientIp={}, detail={}",
+                    outcome, userId, httpMethod, uri, clientIp, detail);
+        }
+        return accepted;
+    }
+
+    @Override
+    public List<AuthAuditEvent> searchRecentAuthEvents(AuthOutcome outcome, String userId, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, config.getMaxSearchResults()));
+        return auditEventRepository.findRecent(outcome, userId, boundedLimit);
+    }
+
+    /**
+     * Deletes events older than the configured retention.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.audit.purge-interval:PT1H}")
+    public void purgeExpiredEvents() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(config.getRetention());
+        int deleted = auditEventRepository.deleteOlderThan(cutoff);
+        if (deleted > 0) {
+            log.info("Auth audit events purged by retention: deleted={}", deleted);
+        }
+    }
+
+    /**
+     * Drains one batch from the buffer and stores it. Called only from the writer thread,
+     * or directly in tests when the writer is not running.
+     *
+     * @return number of events drained
+     */
+    int flush() {
+        batch.clear();
+        int drained = ringBuffer.drain(slot -> batch.add(toEvent(slot)), config.getBatchSize());
+        if (drained == 0) {
+            return 0;
+        }
+        try {
+            auditEventRepository.saveAll(batch);
+            writtenEvents.increment(drained);
+        } catch (RuntimeException e) {
+            failedEvents.increment(drained);
+            log.error("Auth audit batch could not be stored: events={}, error={}", drained, e.getMessage(), e);
+        } finally {
+            batch.clear();
+        }
+        return drained;
+    }
+
+    private boolean isSampled() {
+        double rate = config.getSuccessSampleRate();
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private AuthAuditEvent toEvent(AuthAuditRingBuffer.Slot slot) {
+        AuthAuditEvent event = new AuthAuditEvent();
+        event.setOccurredAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(slot.getTimestampMillis()), ZoneId.systemDefault()));
+        event.setOutcome(slot.getOutcome());
+        event.setUserId(slot.getUserId());
+        event.setHttpMethod(truncate(slot.getHttpMethod(), 16));
+        event.setUri(truncate(slot.getUri(), 512));
+        event.setClientIp(truncate(slot.getClientIp(), 64));
+        event.setUserAgent(ClientRequestInfo.sanitizeUserAgent(slot.getUserAgent()));
+        event.setDetail(truncate(slot.getDetail(), 255));
+        return event;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    private void runWriter() {
+        long idleNanos = config.getFlushInterval().toNanos();
+        while (running) {
+            if (flush() < config.getBatchSize()) {
+                LockSupport.parkNanos(idleNanos);
+            }
+        }
+        // Final drain of whatever was enqueued before shutdown
+        while (flush() > 0) {
+            // keep draining
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running || !config.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform()
+                .name("auth-audit-writer")
+                .daemon(true)
+                .start(this::runWriter);
+        log.info("Auth audit writer started: bufferSize={}, batchSize={}, flushInterval={}",
+                ringBuffer.capacity(), config.getBatchSize(), config.getFlushInterval());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.warn("Auth audit writer did not stop within {} ms: pendingEvents={}",
+                    SHUTDOWN_TIMEOUT_MILLIS, ringBuffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    long pendingEvents() {
+        return ringBuffer.size();
+    }
+
+    long droppedEvents() {
+        return ringBuffer.rejectedCount();
+    }
+}
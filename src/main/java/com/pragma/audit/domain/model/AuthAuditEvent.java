@@ -0,0 +1,23 @@
+package com.pragma.audit.domain.model;
+
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthAuditEvent {
+    private String id;
+    private LocalDateTime occurredAt;
+    private AuthOutcome outcome;
+    private String userId;
+    private String httpMethod;
+    private String uri;
+    private String clientIp;
+    private String userAgent;
+    private String detail;
+}
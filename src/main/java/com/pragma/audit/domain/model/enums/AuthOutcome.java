@@ -0,0 +1,11 @@
+package com.pragma.audit.domain.model.enums;
+
+public enum AuthOutcome {
+    SUCCESS,
+    MISSING_AUTHORIZATION,
+    INVALID_AUTHORIZATION,
+    USER_NOT_FOUND,
+    FORBIDDEN,
+    RATE_LIMITED,
+    ERROR
+}
@@ -0,0 +1,16 @@
+package com.pragma.audit.domain.port.input;
+
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+
+public interface RecordAuthEventUseCase {
+
+    /**
+     * Records an authentication outcome without blocking the caller. The client IP is the
+     * request's remote address; header values are passed raw and sanitized when the event is
+     * written.
+     *
+     * @return false if the event was not accepted because the audit buffer is full
+     */
+    boolean recordAuthEvent(AuthOutcome outcome, String userId, String httpMethod, String uri,
+                            String clientIp, String userAgent, String detail);
+}
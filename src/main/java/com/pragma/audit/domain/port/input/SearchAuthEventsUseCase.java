@@ -0,0 +1,10 @@
+package com.pragma.audit.domain.port.input;
+
+import com.pragma.audit.domain.model.AuthAuditEvent;
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+
+import java.util.List;
+
+public interface SearchAuthEventsUseCase {
+    List<AuthAuditEvent> searchRecentAuthEvents(AuthOutcome outcome, String userId, int limit);
+}
@@ -0,0 +1,13 @@
+package com.pragma.audit.domain.port.output;
+
+import com.pragma.audit.domain.model.AuthAuditEvent;
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AuthAuditEventRepository {
+    void saveAll(List<AuthAuditEvent> events);
+    List<AuthAuditEvent> findRecent(AuthOutcome outcome, String userId, int limit);
+    int deleteOlderThan(LocalDateTime cutoff);
+}
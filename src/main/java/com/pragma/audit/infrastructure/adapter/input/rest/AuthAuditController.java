@@ -0,0 +1,46 @@
+package com.pragma.audit.infrastructure.adapter.input.rest;
+
+import com.pragma.audit.domain.model.AuthAuditEvent;
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import com.pragma.audit.domain.port.input.SearchAuthEventsUseCase;
+import com.pragma.audit.infrastructure.adapter.input.rest.dto.AuthAuditEventDto;
+import com.pragma.audit.infrastructure.adapter.input.rest.mapper.AuthAuditEventDtoMapper;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.dto.OkResponseDto;
+import com.pragma.shared.service.MessageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/audit")
+@RequiredArgsConstructor
+@Slf4j
+public class AuthAuditController {
+
+    private final SearchAuthEventsUseCase searchAuthEventsUseCase;
+    private final AuthAuditEventDtoMapper auditEventDtoMapper;
+    private final MessageService messageService;
+
+    @GetMapping("/auth-events")
+    public ResponseEntity<OkResponseDto<List<AuthAuditEventDto>>> searchAuthEvents(
+            @RequestParam(required = false) AuthOutcome outcome,
+            @RequestParam(required = false) String userId,
+            @RequestParam(defaultValue = "100") int limit) {
+        // Only admins can read the authentication audit trail
+        UserContextHelper.requireAdminRole();
+
+        log.info("User {} searching auth events: outcome={}, userId={}, limit={}",
+                UserContextHelper.getCurrentUserEmail(), outcome, userId, limit);
+
+        List<AuthAuditEvent> events = searchAuthEventsUseCase.searchRecentAuthEvents(outcome, userId, limit);
+        return ResponseEntity.ok(OkResponseDto.of(
+                messageService.getMessage("audit.events.retrieved"), auditEventDtoMapper.toDtoList(events)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.pragma.audit.infrastructure.adapter.input.rest.mapper;
+
+import com.pragma.audit.domain.model.AuthAuditEvent;
+import com.pragma.audit.infrastructure.adapter.input.rest.dto.AuthAuditEventDto;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface AuthAuditEventDtoMapper {
+
+    AuthAuditEventDto toDto(AuthAuditEvent event);
+
+    List<AuthAuditEventDto> toDtoList(List<AuthAuditEvent> events);
+}
@@ -0,0 +1,39 @@
+package com.pragma.audit.infrastructure.adapter.output.persistence;
+
+import com.pragma.audit.domain.model.AuthAuditEvent;
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import com.pragma.audit.domain.port.output.AuthAuditEventRepository;
+import com.pragma.audit.infrastructure.adapter.output.persistence.mapper.AuthAuditEventMapper;
+import com.pragma.audit.infrastructure.adapter.output.persistence.repository.SpringDataAuthAuditEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class AuthAuditEventPersistenceAdapter implements AuthAuditEventRepository {
+
+    private final SpringDataAuthAuditEventRepository auditEventRepository;
+    private final AuthAuditEventMapper auditEventMapper;
+
+    @Override
+    public void saveAll(List<AuthAuditEvent> events) {
+        auditEventRepository.saveAll(auditEventMapper.toEntityList(events));
+    }
+
+    @Override
+    public List<AuthAuditEvent> findRecent(AuthOutcome outcome, String userId, int limit) {
+        return auditEventMapper.toDomainList(
+                auditEventRepository.findRecent(outcome, userId, PageRequest.of(0, limit)));
+    }
+
+    @Override
+    @Transactional
+    public int deleteOlderThan(LocalDateTime cutoff) {
+        return auditEventRepository.deleteByOccurredAtBefore(cutoff);
+    }
+}
@@ -0,0 +1,48 @@
+package com.pragma.audit.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "auth_audit_events", indexes = {
+        @Index(name = "idx_auth_audit_events_occurred_at", columnList = "occurred_at"),
+        @Index(name = "idx_auth_audit_events_user_id", columnList = "user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthAuditEventEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outcome", nullable = false, length = 32)
+    private AuthOutcome outcome;
+
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "http_method", length = 16)
+    private String httpMethod;
+
+    @Column(name = "uri", length = 512)
+    private String uri;
+
+    @Column(name = "client_ip", length = 64)
+    private String clientIp;
+
+    @Column(name = "user_agent", length = 200)
+    private String userAgent;
+
+    @Column(name = "detail", length = 255)
+    private String detail;
+}
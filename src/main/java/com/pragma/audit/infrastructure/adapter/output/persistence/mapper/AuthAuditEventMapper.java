@@ -0,0 +1,19 @@
+package com.pragma.audit.infrastructure.adapter.output.persistence.mapper;
+
+import com.pragma.audit.domain.model.AuthAuditEvent;
+import com.pragma.audit.infrastructure.adapter.output.persistence.entity.AuthAuditEventEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface AuthAuditEventMapper {
+
+    AuthAuditEventEntity toEntity(AuthAuditEvent event);
+
+    AuthAuditEvent toDomain(AuthAuditEventEntity entity);
+
+    List<AuthAuditEventEntity> toEntityList(List<AuthAuditEvent> events);
+
+    List<AuthAuditEvent> toDomainList(List<AuthAuditEventEntity> entities);
+}
@@ -0,0 +1,29 @@
+package com.pragma.audit.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import com.pragma.audit.infrastructure.adapter.output.persistence.entity.AuthAuditEventEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SpringDataAuthAuditEventRepository extends JpaRepository<AuthAuditEventEntity, String> {
+
+    @Query("SELECT e FROM AuthAuditEventEntity e " +
+           "WHERE (:outcome IS NULL OR e.outcome = :outcome) " +
+           "AND (:userId IS NULL OR e.userId = :userId) " +
+           "ORDER BY e.occurredAt DESC")
+    List<AuthAuditEventEntity> findRecent(@Param("outcome") AuthOutcome outcome,
+                                          @Param("userId") String userId,
+                                          Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM AuthAuditEventEntity e WHERE e.occurredAt < :cutoff")
+    int deleteByOccurredAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
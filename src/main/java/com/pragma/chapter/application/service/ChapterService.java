@@ -3,8 +3,10 @@ package com.pragma.chapter.application.service;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.pragma.chapter.domain.event.ChapterChangedEvent;
 import com.pragma.chapter.domain.model.Chapter;
 import com.pragma.chapter.domain.port.input.CreateChapterUseCase;
 import com.pragma.chapter.domain.port.input.FindChapterUseCase;
@@ -20,10 +22,13 @@ public class ChapterService implements CreateChapterUseCase, GetAllChaptersUseCa
 
     private final ChapterRepository chapterRepository;
     private final MessageService messageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Chapter createChapter(Chapter chapter) {        
-        return chapterRepository.save(chapter);
+        Chapter savedChapter = chapterRepository.save(chapter);
+        eventPublisher.publishEvent(new ChapterChangedEvent(ChapterChangedEvent.ChangeType.CREATED, savedChapter));
+        return savedChapter;
     }
 
     @Override
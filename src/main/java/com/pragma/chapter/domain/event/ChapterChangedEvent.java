@@ -0,0 +1,21 @@
+package com.pragma.chapter.domain.event;
+
+import com.pragma.chapter.domain.model.Chapter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the chapter service after a chapter has been created.
+ * Listeners use it to refresh in-memory copies of the chapters.
+ */
+@Getter
+@AllArgsConstructor
+public class ChapterChangedEvent {
+
+    private final ChangeType changeType;
+    private final Chapter chapter;
+
+    public enum ChangeType {
+        CREATED
+    }
+}
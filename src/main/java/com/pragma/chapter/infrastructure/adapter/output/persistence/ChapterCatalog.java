@@ -0,0 +1,95 @@
+package com.pragma.chapter.infrastructure.adapter.output.persistence;
+
+import com.pragma.chapter.domain.event.ChapterChangedEvent;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.repository.SpringDataChapterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the chapter table, so mapping a user to or from its entity does not query
+ * its chapter. Chapters are only ever created, never renamed or deleted: the catalog is loaded at
+ * startup, reloaded after this instance creates a chapter, and reads through to the database
+ * for an id it does not hold, such as a chapter created by another instance.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChapterCatalog {
+
+    private final SpringDataChapterRepository chapterRepository;
+
+    private volatile Map<String, String> namesById;
+    private long generation;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        log.info("Chapter catalog loaded: {} chapters", catalog().size());
+    }
+
+    @EventListener
+    public void onChapterChanged(ChapterChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Drops the catalog; the next lookup loads it again.
+     */
+    public synchronized void invalidate() {
+        generation++;
+        namesById = null;
+    }
+
+    /**
+     * Chapter with the given id, as a detached entity built from the catalog, or as loaded from
+     * the database when the catalog does not hold it. Meant to be set as the chapter of an entity
+     * being written, where only its id is used, or to name the lazy chapter of an entity read.
+     */
+    public Optional<ChapterEntity> findById(String id) {
+        String name = catalog().get(id);
+        if (name != null) {
+            return Optional.of(new ChapterEntity(id, name));
+        }
+        Optional<ChapterEntity> loaded = chapterRepository.findById(id);
+        loaded.ifPresent(this::add);
+        return loaded;
+    }
+
+    public int size() {
+        return catalog().size();
+    }
+
+    private Map<String, String> catalog() {
+        Map<String, String> current = namesById;
+        if (current != null) {
+            return current;
+        }
+        long loadedGeneration;
+        synchronized (this) {
+            loadedGeneration = generation;
+        }
+        Map<String, String> loaded = new ConcurrentHashMap<>();
+        chapterRepository.findAll().forEach(chapter -> loaded.put(chapter.getId(), chapter.getName()));
+        synchronized (this) {
+            // A chapter created while loading may be missing from this copy; let the next lookup reload
+            if (generation == loadedGeneration) {
+                namesById = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private void add(ChapterEntity chapter) {
+        Map<String, String> current = namesById;
+        if (current != null) {
+            current.put(chapter.getId(), chapter.getName());
+        }
+    }
+}
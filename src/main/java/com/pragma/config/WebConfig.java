@@ -20,7 +20,8 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/**")
                 .allowedOrigins("*") // O tu frontend: http://localhost:4321
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS") // <--- Incluye PATCH
-                .allowedHeaders("*");
+                .allowedHeaders("*")
+                .exposedHeaders(sessionTokenHeaderName());
     }
 
     @Override
@@ -29,4 +30,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .addPathPatterns(authProperties.getIncludePathPatterns().toArray(new String[0]))
                 .excludePathPatterns(authProperties.getExcludePathPatterns().toArray(new String[0]));
     }
+
+    private String sessionTokenHeaderName() {
+        AuthenticationProperties.Session session = authProperties.getSession();
+        return session != null ? session.getTokenHeaderName() : new AuthenticationProperties.Session().getTokenHeaderName();
+    }
 }
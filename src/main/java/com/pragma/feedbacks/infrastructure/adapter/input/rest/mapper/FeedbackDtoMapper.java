@@ -3,17 +3,25 @@ package com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper;
 import com.pragma.feedbacks.domain.model.Feedback;
 import com.pragma.feedbacks.infrastructure.adapter.input.rest.dto.CreateFeedbackDto;
 import com.pragma.feedbacks.infrastructure.adapter.input.rest.dto.FeedbackDto;
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDtoMapper;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 @Mapper(componentModel = "spring", uses = {UserDtoMapper.class, TutoringDtoMapper.class})
 public interface FeedbackDtoMapper {
     
-    FeedbackDto toDto(Feedback feedback);
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    default FeedbackDto toDto(Feedback feedback) {
+        return toDto(feedback, new IdentityMappingContext());
+    }
+
+    FeedbackDto toDto(Feedback feedback, @Context IdentityMappingContext context);
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "evaluationDate", ignore = true)
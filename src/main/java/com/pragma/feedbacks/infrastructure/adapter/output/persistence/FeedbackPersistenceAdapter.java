@@ -7,6 +7,7 @@ import com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper.Fee
 import com.pragma.feedbacks.infrastructure.adapter.output.persistence.repository.SpringDataFeedbackRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,7 +19,12 @@ public class FeedbackPersistenceAdapter implements FeedbackRepository {
     private final SpringDataFeedbackRepository feedbackRepository;
     private final FeedbackMapper feedbackMapper;
 
+    /**
+     * Reads and writes are transactional so that the skills of each feedback's tutoring, outside
+     * the fetch plan, are batch-loaded while the feedbacks are mapped.
+     */
     @Override
+    @Transactional
     public Feedback save(Feedback feedback) {
         FeedbackEntity entity = feedbackMapper.toEntity(feedback);
         FeedbackEntity savedEntity = feedbackRepository.save(entity);
@@ -26,18 +32,21 @@ public class FeedbackPersistenceAdapter implements FeedbackRepository {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Feedback> findById(String id) {
         return feedbackRepository.findById(id)
                 .map(feedbackMapper::toDomain);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Feedback> findByTutoringId(String tutoringId) {
         List<FeedbackEntity> entities = feedbackRepository.findByTutoringIdId(tutoringId);
         return feedbackMapper.toDomainList(entities);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Feedback> findByTutoringIdAndEvaluatorId(String tutoringId, String evaluatorId) {
         List<FeedbackEntity> entities = feedbackRepository.findByTutoringIdIdAndEvaluatorIdId(tutoringId, evaluatorId);
         return feedbackMapper.toDomainList(entities);
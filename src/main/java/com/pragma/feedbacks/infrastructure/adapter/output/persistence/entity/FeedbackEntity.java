@@ -11,21 +11,35 @@ import java.util.Date;
 
 @Entity
 @Table(name = "feedbacks")
+@NamedEntityGraph(name = FeedbackEntity.WITH_EVALUATOR_AND_TUTORING, attributeNodes = {
+        @NamedAttributeNode("evaluatorId"),
+        @NamedAttributeNode(value = "tutoringId", subgraph = "tutoring")
+}, subgraphs = @NamedSubgraph(name = "tutoring", attributeNodes = {
+        @NamedAttributeNode("tutorId"),
+        @NamedAttributeNode("tuteeId")
+}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class FeedbackEntity {
+    /**
+     * Evaluator, tutoring, tutor and tutee in one statement. The tutoring skills are left to a
+     * batched load: fetching a collection under a to-one shared by many feedbacks repeats its
+     * rows.
+     */
+    public static final String WITH_EVALUATOR_AND_TUTORING = "Feedback.withEvaluatorAndTutoring";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     private UsersEntity evaluatorId;
 
     @Column(name = "evaluation_date")
     private Date evaluationDate;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     private TutoringEntity tutoringId;
 
     @Column(name = "score")
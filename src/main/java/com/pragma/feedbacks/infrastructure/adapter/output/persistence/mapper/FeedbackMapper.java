@@ -2,10 +2,13 @@ package com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper;
 
 import com.pragma.feedbacks.domain.model.Feedback;
 import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.FeedbackEntity;
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -16,9 +19,22 @@ public interface FeedbackMapper {
     @Mapping(source = "tutoring", target = "tutoringId")
     FeedbackEntity toEntity(Feedback feedback);
     
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    default Feedback toDomain(FeedbackEntity entity) {
+        return toDomain(entity, new IdentityMappingContext());
+    }
+
     @Mapping(source = "evaluatorId", target = "evaluator")
     @Mapping(source = "tutoringId", target = "tutoring")
-    Feedback toDomain(FeedbackEntity entity);
+    Feedback toDomain(FeedbackEntity entity, @Context IdentityMappingContext context);
     
-    List<Feedback> toDomainList(List<FeedbackEntity> entities);
+    /**
+     * The feedbacks of a tutoring share one mapped tutoring, and each evaluator is mapped once.
+     */
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    default List<Feedback> toDomainList(List<FeedbackEntity> entities) {
+        return toDomainList(entities, new IdentityMappingContext());
+    }
+
+    List<Feedback> toDomainList(List<FeedbackEntity> entities, @Context IdentityMappingContext context);
 }
\ No newline at end of file
@@ -1,13 +1,22 @@
 package com.pragma.feedbacks.infrastructure.adapter.output.persistence.repository;
 
 import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.FeedbackEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SpringDataFeedbackRepository extends JpaRepository<FeedbackEntity, String> {
+    @Override
+    @EntityGraph(FeedbackEntity.WITH_EVALUATOR_AND_TUTORING)
+    Optional<FeedbackEntity> findById(String id);
+
+    @EntityGraph(FeedbackEntity.WITH_EVALUATOR_AND_TUTORING)
     List<FeedbackEntity> findByTutoringIdIdAndEvaluatorIdId(String tutoringId, String evaluatorId);
+
+    @EntityGraph(FeedbackEntity.WITH_EVALUATOR_AND_TUTORING)
     List<FeedbackEntity> findByTutoringIdId(String tutoringId);
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.pragma.shared.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bounded cache for lookups against a remote service.
+ * <p>
+ * Each loaded value carries its own time to live. Once it expires the next lookup reloads it;
+ * concurrent lookups of the same key share that load. When the load fails, the expired value is
+ * served for up to {@code staleTtl} longer instead of the error, and the next lookup tries again.
+ * Failures are never cached.
+ * <p>
+ * Lookups are counted in {@code <name>.cache.lookups} by result: {@code hit}, {@code miss},
+ * {@code coalesced} (waited for another thread's load) and {@code stale} (served an expired
+ * value because the load failed).
+ */
+@Slf4j
+public class StaleWhileErrorCache<K, V> {
+
+    /**
+     * A loaded value and how long it stays fresh.
+     */
+    public record Loaded<V>(V value, Duration ttl) {
+    }
+
+    private final String name;
+    private final Duration staleTtl;
+    private final Ticker ticker;
+    private final Cache<K, Entry<V>> entries;
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter stale;
+
+    public StaleWhileErrorCache(String name, long maxSize, Duration staleTtl, MeterRegistry meterRegistry) {
+        this(name, maxSize, staleTtl, meterRegistry, Ticker.systemTicker());
+    }
+
+    public StaleWhileErrorCache(String name, long maxSize, Duration staleTtl, MeterRegistry meterRegistry,
+                                Ticker ticker) {
+        this.name = name;
+        this.staleTtl = staleTtl;
+        this.ticker = ticker;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new StaleExpiry())
+                .ticker(ticker)
+                .build();
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        this.coalesced = lookups(meterRegistry, "coalesced");
+        this.stale = lookups(meterRegistry, "stale");
+        Gauge.builder(name + ".cache.size", entries, Cache::estimatedSize)
+                .description("Entries held by the cache, fresh or stale")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the fresh cached value for the key, or loads it.
+     *
+     * @param key    the key to look up
+     * @param loader loads the value and decides how long it stays fresh; must not return null
+     * @return the fresh value, or an expired one if the load failed within the stale window
+     * @throws RuntimeException the load failure, when there is no expired value to fall back on
+     */
+    public V get(K key, Function<K, Loaded<V>> loader) {
+        Entry<V> entry = entries.getIfPresent(key);
+        if (entry != null && entry.isFreshAt(ticker.read())) {
+            hits.increment();
+            return entry.value();
+        }
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> running = loading.putIfAbsent(key, load);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+        try {
+            // Another thread may have finished loading between the first read and the claim
+            entry = entries.getIfPresent(key);
+            if (entry != null && entry.isFreshAt(ticker.read())) {
+                hits.increment();
+                load.complete(entry.value());
+                return entry.value();
+            }
+            misses.increment();
+            V value = loadInto(key, loader, entry);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.invalidate(key);
+    }
+
+    private V loadInto(K key, Function<K, Loaded<V>> loader, Entry<V> previous) {
+        try {
+            Loaded<V> loaded = loader.apply(key);
+            entries.put(key, new Entry<>(loaded.value(), ticker.read() + loaded.ttl().toNanos()));
+            return loaded.value();
+        } catch (RuntimeException e) {
+            if (previous == null) {
+                throw e;
+            }
+            stale.increment();
+            log.debug("Cache {}: refreshing key {} failed, serving the expired value: {}", name, key, e.getMessage());
+            return previous.value();
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(name + ".cache.lookups")
+                .description("Cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Entry<V>(V value, long freshUntilNanos) {
+
+        boolean isFreshAt(long nanos) {
+            return nanos - freshUntilNanos < 0;
+        }
+    }
+
+    /**
+     * Keeps every entry for its own time to live plus the stale window.
+     */
+    private final class StaleExpiry implements Expiry<K, Entry<V>> {
+
+        @Override
+        public long expireAfterCreate(K key, Entry<V> entry, long currentTime) {
+            return Math.max(0, entry.freshUntilNanos() - currentTime) + staleTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
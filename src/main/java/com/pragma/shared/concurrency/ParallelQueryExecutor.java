@@ -0,0 +1,204 @@
+package com.pragma.shared.concurrency;
+
+import com.pragma.shared.config.ParallelQueryProperties;
+import com.pragma.shared.context.ContextPropagatingExecutorService;
+import com.pragma.shared.exception.QueryDeadlineExceededException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent read-only port calls concurrently on virtual threads.
+ * <p>
+ * Calls are grouped in a {@link Scope}: each {@link Scope#fork(Callable)} starts one call,
+ * {@link Scope#join()} waits for all of them, and closing the scope cancels whatever is still
+ * running. The first failure cancels the sibling calls and is rethrown by {@code join()}; a call
+ * that exceeds its deadline fails with {@link QueryDeadlineExceededException}.
+ * <p>
+ * A semaphore shared by every scope bounds the number of calls running at once, so parallel
+ * reads never hold more connections than the limit derived from the pool. Forked calls run
+ * with the caller's user context but outside its transaction, so they must not depend on
+ * uncommitted changes of the caller.
+ */
+public class ParallelQueryExecutor implements AutoCloseable {
+
+    private final ParallelQueryProperties properties;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    public ParallelQueryExecutor(ParallelQueryProperties properties, int maxConcurrency) {
+        this.properties = properties;
+        this.permits = new Semaphore(maxConcurrency);
+        this.executor = new ContextPropagatingExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    public Scope newScope() {
+        return new Scope();
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final List<Fork<?>> forks = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        private Scope() {
+        }
+
+        /**
+         * Starts a call with the configured deadline.
+         *
+         * @return the result of the call, available once {@link #join()} returns
+         */
+        public <T> Supplier<T> fork(Callable<T> call) {
+            return fork(call, properties.getDeadline());
+        }
+
+        /**
+         * Starts a call that must complete within the given deadline.
+         *
+         * @return the result of the call, available once {@link #join()} returns
+         */
+        public <T> Supplier<T> fork(Callable<T> call, Duration deadline) {
+            Fork<T> fork = new Fork<>(deadline);
+            forks.add(fork);
+            if (!properties.isEnabled()) {
+                fork.complete(callInline(call));
+                return fork;
+            }
+            fork.future = executor.submit(() -> run(call, fork));
+            return fork;
+        }
+
+        /**
+         * Waits for every forked call. Rethrows the first failure, or throws
+         * {@link QueryDeadlineExceededException} when a call exceeds its deadline; in both
+         * cases the remaining calls are cancelled.
+         */
+        public void join() {
+            for (Fork<?> fork : forks) {
+                if (fork.future == null) {
+                    continue;
+                }
+                try {
+                    fork.await();
+                } catch (TimeoutException e) {
+                    cancelAll();
+                    throw new QueryDeadlineExceededException(fork.deadline);
+                } catch (ExecutionException | CancellationException e) {
+                    cancelAll();
+                    Throwable failure = firstFailure.get() != null ? firstFailure.get() : e.getCause();
+                    throw asRuntimeException(failure != null ? failure : e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelAll();
+                    throw new IllegalStateException("Interrupted while waiting for parallel queries", e);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private <T> T run(Callable<T> call, Fork<T> fork) throws Exception {
+            try {
+                if (!permits.tryAcquire(fork.remainingNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new QueryDeadlineExceededException(fork.deadline);
+                }
+                try {
+                    return call.call();
+                } finally {
+                    permits.release();
+                }
+            } catch (Exception e) {
+                if (firstFailure.compareAndSet(null, e)) {
+                    cancelAll();
+                }
+                throw e;
+            }
+        }
+
+        private void cancelAll() {
+            for (Fork<?> fork : forks) {
+                if (fork.future != null) {
+                    fork.future.cancel(true);
+                }
+            }
+        }
+    }
+
+    private static final class Fork<T> implements Supplier<T> {
+
+        private final Duration deadline;
+        private final long deadlineNanos;
+        private volatile Future<T> future;
+        private T value;
+        private boolean completed;
+
+        private Fork(Duration deadline) {
+            this.deadline = deadline;
+            this.deadlineNanos = System.nanoTime() + deadline.toNanos();
+        }
+
+        @Override
+        public T get() {
+            if (!completed) {
+                throw new IllegalStateException("The forked query has not been joined");
+            }
+            return value;
+        }
+
+        private long remainingNanos() {
+            return Math.max(0, deadlineNanos - System.nanoTime());
+        }
+
+        private void complete(T result) {
+            value = result;
+            completed = true;
+        }
+
+        private void await() throws InterruptedException, ExecutionException, TimeoutException {
+            complete(future.get(remainingNanos(), TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private static <T> T callInline(Callable<T> call) {
+        try {
+            return call.call();
+        } catch (Exception e) {
+            throw asRuntimeException(e);
+        }
+    }
+
+    private static RuntimeException asRuntimeException(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(failure.getMessage(), failure);
+    }
+}
@@ -1,9 +1,14 @@
 package com.pragma.shared.config;
 
+import com.pragma.shared.security.route.RouteAccess;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -32,4 +37,335 @@ public class AuthenticationProperties {
      * Default: ["/actuator/**"]
      */
     private List<String> excludePathPatterns = List.of("/actuator/**");
-}
\ No newline at end of file
+
+    /**
+     * Route policy table: access level and rate class by method and path pattern.
+     * Requests matching no route require authentication.
+     * Default: POST /api/v1/users (user registration) is public
+     */
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("POST", "/api/v1/users", RouteAccess.PUBLIC, null)));
+
+    /**
+     * Rate classes referenced by the route policy table.
+     */
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * How requests are authenticated.
+     * Default: GOOGLE_ID
+     */
+    private Mode mode = Mode.GOOGLE_ID;
+
+    /**
+     * Settings for the signed session token mode.
+     */
+    private Session session = new Session();
+
+    /**
+     * Settings for the in-process cache of authenticated principals.
+     */
+    private PrincipalCache principalCache = new PrincipalCache();
+
+    /**
+     * Settings for rejecting unknown Google user IDs without a database lookup.
+     */
+    private NegativeCache negativeCache = new NegativeCache();
+
+    /**
+     * Settings for the asynchronous audit trail of authentication outcomes.
+     */
+    private Audit audit = new Audit();
+
+    /**
+     * Configuration of per-client request rate limiting.
+     */
+    @Data
+    public static class RateLimit {
+
+        /**
+         * Whether rate limits are enforced.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of client buckets kept in memory.
+         * Default: 100000
+         */
+        private long maxTrackedClients = 100_000;
+
+        /**
+         * Time after which the bucket of an inactive client is discarded.
+         * Default: 10 minutes
+         */
+        private Duration idleExpiry = Duration.ofMinutes(10);
+
+        /**
+         * Rate classes; routes reference them by name and routes without one are not limited.
+         */
+        private List<Rule> rules = new ArrayList<>();
+    }
+
+    /**
+     * Entry of the route policy table.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+
+        /**
+         * HTTP method the route applies to; empty for any method.
+         */
+        private String method;
+
+        /**
+         * Path pattern made of literal segments, '*' or '{name}' for one segment and a trailing '**'.
+         */
+        private String pathPattern;
+
+        /**
+         * Access level required by the route.
+         * Default: AUTHENTICATED
+         */
+        private RouteAccess access = RouteAccess.AUTHENTICATED;
+
+        /**
+         * Name of the rate limit rule applied to the route; empty for no limit.
+         */
+        private String rateClass;
+    }
+
+    /**
+     * Token bucket limit of a rate class.
+     * Each client (user ID, or client IP when unauthenticated) has its own bucket per rule.
+     */
+    @Data
+    public static class Rule {
+
+        /**
+         * Rate class name referenced by routes, also used in metrics and logs.
+         */
+        private String name;
+
+        /**
+         * Maximum burst size, i.e. the number of tokens the bucket holds when full.
+         */
+        private int capacity;
+
+        /**
+         * Tokens added back to the bucket per second.
+         */
+        private double refillPerSecond;
+    }
+
+    /**
+     * Supported authentication modes.
+     */
+    public enum Mode {
+        /**
+         * Every request carries the Google user ID, which is resolved against the users table.
+         */
+        GOOGLE_ID,
+        /**
+         * The first request is resolved by Google user ID and answered with a signed session token;
+         * later requests presenting a valid token are authenticated from its claims, as long as its
+         * session epoch matches the user's current one in the principal cache.
+         */
+        SIGNED_SESSION
+    }
+
+    /**
+     * Configuration of the signed session token mode.
+     */
+    @Data
+    public static class Session {
+
+        /**
+         * HMAC key used to sign session tokens, at least 32 bytes long.
+         * When empty a random key is generated at startup, so tokens are only valid on this instance.
+         */
+        private String secret;
+
+        /**
+         * Lifetime of an issued session token.
+         * Default: 15 minutes
+         */
+        private Duration ttl = Duration.ofMinutes(15);
+
+        /**
+         * Name of the HTTP header used to send the session token in both directions.
+         * Default: "X-Session-Token"
+         */
+        private String tokenHeaderName = "X-Session-Token";
+
+        /**
+         * Maximum number of verified tokens kept to skip signature checks on repeated requests.
+         * Default: 10000
+         */
+        private long verificationCacheSize = 10_000;
+    }
+
+    /**
+     * Configuration of the principal cache that sits in front of the Google ID lookup.
+     */
+    @Data
+    public static class PrincipalCache {
+
+        /**
+         * Whether resolved principals are cached between requests.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of principals kept in memory before the least used are evicted.
+         * Default: 10000
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * Time a cached principal stays valid after being loaded.
+         * Default: 5 minutes
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Configuration of the negative-lookup layer: a Bloom filter of known Google user IDs
+     * plus a short-lived cache of IDs that passed the filter but were not found.
+     */
+    @Data
+    public static class NegativeCache {
+
+        /**
+         * Whether unknown Google user IDs are rejected before reaching the database.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Time an unknown Google user ID is remembered after a failed lookup.
+         * Default: 30 seconds
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * Maximum number of unknown Google user IDs remembered at once.
+         * Default: 10000
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * Minimum capacity the Bloom filter is sized for; grows with the number of users.
+         * Default: 100000
+         */
+        private long expectedInsertions = 100_000;
+
+        /**
+         * Target false-positive probability of the Bloom filter at its sized capacity.
+         * Default: 0.01
+         */
+        private double falsePositiveProbability = 0.01;
+
+        /**
+         * Interval between full rebuilds of the Bloom filter from the users table,
+         * which also picks up users registered through other instances.
+         * Default: 10 minutes
+         */
+        private Duration rebuildInterval = Duration.ofMinutes(10);
+
+        /**
+         * IDs missing from the Bloom filter that may still be checked against the database per
+         * second, so users registered through another instance since the last rebuild are let
+         * in. Misses beyond this budget are rejected without a lookup; 0 trusts the filter.
+         * Default: 5
+         */
+        private double missLookupsPerSecond = 5;
+
+        /**
+         * Filter misses that may be checked against the database in a burst.
+         * Default: 20
+         */
+        private int missLookupBurst = 20;
+    }
+
+    /**
+     * Configuration of the authentication audit pipeline: request threads enqueue events into a
+     * bounded ring buffer and a background writer stores them in batches.
+     */
+    @Data
+    public static class Audit {
+
+        /**
+         * Whether authentication outcomes are recorded.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Share of successful authentications that are recorded, from 0 (none) to 1 (all).
+         * Failures are always recorded; successes are sampled so the audit writer does not
+         * insert a row for every authenticated request.
+         * Default: 0.01
+         */
+        private double successSampleRate = 0.01;
+
+        /**
+         * Number of events the ring buffer holds; rounded up to a power of two.
+         * Default: 8192
+         */
+        private int bufferSize = 8192;
+
+        /**
+         * Maximum number of events stored per batch.
+         * Default: 256
+         */
+        private int batchSize = 256;
+
+        /**
+         * Maximum time an event waits in the buffer before being written.
+         * Default: 1 second
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * What happens to an event that arrives while the buffer is full.
+         * Default: DROP
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        /**
+         * Time stored events are kept before being purged.
+         * Default: 7 days
+         */
+        private Duration retention = Duration.ofDays(7);
+
+        /**
+         * Interval between purges of events older than the retention.
+         * Default: 1 hour
+         */
+        private Duration purgeInterval = Duration.ofHours(1);
+
+        /**
+         * Maximum number of events returned by a search.
+         * Default: 500
+         */
+        private int maxSearchResults = 500;
+    }
+
+    /**
+     * Handling of audit events that do not fit in the buffer.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Discard the event; only the drop counter records it.
+         */
+        DROP,
+        /**
+         * Discard successful authentications but write failures to the application log instead.
+         */
+        LOG_FAILURES
+    }
+}
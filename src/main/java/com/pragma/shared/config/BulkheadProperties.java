@@ -0,0 +1,31 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Settings of the dedicated executor that isolates calls to a remote dependency.
+ */
+@Data
+public class BulkheadProperties {
+
+    /**
+     * Calls running at the same time; each uses one thread of the executor.
+     * Default: 10
+     */
+    private int maxConcurrentCalls = 10;
+
+    /**
+     * Calls waiting for a free thread; further calls are rejected at once.
+     * Default: 20
+     */
+    private int maxQueuedCalls = 20;
+
+    /**
+     * Longest a caller waits for a call, time in the queue included. The call is then
+     * cancelled and counts as a failure.
+     * Default: 8 seconds
+     */
+    private Duration timeout = Duration.ofSeconds(8);
+}
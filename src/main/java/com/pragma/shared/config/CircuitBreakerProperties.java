@@ -0,0 +1,48 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Settings of a circuit breaker around a remote dependency.
+ */
+@Data
+public class CircuitBreakerProperties {
+
+    /**
+     * Whether calls go through the circuit breaker.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of most recent calls the failure rate is computed over.
+     * Default: 20
+     */
+    private int slidingWindowSize = 20;
+
+    /**
+     * Calls the window must hold before the failure rate can open the circuit.
+     * Default: 10
+     */
+    private int minimumCalls = 10;
+
+    /**
+     * Failure rate, in percent of the window, at which the circuit opens.
+     * Default: 50
+     */
+    private int failureRateThreshold = 50;
+
+    /**
+     * Time the circuit stays open, rejecting calls, before letting probes through.
+     * Default: 30 seconds
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /**
+     * Probe calls let through while half-open; all must succeed to close the circuit again.
+     * Default: 3
+     */
+    private int halfOpenProbes = 3;
+}
@@ -4,10 +4,77 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "app.creci-api")
 public class ExternalApiProperties {
     private String serviceUrl;
     private String serviceKey;
-}
\ No newline at end of file
+
+    /**
+     * Time allowed to open a connection to the external API.
+     * Default: 2 seconds
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Time allowed for the external API to answer once the request is sent.
+     * Default: 5 seconds
+     */
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Settings for the per-email cache of external user lookups.
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Circuit breaker in front of the external API.
+     */
+    private CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
+    /**
+     * Dedicated executor the external API calls run on.
+     */
+    private BulkheadProperties bulkhead = new BulkheadProperties();
+
+    /**
+     * Configuration of the cache in front of the external user lookup.
+     */
+    @Data
+    public static class Cache {
+
+        /**
+         * Whether lookups are cached per email.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of emails kept in memory before the least used are evicted.
+         * Default: 10000
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * Time a found user is served without asking the external API again.
+         * Default: 10 minutes
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * Time an email the external API does not know is remembered as not found.
+         * Default: 1 minute
+         */
+        private Duration notFoundTtl = Duration.ofMinutes(1);
+
+        /**
+         * How long an expired entry is still served when refreshing it fails, which includes
+         * while the circuit is open.
+         * Default: 24 hours
+         */
+        private Duration staleTtl = Duration.ofHours(24);
+    }
+}
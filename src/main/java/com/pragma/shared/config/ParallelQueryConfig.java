@@ -0,0 +1,35 @@
+package com.pragma.shared.config;
+
+import com.pragma.shared.concurrency.ParallelQueryExecutor;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Creates the executor for parallel reads, with a concurrency limit derived from the
+ * connection pool unless one is configured.
+ */
+@Configuration
+@Slf4j
+public class ParallelQueryConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean(destroyMethod = "close")
+    public ParallelQueryExecutor parallelQueryExecutor(ParallelQueryProperties properties,
+                                                       ObjectProvider<DataSource> dataSource) {
+        int maxConcurrency = properties.getMaxConcurrency();
+        if (maxConcurrency <= 0) {
+            int poolSize = dataSource.getIfAvailable() instanceof HikariDataSource hikari
+                    ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+            maxConcurrency = Math.max(1, poolSize / 2);
+        }
+        log.info("Parallel queries {} with up to {} concurrent queries",
+                properties.isEnabled() ? "enabled" : "disabled", maxConcurrency);
+        return new ParallelQueryExecutor(properties, maxConcurrency);
+    }
+}
@@ -0,0 +1,36 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for reads that run independent queries concurrently.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.parallel-queries")
+public class ParallelQueryProperties {
+
+    /**
+     * Whether independent queries run concurrently on virtual threads.
+     * When disabled they run one after another on the calling thread.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Time a single forked query may take, including the wait for a concurrency permit.
+     * Default: 5 seconds
+     */
+    private Duration deadline = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of forked queries running at the same time across the application.
+     * 0 uses half of the connection pool, so parallel reads cannot starve the other requests.
+     * Default: 0
+     */
+    private int maxConcurrency = 0;
+}
@@ -2,13 +2,30 @@ package com.pragma.shared.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ExternalApiProperties apiProperties) {
+        return createRestTemplate(apiProperties);
+    }
+
+    /**
+     * A RestTemplate backed by one shared JDK HttpClient, which keeps connections alive and
+     * reuses them across requests, with the connect and read timeouts of the external API.
+     */
+    public static RestTemplate createRestTemplate(ExternalApiProperties apiProperties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(apiProperties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(apiProperties.getReadTimeout());
+        return new RestTemplate(requestFactory);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the statistics module.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.statistics")
+public class StatisticsProperties {
+
+    /**
+     * Incrementally maintained dashboard counters.
+     */
+    private Counters counters = new Counters();
+
+    /**
+     * In-process cache of dashboard snapshots per chapter.
+     */
+    private DashboardCache dashboardCache = new DashboardCache();
+
+    /**
+     * Daily and weekly rollup tables behind the time-series endpoint.
+     */
+    private Rollups rollups = new Rollups();
+
+    /**
+     * Dwell time histograms of the request pipeline.
+     */
+    private Funnel funnel = new Funnel();
+
+    @Data
+    public static class Counters {
+
+        /**
+         * Whether the dashboard is served from the counters read model.
+         * When disabled the dashboard is computed from the base tables on every request.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Interval between reconciliations of the counters against the base tables.
+         * Default: 15 minutes
+         */
+        private Duration reconcileInterval = Duration.ofMinutes(15);
+    }
+
+    @Data
+    public static class DashboardCache {
+
+        /**
+         * Whether dashboard snapshots are cached.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Age after which a snapshot is recomputed in the background on its next read.
+         * Readers keep receiving the previous snapshot until the new one is ready.
+         * Default: 30 seconds
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * Age after which a snapshot is discarded and the next reader waits for a fresh one.
+         * Default: 5 minutes
+         */
+        private Duration maxStaleness = Duration.ofMinutes(5);
+
+        /**
+         * Maximum number of cached snapshots (one per chapter plus the global view).
+         * Default: 1000
+         */
+        private long maxSize = 1000;
+
+        /**
+         * Threads that compute and refresh snapshots, so slow dashboard queries never hold
+         * threads of the shared common pool.
+         * Default: 2
+         */
+        private int loaderThreads = 2;
+    }
+
+    @Data
+    public static class Rollups {
+
+        /**
+         * Whether the rollups are maintained and served.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Interval between incremental refreshes of the rollups.
+         * Default: 1 minute
+         */
+        private Duration refreshInterval = Duration.ofMinutes(1);
+
+        /**
+         * Overlap subtracted from the watermark of every refresh, so rows whose update time
+         * was set before a slow transaction committed are not missed.
+         * Default: 2 minutes
+         */
+        private Duration lag = Duration.ofMinutes(2);
+
+        /**
+         * Cron expression of the full rebuild, which also removes items deleted since the
+         * last refresh.
+         * Default: every day at 03:30
+         */
+        private String rebuildCron = "0 30 3 * * *";
+
+        /**
+         * Maximum number of buckets a single time-series query may return.
+         * Default: 1000
+         */
+        private int maxBuckets = 1000;
+    }
+
+    @Data
+    public static class Funnel {
+
+        /**
+         * Whether request status transitions are recorded into the funnel histograms.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Interval between merges of the histograms recorded by this instance into the
+         * stored ones.
+         * Default: 30 seconds
+         */
+        private Duration flushInterval = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,29 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the streamed export of the user directory.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.users.export")
+public class UserExportProperties {
+
+    /**
+     * Exports streamed at the same time; each one holds a database connection until its last
+     * row is written, so further requests are answered with 429 instead of queuing.
+     * Default: 2
+     */
+    private int maxConcurrentExports = 2;
+
+    /**
+     * Retry-After advertised to a client turned away because every export slot was taken.
+     * Default: 30 seconds
+     */
+    private Duration retryAfter = Duration.ofSeconds(30);
+}
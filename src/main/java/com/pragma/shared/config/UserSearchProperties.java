@@ -0,0 +1,49 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory user search index behind the typeahead.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.users.search")
+public class UserSearchProperties {
+
+    /**
+     * Whether user searches are answered from the in-memory trigram index.
+     * When disabled, or until the first build completes, they fall back to an email LIKE query.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of results returned when the request does not ask for a limit.
+     * Default: 10
+     */
+    private int defaultLimit = 10;
+
+    /**
+     * Largest number of results a request may ask for.
+     * Default: 50
+     */
+    private int maxLimit = 50;
+
+    /**
+     * Memory guard: the index is not built when there are more users than this.
+     * The index takes about 750 bytes per user, so the default caps it near 110 MB.
+     * Default: 150000
+     */
+    private int maxIndexedUsers = 150_000;
+
+    /**
+     * Interval between full rebuilds, which pick up changes made through other instances and
+     * drop the entries of replaced users.
+     * Default: 30 minutes
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(30);
+}
@@ -0,0 +1,40 @@
+package com.pragma.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the bulk synchronization of users from the external directory.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.users.sync")
+public class UserSyncProperties {
+
+    /**
+     * Directory lookups in flight at the same time. Keep it below the external API bulkhead's
+     * max-concurrent-calls so single lookups (user registration) still find a free thread.
+     * Default: 8
+     */
+    private int concurrency = 8;
+
+    /**
+     * Emails fetched and written together; each batch is read with one query and its changed
+     * users are written in one transaction of JDBC batches.
+     * Default: 500
+     */
+    private int batchSize = 500;
+
+    /**
+     * Largest number of emails a single sync request may list.
+     * Default: 100000
+     */
+    private int maxEmails = 100_000;
+
+    /**
+     * Users with differences listed in the sync report; the counts always cover every user.
+     * Default: 1000
+     */
+    private int maxReportedDiffs = 1_000;
+}
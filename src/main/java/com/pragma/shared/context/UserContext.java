@@ -2,9 +2,17 @@ package com.pragma.shared.context;
 
 import com.pragma.usuarios.domain.model.User;
 
+import java.util.concurrent.Callable;
+
 /**
  * Thread-local storage for authenticated user information.
  * Provides a way to access the current authenticated user throughout the request lifecycle.
+ * <p>
+ * Work handed to other threads sees the user only when it is wrapped with {@link #wrap(Runnable)}
+ * or {@link #wrap(Callable)}, or runs on an executor decorated by {@link ContextPropagatingExecutorService}
+ * or {@link UserContextTaskDecorator}. Wrapped tasks bind the captured user for exactly the duration
+ * of the task, following the scoped-binding model of {@code ScopedValue}, which is still a preview API
+ * in Java 21; the binding itself is kept in a {@link ThreadLocal}.
  */
 public class UserContext {
     
@@ -44,4 +52,70 @@ public class UserContext {
     public static boolean hasCurrentUser() {
         return currentUser.get() != null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs the task with the given user bound to the current thread.
+     * The previous binding, if any, is restored when the task ends.
+     * 
+     * @param user the user to bind, or null to run without a user
+     * @param task the task to run
+     */
+    public static void runWithUser(User user, Runnable task) {
+        User previous = currentUser.get();
+        bind(user);
+        try {
+            task.run();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    /**
+     * Calls the task with the given user bound to the current thread.
+     * The previous binding, if any, is restored when the task ends.
+     * 
+     * @param user the user to bind, or null to run without a user
+     * @param task the task to call
+     * @return the result of the task
+     * @throws Exception if the task fails
+     */
+    public static <T> T callWithUser(User user, Callable<T> task) throws Exception {
+        User previous = currentUser.get();
+        bind(user);
+        try {
+            return task.call();
+        } finally {
+            bind(previous);
+        }
+    }
+
+    /**
+     * Captures the current user and returns a task that runs with it bound, on whichever thread executes it.
+     * 
+     * @param task the task to wrap
+     * @return the wrapped task
+     */
+    public static Runnable wrap(Runnable task) {
+        User captured = currentUser.get();
+        return () -> runWithUser(captured, task);
+    }
+
+    /**
+     * Captures the current user and returns a task that is called with it bound, on whichever thread executes it.
+     * 
+     * @param task the task to wrap
+     * @return the wrapped task
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        User captured = currentUser.get();
+        return () -> callWithUser(captured, task);
+    }
+
+    private static void bind(User user) {
+        if (user == null) {
+            currentUser.remove();
+        } else {
+            currentUser.set(user);
+        }
+    }
+}
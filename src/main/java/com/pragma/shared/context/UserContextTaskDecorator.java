@@ -0,0 +1,18 @@
+package com.pragma.shared.context;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task decorator that carries the current user into tasks run by Spring-managed executors,
+ * such as {@code @Async} methods and asynchronous MVC request processing.
+ * Spring Boot applies it to the auto-configured application task executor.
+ */
+@Component
+public class UserContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return UserContext.wrap(runnable);
+    }
+}
@@ -0,0 +1,46 @@
+package com.pragma.shared.controller;
+
+import com.pragma.shared.dto.NormalizedResponseDto;
+import com.pragma.shared.dto.OkResponseDto;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Writes any {@link OkResponseDto} in normalized form when the client asks for it, through the
+ * {@link NormalizedResponseDto#MEDIA_TYPE} Accept header or {@code ?normalized=true}. Other
+ * responses, and clients that do not ask, get the regular envelope.
+ */
+@RestControllerAdvice
+public class NormalizedResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body instanceof OkResponseDto<?> okResponse && !(body instanceof NormalizedResponseDto<?>)
+                && isNormalizedRequested(selectedContentType, request)) {
+            return new NormalizedResponseDto<>(okResponse);
+        }
+        return body;
+    }
+
+    private static boolean isNormalizedRequested(MediaType selectedContentType, ServerHttpRequest request) {
+        if (NormalizedResponseDto.MEDIA_TYPE.equalsTypeAndSubtype(selectedContentType)) {
+            return true;
+        }
+        return request instanceof ServletServerHttpRequest servletRequest
+                && Boolean.parseBoolean(servletRequest.getServletRequest().getParameter(NormalizedResponseDto.QUERY_PARAMETER));
+    }
+}
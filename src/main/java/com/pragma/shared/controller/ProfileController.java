@@ -5,6 +5,7 @@ import com.pragma.shared.context.UserContextHelper;
 import com.pragma.shared.dto.OkResponseDto;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -25,6 +26,8 @@ import java.util.Map;
 @Slf4j
 public class ProfileController {
 
+    private final FindUserByIdUseCase findUserByIdUseCase;
+
     /**
      * Gets the current user's profile information.
      * Demonstrates basic UserContext usage with UserContextHelper.
@@ -34,15 +37,19 @@ public class ProfileController {
         try {
             User currentUser = UserContextHelper.getCurrentUserOrThrow();
             log.debug("User {} requesting own profile", currentUser.getEmail());
+
+            // A session token principal only carries its claims, so the profile is read from the store
+            User user = findUserByIdUseCase.findUserById(currentUser.getId())
+                    .orElseThrow(() -> new IllegalStateException("User no longer exists: " + currentUser.getId()));
             
             Map<String, Object> profile = new HashMap<>();
-            profile.put("id", currentUser.getId());
-            profile.put("firstName", currentUser.getFirstName());
-            profile.put("lastName", currentUser.getLastName());
-            profile.put("email", currentUser.getEmail());
-            profile.put("role", currentUser.getRol().name());
-            profile.put("chapterId", UserContextHelper.getCurrentUserChapterId());
-            profile.put("activeTutoringLimit", currentUser.getActiveTutoringLimit());
+            profile.put("id", user.getId());
+            profile.put("firstName", user.getFirstName());
+            profile.put("lastName", user.getLastName());
+            profile.put("email", user.getEmail());
+            profile.put("role", user.getRol().name());
+            profile.put("chapterId", user.getChapter() != null ? user.getChapter().getId() : null);
+            profile.put("activeTutoringLimit", user.getActiveTutoringLimit());
             
             return ResponseEntity.ok(OkResponseDto.of("Perfil obtenido exitosamente", profile));
             
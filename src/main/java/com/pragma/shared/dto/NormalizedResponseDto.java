@@ -0,0 +1,23 @@
+package com.pragma.shared.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.pragma.shared.serialization.NormalizedResponseSerializer;
+import org.springframework.http.MediaType;
+
+/**
+ * {@link OkResponseDto} written in normalized form: users, skills and chapters embedded in the
+ * data are replaced by {@code {"type", "id"}} references and written once in a top-level
+ * {@code included} dictionary. Clients opt in with the {@link #MEDIA_TYPE} Accept header or the
+ * {@link #QUERY_PARAMETER} query flag.
+ */
+@JsonSerialize(using = NormalizedResponseSerializer.class)
+public class NormalizedResponseDto<T> extends OkResponseDto<T> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.pragma.normalized+json";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+    public static final String QUERY_PARAMETER = "normalized";
+
+    public NormalizedResponseDto(OkResponseDto<T> response) {
+        super(response.getMessage(), response.getData(), response.getTimestamp());
+    }
+}
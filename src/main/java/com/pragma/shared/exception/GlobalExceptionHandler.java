@@ -1,5 +1,6 @@
 package com.pragma.shared.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -13,6 +14,7 @@ import com.pragma.shared.dto.ErrorResponseDto;
 import com.pragma.shared.security.exception.AuthenticationException;
 import com.pragma.shared.security.exception.InvalidAuthorizationException;
 import com.pragma.shared.security.exception.MissingAuthorizationException;
+import com.pragma.shared.security.exception.RateLimitExceededException;
 import com.pragma.shared.security.exception.UserNotFoundException;
 import com.pragma.shared.service.MessageService;
 
@@ -104,6 +106,16 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponseDto.of(ex.getMessage()));
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handleRateLimitExceededException(RateLimitExceededException ex, WebRequest request) {
+        log.warn("RATE_LIMIT_EXCEPTION - Too many requests handled: uri={}, retryAfterSeconds={}", 
+                getRequestUri(request), ex.getRetryAfterSeconds());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ErrorResponseDto.of(ex.getMessage()));
+    }
+
     @ExceptionHandler(SecurityException.class)
     public ResponseEntity<ErrorResponseDto> handleSecurityException(SecurityException ex, WebRequest request) {
         log.warn("SECURITY_EXCEPTION - Access denied: uri={}, error={}", 
@@ -145,6 +157,15 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponseDto.of("Database operation failed"));
     }
     
+    @ExceptionHandler(QueryDeadlineExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handleQueryDeadlineExceededException(QueryDeadlineExceededException ex, WebRequest request) {
+        log.warn("QUERY_DEADLINE_EXCEPTION - Query exceeded its deadline: uri={}, deadlineMs={}", 
+                getRequestUri(request), ex.getDeadline().toMillis());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponseDto.of(ex.getMessage()));
+    }
+    
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponseDto> handleRuntimeException(RuntimeException ex) {
         return ResponseEntity
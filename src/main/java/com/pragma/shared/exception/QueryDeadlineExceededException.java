@@ -0,0 +1,30 @@
+package com.pragma.shared.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a query forked by a parallel read does not complete within its deadline.
+ */
+public class QueryDeadlineExceededException extends RuntimeException {
+
+    private final Duration deadline;
+
+    /**
+     * Constructs a new QueryDeadlineExceededException for the given deadline.
+     *
+     * @param deadline the deadline that was exceeded
+     */
+    public QueryDeadlineExceededException(Duration deadline) {
+        super("La consulta excedió su tiempo límite de " + deadline.toMillis() + " ms");
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns the deadline that was exceeded.
+     *
+     * @return the deadline
+     */
+    public Duration getDeadline() {
+        return deadline;
+    }
+}
@@ -0,0 +1,44 @@
+package com.pragma.shared.mapping;
+
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.TargetType;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * MapStruct {@code @Context} that maps each source instance once per mapping call.
+ * <p>
+ * A tutoring's sessions share one tutoring, its feedbacks share the tutoring and its
+ * participants; without this context every occurrence is converted again, so a detail with N
+ * sessions and feedbacks builds N copies of the same tutoring, tutor, tutee and skills. Sources
+ * are compared by identity, so only instances that are already shared (as entities in one
+ * persistence context are) collapse into one result.
+ * <p>
+ * Not thread-safe: create one per call, which is what the {@link #ENTRY_POINT} methods of the
+ * mappers do.
+ */
+public class IdentityMappingContext {
+
+    /**
+     * Qualifier of the mapper methods that start a mapping with a fresh context. Nested mappings
+     * never select them, so they keep threading the caller's context.
+     */
+    public static final String ENTRY_POINT = "identityMappingEntryPoint";
+
+    private final Map<Object, Map<Class<?>, Object>> mappedInstances = new IdentityHashMap<>();
+
+    @BeforeMapping
+    @SuppressWarnings("unchecked")
+    public <T> T getMappedInstance(Object source, @TargetType Class<T> targetType) {
+        Map<Class<?>, Object> targets = mappedInstances.get(source);
+        return targets != null ? (T) targets.get(targetType) : null;
+    }
+
+    @BeforeMapping
+    public void storeMappedInstance(Object source, @MappingTarget Object target) {
+        mappedInstances.computeIfAbsent(source, key -> new HashMap<>()).put(target.getClass(), target);
+    }
+}
@@ -0,0 +1,28 @@
+package com.pragma.shared.migration;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A one-off data migration already applied to this database.
+ */
+@Entity
+@Table(name = "data_migrations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataMigrationEntity {
+    @Id
+    @Column(name = "name", length = 64)
+    private String name;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,52 @@
+package com.pragma.shared.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Runs one-off data migrations at most once per database, however many instances start.
+ * The migration and its {@code data_migrations} row commit in one transaction: a failed migration
+ * leaves no row and is retried on the next start, and of two instances starting together the
+ * second blocks on the first's row and then skips the migration.
+ */
+@Component
+@Slf4j
+public class DataMigrations {
+
+    private final SpringDataDataMigrationRepository repository;
+    private final TransactionTemplate transactionTemplate;
+
+    public DataMigrations(SpringDataDataMigrationRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Runs the migration unless it was already applied to this database.
+     *
+     * @param name unique name of the migration
+     * @param migration the data changes, run inside the transaction that records the migration
+     * @return true if the migration ran in this call
+     */
+    public boolean runOnce(String name, Runnable migration) {
+        if (repository.existsById(name)) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.saveAndFlush(new DataMigrationEntity(name, LocalDateTime.now()));
+                migration.run();
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.info("Data migration {} already applied by another instance", name);
+            return false;
+        }
+        log.info("Data migration applied: {}", name);
+        return true;
+    }
+}
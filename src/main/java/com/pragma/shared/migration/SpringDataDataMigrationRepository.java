@@ -0,0 +1,8 @@
+package com.pragma.shared.migration;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataDataMigrationRepository extends JpaRepository<DataMigrationEntity, String> {
+}
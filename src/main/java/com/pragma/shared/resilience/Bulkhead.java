@@ -0,0 +1,101 @@
+package com.pragma.shared.resilience;
+
+import com.pragma.shared.config.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the calls to one remote dependency on its own bounded executor, so a slow dependency
+ * ties up at most {@code maxConcurrentCalls} threads and {@code maxQueuedCalls} queue slots
+ * instead of the request threads. A call that finds both full is rejected at once with
+ * {@link ResilienceException.Reason#BULKHEAD_FULL}; a caller waits at most {@code timeout}
+ * for its call, after which the call is cancelled and
+ * {@link ResilienceException.Reason#TIMEOUT} is thrown.
+ * <p>
+ * Active and queued calls are published in {@code <name>.bulkhead.active} and
+ * {@code <name>.bulkhead.queued}, rejections in {@code <name>.bulkhead.rejections}.
+ */
+public class Bulkhead implements AutoCloseable {
+
+    private final String name;
+    private final BulkheadProperties config;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejections;
+
+    public Bulkhead(String name, BulkheadProperties config, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.config = config;
+        this.executor = new ThreadPoolExecutor(config.getMaxConcurrentCalls(), config.getMaxConcurrentCalls(),
+                60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math.max(1, config.getMaxQueuedCalls())),
+                threadFactory(name), new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.rejections = Counter.builder(name + ".bulkhead.rejections")
+                .description("Calls rejected because every thread and queue slot was taken")
+                .register(meterRegistry);
+        Gauge.builder(name + ".bulkhead.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Calls running on the bulkhead executor")
+                .register(meterRegistry);
+        Gauge.builder(name + ".bulkhead.queued", executor, pool -> pool.getQueue().size())
+                .description("Calls waiting for a bulkhead thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the call on the bulkhead executor and waits for it.
+     *
+     * @throws ResilienceException when the bulkhead is full or the call exceeds the timeout
+     */
+    public <T> T call(Callable<T> call) throws Exception {
+        Future<T> future;
+        try {
+            future = executor.submit(call);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ResilienceException(name, ResilienceException.Reason.BULKHEAD_FULL);
+        }
+        try {
+            return future.get(config.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ResilienceException(name, ResilienceException.Reason.TIMEOUT);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger threads = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-bulkhead-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
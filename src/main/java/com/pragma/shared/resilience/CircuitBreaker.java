@@ -0,0 +1,216 @@
+package com.pragma.shared.resilience;
+
+import com.pragma.shared.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Count-based circuit breaker.
+ * <p>
+ * While closed, the outcome of the last {@code slidingWindowSize} calls is kept in a ring; once
+ * it holds {@code minimumCalls} and the failure rate reaches the threshold the circuit opens and
+ * every call is rejected with {@link ResilienceException.Reason#CIRCUIT_OPEN} without being
+ * made. After {@code openDuration} the circuit turns half-open and lets {@code halfOpenProbes}
+ * calls through: if all succeed it closes with an empty window, the first failure opens it
+ * again. A full bulkhead says nothing about the dependency, so it is neither a success nor a
+ * failure.
+ * <p>
+ * The state is published in {@code <name>.circuit.state} (0 closed, 1 open, 2 half-open),
+ * transitions in {@code <name>.circuit.transitions} and rejections in
+ * {@code <name>.circuit.rejections}; the most recent transitions are kept for the actuator.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    static final int RECENT_TRANSITIONS = 20;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    public record Transition(State from, State to, Instant at) {
+    }
+
+    /**
+     * Point-in-time view of the breaker for monitoring.
+     */
+    public record Snapshot(State state, int bufferedCalls, int failedCalls, double failureRatePercent,
+                           Instant openUntil, List<Transition> recentTransitions) {
+    }
+
+    private final String name;
+    private final CircuitBreakerProperties config;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejections;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+    private State state = State.CLOSED;
+    private Instant openUntil;
+    private int probesStarted;
+    private int probesSucceeded;
+    private final Deque<Transition> transitions = new ArrayDeque<>();
+
+    public CircuitBreaker(String name, CircuitBreakerProperties config, MeterRegistry meterRegistry, Clock clock) {
+        this.name = name;
+        this.config = config;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.window = new boolean[Math.max(1, config.getSlidingWindowSize())];
+        this.rejections = Counter.builder(name + ".circuit.rejections")
+                .description("Calls rejected because the circuit was open")
+                .register(meterRegistry);
+        Gauge.builder(name + ".circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Circuit state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Makes the call if the circuit allows it and records its outcome.
+     *
+     * @throws ResilienceException with {@link ResilienceException.Reason#CIRCUIT_OPEN} when rejected
+     */
+    public <T> T call(Callable<T> call) throws Exception {
+        if (!config.isEnabled()) {
+            return call.call();
+        }
+        acquirePermission();
+        try {
+            T result = call.call();
+            onResult(true);
+            return result;
+        } catch (ResilienceException e) {
+            if (e.getReason() == ResilienceException.Reason.BULKHEAD_FULL) {
+                releasePermission();
+            } else {
+                onResult(false);
+            }
+            throw e;
+        } catch (Exception | Error e) {
+            onResult(false);
+            throw e;
+        }
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(state, bufferedCalls, failedCalls, failureRate(),
+                state == State.OPEN ? openUntil : null, List.copyOf(transitions));
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN && !clock.instant().isBefore(openUntil)) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && probesStarted >= config.getHalfOpenProbes())) {
+            rejections.increment();
+            throw new ResilienceException(name, ResilienceException.Reason.CIRCUIT_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            probesStarted++;
+        }
+    }
+
+    private synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && probesStarted > 0) {
+            probesStarted--;
+        }
+    }
+
+    private synchronized void onResult(boolean success) {
+        switch (state) {
+            case HALF_OPEN -> {
+                if (!success) {
+                    transitionTo(State.OPEN);
+                } else if (++probesSucceeded >= config.getHalfOpenProbes()) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case CLOSED -> {
+                record(success);
+                if (bufferedCalls >= Math.min(config.getMinimumCalls(), window.length)
+                        && failureRate() >= config.getFailureRateThreshold()) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            // Calls started before the circuit opened; their outcome no longer matters
+            case OPEN -> {
+            }
+        }
+    }
+
+    private void record(boolean success) {
+        if (bufferedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        window[windowIndex] = !success;
+        if (!success) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private double failureRate() {
+        return bufferedCalls == 0 ? 0 : failedCalls * 100.0 / bufferedCalls;
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        state = target;
+        switch (target) {
+            case OPEN -> openUntil = clock.instant().plus(config.getOpenDuration());
+            case HALF_OPEN -> {
+                probesStarted = 0;
+                probesSucceeded = 0;
+            }
+            case CLOSED -> {
+                bufferedCalls = 0;
+                failedCalls = 0;
+                windowIndex = 0;
+                Arrays.fill(window, false);
+            }
+        }
+        if (transitions.size() == RECENT_TRANSITIONS) {
+            transitions.removeFirst();
+        }
+        transitions.addLast(new Transition(previous, target, clock.instant()));
+        Counter.builder(name + ".circuit.transitions")
+                .description("Circuit state transitions")
+                .tag("from", previous.name())
+                .tag("to", target.name())
+                .register(meterRegistry)
+                .increment();
+        if (target == State.OPEN) {
+            log.warn("Circuit {} opened until {} (was {}): failureRate={}%", name, openUntil, previous,
+                    String.format("%.1f", failureRate()));
+        } else {
+            log.info("Circuit {} is now {} (was {})", name, target, previous);
+        }
+    }
+}
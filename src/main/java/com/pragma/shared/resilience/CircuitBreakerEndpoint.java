@@ -0,0 +1,35 @@
+package com.pragma.shared.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator endpoint ({@code /actuator/circuitbreakers}) with the state, failure window and
+ * recent transitions of every circuit breaker. It is not exposed over HTTP by default, because
+ * actuator paths bypass authentication; expose it only on an internal management port.
+ */
+@Component
+@Endpoint(id = "circuitbreakers")
+@RequiredArgsConstructor
+public class CircuitBreakerEndpoint {
+
+    private final CircuitBreakerRegistry registry;
+
+    @ReadOperation
+    public Map<String, CircuitBreaker.Snapshot> circuitBreakers() {
+        Map<String, CircuitBreaker.Snapshot> snapshots = new TreeMap<>();
+        registry.all().forEach((name, breaker) -> snapshots.put(name, breaker.snapshot()));
+        return snapshots;
+    }
+
+    @ReadOperation
+    public CircuitBreaker.Snapshot circuitBreaker(@Selector String name) {
+        return registry.find(name).map(CircuitBreaker::snapshot).orElse(null);
+    }
+}
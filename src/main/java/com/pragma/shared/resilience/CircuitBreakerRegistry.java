@@ -0,0 +1,47 @@
+package com.pragma.shared.resilience;
+
+import com.pragma.shared.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Creates the circuit breakers of the application and keeps them by name for monitoring.
+ */
+@Component
+public class CircuitBreakerRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentSkipListMap<>();
+
+    @Autowired
+    public CircuitBreakerRegistry(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+
+    CircuitBreakerRegistry(MeterRegistry meterRegistry, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the breaker with the given name, creating it with the given settings if needed.
+     */
+    public CircuitBreaker circuitBreaker(String name, CircuitBreakerProperties config) {
+        return breakers.computeIfAbsent(name, key -> new CircuitBreaker(key, config, meterRegistry, clock));
+    }
+
+    public Optional<CircuitBreaker> find(String name) {
+        return Optional.ofNullable(breakers.get(name));
+    }
+
+    public Map<String, CircuitBreaker> all() {
+        return Map.copyOf(breakers);
+    }
+}
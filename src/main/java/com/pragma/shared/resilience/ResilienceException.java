@@ -0,0 +1,26 @@
+package com.pragma.shared.resilience;
+
+import lombok.Getter;
+
+/**
+ * Raised when a call to a remote dependency is not made or not waited for: the circuit is
+ * open, the bulkhead is full, or the call took longer than allowed.
+ */
+@Getter
+public class ResilienceException extends RuntimeException {
+
+    public enum Reason {
+        CIRCUIT_OPEN,
+        BULKHEAD_FULL,
+        TIMEOUT
+    }
+
+    private final String dependency;
+    private final Reason reason;
+
+    public ResilienceException(String dependency, Reason reason) {
+        super("Call to " + dependency + " not completed: " + reason);
+        this.dependency = dependency;
+        this.reason = reason;
+    }
+}
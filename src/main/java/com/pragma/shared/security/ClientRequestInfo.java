@@ -0,0 +1,30 @@
+package com.pragma.shared.security;
+
+/**
+ * Derives client information from raw request header values.
+ * Shared by the authentication interceptor and the audit writer, which applies it off the
+ * request thread to the header values captured with each event.
+ */
+public final class ClientRequestInfo {
+
+    private static final int MAX_USER_AGENT_LENGTH = 200;
+
+    private ClientRequestInfo() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Sanitizes the User-Agent header to prevent log injection attacks.
+     *
+     * @param userAgent the User-Agent header value
+     * @return sanitized User-Agent string
+     */
+    public static String sanitizeUserAgent(String userAgent) {
+        if (userAgent == null) {
+            return "unknown";
+        }
+        // Remove potential log injection characters and limit length
+        return userAgent.replaceAll("[\r\n\t]", "_")
+                       .substring(0, Math.min(userAgent.length(), MAX_USER_AGENT_LENGTH));
+    }
+}
@@ -1,10 +1,19 @@
 package com.pragma.shared.security;
 
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import com.pragma.audit.domain.port.input.RecordAuthEventUseCase;
 import com.pragma.shared.config.AuthenticationProperties;
 import com.pragma.shared.context.UserContext;
+import com.pragma.shared.context.UserContextHelper;
 import com.pragma.shared.security.exception.InvalidAuthorizationException;
 import com.pragma.shared.security.exception.MissingAuthorizationException;
+import com.pragma.shared.security.exception.RateLimitExceededException;
 import com.pragma.shared.security.exception.UserNotFoundException;
+import com.pragma.shared.security.ratelimit.RateLimiter;
+import com.pragma.shared.security.route.RoutePolicy;
+import com.pragma.shared.security.route.RoutePolicyResolver;
+import com.pragma.shared.security.session.SessionClaims;
+import com.pragma.shared.security.session.SessionTokenService;
 import com.pragma.shared.service.MessageService;
 import com.pragma.usuarios.application.service.UserService;
 import com.pragma.usuarios.domain.model.User;
@@ -17,6 +26,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Interceptor that handles Google-based authentication for all API requests.
@@ -30,6 +40,12 @@ public class GoogleAuthInterceptor implements HandlerInterceptor {
     private final UserService userService;
     private final MessageService messageService;
     private final AuthenticationProperties authProperties;
+    private final PrincipalCache principalCache;
+    private final KnownPrincipalFilter knownPrincipalFilter;
+    private final SessionTokenService sessionTokenService;
+    private final RateLimiter rateLimiter;
+    private final RoutePolicyResolver routePolicyResolver;
+    private final RecordAuthEventUseCase recordAuthEventUseCase;
 
     /**
      * Pre-handle method that processes authentication before the request reaches the controller.
@@ -42,53 +58,73 @@ public class GoogleAuthInterceptor implements HandlerInterceptor {
      */
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        // Skip authentication for OPTIONS requests (CORS preflight)
-        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
-            return true;
-        }
+        // Match the route policy table once; the result is shared through a request attribute
+        RoutePolicy policy = routePolicyResolver.resolve(request);
         
-        // Skip authentication for POST /api/v1/users (user creation)
-        if ("POST".equalsIgnoreCase(request.getMethod()) && 
-            "/api/v1/users".equals(request.getRequestURI())) {
+        // Skip authentication for public routes (CORS preflight, user creation), rate limited by client IP
+        if (policy.isPublic()) {
+            enforceRateLimit(policy, getClientIpAddress(request));
             return true;
         }
 
-        String clientIp = getClientIpAddress(request);
-        String userAgent = request.getHeader("User-Agent");
         String requestUri = request.getRequestURI();
         String method = request.getMethod();
         
         try {
-            // Extract Google ID from Authorization header
-            String googleUserId = extractGoogleUserId(request);
+            // Resolve the user from a session token or from the Google ID header
+            User user = authenticate(request, response);
             
-            // Find user in database
-            User user = findUserByGoogleId(googleUserId);
+            // Apply the per-user rate limit before the request reaches the controller
+            enforceRateLimit(policy, user.getId() != null ? user.getId() : getClientIpAddress(request));
             
             // Set user context for the current thread
             UserContext.setCurrentUser(user);
             
-            // Log successful authentication with security context
-            log.info("AUTH_SUCCESS - User authenticated successfully: userId={}, email={}, method={}, uri={}, clientIp={}, userAgent={}", 
-                    user.getId(), user.getEmail(), method, requestUri, clientIp, sanitizeUserAgent(userAgent));
+            // Admin-only routes are rejected here, before the controller runs
+            if (policy.isAdminOnly()) {
+                UserContextHelper.requireAdminRole();
+            }
+            
+            // Hand the success to the audit trail; IP resolution and sanitizing happen off the request thread
+            recordAuthEvent(request, AuthOutcome.SUCCESS, user.getId(), null);
+            if (log.isDebugEnabled()) {
+                log.debug("AUTH_SUCCESS - User authenticated successfully: userId={}, method={}, uri={}", 
+                        user.getId(), method, requestUri);
+            }
             
             return true;
             
         } catch (MissingAuthorizationException e) {
             log.warn("AUTH_FAILURE - Missing authorization header: method={}, uri={}, clientIp={}, userAgent={}, error={}", 
-                    method, requestUri, clientIp, sanitizeUserAgent(userAgent), e.getMessage());
+                    method, requestUri, getClientIpAddress(request), sanitizedUserAgent(request), e.getMessage());
+            recordAuthEvent(request, AuthOutcome.MISSING_AUTHORIZATION, null, e.getMessage());
             throw e;
         } catch (InvalidAuthorizationException e) {
             log.warn("AUTH_FAILURE - Invalid authorization header: method={}, uri={}, clientIp={}, userAgent={}, error={}", 
-                    method, requestUri, clientIp, sanitizeUserAgent(userAgent), e.getMessage());
+                    method, requestUri, getClientIpAddress(request), sanitizedUserAgent(request), e.getMessage());
+            recordAuthEvent(request, AuthOutcome.INVALID_AUTHORIZATION, null, e.getMessage());
             throw e;
         } catch (UserNotFoundException e) {
             log.warn("AUTH_FAILURE - User not found: method={}, uri={}, clientIp={}, userAgent={}, error={}", 
-                    method, requestUri, clientIp, sanitizeUserAgent(userAgent), e.getMessage());
+                    method, requestUri, getClientIpAddress(request), sanitizedUserAgent(request), e.getMessage());
+            recordAuthEvent(request, AuthOutcome.USER_NOT_FOUND, null, e.getMessage());
+            throw e;
+        } catch (SecurityException e) {
+            // preHandle failed, so afterCompletion will not run for this request
+            UserContext.clear();
+            log.warn("AUTH_FAILURE - Admin role required: method={}, uri={}, clientIp={}, route={}, error={}", 
+                    method, requestUri, getClientIpAddress(request), policy, e.getMessage());
+            recordAuthEvent(request, AuthOutcome.FORBIDDEN, null, e.getMessage());
+            throw e;
+        } catch (RateLimitExceededException e) {
+            log.warn("RATE_LIMIT_EXCEEDED - Request rejected: method={}, uri={}, clientIp={}, retryAfterSeconds={}", 
+                    method, requestUri, getClientIpAddress(request), e.getRetryAfterSeconds());
+            recordAuthEvent(request, AuthOutcome.RATE_LIMITED, null, e.getMessage());
             throw e;
         } catch (Exception e) {
             log.error("AUTH_ERROR - Unexpected authentication error: method={}, uri={}, clientIp={}, userAgent={}, error={}", 
-                    method, requestUri, clientIp, sanitizeUserAgent(userAgent), e.getMessage(), e);
+                    method, requestUri, getClientIpAddress(request), sanitizedUserAgent(request), e.getMessage(), e);
+            recordAuthEvent(request, AuthOutcome.ERROR, null, e.getMessage());
             throw e;
         }
     }
@@ -111,6 +147,73 @@ public class GoogleAuthInterceptor implements HandlerInterceptor {
         }
     }
 
+    /**
+     * Authenticates the request. In signed session mode a valid session token is accepted while its
+     * session epoch is still the user's current one; otherwise the Google user ID is resolved and,
+     * in that mode, a new session token is returned in the response.
+     * 
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @return the authenticated user
+     */
+    private User authenticate(HttpServletRequest request, HttpServletResponse response) {
+        boolean sessionMode = authProperties.getMode() == AuthenticationProperties.Mode.SIGNED_SESSION;
+        String tokenHeaderName = sessionMode ? authProperties.getSession().getTokenHeaderName() : null;
+
+        if (sessionMode) {
+            String token = request.getHeader(tokenHeaderName);
+            if (StringUtils.hasText(token)) {
+                Optional<SessionClaims> claims = sessionTokenService.verify(token.trim());
+                if (claims.isPresent() && hasCurrentSessionEpoch(claims.get())) {
+                    return claims.get().toUser();
+                }
+                log.debug("Session token rejected or outdated, falling back to Google ID lookup");
+            }
+        }
+
+        String googleUserId = extractGoogleUserId(request);
+        User user = findUserByGoogleId(googleUserId);
+
+        if (sessionMode) {
+            response.setHeader(tokenHeaderName, sessionTokenService.issue(user));
+        }
+        return user;
+    }
+
+    /**
+     * Tells whether the token was issued at the user's current session epoch. The epoch is stored
+     * with the user and read through the principal cache, so a role or profile change made on any
+     * instance rejects older tokens here once the cached principal is evicted or expires.
+     * 
+     * @param claims the verified claims of the session token
+     * @return true if the token may still be used
+     */
+    private boolean hasCurrentSessionEpoch(SessionClaims claims) {
+        return principalCache.get(claims.getGoogleUserId(), userService::findUserByGoogleId)
+                .map(user -> user.getSessionEpoch() == claims.getSessionEpoch())
+                .orElse(false);
+    }
+
+    /**
+     * Takes a token from the client's bucket of the route's rate class.
+     * 
+     * @param policy the route policy of the request
+     * @param clientKey the user ID, or the client IP when no user is resolved
+     * @throws RateLimitExceededException if the client has no tokens left
+     */
+    private void enforceRateLimit(RoutePolicy policy, String clientKey) {
+        if (!policy.hasRateClass()) {
+            return;
+        }
+        long waitNanos = rateLimiter.acquire(policy.getRateClass(), clientKey);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new RateLimitExceededException(
+                messageService.getMessage("rate.limit.exceeded", retryAfterSeconds), retryAfterSeconds
+            );
+        }
+    }
+
     /**
      * Extracts Google user ID from the configured authorization header.
      * 
@@ -152,18 +255,27 @@ public class GoogleAuthInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * Finds a user by Google user ID in the internal database.
+     * Finds a user by Google user ID, going to the internal database only on a principal cache miss.
+     * IDs known not to be registered are rejected before any lookup.
      * 
      * @param googleUserId the Google user ID to search for
      * @return the User object if found
      * @throws UserNotFoundException if no user is found with the given Google ID
      */
     private User findUserByGoogleId(String googleUserId) {
+        if (knownPrincipalFilter.isDefinitelyUnknown(googleUserId)) {
+            throw new UserNotFoundException(
+                messageService.getMessage("auth.user.not.registered")
+            );
+        }
+
         try {
-            Optional<User> userOptional = userService.findUserByGoogleId(googleUserId);
+            Optional<User> userOptional = principalCache.get(googleUserId, userService::findUserByGoogleId);
+            userOptional.ifPresent(user -> knownPrincipalFilter.recordKnown(googleUserId));
             
             return userOptional.orElseThrow(() -> {
                 log.warn("AUTH_FAILURE - User lookup failed: googleUserId exists but user not found in database");
+                knownPrincipalFilter.recordUnknown(googleUserId);
                 return new UserNotFoundException(
                     messageService.getMessage("auth.user.not.registered")
                 );
@@ -180,37 +292,38 @@ public class GoogleAuthInterceptor implements HandlerInterceptor {
     }
 
     /**
-     * Extracts the client IP address from the request, considering proxy headers.
+     * Enqueues an authentication outcome for the audit trail with the raw request values.
+     * 
+     * @param request the HTTP request
+     * @param outcome the authentication outcome
+     * @param userId the authenticated user ID, or null on failure
+     * @param detail the failure message, or null on success
+     */
+    private void recordAuthEvent(HttpServletRequest request, AuthOutcome outcome, String userId, String detail) {
+        recordAuthEventUseCase.recordAuthEvent(outcome, userId, request.getMethod(), request.getRequestURI(),
+                getClientIpAddress(request), request.getHeader("User-Agent"), detail);
+    }
+
+    /**
+     * Returns the client IP address. Forwarding headers are not read here: the servlet container
+     * applies them to the remote address only for connections from the trusted proxies
+     * ({@code server.tomcat.remoteip.internal-proxies}), so a client cannot choose its own
+     * rate-limit key by sending them.
      * 
      * @param request the HTTP request
      * @return the client IP address
      */
     private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (StringUtils.hasText(xForwardedFor)) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (StringUtils.hasText(xRealIp)) {
-            return xRealIp;
-        }
-        
         return request.getRemoteAddr();
     }
 
     /**
-     * Sanitizes the User-Agent header to prevent log injection attacks.
+     * Returns the User-Agent header sanitized to prevent log injection attacks.
      * 
-     * @param userAgent the User-Agent header value
+     * @param request the HTTP request
      * @return sanitized User-Agent string
      */
-    private String sanitizeUserAgent(String userAgent) {
-        if (userAgent == null) {
-            return "unknown";
-        }
-        // Remove potential log injection characters and limit length
-        return userAgent.replaceAll("[\r\n\t]", "_")
-                       .substring(0, Math.min(userAgent.length(), 200));
+    private String sanitizedUserAgent(HttpServletRequest request) {
+        return ClientRequestInfo.sanitizeUserAgent(request.getHeader("User-Agent"));
     }
 }
\ No newline at end of file
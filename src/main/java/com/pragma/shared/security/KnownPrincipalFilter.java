@@ -0,0 +1,214 @@
+package com.pragma.shared.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.shared.config.AuthenticationProperties;
+import com.pragma.shared.security.ratelimit.TokenBucket;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Negative-lookup layer in front of the Google ID user lookup.
+ * A Bloom filter of every known Google user ID rejects IDs that were never registered, and a
+ * short-lived negative cache catches the filter's false positives once they have been confirmed
+ * against the database. Until the first rebuild completes every ID is let through.
+ * <p>
+ * Users registered through another instance are missing from this instance's filter until the
+ * next rebuild, so a filter miss is not trusted outright: it is confirmed against the database
+ * while a small token bucket allows, and only rejected unchecked once that bucket is empty. IDs
+ * found this way are added to the filter, and IDs confirmed unknown go to the negative cache.
+ */
+@Component
+@Slf4j
+public class KnownPrincipalFilter {
+
+    private final AuthenticationProperties.NegativeCache config;
+    private final UserRepository userRepository;
+    private final Cache<String, Boolean> unknownIds;
+    private final Counter bloomRejections;
+    private final Counter negativeCacheRejections;
+    private final Counter falsePositives;
+    private final Counter missLookups;
+    private final TokenBucket missLookupBudget;
+
+    private final Object rebuildLock = new Object();
+    private volatile BloomFilter knownIds;
+    private List<String> addedDuringRebuild;
+
+    public KnownPrincipalFilter(AuthenticationProperties authProperties, UserRepository userRepository,
+                                MeterRegistry meterRegistry) {
+        this.config = authProperties.getNegativeCache();
+        this.userRepository = userRepository;
+        this.unknownIds = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getTtl())
+                .build();
+        this.bloomRejections = Counter.builder("auth.principal.rejections")
+                .description("Authentication attempts rejected without a database lookup")
+                .tag("reason", "bloom-filter")
+                .register(meterRegistry);
+        this.negativeCacheRejections = Counter.builder("auth.principal.rejections")
+                .description("Authentication attempts rejected without a database lookup")
+                .tag("reason", "negative-cache")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("auth.principal.bloom.false.positives")
+                .description("Unknown Google IDs the Bloom filter let through to the database")
+                .register(meterRegistry);
+        this.missLookups = Counter.builder("auth.principal.bloom.miss.lookups")
+                .description("Bloom filter misses confirmed against the database before rejecting")
+                .register(meterRegistry);
+        this.missLookupBudget = config.getMissLookupBurst() > 0 && config.getMissLookupsPerSecond() > 0
+                ? new TokenBucket(config.getMissLookupBurst(), config.getMissLookupsPerSecond(), System.nanoTime())
+                : null;
+        Gauge.builder("auth.principal.bloom.false.positive.rate", this, KnownPrincipalFilter::observedFalsePositiveRate)
+                .description("Share of unknown Google IDs that the Bloom filter failed to reject")
+                .register(meterRegistry);
+        Gauge.builder("auth.principal.bloom.expected.false.positive.rate", this, KnownPrincipalFilter::expectedFalsePositiveRate)
+                .description("False-positive probability predicted from the filter's size and load")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tells whether the Google user ID can be rejected without a database lookup: it was
+     * recently confirmed unknown, or the filter does not contain it and no lookup budget is left
+     * to check for a user registered through another instance.
+     *
+     * @param googleUserId the Google user ID to test
+     * @return true if the ID can be rejected without a database lookup
+     */
+    public boolean isDefinitelyUnknown(String googleUserId) {
+        BloomFilter filter = knownIds;
+        if (!config.isEnabled() || filter == null) {
+            return false;
+        }
+        if (unknownIds.getIfPresent(googleUserId) != null) {
+            negativeCacheRejections.increment();
+            return true;
+        }
+        if (filter.mightContain(googleUserId)) {
+            return false;
+        }
+        if (missLookupBudget != null && missLookupBudget.tryConsume(System.nanoTime()) == 0) {
+            missLookups.increment();
+            return false;
+        }
+        bloomRejections.increment();
+        return true;
+    }
+
+    /**
+     * Remembers a Google user ID that was let through but was not found in the database.
+     *
+     * @param googleUserId the Google user ID that failed the lookup
+     */
+    public void recordUnknown(String googleUserId) {
+        BloomFilter filter = knownIds;
+        if (!config.isEnabled() || filter == null) {
+            return;
+        }
+        if (filter.mightContain(googleUserId)) {
+            falsePositives.increment();
+        }
+        unknownIds.put(googleUserId, Boolean.TRUE);
+    }
+
+    /**
+     * Adds a Google user ID found in the database that the filter did not contain, typically a
+     * user registered through another instance since the last rebuild.
+     *
+     * @param googleUserId the Google user ID that was found
+     */
+    public void recordKnown(String googleUserId) {
+        BloomFilter filter = knownIds;
+        if (!config.isEnabled() || filter == null || filter.mightContain(googleUserId)) {
+            return;
+        }
+        add(googleUserId);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getUser();
+        if (event.getChangeType() != UserChangedEvent.ChangeType.CREATED || user == null || user.getGoogleUserId() == null) {
+            return;
+        }
+        unknownIds.invalidate(user.getGoogleUserId());
+        add(user.getGoogleUserId());
+    }
+
+    private void add(String googleUserId) {
+        synchronized (rebuildLock) {
+            if (knownIds != null) {
+                knownIds.put(googleUserId);
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(googleUserId);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.negative-cache.rebuild-interval:PT10M}",
+            initialDelayString = "${app.auth.negative-cache.rebuild-interval:PT10M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the Bloom filter from the Google user IDs currently stored in the database.
+     * IDs registered while the rebuild is running are carried over to the new filter.
+     */
+    public void rebuild() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            List<String> googleUserIds = userRepository.findAllGoogleUserIds();
+            long capacity = Math.max(config.getExpectedInsertions(), googleUserIds.size() * 2L);
+            BloomFilter filter = new BloomFilter(capacity, config.getFalsePositiveProbability());
+            googleUserIds.forEach(filter::put);
+            synchronized (rebuildLock) {
+                addedDuringRebuild.forEach(filter::put);
+                knownIds = filter;
+            }
+            log.info("Known principal filter rebuilt: users={}, bits={}, hashFunctions={}",
+                    googleUserIds.size(), filter.getBitCount(), filter.getHashFunctions());
+        } catch (RuntimeException e) {
+            log.error("Known principal filter rebuild failed, keeping previous filter: error={}", e.getMessage(), e);
+        } finally {
+            synchronized (rebuildLock) {
+                addedDuringRebuild = null;
+            }
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        double passedThrough = falsePositives.count();
+        double unknown = passedThrough + bloomRejections.count();
+        return unknown == 0 ? 0 : passedThrough / unknown;
+    }
+
+    private double expectedFalsePositiveRate() {
+        BloomFilter filter = knownIds;
+        return filter == null ? 0 : filter.expectedFalsePositiveProbability();
+    }
+}
@@ -0,0 +1,112 @@
+package com.pragma.shared.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.shared.config.AuthenticationProperties;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
+import com.pragma.usuarios.domain.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of authenticated principals keyed by Google user ID.
+ * Entries expire after the configured TTL, are evicted by size, and are invalidated
+ * as soon as the user service reports a change to the cached user.
+ * Hit, miss and eviction statistics are published under the {@code auth.principal} cache name.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    static final String CACHE_NAME = "auth.principal";
+
+    private final boolean enabled;
+    private final Cache<String, User> cache;
+
+    public PrincipalCache(AuthenticationProperties authProperties, MeterRegistry meterRegistry) {
+        AuthenticationProperties.PrincipalCache config = authProperties.getPrincipalCache();
+        this.enabled = config.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the principal for the given Google user ID, loading it on a miss.
+     * Concurrent misses for the same ID share a single load, and unknown IDs are never cached.
+     *
+     * @param googleUserId the Google user ID to resolve
+     * @param loader function that resolves the user from the source of truth
+     * @return the resolved user, if any
+     */
+    public Optional<User> get(String googleUserId, Function<String, Optional<User>> loader) {
+        if (!enabled) {
+            return loader.apply(googleUserId);
+        }
+        User cached = cache.get(googleUserId, id -> loader.apply(id).map(PrincipalCache::copyOf).orElse(null));
+        return Optional.ofNullable(cached).map(PrincipalCache::copyOf);
+    }
+
+    /**
+     * Removes the cached principal for the given Google user ID.
+     *
+     * @param googleUserId the Google user ID to invalidate
+     */
+    public void invalidate(String googleUserId) {
+        if (googleUserId != null) {
+            cache.invalidate(googleUserId);
+        }
+    }
+
+    /**
+     * Removes every cached principal.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Runs any pending maintenance such as size-based eviction.
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * Evicts once the change is committed: evicting earlier would let a concurrent request
+     * reload the old row and cache it again for the whole TTL.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getUser();
+        if (user != null) {
+            invalidate(user.getGoogleUserId());
+            if (log.isDebugEnabled()) {
+                log.debug("Principal cache entry invalidated: userId={}, change={}", user.getId(), event.getChangeType());
+            }
+        }
+    }
+
+    /**
+     * Cached principals are handed out as copies so request code cannot alter the shared entry.
+     */
+    private static User copyOf(User user) {
+        Chapter chapter = user.getChapter() != null
+                ? new Chapter(user.getChapter().getId(), user.getChapter().getName())
+                : null;
+        return new User(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getGoogleUserId(), user.getSlackId(), chapter, user.getRol(),
+                user.getActiveTutoringLimit(), user.getSeniority(), user.getSessionEpoch());
+    }
+}
@@ -0,0 +1,30 @@
+package com.pragma.shared.security.exception;
+
+/**
+ * Exception thrown when a client exceeds the request rate allowed for a path.
+ * Carries the number of seconds after which the client may retry.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new RateLimitExceededException with the specified detail message.
+     *
+     * @param message           the detail message
+     * @param retryAfterSeconds seconds until the client may retry
+     */
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Returns the number of seconds until the client may retry.
+     *
+     * @return seconds until retry
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,92 @@
+package com.pragma.shared.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.shared.config.AuthenticationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-client request rate limiter driven by the rate classes under {@code app.auth.rate-limit}.
+ * Routes select a rate class by name in the route policy table.
+ * Every rule keeps one {@link TokenBucket} per client key in a bounded cache whose
+ * concurrent hash table spreads clients over independent bins, so clients never contend on
+ * a shared lock and idle buckets are discarded after the configured expiry.
+ * Rejections are counted per rule in {@code auth.rate.limit.rejections}.
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private final boolean enabled;
+    private final Map<String, CompiledRule> rules = new HashMap<>();
+
+    public RateLimiter(AuthenticationProperties authProperties, MeterRegistry meterRegistry) {
+        AuthenticationProperties.RateLimit config = authProperties.getRateLimit();
+        this.enabled = config.isEnabled();
+        for (AuthenticationProperties.Rule rule : config.getRules()) {
+            if (!StringUtils.hasText(rule.getName())) {
+                throw new IllegalStateException("Rate limit rule without name");
+            }
+            rules.putIfAbsent(rule.getName(), new CompiledRule(rule, config, meterRegistry));
+        }
+        if (enabled && !rules.isEmpty()) {
+            log.info("Rate limiting enabled: rateClasses={}", rules.keySet());
+        }
+    }
+
+    /**
+     * Takes one token from the client's bucket of the rate class.
+     *
+     * @param rateClass the rate class of the matched route, or null if the route is not limited
+     * @param clientKey the user ID, or the client IP for unauthenticated requests
+     * @return 0 if the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    public long acquire(String rateClass, String clientKey) {
+        if (!enabled || rateClass == null) {
+            return 0;
+        }
+        CompiledRule rule = rules.get(rateClass);
+        return rule != null ? rule.acquire(clientKey) : 0;
+    }
+
+    private static final class CompiledRule {
+
+        private final int capacity;
+        private final double refillPerSecond;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejections;
+
+        private CompiledRule(AuthenticationProperties.Rule rule, AuthenticationProperties.RateLimit config,
+                             MeterRegistry meterRegistry) {
+            this.capacity = rule.getCapacity();
+            this.refillPerSecond = rule.getRefillPerSecond();
+            // Validates capacity and refill rate at startup
+            new TokenBucket(capacity, refillPerSecond, System.nanoTime());
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(config.getMaxTrackedClients())
+                    .expireAfterAccess(config.getIdleExpiry())
+                    .build();
+            this.rejections = Counter.builder("auth.rate.limit.rejections")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("rule", rule.getName())
+                    .register(meterRegistry);
+        }
+
+        private long acquire(String clientKey) {
+            long now = System.nanoTime();
+            TokenBucket bucket = buckets.get(clientKey, key -> new TokenBucket(capacity, refillPerSecond, now));
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos > 0) {
+                rejections.increment();
+            }
+            return waitNanos;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.pragma.shared.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * The whole bucket state is a single "theoretical arrival time" (the generic cell rate algorithm
+ * formulation of a token bucket), so taking a token is one compare-and-set with no locking and
+ * no allocation.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param capacity maximum number of tokens
+     * @param refillPerSecond tokens added per second
+     * @param nowNanos current time from {@link System#nanoTime()}
+     */
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @param nowNanos current time from {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until one becomes available
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long allowedAt = next - burstNanos;
+            if (allowedAt > nowNanos) {
+                return allowedAt - nowNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.pragma.shared.security.route;
+
+/**
+ * Access level required by a route.
+ */
+public enum RouteAccess {
+    /**
+     * No authentication; requests are rate limited by client IP.
+     */
+    PUBLIC,
+    /**
+     * Any registered user.
+     */
+    AUTHENTICATED,
+    /**
+     * Registered users with the administrator role.
+     */
+    ADMIN
+}
@@ -0,0 +1,52 @@
+package com.pragma.shared.security.route;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Result of matching a request against the route policy table.
+ */
+@Getter
+@AllArgsConstructor
+public class RoutePolicy {
+
+    /**
+     * Policy of CORS preflight requests, which never carry credentials.
+     */
+    public static final RoutePolicy PREFLIGHT = new RoutePolicy("OPTIONS", "/**", RouteAccess.PUBLIC, null);
+
+    /**
+     * Policy of requests that match no configured route.
+     */
+    public static final RoutePolicy DEFAULT = new RoutePolicy(null, "/**", RouteAccess.AUTHENTICATED, null);
+
+    /**
+     * HTTP method the route applies to, or null for any method.
+     */
+    private final String method;
+    private final String pathPattern;
+    private final RouteAccess access;
+
+    /**
+     * Name of the rate limit rule applied to the route, or null for no limit.
+     */
+    private final String rateClass;
+
+    public boolean isPublic() {
+        return access == RouteAccess.PUBLIC;
+    }
+
+    public boolean isAdminOnly() {
+        return access == RouteAccess.ADMIN;
+    }
+
+    public boolean hasRateClass() {
+        return rateClass != null;
+    }
+
+    @Override
+    public String toString() {
+        return (method != null ? method : "*") + " " + pathPattern + " -> " + access
+                + (rateClass != null ? " [" + rateClass + "]" : "");
+    }
+}
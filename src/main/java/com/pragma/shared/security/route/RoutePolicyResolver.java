@@ -0,0 +1,98 @@
+package com.pragma.shared.security.route;
+
+import com.pragma.shared.config.AuthenticationProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Route policy table compiled from {@code app.auth.routes}.
+ * The table is compiled once at startup into a {@link RouteTrie}; each request is matched once
+ * and the result is kept as a request attribute, so authentication, rate limiting and role
+ * checks all read the same decision.
+ */
+@Component
+@Slf4j
+public class RoutePolicyResolver {
+
+    /**
+     * Request attribute holding the {@link RoutePolicy} of the current request.
+     */
+    public static final String REQUEST_ATTRIBUTE = RoutePolicy.class.getName();
+
+    private final RouteTrie trie = new RouteTrie();
+
+    public RoutePolicyResolver(AuthenticationProperties authProperties) {
+        Set<String> rateClasses = authProperties.getRateLimit().getRules().stream()
+                .map(AuthenticationProperties.Rule::getName)
+                .collect(Collectors.toSet());
+
+        for (AuthenticationProperties.Route route : authProperties.getRoutes()) {
+            if (!StringUtils.hasText(route.getPathPattern())) {
+                throw new IllegalStateException("Route without path pattern: " + route);
+            }
+            String method = StringUtils.hasText(route.getMethod()) ? route.getMethod().trim().toUpperCase(Locale.ROOT) : null;
+            String rateClass = StringUtils.hasText(route.getRateClass()) ? route.getRateClass().trim() : null;
+            if (rateClass != null && !rateClasses.contains(rateClass)) {
+                log.warn("Route {} {} references undefined rate class '{}'; requests will not be rate limited",
+                        method, route.getPathPattern(), rateClass);
+            }
+            RouteAccess access = route.getAccess() != null ? route.getAccess() : RouteAccess.AUTHENTICATED;
+            RoutePolicy policy = new RoutePolicy(method, route.getPathPattern(), access, rateClass);
+            try {
+                trie.add(route.getPathPattern(), method, policy);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Invalid route pattern: " + route.getPathPattern(), e);
+            }
+            log.debug("Route policy registered: {}", policy);
+        }
+    }
+
+    /**
+     * Returns the policy of the request, matching it on first use and caching the result in a
+     * request attribute.
+     *
+     * @param request the HTTP request
+     * @return the route policy, never null
+     */
+    public RoutePolicy resolve(HttpServletRequest request) {
+        Object cached = request.getAttribute(REQUEST_ATTRIBUTE);
+        if (cached instanceof RoutePolicy policy) {
+            return policy;
+        }
+        RoutePolicy policy = resolve(request.getMethod(), lookupPath(request));
+        request.setAttribute(REQUEST_ATTRIBUTE, policy);
+        return policy;
+    }
+
+    /**
+     * The path the handler mappings match controllers on: relative to the context path,
+     * percent-decoded and without {@code ;} path parameters. Matching the raw request URI would
+     * let an encoded or parameterized spelling of a route reach its controller under the
+     * default policy.
+     */
+    private static String lookupPath(HttpServletRequest request) {
+        return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+    }
+
+    /**
+     * Matches a method and path against the table.
+     *
+     * @param method the HTTP method
+     * @param path the request path
+     * @return the most specific matching policy, or {@link RoutePolicy#DEFAULT}
+     */
+    public RoutePolicy resolve(String method, String path) {
+        if ("OPTIONS".equalsIgnoreCase(method)) {
+            return RoutePolicy.PREFLIGHT;
+        }
+        RoutePolicy policy = path != null ? trie.match(method, path) : null;
+        return policy != null ? policy : RoutePolicy.DEFAULT;
+    }
+}
@@ -0,0 +1,166 @@
+package com.pragma.shared.security.route;
+
+import java.util.Arrays;
+
+/**
+ * Segment trie of route patterns.
+ * Supported segments are literals, {@code *} or {@code {name}} for exactly one segment, and a
+ * trailing {@code **} for any number of remaining segments. At every level a literal segment
+ * is tried before a single-segment wildcard, and both before {@code **}, so the most specific
+ * pattern wins regardless of declaration order; among identical patterns the first one added
+ * wins. Matching walks the path in place without splitting it or allocating.
+ */
+class RouteTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds a pattern to the trie.
+     *
+     * @param pathPattern the route pattern
+     * @param method the HTTP method, or null for any method
+     * @param policy the policy returned for matching requests
+     * @throws IllegalArgumentException if the pattern uses unsupported syntax
+     */
+    void add(String pathPattern, String method, RoutePolicy policy) {
+        Node node = root;
+        String[] segments = Arrays.stream(pathPattern.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toArray(String[]::new);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if ("**".equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only supported as the last segment: " + pathPattern);
+                }
+                if (node.anyDepth == null) {
+                    node.anyDepth = new Node();
+                }
+                node = node.anyDepth;
+            } else if ("*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+            } else if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                throw new IllegalArgumentException("Partial segment wildcards are not supported: " + pathPattern);
+            } else {
+                node = node.literalChild(segment);
+            }
+        }
+        node.addPolicy(method, policy);
+    }
+
+    /**
+     * Finds the most specific policy for the request.
+     *
+     * @param method the HTTP method
+     * @param path the request path
+     * @return the matching policy, or null if no pattern matches
+     */
+    RoutePolicy match(String method, String path) {
+        return match(root, method, path, skipSlashes(path, 0));
+    }
+
+    private RoutePolicy match(Node node, String method, String path, int start) {
+        if (start >= path.length()) {
+            RoutePolicy policy = node.policyFor(method);
+            if (policy == null && node.anyDepth != null) {
+                // '**' also matches zero segments
+                policy = node.anyDepth.policyFor(method);
+            }
+            return policy;
+        }
+
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int next = skipSlashes(path, end);
+
+        Node literal = node.findLiteral(path, start, end - start);
+        if (literal != null) {
+            RoutePolicy policy = match(literal, method, path, next);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        if (node.wildcard != null) {
+            RoutePolicy policy = match(node.wildcard, method, path, next);
+            if (policy != null) {
+                return policy;
+            }
+        }
+        return node.anyDepth != null ? node.anyDepth.policyFor(method) : null;
+    }
+
+    private static int skipSlashes(String path, int index) {
+        while (index < path.length() && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    private static final class Node {
+
+        private String[] literalKeys = new String[0];
+        private Node[] literalNodes = new Node[0];
+        private Node wildcard;
+        private Node anyDepth;
+
+        private String[] methods = new String[0];
+        private RoutePolicy[] methodPolicies = new RoutePolicy[0];
+        private RoutePolicy anyMethodPolicy;
+
+        private Node literalChild(String segment) {
+            for (int i = 0; i < literalKeys.length; i++) {
+                if (literalKeys[i].equals(segment)) {
+                    return literalNodes[i];
+                }
+            }
+            Node child = new Node();
+            literalKeys = Arrays.copyOf(literalKeys, literalKeys.length + 1);
+            literalNodes = Arrays.copyOf(literalNodes, literalNodes.length + 1);
+            literalKeys[literalKeys.length - 1] = segment;
+            literalNodes[literalNodes.length - 1] = child;
+            return child;
+        }
+
+        private Node findLiteral(String path, int offset, int length) {
+            for (int i = 0; i < literalKeys.length; i++) {
+                String key = literalKeys[i];
+                if (key.length() == length && path.regionMatches(offset, key, 0, length)) {
+                    return literalNodes[i];
+                }
+            }
+            return null;
+        }
+
+        private void addPolicy(String method, RoutePolicy policy) {
+            if (method == null) {
+                if (anyMethodPolicy == null) {
+                    anyMethodPolicy = policy;
+                }
+                return;
+            }
+            for (String existing : methods) {
+                if (existing.equals(method)) {
+                    return;
+                }
+            }
+            methods = Arrays.copyOf(methods, methods.length + 1);
+            methodPolicies = Arrays.copyOf(methodPolicies, methodPolicies.length + 1);
+            methods[methods.length - 1] = method;
+            methodPolicies[methodPolicies.length - 1] = policy;
+        }
+
+        private RoutePolicy policyFor(String method) {
+            for (int i = 0; i < methods.length; i++) {
+                if (methods[i].equals(method)) {
+                    return methodPolicies[i];
+                }
+            }
+            return anyMethodPolicy;
+        }
+    }
+}
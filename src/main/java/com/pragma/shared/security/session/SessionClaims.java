@@ -0,0 +1,44 @@
+package com.pragma.shared.security.session;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Verified contents of a signed session token.
+ */
+@Getter
+@AllArgsConstructor
+public class SessionClaims {
+
+    private final String userId;
+    private final String googleUserId;
+    private final RolUsuario role;
+    private final String chapterId;
+    private final String email;
+    private final long sessionEpoch;
+    private final long issuedAt;
+    private final long expiresAt;
+
+    /**
+     * Builds the request principal from the claims.
+     * Only identity, role, chapter, email and session epoch are carried; other profile fields are
+     * left empty.
+     *
+     * @return a user populated from the claims
+     */
+    public User toUser() {
+        User user = new User();
+        user.setId(userId);
+        user.setGoogleUserId(googleUserId);
+        user.setRol(role);
+        user.setEmail(email);
+        user.setSessionEpoch(sessionEpoch);
+        if (chapterId != null) {
+            user.setChapter(new Chapter(chapterId, null));
+        }
+        return user;
+    }
+}
@@ -0,0 +1,189 @@
+package com.pragma.shared.security.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.shared.config.AuthenticationProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed session tokens.
+ * A token has the form {@code base64url(payload).base64url(signature)}, where the payload holds
+ * the user ID, Google user ID, role, chapter ID, email, session epoch, issue time and expiry
+ * separated by {@code |}.
+ * Successfully verified tokens are cached, so repeated requests with the same token skip both
+ * decoding and signature computation; expiry is still checked on every use. Whether the session
+ * epoch is still the user's current one is left to the caller.
+ */
+@Component
+@Slf4j
+public class SessionTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = "|";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long ttlMillis;
+    private final Cache<String, SessionClaims> verifiedTokens;
+    private final ThreadLocal<Mac> macs;
+    private final Clock clock;
+
+    @Autowired
+    public SessionTokenService(AuthenticationProperties authProperties) {
+        this(authProperties, Clock.systemUTC());
+    }
+
+    SessionTokenService(AuthenticationProperties authProperties, Clock clock) {
+        AuthenticationProperties.Session config = authProperties.getSession();
+        this.key = new SecretKeySpec(resolveSecret(config.getSecret(), authProperties.getMode()), ALGORITHM);
+        this.ttlMillis = config.getTtl().toMillis();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(config.getVerificationCacheSize())
+                .expireAfterWrite(config.getTtl())
+                .build();
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.clock = clock;
+    }
+
+    /**
+     * Issues a session token for the given user.
+     *
+     * @param user the authenticated user
+     * @return the signed token
+     */
+    public String issue(User user) {
+        long issuedAt = clock.millis();
+        String chapterId = user.getChapter() != null ? user.getChapter().getId() : null;
+        String payload = String.join(SEPARATOR,
+                requireClaim(user.getId()),
+                requireClaim(user.getGoogleUserId()),
+                user.getRol().name(),
+                optionalClaim(chapterId),
+                optionalClaim(user.getEmail()),
+                Long.toString(user.getSessionEpoch()),
+                Long.toString(issuedAt),
+                Long.toString(issuedAt + ttlMillis));
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    /**
+     * Verifies a session token.
+     *
+     * @param token the token received from the client
+     * @return the claims if the token is authentic and unexpired
+     */
+    public Optional<SessionClaims> verify(String token) {
+        SessionClaims claims = verifiedTokens.getIfPresent(token);
+        if (claims == null) {
+            claims = parseAndVerify(token);
+            if (claims == null) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(token, claims);
+        }
+        if (claims.getExpiresAt() <= clock.millis()) {
+            verifiedTokens.invalidate(token);
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    private SessionClaims parseAndVerify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            return null;
+        }
+        String encodedPayload = token.substring(0, dot);
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return null;
+            }
+            String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\\|", -1);
+            if (fields.length != 8) {
+                return null;
+            }
+            return new SessionClaims(
+                    fields[0],
+                    fields[1],
+                    RolUsuario.valueOf(fields[2]),
+                    emptyToNull(fields[3]),
+                    emptyToNull(fields[4]),
+                    Long.parseLong(fields[5]),
+                    Long.parseLong(fields[6]),
+                    Long.parseLong(fields[7]));
+        } catch (IllegalArgumentException e) {
+            // Malformed Base64, role, epoch or timestamp
+            return null;
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        return macs.get().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC algorithm not available: " + ALGORITHM, e);
+        }
+    }
+
+    private static byte[] resolveSecret(String secret, AuthenticationProperties.Mode mode) {
+        if (!StringUtils.hasText(secret)) {
+            if (mode == AuthenticationProperties.Mode.SIGNED_SESSION) {
+                log.warn("No session secret configured, using a random key: tokens are only valid on this instance until restart");
+            }
+            byte[] randomKey = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(randomKey);
+            return randomKey;
+        }
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.auth.session.secret must be at least " + MIN_SECRET_BYTES + " bytes long");
+        }
+        return secretBytes;
+    }
+
+    private static String requireClaim(String value) {
+        if (!StringUtils.hasText(value) || value.contains(SEPARATOR)) {
+            throw new IllegalArgumentException("Invalid session claim value");
+        }
+        return value;
+    }
+
+    private static String optionalClaim(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(SEPARATOR)) {
+            throw new IllegalArgumentException("Invalid session claim value");
+        }
+        return value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
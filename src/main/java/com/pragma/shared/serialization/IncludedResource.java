@@ -0,0 +1,20 @@
+package com.pragma.shared.serialization;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a DTO that normalized responses write once, under {@code included.<type>} keyed by its
+ * {@code id} property, and reference from every place it is embedded.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IncludedResource {
+
+    /**
+     * Key of the resources of this type in the {@code included} dictionary, e.g. {@code users}.
+     */
+    String value();
+}
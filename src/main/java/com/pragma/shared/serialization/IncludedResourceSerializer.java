@@ -0,0 +1,73 @@
+package com.pragma.shared.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Serializer of an {@link IncludedResource} type. Outside a normalized response it writes the
+ * resource as usual; inside one it writes {@code {"type": ..., "id": ...}} and queues the
+ * resource for the {@code included} dictionary. A resource without an id is written in place.
+ */
+class IncludedResourceSerializer extends StdSerializer<Object> implements ResolvableSerializer, ContextualSerializer {
+
+    private final String type;
+    private final AnnotatedMember idAccessor;
+    private final JsonSerializer<Object> resourceSerializer;
+
+    IncludedResourceSerializer(String type, AnnotatedMember idAccessor, JsonSerializer<Object> resourceSerializer) {
+        super(Object.class);
+        this.type = type;
+        this.idAccessor = idAccessor;
+        this.resourceSerializer = resourceSerializer;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        IncludedResources included = (IncludedResources) provider.getAttribute(IncludedResources.class);
+        Object id = included != null ? idAccessor.getValue(value) : null;
+        if (id == null) {
+            resourceSerializer.serialize(value, gen, provider);
+            return;
+        }
+        included.reference(type, id.toString(), value, this);
+        gen.writeStartObject(value);
+        gen.writeStringField("type", type);
+        gen.writeStringField("id", id.toString());
+        gen.writeEndObject();
+    }
+
+    /**
+     * Writes the resource itself, as an entry of the {@code included} dictionary.
+     */
+    void serializeResource(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        resourceSerializer.serialize(value, gen, provider);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (resourceSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        if (!(resourceSerializer instanceof ContextualSerializer contextual)) {
+            return this;
+        }
+        JsonSerializer<?> contextualized = contextual.createContextual(provider, property);
+        return contextualized == resourceSerializer
+                ? this
+                : new IncludedResourceSerializer(type, idAccessor, (JsonSerializer<Object>) contextualized);
+    }
+}
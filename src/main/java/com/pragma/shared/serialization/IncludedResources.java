@@ -0,0 +1,34 @@
+package com.pragma.shared.serialization;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resources referenced while one normalized response is serialized, set as a per-call attribute
+ * of the serializer provider. Each resource is queued once, the first time it is referenced.
+ */
+final class IncludedResources {
+
+    record Pending(String type, String id, Object resource, IncludedResourceSerializer serializer) {
+    }
+
+    private final Map<String, Set<String>> referencedIds = new HashMap<>();
+    private final Deque<Pending> pending = new ArrayDeque<>();
+
+    void reference(String type, String id, Object resource, IncludedResourceSerializer serializer) {
+        if (referencedIds.computeIfAbsent(type, key -> new HashSet<>()).add(id)) {
+            pending.add(new Pending(type, id, resource, serializer));
+        }
+    }
+
+    /**
+     * Next resource to write in full, or {@code null} once every referenced resource is written.
+     */
+    Pending next() {
+        return pending.poll();
+    }
+}
@@ -0,0 +1,43 @@
+package com.pragma.shared.serialization;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Registers the serializer of every {@link IncludedResource} type with the application's object
+ * mapper, so normalized responses can replace embedded resources by references.
+ */
+@Component
+public class NormalizedResponseModule extends SimpleModule {
+
+    public NormalizedResponseModule() {
+        super(NormalizedResponseModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                IncludedResource resource = beanDesc.getClassAnnotations().get(IncludedResource.class);
+                if (resource == null) {
+                    return serializer;
+                }
+                AnnotatedMember idAccessor = beanDesc.findProperties().stream()
+                        .filter(property -> "id".equals(property.getName()))
+                        .map(BeanPropertyDefinition::getAccessor)
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalStateException(
+                                "Included resource without an id property: " + beanDesc.getBeanClass().getName()));
+                return new IncludedResourceSerializer(resource.value(), idAccessor, (JsonSerializer<Object>) serializer);
+            }
+        });
+    }
+}
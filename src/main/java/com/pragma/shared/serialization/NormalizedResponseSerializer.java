@@ -0,0 +1,57 @@
+package com.pragma.shared.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.pragma.shared.dto.NormalizedResponseDto;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes a {@link NormalizedResponseDto} as the regular envelope, where every embedded
+ * {@link IncludedResource} is a reference, followed by an {@code included} dictionary with each
+ * referenced resource once, by type and id. Resources referenced from included resources (the
+ * chapter of a user) are included as well.
+ */
+public class NormalizedResponseSerializer extends StdSerializer<NormalizedResponseDto<?>> {
+
+    public NormalizedResponseSerializer() {
+        super(NormalizedResponseDto.class, false);
+    }
+
+    @Override
+    public void serialize(NormalizedResponseDto<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        IncludedResources included = new IncludedResources();
+        provider.setAttribute(IncludedResources.class, included);
+
+        // Data and included resources are buffered: writing a resource can reference new ones
+        TokenBuffer data = new TokenBuffer(gen.getCodec(), false);
+        provider.defaultSerializeValue(value.getData(), data);
+        Map<String, Map<String, TokenBuffer>> resources = new TreeMap<>();
+        for (IncludedResources.Pending next = included.next(); next != null; next = included.next()) {
+            TokenBuffer resource = new TokenBuffer(gen.getCodec(), false);
+            next.serializer().serializeResource(next.resource(), resource, provider);
+            resources.computeIfAbsent(next.type(), type -> new TreeMap<>()).put(next.id(), resource);
+        }
+
+        gen.writeStartObject(value);
+        gen.writeStringField("message", value.getMessage());
+        gen.writeFieldName("data");
+        data.serialize(gen);
+        provider.defaultSerializeField("timestamp", value.getTimestamp(), gen);
+        gen.writeObjectFieldStart("included");
+        for (Map.Entry<String, Map<String, TokenBuffer>> type : resources.entrySet()) {
+            gen.writeObjectFieldStart(type.getKey());
+            for (Map.Entry<String, TokenBuffer> resource : type.getValue().entrySet()) {
+                gen.writeFieldName(resource.getKey());
+                resource.getValue().serialize(gen);
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+}
@@ -1,5 +1,6 @@
 package com.pragma.skills.infrastructure.adapter.input.rest.dto;
 
+import com.pragma.shared.serialization.IncludedResource;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,6 +8,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@IncludedResource("skills")
 public class SkillDto {
     private String id;
     private String name;
@@ -0,0 +1,287 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.GetAllChaptersUseCase;
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.statistics.domain.model.DashboardCounter;
+import com.pragma.statistics.domain.model.DashboardStatistics;
+import com.pragma.statistics.domain.model.enums.CounterDimension;
+import com.pragma.statistics.domain.port.input.GetDashboardCountersUseCase;
+import com.pragma.statistics.domain.port.input.UpdateDashboardCountersUseCase;
+import com.pragma.statistics.domain.port.output.DashboardCounterRepository;
+import com.pragma.statistics.domain.port.output.StatisticsRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dashboard read model: one counter per (scope, dimension, key), where the scope is a chapter
+ * or the global view. The write paths apply deltas inside their own transaction, so reading
+ * the dashboard is a single lookup of the counters of one scope.
+ * A periodic reconciliation recomputes every scope from the base tables, sets the counters
+ * to the recomputed values and reports how many of them had drifted.
+ */
+@Service
+@Slf4j
+public class DashboardCounterService implements UpdateDashboardCountersUseCase, GetDashboardCountersUseCase {
+
+    private final StatisticsProperties.Counters config;
+    private final DashboardCounterRepository counterRepository;
+    private final StatisticsRepository statisticsRepository;
+    private final GetAllChaptersUseCase getAllChaptersUseCase;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong lastDrift = new AtomicLong();
+    private final Counter corrections;
+
+    private volatile boolean reconciled;
+
+    public DashboardCounterService(StatisticsProperties statisticsProperties,
+                                   DashboardCounterRepository counterRepository,
+                                   StatisticsRepository statisticsRepository,
+                                   GetAllChaptersUseCase getAllChaptersUseCase,
+                                   UserRepository userRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.config = statisticsProperties.getCounters();
+        this.counterRepository = counterRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.getAllChaptersUseCase = getAllChaptersUseCase;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        Gauge.builder("statistics.counters.drift", lastDrift, AtomicLong::get)
+                .description("Dashboard counters that differed from the base tables in the last reconciliation")
+                .register(meterRegistry);
+        this.corrections = Counter.builder("statistics.counters.corrections")
+                .description("Dashboard counters corrected by reconciliation")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void tutoringRequestStatusChanged(TutoringRequest request, RequestStatus previousStatus) {
+        RequestStatus currentStatus = request.getRequestStatus();
+        if (!config.isEnabled() || previousStatus == currentStatus) {
+            return;
+        }
+        moveCount(scopesOf(request.getTutee()), CounterDimension.REQUEST,
+                previousStatus != null ? previousStatus.name() : null,
+                currentStatus != null ? currentStatus.name() : null);
+    }
+
+    @Override
+    public void tutoringRequestDeleted(TutoringRequest request) {
+        if (!config.isEnabled() || request.getRequestStatus() == null) {
+            return;
+        }
+        moveCount(scopesOf(request.getTutee()), CounterDimension.REQUEST, request.getRequestStatus().name(), null);
+    }
+
+    @Override
+    public void tutoringStatusChanged(Tutoring tutoring, TutoringStatus previousStatus) {
+        TutoringStatus currentStatus = tutoring.getStatus();
+        if (!config.isEnabled() || previousStatus == currentStatus) {
+            return;
+        }
+        // A tutoring belongs to the chapter of its tutor and to the chapter of its tutee
+        moveCount(scopesOf(tutoring.getTutor(), tutoring.getTutee()), CounterDimension.TUTORING,
+                previousStatus != null ? previousStatus.name() : null,
+                currentStatus != null ? currentStatus.name() : null);
+    }
+
+    @Override
+    public void userRoleChanged(User user, RolUsuario previousRole) {
+        if (!config.isEnabled() || user.getChapter() == null || user.getChapter().getId() == null) {
+            return;
+        }
+        long delta = (user.getRol() == RolUsuario.Tutor ? 1 : 0) - (previousRole == RolUsuario.Tutor ? 1 : 0);
+        if (delta == 0) {
+            return;
+        }
+        counterRepository.increment(user.getChapter().getId(), CounterDimension.TUTOR,
+                DashboardStatistics.ACTIVE_TUTORS_KEY, delta);
+        counterRepository.increment(DashboardCounter.GLOBAL_SCOPE, CounterDimension.TUTOR,
+                user.getChapter().getName(), delta);
+    }
+
+    @Override
+    public Optional<DashboardStatistics> getDashboardFromCounters(String chapterId) {
+        if (!config.isEnabled() || !reconciled) {
+            return Optional.empty();
+        }
+        String scope = chapterId != null ? chapterId : DashboardCounter.GLOBAL_SCOPE;
+        Map<String, Long> requestsByStatus = zeroCounts(RequestStatus.values());
+        Map<String, Long> tutoringsByStatus = zeroCounts(TutoringStatus.values());
+        Map<String, Long> activeTutors = new HashMap<>();
+        if (chapterId != null) {
+            activeTutors.put(DashboardStatistics.ACTIVE_TUTORS_KEY, 0L);
+        }
+        for (DashboardCounter counter : counterRepository.findByScope(scope)) {
+            switch (counter.getDimension()) {
+                case REQUEST -> requestsByStatus.put(counter.getKey(), counter.getCount());
+                case TUTORING -> tutoringsByStatus.put(counter.getKey(), counter.getCount());
+                case TUTOR -> {
+                    // The global view lists only chapters that have tutors
+                    if (chapterId != null || counter.getCount() > 0) {
+                        activeTutors.put(counter.getKey(), counter.getCount());
+                    }
+                }
+            }
+        }
+        return Optional.of(new DashboardStatistics(requestsByStatus, tutoringsByStatus, activeTutors));
+    }
+
+    /**
+     * Recomputes the counters of every scope from the base tables and corrects the ones that
+     * drifted. Each scope is reconciled in its own transaction that locks the scope's counters
+     * before reading the base tables, so a write path increments either before the lock (and
+     * its rows are counted) or after the commit (on top of the corrected value), and instances
+     * reconciling at the same time set the same values instead of adding up their corrections.
+     * The first run happens at startup; until it completes the dashboard is computed from the
+     * base tables.
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.counters.reconcile-interval:PT15M}")
+    public void reconcile() {
+        if (!config.isEnabled()) {
+            reconciled = false;
+            return;
+        }
+        try {
+            long drift = reconcileScope(DashboardCounter.GLOBAL_SCOPE, null);
+            for (Chapter chapter : getAllChaptersUseCase.getAllChapters()) {
+                drift += reconcileScope(chapter.getId(), chapter.getId());
+            }
+            lastDrift.set(drift);
+            if (drift > 0) {
+                log.warn("Contadores del dashboard corregidos por reconciliación: {} contadores con diferencias", drift);
+            } else {
+                log.debug("Reconciliación de contadores del dashboard completada: {} contadores con diferencias", drift);
+            }
+            reconciled = true;
+        } catch (RuntimeException e) {
+            log.error("Error al reconciliar los contadores del dashboard: {}", e.getMessage(), e);
+        }
+    }
+
+    private long reconcileScope(String scope, String chapterId) {
+        long drift = transactionTemplate.execute(status -> correctScope(scope, chapterId));
+        corrections.increment(drift);
+        return drift;
+    }
+
+    private long correctScope(String scope, String chapterId) {
+        Map<String, DashboardCounter> actual = new HashMap<>();
+        for (DashboardCounter counter : counterRepository.lockScope(scope)) {
+            actual.put(counter.getDimension() + "|" + counter.getKey(), counter);
+        }
+        Map<String, Long> expected = toCounterValues(statisticsRepository.loadDashboardStatistics(chapterId));
+
+        long drift = 0;
+        for (Map.Entry<String, Long> entry : expected.entrySet()) {
+            DashboardCounter current = actual.remove(entry.getKey());
+            long count = entry.getValue();
+            if (current == null || current.getCount() != count) {
+                // Also creates the missing rows, so the write paths rarely have to insert
+                String[] parts = entry.getKey().split("\\|", 2);
+                counterRepository.set(scope, CounterDimension.valueOf(parts[0]), parts[1], count);
+            }
+            if (current != null && current.getCount() != count) {
+                drift++;
+            }
+        }
+        // Counters with no source rows left, e.g. a chapter whose last tutor changed role
+        for (DashboardCounter stale : actual.values()) {
+            if (stale.getCount() != 0) {
+                counterRepository.set(scope, stale.getDimension(), stale.getKey(), 0);
+                drift++;
+            }
+        }
+        return drift;
+    }
+
+    private static Map<String, Long> toCounterValues(DashboardStatistics statistics) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        statistics.getRequestsByStatus().forEach((key, count) -> values.put(CounterDimension.REQUEST + "|" + key, count));
+        statistics.getTutoringsByStatus().forEach((key, count) -> values.put(CounterDimension.TUTORING + "|" + key, count));
+        statistics.getActiveTutorsByChapter().forEach((key, count) -> values.put(CounterDimension.TUTOR + "|" + key, count));
+        return values;
+    }
+
+    private void moveCount(Set<String> scopes, CounterDimension dimension, String fromKey, String toKey) {
+        for (String scope : scopes) {
+            if (fromKey != null) {
+                counterRepository.increment(scope, dimension, fromKey, -1);
+            }
+            if (toKey != null) {
+                counterRepository.increment(scope, dimension, toKey, 1);
+            }
+        }
+    }
+
+    private Set<String> scopesOf(User... users) {
+        Set<String> scopes = new LinkedHashSet<>();
+        scopes.add(DashboardCounter.GLOBAL_SCOPE);
+        for (User user : users) {
+            String chapterId = chapterIdOf(user);
+            if (chapterId != null) {
+                scopes.add(chapterId);
+            }
+        }
+        return scopes;
+    }
+
+    /**
+     * Write paths may only carry the user ID (e.g. a request created from a DTO), in which case
+     * the chapter is looked up.
+     */
+    private String chapterIdOf(User user) {
+        if (user == null) {
+            return null;
+        }
+        if (user.getChapter() != null) {
+            return user.getChapter().getId();
+        }
+        if (user.getId() == null) {
+            return null;
+        }
+        return userRepository.findById(user.getId())
+                .map(User::getChapter)
+                .map(Chapter::getId)
+                .orElse(null);
+    }
+
+    private static Map<String, Long> zeroCounts(Enum<?>[] statuses) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Enum<?> status : statuses) {
+            counts.put(status.name(), 0L);
+        }
+        return counts;
+    }
+
+    boolean isReconciled() {
+        return reconciled;
+    }
+
+    long lastDrift() {
+        return lastDrift.get();
+    }
+}
@@ -0,0 +1,177 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.statistics.domain.model.DwellTimeHistogram;
+import com.pragma.statistics.domain.model.DwellTimePercentiles;
+import com.pragma.statistics.domain.model.LatencyHistogram;
+import com.pragma.statistics.domain.model.RequestFunnelStatistics;
+import com.pragma.statistics.domain.model.StatisticsRollup;
+import com.pragma.statistics.domain.model.enums.FunnelStage;
+import com.pragma.statistics.domain.port.input.GetRequestFunnelUseCase;
+import com.pragma.statistics.domain.port.input.RecordRequestTransitionUseCase;
+import com.pragma.statistics.domain.port.output.FunnelHistogramRepository;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dwell times of the request pipeline, recorded as mergeable histograms per funnel stage,
+ * chapter and skill (with totals over every chapter and skill).
+ * Write paths only add a sample to a histogram held in memory; a periodic flush merges the
+ * pending histograms of this instance into the stored ones. Percentiles are read from the
+ * stored histograms plus the ones still pending, never from the request rows.
+ */
+@Service
+@Slf4j
+public class RequestFunnelService implements RecordRequestTransitionUseCase, GetRequestFunnelUseCase {
+
+    private final StatisticsProperties.Funnel config;
+    private final FunnelHistogramRepository histogramRepository;
+    private final Map<HistogramKey, LatencyHistogram> pending = new ConcurrentHashMap<>();
+
+    public RequestFunnelService(StatisticsProperties statisticsProperties,
+                                FunnelHistogramRepository histogramRepository) {
+        this.config = statisticsProperties.getFunnel();
+        this.histogramRepository = histogramRepository;
+    }
+
+    @Override
+    public void requestStatusChanged(TutoringRequest request, RequestStatus previousStatus, Date previousStatusSince) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        Date changedAt = request.getStatusChangedAt() != null ? request.getStatusChangedAt() : new Date();
+        Map<FunnelStage, Long> samples = new EnumMap<>(FunnelStage.class);
+        FunnelStage.dwellStageOf(previousStatus, request.getRequestStatus()).ifPresent(stage -> {
+            if (previousStatusSince != null) {
+                samples.put(stage, secondsBetween(previousStatusSince, changedAt));
+            }
+        });
+        if (request.getRequestStatus() == RequestStatus.Asignada && request.getCreatedAt() != null) {
+            samples.put(FunnelStage.TIME_TO_ASSIGNMENT, secondsBetween(request.getCreatedAt(), changedAt));
+        }
+        if (samples.isEmpty()) {
+            return;
+        }
+        Set<String> chapterKeys = withTotal(request.getTutee() != null && request.getTutee().getChapter() != null
+                ? request.getTutee().getChapter().getId() : null);
+        Set<String> skillKeys = withTotal(request.getSkills() != null
+                ? request.getSkills().stream().map(Skill::getId).toArray(String[]::new) : new String[0]);
+
+        Runnable record = () -> samples.forEach((stage, seconds) -> {
+            for (String chapterKey : chapterKeys) {
+                for (String skillKey : skillKeys) {
+                    pending.compute(new HistogramKey(stage, chapterKey, skillKey), (key, histogram) -> {
+                        LatencyHistogram target = histogram != null ? histogram : new LatencyHistogram();
+                        target.record(seconds);
+                        return target;
+                    });
+                }
+            }
+        });
+        // A transition that rolls back must not leave a sample behind
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record.run();
+                }
+            });
+        } else {
+            record.run();
+        }
+    }
+
+    @Override
+    public RequestFunnelStatistics getRequestFunnel(String chapterId, String skillId) {
+        String chapterKey = chapterId != null ? chapterId : StatisticsRollup.ALL;
+        String skillKey = skillId != null ? skillId : StatisticsRollup.ALL;
+
+        Map<FunnelStage, LatencyHistogram> histograms = new EnumMap<>(FunnelStage.class);
+        for (FunnelStage stage : FunnelStage.values()) {
+            histograms.put(stage, new LatencyHistogram());
+        }
+        for (DwellTimeHistogram stored : histogramRepository.findByChapterAndSkill(chapterKey, skillKey)) {
+            histograms.get(stored.getStage()).merge(stored.getHistogram());
+        }
+        for (FunnelStage stage : FunnelStage.values()) {
+            pending.computeIfPresent(new HistogramKey(stage, chapterKey, skillKey), (key, histogram) -> {
+                histograms.get(stage).merge(histogram);
+                return histogram;
+            });
+        }
+
+        Map<FunnelStage, DwellTimePercentiles> stages = new EnumMap<>(FunnelStage.class);
+        histograms.forEach((stage, histogram) -> stages.put(stage, DwellTimePercentiles.of(histogram)));
+        return new RequestFunnelStatistics(chapterId, skillId, stages);
+    }
+
+    /**
+     * Merges the pending histograms into the stored ones. On failure they are put back and
+     * merged again by the next flush.
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.funnel.flush-interval:PT30S}")
+    @PreDestroy
+    public void flush() {
+        List<DwellTimeHistogram> batch = new ArrayList<>();
+        for (HistogramKey key : pending.keySet()) {
+            LatencyHistogram histogram = pending.remove(key);
+            if (histogram != null) {
+                batch.add(new DwellTimeHistogram(key.stage(), key.chapterKey(), key.skillKey(), histogram));
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            histogramRepository.mergeAll(batch);
+            log.debug("Histogramas del embudo de solicitudes guardados: {}", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Error al guardar los histogramas del embudo de solicitudes, se reintentará: {}", e.getMessage());
+            for (DwellTimeHistogram histogram : batch) {
+                pending.merge(new HistogramKey(histogram.getStage(), histogram.getChapterKey(), histogram.getSkillKey()),
+                        histogram.getHistogram(), (current, failed) -> {
+                            current.merge(failed);
+                            return current;
+                        });
+            }
+        }
+    }
+
+    private static long secondsBetween(Date from, Date to) {
+        return Math.max(0, (to.getTime() - from.getTime()) / 1000);
+    }
+
+    private static Set<String> withTotal(String... keys) {
+        Set<String> withTotal = new LinkedHashSet<>();
+        withTotal.add(StatisticsRollup.ALL);
+        for (String key : keys) {
+            if (key != null) {
+                withTotal.add(key);
+            }
+        }
+        return withTotal;
+    }
+
+    int pendingHistograms() {
+        return pending.size();
+    }
+
+    private record HistogramKey(FunnelStage stage, String chapterKey, String skillKey) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.statistics.domain.model.StatisticsRollup;
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable in-memory copy of the rollups: one sorted map of buckets per
+ * (subject, granularity, chapter key, skill key), so a range query is a sub-map view.
+ * Updates build a new index that shares every series they do not touch.
+ */
+final class RollupIndex {
+
+    static final RollupIndex EMPTY = new RollupIndex(Map.of());
+
+    private final Map<SeriesKey, NavigableMap<LocalDate, Map<String, Long>>> series;
+
+    private RollupIndex(Map<SeriesKey, NavigableMap<LocalDate, Map<String, Long>>> series) {
+        this.series = series;
+    }
+
+    static RollupIndex of(Collection<StatisticsRollup> rollups) {
+        Map<SeriesKey, NavigableMap<LocalDate, Map<String, Long>>> series = new HashMap<>();
+        addAll(series, rollups);
+        return new RollupIndex(series);
+    }
+
+    /**
+     * Returns a new index where the given buckets hold exactly the given rollups.
+     */
+    RollupIndex withBuckets(RollupSubject subject, RollupGranularity granularity, Set<LocalDate> bucketStarts,
+                            Collection<StatisticsRollup> rollups) {
+        Map<SeriesKey, NavigableMap<LocalDate, Map<String, Long>>> updated = new HashMap<>(series);
+        for (Map.Entry<SeriesKey, NavigableMap<LocalDate, Map<String, Long>>> entry : series.entrySet()) {
+            SeriesKey key = entry.getKey();
+            if (key.subject() != subject || key.granularity() != granularity
+                    || Collections.disjoint(entry.getValue().keySet(), bucketStarts)) {
+                continue;
+            }
+            NavigableMap<LocalDate, Map<String, Long>> copy = new TreeMap<>(entry.getValue());
+            copy.keySet().removeAll(bucketStarts);
+            if (copy.isEmpty()) {
+                updated.remove(key);
+            } else {
+                updated.put(key, copy);
+            }
+        }
+        // Series receiving rows are copied before being written
+        Map<SeriesKey, NavigableMap<LocalDate, Map<String, Long>>> touched = new HashMap<>();
+        for (StatisticsRollup rollup : rollups) {
+            SeriesKey key = SeriesKey.of(rollup);
+            NavigableMap<LocalDate, Map<String, Long>> buckets = touched.computeIfAbsent(key, k -> {
+                NavigableMap<LocalDate, Map<String, Long>> current = updated.get(k);
+                return current != null ? new TreeMap<>(current) : new TreeMap<>();
+            });
+            buckets.computeIfAbsent(rollup.getBucketStart(), d -> new HashMap<>())
+                    .merge(rollup.getStatus(), rollup.getCount(), Long::sum);
+        }
+        updated.putAll(touched);
+        return new RollupIndex(updated);
+    }
+
+    /**
+     * Returns the buckets of one series between two bucket starts, both inclusive.
+     */
+    NavigableMap<LocalDate, Map<String, Long>> range(RollupSubject subject, RollupGranularity granularity,
+                                                     String chapterKey, String skillKey,
+                                                     LocalDate firstBucket, LocalDate lastBucket) {
+        NavigableMap<LocalDate, Map<String, Long>> buckets =
+                series.get(new SeriesKey(subject, granularity, chapterKey, skillKey));
+        return buckets != null ? buckets.subMap(firstBucket, true, lastBucket, true) : Collections.emptyNavigableMap();
+    }
+
+    /**
+     * Returns the rollups of every series of a subject and granularity between two days,
+     * the first inclusive and the second exclusive.
+     */
+    List<StatisticsRollup> rollupsBetween(RollupSubject subject, RollupGranularity granularity,
+                                          LocalDate from, LocalDate toExclusive) {
+        List<StatisticsRollup> rollups = new ArrayList<>();
+        series.forEach((key, buckets) -> {
+            if (key.subject() != subject || key.granularity() != granularity) {
+                return;
+            }
+            buckets.subMap(from, true, toExclusive, false).forEach((bucketStart, counts) ->
+                    counts.forEach((status, count) -> rollups.add(new StatisticsRollup(subject, granularity,
+                            bucketStart, key.chapterKey(), key.skillKey(), status, count))));
+        });
+        return rollups;
+    }
+
+    /**
+     * Returns every bucket start present for a subject and granularity.
+     */
+    Set<LocalDate> bucketStarts(RollupSubject subject, RollupGranularity granularity) {
+        Set<LocalDate> bucketStarts = new TreeSet<>();
+        series.forEach((key, buckets) -> {
+            if (key.subject() == subject && key.granularity() == granularity) {
+                bucketStarts.addAll(buckets.keySet());
+            }
+        });
+        return bucketStarts;
+    }
+
+    private static void addAll(Map<SeriesKey, NavigableMap<LocalDate, Map<String, Long>>> series,
+                               Collection<StatisticsRollup> rollups) {
+        for (StatisticsRollup rollup : rollups) {
+            series.computeIfAbsent(SeriesKey.of(rollup), k -> new TreeMap<>())
+                    .computeIfAbsent(rollup.getBucketStart(), d -> new HashMap<>())
+                    .merge(rollup.getStatus(), rollup.getCount(), Long::sum);
+        }
+    }
+
+    private record SeriesKey(RollupSubject subject, RollupGranularity granularity, String chapterKey, String skillKey) {
+
+        static SeriesKey of(StatisticsRollup rollup) {
+            return new SeriesKey(rollup.getSubject(), rollup.getGranularity(), rollup.getChapterKey(),
+                    rollup.getSkillKey());
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.statistics.domain.model.RollupSourceRecord;
+import com.pragma.statistics.domain.model.StatisticsRollup;
+import com.pragma.statistics.domain.model.StatisticsTimeSeries;
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import com.pragma.statistics.domain.port.input.GetStatisticsTimeSeriesUseCase;
+import com.pragma.statistics.domain.port.output.RollupSourceRepository;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Time series of created requests and tutorings per chapter, skill and status, served from
+ * daily and weekly rollup tables.
+ * A periodic refresh finds the creation days of the items updated since the last watermark and
+ * recomputes only those days, then the weeks that contain them from the daily rows. A nightly
+ * rebuild recomputes every day, which also accounts for deleted items.
+ * Queries are answered from an in-memory copy of the rollups that is replaced after each write.
+ */
+@Service
+@Slf4j
+public class StatisticsRollupService implements GetStatisticsTimeSeriesUseCase {
+
+    /**
+     * Days recomputed per source query, so a full rebuild never loads every item at once.
+     */
+    static final int WINDOW_DAYS = 31;
+
+    private final StatisticsProperties.Rollups config;
+    private final StatisticsRollupRepository rollupRepository;
+    private final RollupSourceRepository sourceRepository;
+    private final Object writeLock = new Object();
+    private final Map<RollupSubject, LocalDateTime> appliedWatermarks = new EnumMap<>(RollupSubject.class);
+
+    private volatile RollupIndex index;
+
+    public StatisticsRollupService(StatisticsProperties statisticsProperties,
+                                   StatisticsRollupRepository rollupRepository,
+                                   RollupSourceRepository sourceRepository) {
+        this.config = statisticsProperties.getRollups();
+        this.rollupRepository = rollupRepository;
+        this.sourceRepository = sourceRepository;
+    }
+
+    @Override
+    public StatisticsTimeSeries getTimeSeries(RollupSubject subject, RollupGranularity granularity,
+                                              LocalDate from, LocalDate to, String chapterId, String skillId) {
+        if (!config.isEnabled()) {
+            throw new IllegalStateException("Statistics time series are disabled");
+        }
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("The range must have a start date not after its end date");
+        }
+        List<LocalDate> buckets = new ArrayList<>();
+        for (LocalDate bucket = granularity.bucketStart(from); !bucket.isAfter(to); bucket = granularity.nextBucket(bucket)) {
+            if (buckets.size() == config.getMaxBuckets()) {
+                throw new IllegalArgumentException("The range exceeds " + config.getMaxBuckets() + " buckets");
+            }
+            buckets.add(bucket);
+        }
+
+        Map<LocalDate, Integer> positions = new HashMap<>();
+        for (int i = 0; i < buckets.size(); i++) {
+            positions.put(buckets.get(i), i);
+        }
+        Map<String, long[]> counts = new LinkedHashMap<>();
+        for (String status : statusesOf(subject)) {
+            counts.put(status, new long[buckets.size()]);
+        }
+        currentIndex().range(subject, granularity, keyOf(chapterId), keyOf(skillId),
+                        buckets.get(0), buckets.get(buckets.size() - 1))
+                .forEach((bucket, countsByStatus) -> countsByStatus.forEach((status, count) ->
+                        counts.computeIfAbsent(status, s -> new long[buckets.size()])[positions.get(bucket)] = count));
+
+        Map<String, List<Long>> seriesByStatus = new LinkedHashMap<>();
+        counts.forEach((status, values) -> seriesByStatus.put(status, Arrays.stream(values).boxed().toList()));
+        return new StatisticsTimeSeries(subject, granularity, chapterId, skillId, buckets, seriesByStatus);
+    }
+
+    /**
+     * Recomputes the days whose items changed since the previous refresh. The first run after
+     * startup also loads the rollups into memory; without a stored watermark it rebuilds them.
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.rollups.refresh-interval:PT1M}")
+    public void refresh() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        synchronized (writeLock) {
+            reloadIfRefreshedElsewhere();
+            for (RollupSubject subject : RollupSubject.values()) {
+                try {
+                    refreshSubject(subject, false);
+                } catch (RuntimeException e) {
+                    log.error("Error al actualizar los acumulados de {}: {}", subject, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recomputes every day that has items or rollups, removing the counts of deleted items.
+     */
+    @Scheduled(cron = "${app.statistics.rollups.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        synchronized (writeLock) {
+            reloadIfRefreshedElsewhere();
+            for (RollupSubject subject : RollupSubject.values()) {
+                try {
+                    refreshSubject(subject, true);
+                } catch (RuntimeException e) {
+                    log.error("Error al reconstruir los acumulados de {}: {}", subject, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private void refreshSubject(RollupSubject subject, boolean fullRebuild) {
+        RollupIndex current = currentIndex();
+        // Taken before reading, so items updated while the refresh runs are read again next time.
+        // Whole seconds, so the stored value compares equal on databases without fractional seconds
+        LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Optional<LocalDateTime> watermark = fullRebuild ? Optional.empty() : rollupRepository.findWatermark(subject);
+
+        NavigableSet<LocalDate> days = new TreeSet<>(sourceRepository.findCreationDaysUpdatedSince(subject,
+                watermark.map(w -> w.minus(config.getLag())).orElse(null)));
+        if (watermark.isEmpty()) {
+            // Days that only have rollups lost all their items
+            days.addAll(current.bucketStarts(subject, RollupGranularity.DAY));
+        }
+        if (!days.isEmpty()) {
+            recomputeDays(subject, days);
+            log.info("Acumulados de {} recalculados: {} días", subject, days.size());
+        }
+        rollupRepository.saveWatermark(subject, startedAt);
+        appliedWatermarks.put(subject, startedAt);
+    }
+
+    /**
+     * Reloads the in-memory rollups when a stored watermark is not the one this instance last
+     * wrote, i.e. at startup or after another instance refreshed the tables.
+     */
+    private void reloadIfRefreshedElsewhere() {
+        boolean stale = index == null;
+        for (RollupSubject subject : RollupSubject.values()) {
+            Optional<LocalDateTime> stored = rollupRepository.findWatermark(subject);
+            if (stored.isPresent() && !stored.get().equals(appliedWatermarks.get(subject))) {
+                appliedWatermarks.put(subject, stored.get());
+                stale = true;
+            }
+        }
+        if (stale) {
+            index = RollupIndex.of(rollupRepository.findAll());
+        }
+    }
+
+    private void recomputeDays(RollupSubject subject, NavigableSet<LocalDate> days) {
+        NavigableSet<LocalDate> weeks = new TreeSet<>();
+        LocalDate windowStart = days.first();
+        while (windowStart != null) {
+            LocalDate windowEnd = windowStart.plusDays(WINDOW_DAYS);
+            NavigableSet<LocalDate> windowDays = days.subSet(windowStart, true, windowEnd, false);
+            List<RollupSourceRecord> records =
+                    sourceRepository.findCreatedBetween(subject, windowStart, windowDays.last().plusDays(1));
+            writeBuckets(subject, RollupGranularity.DAY, windowDays, aggregateDays(subject, records, windowDays));
+            windowDays.forEach(day -> weeks.add(RollupGranularity.WEEK.bucketStart(day)));
+            windowStart = days.ceiling(windowEnd);
+        }
+        for (LocalDate week : weeks) {
+            writeBuckets(subject, RollupGranularity.WEEK, Set.of(week), aggregateWeek(subject, week));
+        }
+    }
+
+    private void writeBuckets(RollupSubject subject, RollupGranularity granularity, Set<LocalDate> bucketStarts,
+                              List<StatisticsRollup> rollups) {
+        rollupRepository.replaceBuckets(subject, granularity, bucketStarts, rollups);
+        index = currentIndex().withBuckets(subject, granularity, bucketStarts, rollups);
+    }
+
+    /**
+     * Counts every item once in the total row and once in each of its chapters and skills,
+     * and in each (chapter, skill) pair.
+     */
+    private static List<StatisticsRollup> aggregateDays(RollupSubject subject, List<RollupSourceRecord> records,
+                                                        Set<LocalDate> days) {
+        Map<String, StatisticsRollup> rollups = new LinkedHashMap<>();
+        for (RollupSourceRecord record : records) {
+            if (!days.contains(record.getCreatedDay())) {
+                continue;
+            }
+            for (String chapterKey : withTotal(record.getChapterIds())) {
+                for (String skillKey : withTotal(record.getSkillIds())) {
+                    StatisticsRollup rollup = rollups.computeIfAbsent(
+                            record.getCreatedDay() + "|" + chapterKey + "|" + skillKey + "|" + record.getStatus(),
+                            k -> new StatisticsRollup(subject, RollupGranularity.DAY, record.getCreatedDay(),
+                                    chapterKey, skillKey, record.getStatus(), 0));
+                    rollup.setCount(rollup.getCount() + 1);
+                }
+            }
+        }
+        return new ArrayList<>(rollups.values());
+    }
+
+    /**
+     * Sums the daily rows of a week, which are already up to date in memory.
+     */
+    private List<StatisticsRollup> aggregateWeek(RollupSubject subject, LocalDate week) {
+        Map<String, StatisticsRollup> rollups = new LinkedHashMap<>();
+        for (StatisticsRollup daily : currentIndex().rollupsBetween(subject, RollupGranularity.DAY, week,
+                RollupGranularity.WEEK.nextBucket(week))) {
+            StatisticsRollup rollup = rollups.computeIfAbsent(
+                    daily.getChapterKey() + "|" + daily.getSkillKey() + "|" + daily.getStatus(),
+                    k -> new StatisticsRollup(subject, RollupGranularity.WEEK, week,
+                            daily.getChapterKey(), daily.getSkillKey(), daily.getStatus(), 0));
+            rollup.setCount(rollup.getCount() + daily.getCount());
+        }
+        return new ArrayList<>(rollups.values());
+    }
+
+    private RollupIndex currentIndex() {
+        RollupIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        synchronized (writeLock) {
+            if (index == null) {
+                index = RollupIndex.of(rollupRepository.findAll());
+            }
+            return index;
+        }
+    }
+
+    private static Set<String> withTotal(Set<String> keys) {
+        Set<String> withTotal = new TreeSet<>(keys != null ? keys : Set.of());
+        withTotal.add(StatisticsRollup.ALL);
+        return withTotal;
+    }
+
+    private static String keyOf(String id) {
+        return id != null ? id : StatisticsRollup.ALL;
+    }
+
+    private static List<String> statusesOf(RollupSubject subject) {
+        Enum<?>[] statuses = subject == RollupSubject.REQUEST ? RequestStatus.values() : TutoringStatus.values();
+        return Arrays.stream(statuses).map(Enum::name).toList();
+    }
+}
@@ -1,23 +1,123 @@
 package com.pragma.statistics.application.service;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pragma.shared.concurrency.ParallelQueryExecutor;
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.statistics.domain.model.DashboardCounter;
 import com.pragma.statistics.domain.model.DashboardStatistics;
+import com.pragma.statistics.domain.port.input.GetDashboardCountersUseCase;
 import com.pragma.statistics.domain.port.input.GetDashboardStatisticsUseCase;
 import com.pragma.statistics.domain.port.output.StatisticsRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard statistics, cached per chapter (and for the global view).
+ * Concurrent requests for a missing snapshot share a single computation. Once a snapshot is
+ * older than the TTL the next read triggers a background recomputation and keeps receiving the
+ * previous snapshot until it completes; only snapshots older than the maximum staleness are
+ * discarded. Snapshots are computed on a small dedicated pool rather than the common pool.
+ * Hit, miss and load statistics are published under the {@code statistics.dashboard} cache name.
+ * When neither the counters nor a cached snapshot are available, the global dashboard runs its
+ * three independent aggregate queries concurrently.
+ */
 @Service
-@RequiredArgsConstructor
 public class StatisticsService implements GetDashboardStatisticsUseCase {
-    
+
+    static final String CACHE_NAME = "statistics.dashboard";
+
     private final StatisticsRepository statisticsRepository;
+    private final GetDashboardCountersUseCase getDashboardCountersUseCase;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+    private final ExecutorService dashboardLoader;
+    private final AsyncLoadingCache<String, DashboardStatistics> dashboardCache;
+
+    public StatisticsService(StatisticsRepository statisticsRepository,
+                             GetDashboardCountersUseCase getDashboardCountersUseCase,
+                             ParallelQueryExecutor parallelQueryExecutor,
+                             StatisticsProperties statisticsProperties,
+                             MeterRegistry meterRegistry) {
+        this.statisticsRepository = statisticsRepository;
+        this.getDashboardCountersUseCase = getDashboardCountersUseCase;
+        this.parallelQueryExecutor = parallelQueryExecutor;
+        StatisticsProperties.DashboardCache config = statisticsProperties.getDashboardCache();
+        if (config.isEnabled()) {
+            this.dashboardLoader = Executors.newFixedThreadPool(Math.max(1, config.getLoaderThreads()), loaderThreadFactory());
+            this.dashboardCache = Caffeine.newBuilder()
+                    .executor(dashboardLoader)
+                    .maximumSize(config.getMaxSize())
+                    .refreshAfterWrite(config.getTtl())
+                    .expireAfterWrite(config.getMaxStaleness())
+                    .recordStats()
+                    .buildAsync(this::computeDashboard);
+            CaffeineCacheMetrics.monitor(meterRegistry, dashboardCache.synchronous(), CACHE_NAME);
+        } else {
+            this.dashboardLoader = null;
+            this.dashboardCache = null;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (dashboardLoader != null) {
+            dashboardLoader.shutdownNow();
+        }
+    }
 
     @Override
     public DashboardStatistics getDashboardStatistics(String chapterId) {
-        return new DashboardStatistics(
-            statisticsRepository.countRequestsByStatus(chapterId),
-            statisticsRepository.countTutoringsByStatus(chapterId),
-            statisticsRepository.countActiveTutorsByChapter(chapterId)
-        );
+        String scope = chapterId != null ? chapterId : DashboardCounter.GLOBAL_SCOPE;
+        if (dashboardCache == null) {
+            return computeDashboard(scope);
+        }
+        try {
+            return dashboardCache.get(scope).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private DashboardStatistics computeDashboard(String scope) {
+        String chapterId = DashboardCounter.GLOBAL_SCOPE.equals(scope) ? null : scope;
+        return getDashboardCountersUseCase.getDashboardFromCounters(chapterId)
+                .orElseGet(() -> chapterId != null
+                        ? statisticsRepository.loadDashboardStatistics(chapterId)
+                        : loadGlobalDashboard());
+    }
+
+    /**
+     * The chapter dashboard is a single statement; the global one needs three queries.
+     */
+    private DashboardStatistics loadGlobalDashboard() {
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.newScope()) {
+            Supplier<Map<String, Long>> requestsByStatus = scope.fork(() -> statisticsRepository.countRequestsByStatus(null));
+            Supplier<Map<String, Long>> tutoringsByStatus = scope.fork(() -> statisticsRepository.countTutoringsByStatus(null));
+            Supplier<Map<String, Long>> activeTutors = scope.fork(() -> statisticsRepository.countActiveTutorsByChapter(null));
+            scope.join();
+            return new DashboardStatistics(requestsByStatus.get(), tutoringsByStatus.get(), activeTutors.get());
+        }
+    }
+
+    private static ThreadFactory loaderThreadFactory() {
+        AtomicInteger threads = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-loader-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
     }
-}
\ No newline at end of file
+}
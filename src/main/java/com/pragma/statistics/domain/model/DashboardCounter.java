@@ -0,0 +1,24 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.CounterDimension;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One cell of the dashboard read model.
+ * The scope is a chapter ID, or {@link #GLOBAL_SCOPE} for the view across all chapters.
+ * The key is a status name, or for tutors the chapter name in the global scope.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardCounter {
+
+    public static final String GLOBAL_SCOPE = "*";
+
+    private String scope;
+    private CounterDimension dimension;
+    private String key;
+    private long count;
+}
@@ -3,12 +3,29 @@ package com.pragma.statistics.domain.model;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.util.Map;
 
 @Getter
 @AllArgsConstructor
 public class DashboardStatistics {
+
+    /**
+     * Key of the active tutor count in a chapter-scoped dashboard.
+     */
+    public static final String ACTIVE_TUTORS_KEY = "activeTutors";
+
     private final Map<String, Long> requestsByStatus;
     private final Map<String, Long> tutoringsByStatus;
     private final Map<String, Long> activeTutorsByChapter;
-}
\ No newline at end of file
+
+    /**
+     * When the figures were computed; a cached snapshot keeps its original time.
+     */
+    private final Instant generatedAt;
+
+    public DashboardStatistics(Map<String, Long> requestsByStatus, Map<String, Long> tutoringsByStatus,
+                               Map<String, Long> activeTutorsByChapter) {
+        this(requestsByStatus, tutoringsByStatus, activeTutorsByChapter, Instant.now());
+    }
+}
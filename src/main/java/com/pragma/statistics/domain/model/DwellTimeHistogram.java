@@ -0,0 +1,20 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.FunnelStage;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dwell times in seconds of one funnel stage, for a chapter and skill. Keys are an ID or
+ * {@link StatisticsRollup#ALL} for every chapter or skill.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DwellTimeHistogram {
+    private FunnelStage stage;
+    private String chapterKey;
+    private String skillKey;
+    private LatencyHistogram histogram;
+}
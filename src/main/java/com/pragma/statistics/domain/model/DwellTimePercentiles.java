@@ -0,0 +1,22 @@
+package com.pragma.statistics.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Dwell time percentiles of a funnel stage, in seconds.
+ */
+@Getter
+@AllArgsConstructor
+public class DwellTimePercentiles {
+    private final long count;
+    private final long p50Seconds;
+    private final long p90Seconds;
+    private final long p99Seconds;
+    private final long maxSeconds;
+
+    public static DwellTimePercentiles of(LatencyHistogram histogram) {
+        return new DwellTimePercentiles(histogram.getTotalCount(), histogram.valueAtPercentile(50),
+                histogram.valueAtPercentile(90), histogram.valueAtPercentile(99), histogram.maxValue());
+    }
+}
@@ -0,0 +1,112 @@
+package com.pragma.statistics.domain.model;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Log-linear histogram of non-negative durations in the style of HdrHistogram: values below
+ * {@value #SUB_BUCKETS} are exact and every power of two above is split into
+ * {@value #SUB_BUCKETS} equal buckets, so a reported percentile is within about 3% of the
+ * recorded value. Counts are kept sparse and histograms with the same layout merge by adding
+ * bucket counts, which lets each instance record locally and the totals be combined later.
+ * Not thread-safe.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final TreeMap<Integer, Long> counts = new TreeMap<>();
+    private long totalCount;
+
+    public void record(long value) {
+        counts.merge(indexOf(Math.max(0, value)), 1L, Long::sum);
+        totalCount++;
+    }
+
+    public void merge(LatencyHistogram other) {
+        other.counts.forEach((index, count) -> counts.merge(index, count, Long::sum));
+        totalCount += other.totalCount;
+    }
+
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.merge(this);
+        return copy;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the highest value equivalent to the recorded value at the given percentile,
+     * or 0 when the histogram is empty.
+     *
+     * @param percentile between 0 and 100
+     */
+    public long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * totalCount));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : counts.entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                return highestValueOf(entry.getKey());
+            }
+        }
+        return highestValueOf(counts.lastKey());
+    }
+
+    public long maxValue() {
+        return totalCount == 0 ? 0 : highestValueOf(counts.lastKey());
+    }
+
+    /**
+     * Serializes the non-empty buckets as {@code index:count} pairs.
+     */
+    public String encode() {
+        StringJoiner joiner = new StringJoiner(",");
+        counts.forEach((index, count) -> joiner.add(index + ":" + count));
+        return joiner.toString();
+    }
+
+    public static LatencyHistogram decode(String encoded) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        if (encoded == null || encoded.isBlank()) {
+            return histogram;
+        }
+        for (String pair : encoded.split(",")) {
+            int separator = pair.indexOf(':');
+            long count = Long.parseLong(pair.substring(separator + 1));
+            histogram.counts.merge(Integer.parseInt(pair.substring(0, separator)), count, Long::sum);
+            histogram.totalCount += count;
+        }
+        return histogram;
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift);
+        return (shift + 1) * SUB_BUCKETS + subBucket - SUB_BUCKETS;
+    }
+
+    static long lowestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return subBucket << shift;
+    }
+
+    static long highestValueOf(int index) {
+        return lowestValueOf(index + 1) - 1;
+    }
+}
@@ -0,0 +1,15 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.FunnelStage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class RequestFunnelStatistics {
+    private final String chapterId;
+    private final String skillId;
+    private final Map<FunnelStage, DwellTimePercentiles> stages;
+}
@@ -0,0 +1,23 @@
+package com.pragma.statistics.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * A request or tutoring as seen by the rollup job: the day it was created, its current status
+ * and the chapters and skills it belongs to.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupSourceRecord {
+    private String id;
+    private LocalDate createdDay;
+    private String status;
+    private Set<String> chapterIds;
+    private Set<String> skillIds;
+}
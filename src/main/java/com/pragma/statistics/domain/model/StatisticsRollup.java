@@ -0,0 +1,30 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Number of requests or tutorings created in one bucket, by their current status.
+ * Chapter and skill keys are an ID or {@link #ALL} for the total over every chapter or skill,
+ * so totals are stored rather than summed from rows that may count an item more than once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsRollup {
+
+    public static final String ALL = "*";
+
+    private RollupSubject subject;
+    private RollupGranularity granularity;
+    private LocalDate bucketStart;
+    private String chapterKey;
+    private String skillKey;
+    private String status;
+    private long count;
+}
@@ -0,0 +1,24 @@
+package com.pragma.statistics.domain.model;
+
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts per bucket and status; every series is aligned with {@link #getBuckets()}.
+ */
+@Getter
+@AllArgsConstructor
+public class StatisticsTimeSeries {
+    private final RollupSubject subject;
+    private final RollupGranularity granularity;
+    private final String chapterId;
+    private final String skillId;
+    private final List<LocalDate> buckets;
+    private final Map<String, List<Long>> seriesByStatus;
+}
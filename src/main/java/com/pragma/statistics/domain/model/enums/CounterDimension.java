@@ -0,0 +1,10 @@
+package com.pragma.statistics.domain.model.enums;
+
+/**
+ * Dashboard figure a counter contributes to.
+ */
+public enum CounterDimension {
+    REQUEST,
+    TUTORING,
+    TUTOR
+}
@@ -0,0 +1,38 @@
+package com.pragma.statistics.domain.model.enums;
+
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+
+import java.util.Optional;
+
+/**
+ * Measured stretches of the request pipeline: the time spent in each status before advancing
+ * to the next one, and the time from creation to assignment.
+ */
+public enum FunnelStage {
+    PENDIENTE(RequestStatus.Pendiente, RequestStatus.Aprobada),
+    APROBADA(RequestStatus.Aprobada, RequestStatus.Conversando),
+    CONVERSANDO(RequestStatus.Conversando, RequestStatus.Asignada),
+    ASIGNADA(RequestStatus.Asignada, RequestStatus.Finalizada),
+    TIME_TO_ASSIGNMENT(null, RequestStatus.Asignada);
+
+    private final RequestStatus from;
+    private final RequestStatus to;
+
+    FunnelStage(RequestStatus from, RequestStatus to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns the stage whose dwell time ends with this transition. Cancellations and other
+     * transitions that do not advance the pipeline have none.
+     */
+    public static Optional<FunnelStage> dwellStageOf(RequestStatus from, RequestStatus to) {
+        for (FunnelStage stage : values()) {
+            if (stage.from != null && stage.from == from && stage.to == to) {
+                return Optional.of(stage);
+            }
+        }
+        return Optional.empty();
+    }
+}
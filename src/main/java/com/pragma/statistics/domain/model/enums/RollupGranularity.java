@@ -0,0 +1,43 @@
+package com.pragma.statistics.domain.model.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Width of a rollup bucket. Weekly buckets are ISO weeks starting on Monday.
+ */
+public enum RollupGranularity {
+    DAY {
+        @Override
+        public LocalDate bucketStart(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate nextBucket(LocalDate bucketStart) {
+            return bucketStart.plusDays(1);
+        }
+    },
+    WEEK {
+        @Override
+        public LocalDate bucketStart(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate nextBucket(LocalDate bucketStart) {
+            return bucketStart.plusWeeks(1);
+        }
+    };
+
+    /**
+     * Returns the first day of the bucket that contains the date.
+     */
+    public abstract LocalDate bucketStart(LocalDate date);
+
+    /**
+     * Returns the first day of the bucket that follows the given one.
+     */
+    public abstract LocalDate nextBucket(LocalDate bucketStart);
+}
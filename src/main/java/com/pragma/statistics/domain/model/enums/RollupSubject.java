@@ -0,0 +1,9 @@
+package com.pragma.statistics.domain.model.enums;
+
+/**
+ * Base table a rollup is computed from.
+ */
+public enum RollupSubject {
+    REQUEST,
+    TUTORING
+}
@@ -0,0 +1,16 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.statistics.domain.model.DashboardStatistics;
+
+import java.util.Optional;
+
+public interface GetDashboardCountersUseCase {
+
+    /**
+     * Reads the dashboard from the counters read model.
+     *
+     * @param chapterId chapter to scope the counts to, or null for all chapters
+     * @return empty while the counters are disabled or not yet reconciled
+     */
+    Optional<DashboardStatistics> getDashboardFromCounters(String chapterId);
+}
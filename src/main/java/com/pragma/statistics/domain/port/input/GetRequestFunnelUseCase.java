@@ -0,0 +1,14 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.statistics.domain.model.RequestFunnelStatistics;
+
+public interface GetRequestFunnelUseCase {
+
+    /**
+     * Returns the dwell time percentiles of every funnel stage.
+     *
+     * @param chapterId chapter to filter by, or null for all chapters
+     * @param skillId skill to filter by, or null for all skills
+     */
+    RequestFunnelStatistics getRequestFunnel(String chapterId, String skillId);
+}
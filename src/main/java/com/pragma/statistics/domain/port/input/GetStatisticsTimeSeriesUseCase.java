@@ -0,0 +1,22 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.statistics.domain.model.StatisticsTimeSeries;
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+
+import java.time.LocalDate;
+
+public interface GetStatisticsTimeSeriesUseCase {
+
+    /**
+     * Returns the number of items created per bucket between two dates, by current status.
+     * Served from the rollups; the base tables are not read.
+     *
+     * @param from first day of the range, inclusive
+     * @param to last day of the range, inclusive
+     * @param chapterId chapter to filter by, or null for all chapters
+     * @param skillId skill to filter by, or null for all skills
+     */
+    StatisticsTimeSeries getTimeSeries(RollupSubject subject, RollupGranularity granularity,
+                                       LocalDate from, LocalDate to, String chapterId, String skillId);
+}
@@ -0,0 +1,20 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+
+import java.util.Date;
+
+/**
+ * Records request status transitions into the funnel dwell time histograms.
+ * Samples are applied after the surrounding transaction commits.
+ */
+public interface RecordRequestTransitionUseCase {
+
+    /**
+     * @param request the request with its new status and status change time
+     * @param previousStatus the status the request left
+     * @param previousStatusSince when the request entered the previous status
+     */
+    void requestStatusChanged(TutoringRequest request, RequestStatus previousStatus, Date previousStatusSince);
+}
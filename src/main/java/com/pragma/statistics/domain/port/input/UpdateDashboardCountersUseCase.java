@@ -0,0 +1,38 @@
+package com.pragma.statistics.domain.port.input;
+
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+
+/**
+ * Keeps the dashboard counters in step with the write paths that change them.
+ * Must be called inside the transaction of the change so both commit or roll back together.
+ */
+public interface UpdateDashboardCountersUseCase {
+
+    /**
+     * @param request the request with its new status
+     * @param previousStatus status before the change, or null if the request was just created
+     */
+    void tutoringRequestStatusChanged(TutoringRequest request, RequestStatus previousStatus);
+
+    /**
+     * @param request the request as it was before being deleted
+     */
+    void tutoringRequestDeleted(TutoringRequest request);
+
+    /**
+     * @param tutoring the tutoring with its new status
+     * @param previousStatus status before the change, or null if the tutoring was just created
+     */
+    void tutoringStatusChanged(Tutoring tutoring, TutoringStatus previousStatus);
+
+    /**
+     * @param user the user with the new role
+     * @param previousRole role before the change
+     */
+    void userRoleChanged(User user, RolUsuario previousRole);
+}
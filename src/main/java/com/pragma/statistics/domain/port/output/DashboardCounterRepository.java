@@ -0,0 +1,26 @@
+package com.pragma.statistics.domain.port.output;
+
+import com.pragma.statistics.domain.model.DashboardCounter;
+import com.pragma.statistics.domain.model.enums.CounterDimension;
+
+import java.util.List;
+
+public interface DashboardCounterRepository {
+
+    /**
+     * Atomically adds the delta to a counter, creating it if it does not exist yet.
+     */
+    void increment(String scope, CounterDimension dimension, String key, long delta);
+
+    /**
+     * Replaces the value of a counter, creating it if it does not exist yet.
+     */
+    void set(String scope, CounterDimension dimension, String key, long count);
+
+    List<DashboardCounter> findByScope(String scope);
+
+    /**
+     * Returns the counters of a scope, locked until the caller's transaction ends.
+     */
+    List<DashboardCounter> lockScope(String scope);
+}
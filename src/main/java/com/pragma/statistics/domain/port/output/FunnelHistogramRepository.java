@@ -0,0 +1,16 @@
+package com.pragma.statistics.domain.port.output;
+
+import com.pragma.statistics.domain.model.DwellTimeHistogram;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface FunnelHistogramRepository {
+
+    /**
+     * Adds the given histograms to the stored ones with the same stage, chapter and skill.
+     */
+    void mergeAll(Collection<DwellTimeHistogram> deltas);
+
+    List<DwellTimeHistogram> findByChapterAndSkill(String chapterKey, String skillKey);
+}
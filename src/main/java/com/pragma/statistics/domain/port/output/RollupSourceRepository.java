@@ -0,0 +1,27 @@
+package com.pragma.statistics.domain.port.output;
+
+import com.pragma.statistics.domain.model.RollupSourceRecord;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public interface RollupSourceRepository {
+
+    /**
+     * Returns the creation days of the items updated at or after the given time.
+     *
+     * @param since lower bound on the update time, or null for every item
+     */
+    Set<LocalDate> findCreationDaysUpdatedSince(RollupSubject subject, LocalDateTime since);
+
+    /**
+     * Returns the items created in the given range of days.
+     *
+     * @param fromDay first day, inclusive
+     * @param toDay last day, exclusive
+     */
+    List<RollupSourceRecord> findCreatedBetween(RollupSubject subject, LocalDate fromDay, LocalDate toDay);
+}
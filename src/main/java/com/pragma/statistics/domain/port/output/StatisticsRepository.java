@@ -1,9 +1,18 @@
 package com.pragma.statistics.domain.port.output;
 
+import com.pragma.statistics.domain.model.DashboardStatistics;
+
 import java.util.Map;
 
 public interface StatisticsRepository {
     Map<String, Long> countRequestsByStatus(String chapterId);
     Map<String, Long> countTutoringsByStatus(String chapterId);
     Map<String, Long> countActiveTutorsByChapter(String chapterId);
-}
\ No newline at end of file
+
+    /**
+     * Loads every dashboard dimension with as few round trips as the store allows.
+     *
+     * @param chapterId chapter to scope the counts to, or null for all chapters
+     */
+    DashboardStatistics loadDashboardStatistics(String chapterId);
+}
@@ -0,0 +1,26 @@
+package com.pragma.statistics.domain.port.output;
+
+import com.pragma.statistics.domain.model.StatisticsRollup;
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StatisticsRollupRepository {
+
+    /**
+     * Replaces every rollup of the given buckets with the given rows in one transaction.
+     */
+    void replaceBuckets(RollupSubject subject, RollupGranularity granularity,
+                        Collection<LocalDate> bucketStarts, List<StatisticsRollup> rollups);
+
+    List<StatisticsRollup> findAll();
+
+    Optional<LocalDateTime> findWatermark(RollupSubject subject);
+
+    void saveWatermark(RollupSubject subject, LocalDateTime watermark);
+}
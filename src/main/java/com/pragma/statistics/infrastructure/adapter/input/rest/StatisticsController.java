@@ -1,21 +1,32 @@
 package com.pragma.statistics.infrastructure.adapter.input.rest;
 
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
 import com.pragma.statistics.domain.port.input.GetDashboardStatisticsUseCase;
+import com.pragma.statistics.domain.port.input.GetRequestFunnelUseCase;
+import com.pragma.statistics.domain.port.input.GetStatisticsTimeSeriesUseCase;
 import com.pragma.statistics.infrastructure.adapter.input.rest.dto.DashboardStatisticsResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.RequestFunnelResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.StatisticsTimeSeriesResponseDto;
 import com.pragma.statistics.infrastructure.adapter.input.rest.mapper.StatisticsRestMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/v1/statistics")
 @RequiredArgsConstructor
 public class StatisticsController {
     
     private final GetDashboardStatisticsUseCase getDashboardStatisticsUseCase;
+    private final GetStatisticsTimeSeriesUseCase getStatisticsTimeSeriesUseCase;
+    private final GetRequestFunnelUseCase getRequestFunnelUseCase;
     private final StatisticsRestMapper statisticsRestMapper;
 
     @GetMapping("/dashboard")
@@ -24,4 +35,24 @@ public class StatisticsController {
         var statistics = getDashboardStatisticsUseCase.getDashboardStatistics(chapterId);
         return ResponseEntity.ok(statisticsRestMapper.toResponseDto(statistics));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/time-series")
+    public ResponseEntity<StatisticsTimeSeriesResponseDto> getTimeSeries(
+            @RequestParam(defaultValue = "REQUEST") RollupSubject subject,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String chapterId,
+            @RequestParam(required = false) String skillId) {
+        var timeSeries = getStatisticsTimeSeriesUseCase.getTimeSeries(subject, granularity, from, to, chapterId, skillId);
+        return ResponseEntity.ok(statisticsRestMapper.toResponseDto(timeSeries));
+    }
+
+    @GetMapping("/request-funnel")
+    public ResponseEntity<RequestFunnelResponseDto> getRequestFunnel(
+            @RequestParam(required = false) String chapterId,
+            @RequestParam(required = false) String skillId) {
+        var requestFunnel = getRequestFunnelUseCase.getRequestFunnel(chapterId, skillId);
+        return ResponseEntity.ok(statisticsRestMapper.toResponseDto(requestFunnel));
+    }
+}
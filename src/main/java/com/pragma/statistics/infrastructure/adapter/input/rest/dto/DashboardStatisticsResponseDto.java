@@ -3,6 +3,7 @@ package com.pragma.statistics.infrastructure.adapter.input.rest.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.Instant;
 import java.util.Map;
 
 @Getter
@@ -11,4 +12,6 @@ public class DashboardStatisticsResponseDto {
     private final Map<String, Long> requestsByStatus;
     private final Map<String, Long> tutoringsByStatus;
     private final Map<String, Long> activeTutorsByChapter;
-}
\ No newline at end of file
+    private final Instant generatedAt;
+    private final long ageSeconds;
+}
@@ -0,0 +1,14 @@
+package com.pragma.statistics.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DwellTimePercentilesDto {
+    private final long count;
+    private final long p50Seconds;
+    private final long p90Seconds;
+    private final long p99Seconds;
+    private final long maxSeconds;
+}
@@ -0,0 +1,15 @@
+package com.pragma.statistics.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.statistics.domain.model.enums.FunnelStage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class RequestFunnelResponseDto {
+    private final String chapterId;
+    private final String skillId;
+    private final Map<FunnelStage, DwellTimePercentilesDto> stages;
+}
@@ -0,0 +1,21 @@
+package com.pragma.statistics.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class StatisticsTimeSeriesResponseDto {
+    private final RollupSubject subject;
+    private final RollupGranularity granularity;
+    private final String chapterId;
+    private final String skillId;
+    private final List<LocalDate> buckets;
+    private final Map<String, List<Long>> seriesByStatus;
+}
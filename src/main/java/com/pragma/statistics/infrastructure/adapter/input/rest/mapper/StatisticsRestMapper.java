@@ -1,10 +1,33 @@
 package com.pragma.statistics.infrastructure.adapter.input.rest.mapper;
 
 import com.pragma.statistics.domain.model.DashboardStatistics;
+import com.pragma.statistics.domain.model.DwellTimePercentiles;
+import com.pragma.statistics.domain.model.RequestFunnelStatistics;
+import com.pragma.statistics.domain.model.StatisticsTimeSeries;
+import com.pragma.statistics.domain.model.enums.FunnelStage;
 import com.pragma.statistics.infrastructure.adapter.input.rest.dto.DashboardStatisticsResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.DwellTimePercentilesDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.RequestFunnelResponseDto;
+import com.pragma.statistics.infrastructure.adapter.input.rest.dto.StatisticsTimeSeriesResponseDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+@Mapper(componentModel = "spring", imports = {Duration.class, Instant.class})
 public interface StatisticsRestMapper {
+
+    @Mapping(target = "ageSeconds",
+            expression = "java(Duration.between(dashboardStatistics.getGeneratedAt(), Instant.now()).toSeconds())")
     DashboardStatisticsResponseDto toResponseDto(DashboardStatistics dashboardStatistics);
-}
\ No newline at end of file
+
+    StatisticsTimeSeriesResponseDto toResponseDto(StatisticsTimeSeries timeSeries);
+
+    RequestFunnelResponseDto toResponseDto(RequestFunnelStatistics requestFunnel);
+
+    DwellTimePercentilesDto toResponseDto(DwellTimePercentiles percentiles);
+
+    Map<FunnelStage, DwellTimePercentilesDto> toStageDtos(Map<FunnelStage, DwellTimePercentiles> stages);
+}
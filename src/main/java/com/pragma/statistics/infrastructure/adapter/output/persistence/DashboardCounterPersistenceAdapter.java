@@ -0,0 +1,93 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence;
+
+import com.pragma.statistics.domain.model.DashboardCounter;
+import com.pragma.statistics.domain.model.enums.CounterDimension;
+import com.pragma.statistics.domain.port.output.DashboardCounterRepository;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.DashboardCounterEntity;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.mapper.DashboardCounterMapper;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.repository.SpringDataDashboardCounterRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.community.dialect.SQLiteDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class DashboardCounterPersistenceAdapter implements DashboardCounterRepository {
+
+    private static final String UPSERT =
+        "INSERT INTO DashboardCounterEntity (id, scope, dimension, counterKey, count, updatedAt) " +
+        "VALUES (:id, :scope, :dimension, :counterKey, :value, :updatedAt) " +
+        "ON CONFLICT(id) DO UPDATE SET updatedAt = excluded.updatedAt, ";
+
+    private static final String ADD = UPSERT + "count = count + excluded.count";
+    private static final String SET = UPSERT + "count = excluded.count";
+
+    /**
+     * The SQLite dialect cannot translate the conflict clause of {@link #UPSERT}; SQLite takes
+     * the same clause natively.
+     */
+    private static final String SQLITE_UPSERT =
+        "INSERT INTO dashboard_counters (id, scope, dimension, counter_key, counter_value, updated_at) " +
+        "VALUES (:id, :scope, :dimension, :counterKey, :value, :updatedAt) " +
+        "ON CONFLICT(id) DO UPDATE SET updated_at = excluded.updated_at, ";
+
+    private static final String SQLITE_ADD = SQLITE_UPSERT + "counter_value = counter_value + excluded.counter_value";
+    private static final String SQLITE_SET = SQLITE_UPSERT + "counter_value = excluded.counter_value";
+
+    private final SpringDataDashboardCounterRepository counterRepository;
+    private final DashboardCounterMapper counterMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * Inserts or increments in one statement, so concurrent writers never lose an update and
+     * two first increments of the same counter never both insert: a failed insert would mark
+     * the caller's business transaction rollback-only.
+     */
+    @Override
+    @Transactional
+    public void increment(String scope, CounterDimension dimension, String key, long delta) {
+        upsert(isSqlite() ? SQLITE_ADD : ADD, scope, dimension, key, delta);
+    }
+
+    @Override
+    @Transactional
+    public void set(String scope, CounterDimension dimension, String key, long count) {
+        upsert(isSqlite() ? SQLITE_SET : SET, scope, dimension, key, count);
+    }
+
+    @Override
+    public List<DashboardCounter> findByScope(String scope) {
+        return counterMapper.toDomainList(counterRepository.findByScope(scope));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<DashboardCounter> lockScope(String scope) {
+        return counterMapper.toDomainList(counterRepository.findAndLockByScope(scope));
+    }
+
+    private void upsert(String statement, String scope, CounterDimension dimension, String key, long value) {
+        Query upsert = isSqlite()
+                ? entityManager.createNativeQuery(statement).setParameter("dimension", dimension.name())
+                : entityManager.createQuery(statement).setParameter("dimension", dimension);
+        upsert.setParameter("id", DashboardCounterEntity.idOf(scope, dimension, key))
+                .setParameter("scope", scope)
+                .setParameter("counterKey", key)
+                .setParameter("value", value)
+                .setParameter("updatedAt", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    private boolean isSqlite() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof SQLiteDialect;
+    }
+}
@@ -0,0 +1,66 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence;
+
+import com.pragma.statistics.domain.model.DwellTimeHistogram;
+import com.pragma.statistics.domain.model.LatencyHistogram;
+import com.pragma.statistics.domain.port.output.FunnelHistogramRepository;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.FunnelHistogramEntity;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.mapper.FunnelHistogramMapper;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.repository.SpringDataFunnelHistogramRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class FunnelHistogramPersistenceAdapter implements FunnelHistogramRepository {
+
+    private final SpringDataFunnelHistogramRepository histogramRepository;
+    private final FunnelHistogramMapper histogramMapper;
+
+    /**
+     * Reads the stored rows in one query, adds the deltas and writes them back. Rows are
+     * versioned, so when another instance merges the same row concurrently one of the
+     * transactions fails and its caller retries the whole batch.
+     */
+    @Override
+    @Transactional
+    public void mergeAll(Collection<DwellTimeHistogram> deltas) {
+        Map<String, DwellTimeHistogram> deltasById = new HashMap<>();
+        for (DwellTimeHistogram delta : deltas) {
+            deltasById.put(FunnelHistogramEntity.idOf(delta.getStage(), delta.getChapterKey(), delta.getSkillKey()), delta);
+        }
+        Map<String, FunnelHistogramEntity> stored = new HashMap<>();
+        for (FunnelHistogramEntity entity : histogramRepository.findAllById(deltasById.keySet())) {
+            stored.put(entity.getId(), entity);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<FunnelHistogramEntity> updated = new ArrayList<>();
+        deltasById.forEach((id, delta) -> {
+            FunnelHistogramEntity entity = stored.get(id);
+            LatencyHistogram merged = entity != null ? LatencyHistogram.decode(entity.getBuckets()) : new LatencyHistogram();
+            merged.merge(delta.getHistogram());
+            if (entity == null) {
+                entity = new FunnelHistogramEntity(id, delta.getStage(), delta.getChapterKey(), delta.getSkillKey(),
+                        0, null, null, null);
+            }
+            entity.setTotalCount(merged.getTotalCount());
+            entity.setBuckets(merged.encode());
+            entity.setUpdatedAt(now);
+            updated.add(entity);
+        });
+        histogramRepository.saveAll(updated);
+    }
+
+    @Override
+    public List<DwellTimeHistogram> findByChapterAndSkill(String chapterKey, String skillKey) {
+        return histogramMapper.toDomainList(histogramRepository.findByChapterKeyAndSkillKey(chapterKey, skillKey));
+    }
+}
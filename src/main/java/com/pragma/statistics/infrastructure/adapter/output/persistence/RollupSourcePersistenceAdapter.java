@@ -0,0 +1,100 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence;
+
+import com.pragma.statistics.domain.model.RollupSourceRecord;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import com.pragma.statistics.domain.port.output.RollupSourceRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Reads requests and tutorings for the rollup job as flat projections: one row per
+ * (item, chapter, skill) combination, grouped per item in memory. No entity is loaded.
+ */
+@Component
+@RequiredArgsConstructor
+public class RollupSourcePersistenceAdapter implements RollupSourceRepository {
+
+    private static final String REQUEST_CREATION_TIMES =
+        "SELECT tr.createdAt FROM TutoringRequestsEntity tr WHERE tr.createdAt IS NOT NULL";
+    private static final String TUTORING_CREATION_TIMES =
+        "SELECT t.createdAt FROM TutoringEntity t WHERE t.createdAt IS NOT NULL";
+    private static final String REQUEST_UPDATED_FILTER = " AND tr.updatedAt >= :since";
+    private static final String TUTORING_UPDATED_FILTER = " AND t.updatedAt >= :since";
+
+    private static final String REQUESTS_CREATED_BETWEEN =
+        "SELECT tr.id, tr.createdAt, CAST(tr.requestStatus AS String), ch.id, s.id " +
+        "FROM TutoringRequestsEntity tr " +
+        "LEFT JOIN tr.tutee tutee LEFT JOIN tutee.chapter ch LEFT JOIN tr.skills s " +
+        "WHERE tr.createdAt >= :from AND tr.createdAt < :to";
+    private static final String TUTORINGS_CREATED_BETWEEN =
+        "SELECT t.id, t.createdAt, CAST(t.status AS String), tutorChapter.id, tuteeChapter.id, s.id " +
+        "FROM TutoringEntity t " +
+        "LEFT JOIN t.tutorId tutor LEFT JOIN tutor.chapter tutorChapter " +
+        "LEFT JOIN t.tuteeId tutee LEFT JOIN tutee.chapter tuteeChapter " +
+        "LEFT JOIN t.skills s " +
+        "WHERE t.createdAt >= :from AND t.createdAt < :to";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Set<LocalDate> findCreationDaysUpdatedSince(RollupSubject subject, LocalDateTime since) {
+        String jpql = subject == RollupSubject.REQUEST ? REQUEST_CREATION_TIMES : TUTORING_CREATION_TIMES;
+        if (since != null) {
+            jpql += subject == RollupSubject.REQUEST ? REQUEST_UPDATED_FILTER : TUTORING_UPDATED_FILTER;
+        }
+        TypedQuery<Date> query = entityManager.createQuery(jpql, Date.class);
+        if (since != null) {
+            query.setParameter("since", Timestamp.valueOf(since));
+        }
+        Set<LocalDate> days = new TreeSet<>();
+        for (Date createdAt : query.getResultList()) {
+            days.add(toLocalDate(createdAt));
+        }
+        return days;
+    }
+
+    @Override
+    public List<RollupSourceRecord> findCreatedBetween(RollupSubject subject, LocalDate fromDay, LocalDate toDay) {
+        String jpql = subject == RollupSubject.REQUEST ? REQUESTS_CREATED_BETWEEN : TUTORINGS_CREATED_BETWEEN;
+        List<Object[]> rows = entityManager.createQuery(jpql, Object[].class)
+            .setParameter("from", Timestamp.valueOf(fromDay.atStartOfDay()))
+            .setParameter("to", Timestamp.valueOf(toDay.atStartOfDay()))
+            .getResultList();
+
+        Map<String, RollupSourceRecord> records = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            RollupSourceRecord record = records.computeIfAbsent((String) row[0], id -> new RollupSourceRecord(
+                id, toLocalDate((Date) row[1]), (String) row[2], new HashSet<>(), new HashSet<>()));
+            // Chapter columns come first, the skill column is always last
+            for (int i = 3; i < row.length - 1; i++) {
+                if (row[i] != null) {
+                    record.getChapterIds().add((String) row[i]);
+                }
+            }
+            if (row[row.length - 1] != null) {
+                record.getSkillIds().add((String) row[row.length - 1]);
+            }
+        }
+        return new ArrayList<>(records.values());
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return Instant.ofEpochMilli(date.getTime()).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
@@ -1,100 +1,193 @@
 package com.pragma.statistics.infrastructure.adapter.output.persistence;
 
+import com.pragma.statistics.domain.model.DashboardStatistics;
 import com.pragma.statistics.domain.port.output.StatisticsRepository;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
-import com.pragma.tutorings.infrastructure.adapter.output.persistence.repository.SpringDataTutoringRepository;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
-import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.repository.SpringDataTutoringRequestRepository;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
-import com.pragma.usuarios.infrastructure.adapter.output.persistence.repository.SpringDataUserRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Dashboard aggregates computed with one grouped query per dimension.
+ * The queries are registered as named queries at startup, so they are parsed and validated once
+ * and every call only binds parameters. The chapter-scoped dashboard is answered by a single
+ * {@code UNION ALL} statement that returns all three dimensions as (dimension, key, count) rows.
+ */
 @Component
 @RequiredArgsConstructor
 public class StatisticsPersistenceAdapter implements StatisticsRepository {
-    
-    private final SpringDataTutoringRequestRepository tutoringRequestRepository;
-    private final SpringDataTutoringRepository tutoringRepository;
-    private final SpringDataUserRepository userRepository;
+
+    static final String REQUESTS_BY_STATUS = "Statistics.requestsByStatus";
+    static final String REQUESTS_BY_STATUS_IN_CHAPTER = "Statistics.requestsByStatusInChapter";
+    static final String TUTORINGS_BY_STATUS = "Statistics.tutoringsByStatus";
+    static final String TUTORINGS_BY_STATUS_IN_CHAPTER = "Statistics.tutoringsByStatusInChapter";
+    static final String ACTIVE_TUTORS_BY_CHAPTER = "Statistics.activeTutorsByChapter";
+    static final String ACTIVE_TUTORS_IN_CHAPTER = "Statistics.activeTutorsInChapter";
+    static final String DASHBOARD_IN_CHAPTER = "Statistics.dashboardInChapter";
+
+    private static final String REQUEST_DIMENSION = "request";
+    private static final String TUTORING_DIMENSION = "tutoring";
+    private static final String TUTOR_DIMENSION = "tutor";
+
+    private static final String REQUESTS_IN_CHAPTER_FILTER = "WHERE tr.tutee.chapter.id = :chapterId ";
+    private static final String TUTORINGS_IN_CHAPTER_FILTER =
+        "JOIN t.tutorId tutor JOIN t.tuteeId tutee " +
+        "WHERE tutor.chapter.id = :chapterId OR tutee.chapter.id = :chapterId ";
+
+    private static final Map<String, String> NAMED_QUERIES = Map.of(
+        REQUESTS_BY_STATUS,
+            "SELECT tr.requestStatus, COUNT(tr) FROM TutoringRequestsEntity tr " +
+            "GROUP BY tr.requestStatus",
+        REQUESTS_BY_STATUS_IN_CHAPTER,
+            "SELECT tr.requestStatus, COUNT(tr) FROM TutoringRequestsEntity tr " +
+            REQUESTS_IN_CHAPTER_FILTER +
+            "GROUP BY tr.requestStatus",
+        TUTORINGS_BY_STATUS,
+            "SELECT t.status, COUNT(t) FROM TutoringEntity t " +
+            "GROUP BY t.status",
+        TUTORINGS_BY_STATUS_IN_CHAPTER,
+            "SELECT t.status, COUNT(t) FROM TutoringEntity t " +
+            TUTORINGS_IN_CHAPTER_FILTER +
+            "GROUP BY t.status",
+        ACTIVE_TUTORS_BY_CHAPTER,
+            "SELECT c.name, COUNT(u.id) FROM UsersEntity u JOIN u.chapter c " +
+            "WHERE u.rol = :tutorRole " +
+            "GROUP BY c.name",
+        ACTIVE_TUTORS_IN_CHAPTER,
+            "SELECT COUNT(u.id) FROM UsersEntity u " +
+            "WHERE u.rol = :tutorRole AND u.chapter.id = :chapterId",
+        DASHBOARD_IN_CHAPTER,
+            "SELECT '" + REQUEST_DIMENSION + "', CAST(tr.requestStatus AS String), COUNT(tr) " +
+            "FROM TutoringRequestsEntity tr " +
+            REQUESTS_IN_CHAPTER_FILTER +
+            "GROUP BY tr.requestStatus " +
+            "UNION ALL " +
+            "SELECT '" + TUTORING_DIMENSION + "', CAST(t.status AS String), COUNT(t) " +
+            "FROM TutoringEntity t " +
+            TUTORINGS_IN_CHAPTER_FILTER +
+            "GROUP BY t.status " +
+            "UNION ALL " +
+            "SELECT '" + TUTOR_DIMENSION + "', '" + DashboardStatistics.ACTIVE_TUTORS_KEY + "', COUNT(u.id) " +
+            "FROM UsersEntity u " +
+            "WHERE u.rol = :tutorRole AND u.chapter.id = :chapterId"
+    );
+
     private final EntityManager entityManager;
 
+    /**
+     * Parses the statistics queries once and registers them with the persistence unit.
+     * A malformed query fails the application startup instead of the first dashboard request.
+     */
+    @PostConstruct
+    void registerNamedQueries() {
+        EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+        try (EntityManager registrationManager = entityManagerFactory.createEntityManager()) {
+            NAMED_QUERIES.forEach((name, jpql) ->
+                entityManagerFactory.addNamedQuery(name, registrationManager.createQuery(jpql)));
+        }
+    }
+
     @Override
     public Map<String, Long> countRequestsByStatus(String chapterId) {
-        Map<String, Long> result = new HashMap<>();
-        for (RequestStatus status : RequestStatus.values()) {
-            String jpql = "SELECT COUNT(tr) FROM TutoringRequestsEntity tr WHERE tr.requestStatus = :status";
-            if (chapterId != null) {
-                jpql += " AND tr.tutee.chapter.id = :chapterId";
-            }
-            Query query = entityManager.createQuery(jpql);
-            query.setParameter("status", status);
-            if (chapterId != null) {
-                query.setParameter("chapterId", chapterId);
-            }
-            Long count = (Long) query.getSingleResult();
-            result.put(status.name(), count);
+        TypedQuery<Object[]> query = chapterId != null
+            ? entityManager.createNamedQuery(REQUESTS_BY_STATUS_IN_CHAPTER, Object[].class)
+                .setParameter("chapterId", chapterId)
+            : entityManager.createNamedQuery(REQUESTS_BY_STATUS, Object[].class);
+
+        Map<String, Long> result = emptyRequestCounts();
+        for (Object[] row : query.getResultList()) {
+            result.put(((RequestStatus) row[0]).name(), (Long) row[1]);
         }
         return result;
     }
 
     @Override
     public Map<String, Long> countTutoringsByStatus(String chapterId) {
-        Map<String, Long> result = new HashMap<>();
-        for (TutoringStatus status : TutoringStatus.values()) {
-            String jpql = "SELECT COUNT(t) FROM TutoringEntity t WHERE t.status = :status";
-            if (chapterId != null) {
-                jpql += " AND (t.tutorId.chapter.id = :chapterId OR t.tuteeId.chapter.id = :chapterId)";
-            }
-            Query query = entityManager.createQuery(jpql);
-            query.setParameter("status", status);
-            if (chapterId != null) {
-                query.setParameter("chapterId", chapterId);
-            }
-            Long count = (Long) query.getSingleResult();
-            result.put(status.name(), count);
+        TypedQuery<Object[]> query = chapterId != null
+            ? entityManager.createNamedQuery(TUTORINGS_BY_STATUS_IN_CHAPTER, Object[].class)
+                .setParameter("chapterId", chapterId)
+            : entityManager.createNamedQuery(TUTORINGS_BY_STATUS, Object[].class);
+
+        Map<String, Long> result = emptyTutoringCounts();
+        for (Object[] row : query.getResultList()) {
+            result.put(((TutoringStatus) row[0]).name(), (Long) row[1]);
         }
         return result;
     }
 
     @Override
     public Map<String, Long> countActiveTutorsByChapter(String chapterId) {
-        String jpql;
-        if (chapterId != null) {
-            jpql = "SELECT COUNT(u.id) " +
-                "FROM UsersEntity u " +
-                "WHERE u.rol = :tutorRole AND u.chapter.id = :chapterId";
-        } else {
-            jpql = "SELECT c.name, COUNT(u.id) " +
-                "FROM UsersEntity u " +
-                "JOIN u.chapter c " +
-                "WHERE u.rol = :tutorRole " +
-                "GROUP BY c.name";
-        }
-        
-        Query query = entityManager.createQuery(jpql);
-        query.setParameter("tutorRole", RolUsuario.Tutor);
-        if (chapterId != null) {
-            query.setParameter("chapterId", chapterId);
-        }
-        
         Map<String, Long> result = new HashMap<>();
         if (chapterId != null) {
-            Long count = (Long) query.getSingleResult();
-            result.put("activeTutors", count);
+            Long count = entityManager.createNamedQuery(ACTIVE_TUTORS_IN_CHAPTER, Long.class)
+                .setParameter("tutorRole", RolUsuario.Tutor)
+                .setParameter("chapterId", chapterId)
+                .getSingleResult();
+            result.put(DashboardStatistics.ACTIVE_TUTORS_KEY, count);
         } else {
-            @SuppressWarnings("unchecked")
-            List<Object[]> results = query.getResultList();
-            for (Object[] row : results) {
+            List<Object[]> rows = entityManager.createNamedQuery(ACTIVE_TUTORS_BY_CHAPTER, Object[].class)
+                .setParameter("tutorRole", RolUsuario.Tutor)
+                .getResultList();
+            for (Object[] row : rows) {
                 result.put((String) row[0], (Long) row[1]);
             }
         }
         return result;
     }
-}
\ No newline at end of file
+
+    @Override
+    public DashboardStatistics loadDashboardStatistics(String chapterId) {
+        if (chapterId == null) {
+            return new DashboardStatistics(
+                countRequestsByStatus(null),
+                countTutoringsByStatus(null),
+                countActiveTutorsByChapter(null)
+            );
+        }
+
+        List<Object[]> rows = entityManager.createNamedQuery(DASHBOARD_IN_CHAPTER, Object[].class)
+            .setParameter("chapterId", chapterId)
+            .setParameter("tutorRole", RolUsuario.Tutor)
+            .getResultList();
+
+        Map<String, Long> requestsByStatus = emptyRequestCounts();
+        Map<String, Long> tutoringsByStatus = emptyTutoringCounts();
+        Map<String, Long> activeTutors = new HashMap<>();
+        for (Object[] row : rows) {
+            String key = (String) row[1];
+            Long count = ((Number) row[2]).longValue();
+            switch ((String) row[0]) {
+                case REQUEST_DIMENSION -> requestsByStatus.put(key, count);
+                case TUTORING_DIMENSION -> tutoringsByStatus.put(key, count);
+                default -> activeTutors.put(key, count);
+            }
+        }
+        return new DashboardStatistics(requestsByStatus, tutoringsByStatus, activeTutors);
+    }
+
+    private static Map<String, Long> emptyRequestCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (RequestStatus status : RequestStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> emptyTutoringCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (TutoringStatus status : TutoringStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,58 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence;
+
+import com.pragma.statistics.domain.model.StatisticsRollup;
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.RollupWatermarkEntity;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.mapper.StatisticsRollupMapper;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.repository.SpringDataRollupWatermarkRepository;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.repository.SpringDataStatisticsRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class StatisticsRollupPersistenceAdapter implements StatisticsRollupRepository {
+
+    private final SpringDataStatisticsRollupRepository rollupRepository;
+    private final SpringDataRollupWatermarkRepository watermarkRepository;
+    private final StatisticsRollupMapper rollupMapper;
+
+    /**
+     * Deletes the buckets and inserts their new rows in the same transaction, so readers of
+     * the table never see a bucket half written. Rows are inserted in JDBC batches.
+     */
+    @Override
+    @Transactional
+    public void replaceBuckets(RollupSubject subject, RollupGranularity granularity,
+                               Collection<LocalDate> bucketStarts, List<StatisticsRollup> rollups) {
+        if (bucketStarts.isEmpty()) {
+            return;
+        }
+        rollupRepository.deleteBuckets(subject, granularity, bucketStarts);
+        rollupRepository.saveAll(rollupMapper.toEntityList(rollups));
+    }
+
+    @Override
+    public List<StatisticsRollup> findAll() {
+        return rollupMapper.toDomainList(rollupRepository.findAll());
+    }
+
+    @Override
+    public Optional<LocalDateTime> findWatermark(RollupSubject subject) {
+        return watermarkRepository.findById(subject).map(RollupWatermarkEntity::getWatermark);
+    }
+
+    @Override
+    public void saveWatermark(RollupSubject subject, LocalDateTime watermark) {
+        watermarkRepository.save(new RollupWatermarkEntity(subject, watermark));
+    }
+}
@@ -0,0 +1,45 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.statistics.domain.model.enums.CounterDimension;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "dashboard_counters", indexes = {
+        @Index(name = "idx_dashboard_counters_scope", columnList = "scope")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardCounterEntity {
+    /**
+     * Derived from scope, dimension and key so concurrent writers address the same row.
+     */
+    @Id
+    @Column(name = "id", length = 320)
+    private String id;
+
+    @Column(name = "scope", nullable = false, length = 36)
+    private String scope;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 16)
+    private CounterDimension dimension;
+
+    @Column(name = "counter_key", nullable = false)
+    private String counterKey;
+
+    @Column(name = "counter_value", nullable = false)
+    private long count;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static String idOf(String scope, CounterDimension dimension, String key) {
+        return scope + "|" + dimension.name() + "|" + key;
+    }
+}
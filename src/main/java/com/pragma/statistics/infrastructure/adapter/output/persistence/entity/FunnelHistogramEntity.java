@@ -0,0 +1,56 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.statistics.domain.model.enums.FunnelStage;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "funnel_histograms", indexes = {
+        @Index(name = "idx_funnel_histograms_chapter_skill", columnList = "chapter_key, skill_key")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelHistogramEntity {
+    /**
+     * Derived from stage, chapter and skill so every instance merges into the same row.
+     */
+    @Id
+    @Column(name = "id", length = 100)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 32)
+    private FunnelStage stage;
+
+    @Column(name = "chapter_key", nullable = false, length = 36)
+    private String chapterKey;
+
+    @Column(name = "skill_key", nullable = false, length = 36)
+    private String skillKey;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    /**
+     * Non-empty buckets as {@code index:count} pairs.
+     */
+    @Lob
+    @Column(name = "buckets")
+    private String buckets;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static String idOf(FunnelStage stage, String chapterKey, String skillKey) {
+        return stage.name() + "|" + chapterKey + "|" + skillKey;
+    }
+}
@@ -0,0 +1,27 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Start time of the last completed rollup refresh of a subject.
+ */
+@Entity
+@Table(name = "statistics_rollup_watermarks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupWatermarkEntity {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject", length = 16)
+    private RollupSubject subject;
+
+    @Column(name = "watermark", nullable = false)
+    private LocalDateTime watermark;
+}
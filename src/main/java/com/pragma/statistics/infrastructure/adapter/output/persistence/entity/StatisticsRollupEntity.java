@@ -0,0 +1,47 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.entity;
+
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "statistics_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_statistics_rollups_series_bucket",
+                columnNames = {"subject", "granularity", "bucket_start", "chapter_key", "skill_key", "status"}),
+        indexes = @Index(name = "idx_statistics_rollups_bucket", columnList = "subject, granularity, bucket_start"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsRollupEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject", nullable = false, length = 16)
+    private RollupSubject subject;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 8)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(name = "chapter_key", nullable = false, length = 36)
+    private String chapterKey;
+
+    @Column(name = "skill_key", nullable = false, length = 36)
+    private String skillKey;
+
+    @Column(name = "status", nullable = false, length = 32)
+    private String status;
+
+    @Column(name = "item_count", nullable = false)
+    private long count;
+}
@@ -0,0 +1,17 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.mapper;
+
+import com.pragma.statistics.domain.model.DashboardCounter;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.DashboardCounterEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface DashboardCounterMapper {
+
+    @Mapping(source = "counterKey", target = "key")
+    DashboardCounter toDomain(DashboardCounterEntity entity);
+
+    List<DashboardCounter> toDomainList(List<DashboardCounterEntity> entities);
+}
@@ -0,0 +1,22 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.mapper;
+
+import com.pragma.statistics.domain.model.DwellTimeHistogram;
+import com.pragma.statistics.domain.model.LatencyHistogram;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.FunnelHistogramEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface FunnelHistogramMapper {
+
+    @Mapping(source = "buckets", target = "histogram")
+    DwellTimeHistogram toDomain(FunnelHistogramEntity entity);
+
+    List<DwellTimeHistogram> toDomainList(List<FunnelHistogramEntity> entities);
+
+    default LatencyHistogram toHistogram(String buckets) {
+        return LatencyHistogram.decode(buckets);
+    }
+}
@@ -0,0 +1,21 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.mapper;
+
+import com.pragma.statistics.domain.model.StatisticsRollup;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.StatisticsRollupEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface StatisticsRollupMapper {
+
+    StatisticsRollup toDomain(StatisticsRollupEntity entity);
+
+    @Mapping(target = "id", ignore = true)
+    StatisticsRollupEntity toEntity(StatisticsRollup rollup);
+
+    List<StatisticsRollup> toDomainList(List<StatisticsRollupEntity> entities);
+
+    List<StatisticsRollupEntity> toEntityList(List<StatisticsRollup> rollups);
+}
@@ -0,0 +1,21 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.DashboardCounterEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpringDataDashboardCounterRepository extends JpaRepository<DashboardCounterEntity, String> {
+
+    List<DashboardCounterEntity> findByScope(String scope);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM DashboardCounterEntity c WHERE c.scope = :scope ORDER BY c.id")
+    List<DashboardCounterEntity> findAndLockByScope(@Param("scope") String scope);
+}
@@ -0,0 +1,13 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.FunnelHistogramEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SpringDataFunnelHistogramRepository extends JpaRepository<FunnelHistogramEntity, String> {
+
+    List<FunnelHistogramEntity> findByChapterKeyAndSkillKey(String chapterKey, String skillKey);
+}
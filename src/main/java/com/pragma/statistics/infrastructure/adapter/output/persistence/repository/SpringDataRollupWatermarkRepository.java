@@ -0,0 +1,10 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.RollupWatermarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SpringDataRollupWatermarkRepository extends JpaRepository<RollupWatermarkEntity, RollupSubject> {
+}
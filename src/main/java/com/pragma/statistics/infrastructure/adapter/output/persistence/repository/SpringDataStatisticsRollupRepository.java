@@ -0,0 +1,24 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence.repository;
+
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.entity.StatisticsRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+@Repository
+public interface SpringDataStatisticsRollupRepository extends JpaRepository<StatisticsRollupEntity, String> {
+
+    @Modifying
+    @Query("DELETE FROM StatisticsRollupEntity r " +
+           "WHERE r.subject = :subject AND r.granularity = :granularity AND r.bucketStart IN :bucketStarts")
+    int deleteBuckets(@Param("subject") RollupSubject subject,
+                      @Param("granularity") RollupGranularity granularity,
+                      @Param("bucketStarts") Collection<LocalDate> bucketStarts);
+}
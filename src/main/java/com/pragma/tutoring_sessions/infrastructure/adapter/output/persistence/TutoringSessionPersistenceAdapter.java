@@ -10,10 +10,10 @@ import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.Tut
 import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -22,7 +22,12 @@ public class TutoringSessionPersistenceAdapter implements TutoringSessionReposit
     private final SpringDataTutoringSessionRepository repository;
     private final TutoringSessionMapper mapper;
 
+    /**
+     * Reads and writes are transactional so that the skills of the session's tutoring, outside
+     * the fetch plan, are batch-loaded while the sessions are mapped.
+     */
     @Override
+    @Transactional
     public TutoringSession save(TutoringSession tutoringSession) {
         TutoringSessionsEntity entity = mapper.toEntity(tutoringSession);
         TutoringSessionsEntity savedEntity = repository.save(entity);
@@ -30,23 +35,23 @@ public class TutoringSessionPersistenceAdapter implements TutoringSessionReposit
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<TutoringSession> findById(String id) {
         return repository.findById(id)
                 .map(mapper::toModel);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TutoringSession> findByTutoringId(String tutoringId) {
         TutoringEntity tutoringEntity = new TutoringEntity();
         tutoringEntity.setId(tutoringId);
         
-        return repository.findByTutoringId(tutoringEntity)
-                .stream()
-                .map(mapper::toModel)
-                .collect(Collectors.toList());
+        return mapper.toModelList(repository.findByTutoringId(tutoringEntity));
     }
 
     @Override
+    @Transactional
     public TutoringSession updateStatus(String id, TutoringsSessionStatus newStatus, String notes) {
         TutoringSessionsEntity entity = repository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Tutoring session not found with id: " + id));
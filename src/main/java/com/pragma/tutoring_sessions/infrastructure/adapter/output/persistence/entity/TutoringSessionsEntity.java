@@ -9,15 +9,26 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "tutoring_sessions")
+@NamedEntityGraph(name = TutoringSessionsEntity.WITH_TUTORING, attributeNodes =
+        @NamedAttributeNode(value = "tutoringId", subgraph = "tutoring"),
+        subgraphs = @NamedSubgraph(name = "tutoring", attributeNodes = {
+                @NamedAttributeNode("tutorId"),
+                @NamedAttributeNode("tuteeId")
+        }))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TutoringSessionsEntity {
+    /**
+     * The tutoring with its tutor and tutee; its skills are loaded in a batch.
+     */
+    public static final String WITH_TUTORING = "TutoringSession.withTutoring";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private TutoringEntity tutoringId; // "ID de la tutoría a la que pertenece esta sesión"
 
     @Column(name = "datetime")
@@ -1,17 +1,37 @@
 package com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.mapper;
 
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
 import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.TutoringSessionsEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = {TutoringMapper.class})
 public interface TutoringSessionMapper {
 
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    default TutoringSession toModel(TutoringSessionsEntity entity) {
+        return toModel(entity, new IdentityMappingContext());
+    }
+
     @Mapping(source = "tutoringId", target = "tutoring")
-    TutoringSession toModel(TutoringSessionsEntity entity);
+    TutoringSession toModel(TutoringSessionsEntity entity, @Context IdentityMappingContext context);
+
+    /**
+     * The sessions of a tutoring share one mapped tutoring.
+     */
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    default List<TutoringSession> toModelList(List<TutoringSessionsEntity> entities) {
+        return toModelList(entities, new IdentityMappingContext());
+    }
+
+    List<TutoringSession> toModelList(List<TutoringSessionsEntity> entities, @Context IdentityMappingContext context);
 
     @Mapping(source = "tutoring", target = "tutoringId")
     TutoringSessionsEntity toEntity(TutoringSession model);
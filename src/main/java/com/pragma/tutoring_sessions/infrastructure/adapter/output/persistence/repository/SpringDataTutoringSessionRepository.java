@@ -2,12 +2,19 @@ package com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.r
 
 import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.TutoringSessionsEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SpringDataTutoringSessionRepository extends JpaRepository<TutoringSessionsEntity, String> {
+    @Override
+    @EntityGraph(TutoringSessionsEntity.WITH_TUTORING)
+    Optional<TutoringSessionsEntity> findById(String id);
+
+    @EntityGraph(TutoringSessionsEntity.WITH_TUTORING)
     List<TutoringSessionsEntity> findByTutoringId(TutoringEntity tutoringId);
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.pragma.tutorings.application.service;
 
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringPage;
+import com.pragma.tutorings.domain.model.TutoringPageCursor;
+import com.pragma.tutorings.domain.model.TutoringPageQuery;
 import com.pragma.tutorings.domain.port.input.GetTutoringsUseCase;
 import com.pragma.tutorings.domain.port.output.TutoringRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +15,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GetTutoringsService implements GetTutoringsUseCase {
 
+    static final int MAX_PAGE_SIZE = 200;
+
     private final TutoringRepository tutoringRepository;
 
     @Override
@@ -34,4 +39,21 @@ public class GetTutoringsService implements GetTutoringsUseCase {
         return tutoringRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tutoring not found with id: " + id));
     }
+
+    @Override
+    public TutoringPage getTutoringPage(TutoringPageQuery query) {
+        if (query.getLimit() < 1 || query.getLimit() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        if (query.getFrom() != null && query.getTo() != null && !query.getFrom().before(query.getTo())) {
+            throw new IllegalArgumentException("La fecha inicial debe ser anterior a la fecha final");
+        }
+        // One extra row tells whether there is a next page without a count query
+        List<Tutoring> tutorings = tutoringRepository.findPage(query, query.getLimit() + 1);
+        if (tutorings.size() <= query.getLimit()) {
+            return new TutoringPage(tutorings, null);
+        }
+        List<Tutoring> page = tutorings.subList(0, query.getLimit());
+        return new TutoringPage(List.copyOf(page), TutoringPageCursor.after(page.get(page.size() - 1)));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.domain.port.input.GetFeedbacksUseCase;
+import com.pragma.shared.concurrency.ParallelQueryExecutor;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.domain.port.input.GetTutoringSessionsUseCase;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringDetail;
+import com.pragma.tutorings.domain.port.input.GetTutoringDetailUseCase;
+import com.pragma.tutorings.domain.port.input.GetTutoringsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Loads a tutoring with its sessions and feedbacks. The three reads are independent, so they
+ * run concurrently and the detail takes as long as the slowest of them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TutoringDetailService implements GetTutoringDetailUseCase {
+
+    private final GetTutoringsUseCase getTutoringsUseCase;
+    private final GetTutoringSessionsUseCase getTutoringSessionsUseCase;
+    private final GetFeedbacksUseCase getFeedbacksUseCase;
+    private final ParallelQueryExecutor parallelQueryExecutor;
+
+    @Override
+    public TutoringDetail getTutoringDetail(String tutoringId) {
+        try (ParallelQueryExecutor.Scope scope = parallelQueryExecutor.newScope()) {
+            Supplier<Tutoring> tutoring = scope.fork(() -> getTutoringsUseCase.getTutoringById(tutoringId));
+            Supplier<List<TutoringSession>> sessions = scope.fork(() -> getTutoringSessionsUseCase.getSessionsByTutoringId(tutoringId));
+            Supplier<List<Feedback>> feedbacks = scope.fork(() -> getFeedbacksUseCase.getFeedbacksByTutoringId(tutoringId));
+            scope.join();
+            log.debug("Detalle de la tutoría {} cargado", tutoringId);
+            return new TutoringDetail(tutoring.get(), sessions.get(), feedbacks.get());
+        }
+    }
+}
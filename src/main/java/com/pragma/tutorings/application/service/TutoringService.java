@@ -2,6 +2,8 @@ package com.pragma.tutorings.application.service;
 
 import com.pragma.skills.domain.model.Skill;
 import com.pragma.skills.domain.port.input.FindSkillUseCase;
+import com.pragma.statistics.domain.port.input.RecordRequestTransitionUseCase;
+import com.pragma.statistics.domain.port.input.UpdateDashboardCountersUseCase;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.domain.port.input.CreateTutoringUseCase;
@@ -15,6 +17,7 @@ import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Date;
@@ -30,8 +33,11 @@ public class TutoringService implements CreateTutoringUseCase {
     private final TutoringRequestRepository tutoringRequestRepository;
     private final FindUserByIdUseCase findUserByIdUseCase;
     private final FindSkillUseCase findSkillUseCase;
+    private final UpdateDashboardCountersUseCase updateDashboardCountersUseCase;
+    private final RecordRequestTransitionUseCase recordRequestTransitionUseCase;
 
     @Override
+    @Transactional
     public Tutoring createTutoring(String tutoringRequestId, String tutorId, String objectives) {
         log.info("Iniciando creación de tutoría con solicitud ID: {} y tutor ID: {}", tutoringRequestId, tutorId);
         
@@ -41,8 +47,12 @@ public class TutoringService implements CreateTutoringUseCase {
         // Validar que la solicitud de tutoría existe y está en estado Aprobada
         TutoringRequest tutoringRequest = validateTutoringRequest(tutoringRequestId);
         
-        // Validar que el tutor no ha excedido su límite de tutorías activas
-        validateTutorLimit(tutorId, tutor.getActiveTutoringLimit());
+        // Reclamar la solicitud con un UPDATE condicional: si otra asignación concurrente la tomó primero, se aborta
+        Date assignedAt = new Date();
+        claimTutoringRequest(tutoringRequestId, tutoringRequest.getRequestStatus(), assignedAt);
+        
+        // Reservar un cupo del tutor dentro de la transacción; se revierte si la tutoría no se crea
+        reserveTutorSlot(tutorId, tutor.getActiveTutoringLimit());
         
         // Crear la tutoría con los datos de la solicitud
         Tutoring tutoring = new Tutoring();
@@ -61,12 +71,18 @@ public class TutoringService implements CreateTutoringUseCase {
         
         // Guardar la tutoría
         Tutoring savedTutoring = tutoringRepository.save(tutoring);
+        updateDashboardCountersUseCase.tutoringStatusChanged(savedTutoring, null);
         log.info("Tutoría creada exitosamente con ID: {}", savedTutoring.getId());
         
         // Actualizar el estado de la solicitud a Asignada y asignar el ID de la tutoría
+        RequestStatus previousRequestStatus = tutoringRequest.getRequestStatus();
+        Date previousStatusSince = tutoringRequest.getStatusChangedAt();
         tutoringRequest.setRequestStatus(RequestStatus.Asignada);
+        tutoringRequest.setStatusChangedAt(assignedAt);
         tutoringRequest.setAssignedTutoringId(savedTutoring.getId());
         tutoringRequestRepository.save(tutoringRequest);
+        updateDashboardCountersUseCase.tutoringRequestStatusChanged(tutoringRequest, previousRequestStatus);
+        recordRequestTransitionUseCase.requestStatusChanged(tutoringRequest, previousRequestStatus, previousStatusSince);
         log.info("Solicitud de tutoría actualizada a estado Asignada con tutoría ID: {}", savedTutoring.getId());
         
         return savedTutoring;
@@ -106,10 +122,15 @@ public class TutoringService implements CreateTutoringUseCase {
         return request;
     }
     
-    private void validateTutorLimit(String tutorId, int limit) {
-        Long activeTutorings = tutoringRepository.countActiveTutoringByTutorId(tutorId);
-
-        if (activeTutorings >= limit) {
+    private void claimTutoringRequest(String tutoringRequestId, RequestStatus currentStatus, Date assignedAt) {
+        if (!tutoringRequestRepository.changeStatusIfCurrent(tutoringRequestId, currentStatus, RequestStatus.Asignada, assignedAt)) {
+            log.error("La solicitud de tutoría con ID: {} ya fue asignada por otra operación", tutoringRequestId);
+            throw new IllegalStateException("La solicitud de tutoría ya fue asignada");
+        }
+    }
+    
+    private void reserveTutorSlot(String tutorId, int limit) {
+        if (!tutoringRepository.reserveTutorSlot(tutorId)) {
             log.error("El tutor con ID: {} ha excedido su límite de tutorías activas: {}", tutorId, limit);
             throw new IllegalStateException("El tutor ha excedido su límite de tutorías activas");
         }
@@ -2,6 +2,7 @@ package com.pragma.tutorings.application.service;
 
 import com.pragma.feedbacks.domain.model.Feedback;
 import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
+import com.pragma.statistics.domain.port.input.UpdateDashboardCountersUseCase;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.domain.port.input.CancelTutoringUseCase;
@@ -14,6 +15,7 @@ import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
 import java.util.List;
@@ -27,8 +29,10 @@ public class TutoringStatusService implements CompleteTutoringUseCase, CancelTut
     private final TutoringRepository tutoringRepository;
     private final FindUserByIdUseCase findUserByIdUseCase;
     private final FeedbackRepository feedbackRepository;
+    private final UpdateDashboardCountersUseCase updateDashboardCountersUseCase;
 
     @Override
+    @Transactional
     public Tutoring completeTutoring(String tutoringId, String userId, String finalActUrl) {
         log.info("Iniciando proceso para marcar tutoría como completada. ID: {}, Usuario: {}", tutoringId, userId);
         
@@ -49,18 +53,22 @@ public class TutoringStatusService implements CompleteTutoringUseCase, CancelTut
         validateFeedbacksExist(tutoringId, tutoring.getTutor().getId(), tutoring.getTutee().getId());
         
         // Actualizar el estado y el acta final de la tutoría
+        TutoringStatus previousStatus = tutoring.getStatus();
         tutoring.setStatus(TutoringStatus.Completada);
         tutoring.setFinalActUrl(finalActUrl);
         tutoring.setUpdatedAt(new Date());
         
         // Guardar y retornar la tutoría actualizada
         Tutoring updatedTutoring = tutoringRepository.save(tutoring);
+        tutoringRepository.releaseTutorSlot(tutoring.getTutor().getId());
+        updateDashboardCountersUseCase.tutoringStatusChanged(updatedTutoring, previousStatus);
         log.info("Tutoría marcada como completada exitosamente. ID: {}", tutoringId);
         
         return updatedTutoring;
     }
 
     @Override
+    @Transactional
     public Tutoring requestCancellation(String tutoringId, String userId, String cancellationReason) {
         log.info("Iniciando solicitud de cancelación de tutoría. ID: {}, Usuario: {}", tutoringId, userId);
         
@@ -78,17 +86,21 @@ public class TutoringStatusService implements CompleteTutoringUseCase, CancelTut
         createCancellationRequestFeedback(tutoring, user, cancellationReason);
         
         // Actualizar el estado de la tutoría a "En Cancelación"
+        TutoringStatus previousStatus = tutoring.getStatus();
         tutoring.setStatus(TutoringStatus.EnCancelacion);
         tutoring.setUpdatedAt(new Date());
         
         // Guardar y retornar la tutoría actualizada
         Tutoring updatedTutoring = tutoringRepository.save(tutoring);
+        tutoringRepository.releaseTutorSlot(tutoring.getTutor().getId());
+        updateDashboardCountersUseCase.tutoringStatusChanged(updatedTutoring, previousStatus);
         log.info("Solicitud de cancelación creada exitosamente. ID: {}", tutoringId);
         
         return updatedTutoring;
     }
 
     @Override
+    @Transactional
     public Tutoring cancelTutoring(String tutoringId, String adminId, String cancellationComment) {
         log.info("Iniciando proceso para cancelar tutoría. ID: {}, Admin: {}", tutoringId, adminId);
         
@@ -106,11 +118,13 @@ public class TutoringStatusService implements CompleteTutoringUseCase, CancelTut
         createCancellationFeedback(tutoring, admin, cancellationComment);
         
         // Actualizar el estado de la tutoría
+        TutoringStatus previousStatus = tutoring.getStatus();
         tutoring.setStatus(TutoringStatus.Cancelada);
         tutoring.setUpdatedAt(new Date());
         
         // Guardar y retornar la tutoría actualizada
         Tutoring updatedTutoring = tutoringRepository.save(tutoring);
+        updateDashboardCountersUseCase.tutoringStatusChanged(updatedTutoring, previousStatus);
         log.info("Tutoría cancelada exitosamente. ID: {}", tutoringId);
         
         return updatedTutoring;
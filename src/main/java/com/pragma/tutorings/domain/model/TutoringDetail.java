@@ -0,0 +1,18 @@
+package com.pragma.tutorings.domain.model;
+
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutoringDetail {
+    private Tutoring tutoring;
+    private List<TutoringSession> sessions;
+    private List<Feedback> feedbacks;
+}
@@ -0,0 +1,18 @@
+package com.pragma.tutorings.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutoringPage {
+    private List<Tutoring> tutorings;
+    /**
+     * Cursor of the next page, or null when this is the last one.
+     */
+    private TutoringPageCursor next;
+}
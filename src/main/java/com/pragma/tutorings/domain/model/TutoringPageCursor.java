@@ -0,0 +1,43 @@
+package com.pragma.tutorings.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position after the last tutoring of a page: its creation time and id. Clients receive it as
+ * an opaque token and send it back to get the next page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutoringPageCursor {
+
+    private static final String SEPARATOR = "\n";
+
+    private Date createdAt;
+    private String id;
+
+    public static TutoringPageCursor after(Tutoring last) {
+        return new TutoringPageCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.getTime() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TutoringPageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            return new TutoringPageCursor(new Date(Long.parseLong(parts[0])), parts[1]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid tutoring page cursor", e);
+        }
+    }
+}
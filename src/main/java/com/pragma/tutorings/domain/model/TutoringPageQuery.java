@@ -0,0 +1,27 @@
+package com.pragma.tutorings.domain.model;
+
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * One page of the tutoring listing, newest first. Every filter is optional: the chapter is the
+ * tutee's, and the creation range includes {@code from} and excludes {@code to}. The cursor is
+ * the one returned with the previous page (null for the first one).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutoringPageQuery {
+    private TutoringStatus status;
+    private String chapterId;
+    private String tutorId;
+    private String tuteeId;
+    private Date from;
+    private Date to;
+    private TutoringPageCursor after;
+    private int limit;
+}
@@ -0,0 +1,7 @@
+package com.pragma.tutorings.domain.port.input;
+
+import com.pragma.tutorings.domain.model.TutoringDetail;
+
+public interface GetTutoringDetailUseCase {
+    TutoringDetail getTutoringDetail(String tutoringId);
+}
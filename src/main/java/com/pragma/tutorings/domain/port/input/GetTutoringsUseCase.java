@@ -1,6 +1,8 @@
 package com.pragma.tutorings.domain.port.input;
 
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringPage;
+import com.pragma.tutorings.domain.model.TutoringPageQuery;
 
 import java.util.List;
 
@@ -9,4 +11,5 @@ public interface GetTutoringsUseCase {
     List<Tutoring> getTutoringsByTutorId(String tutorId);
     List<Tutoring> getTutoringsByTuteeId(String tuteeId);
     Tutoring getTutoringById(String id);
+    TutoringPage getTutoringPage(TutoringPageQuery query);
 }
\ No newline at end of file
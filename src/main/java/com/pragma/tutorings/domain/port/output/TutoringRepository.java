@@ -1,6 +1,7 @@
 package com.pragma.tutorings.domain.port.output;
 
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringPageQuery;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,9 +10,27 @@ public interface TutoringRepository {
     Tutoring save(Tutoring tutoring);
     Optional<Tutoring> findById(String id);
     List<Tutoring> findAll();
+
+    /**
+     * Up to {@code maxResults} tutorings after the query cursor, newest first, with their tutor,
+     * tutee and skills.
+     */
+    List<Tutoring> findPage(TutoringPageQuery query, int maxResults);
+
     List<Tutoring> findByTutorId(String tutorId);
     List<Tutoring> findByTuteeId(String tuteeId);
     Long countActiveTutoringByTutorId(String tutorId);
+
+    /**
+     * Takes one of the tutor's active-tutoring slots, atomically with respect to concurrent
+     * reservations; false when the tutor has reached its limit.
+     */
+    boolean reserveTutorSlot(String tutorId);
+
+    /**
+     * Frees a slot taken by {@link #reserveTutorSlot}, once its tutoring is no longer active.
+     */
+    void releaseTutorSlot(String tutorId);
     Long countTutoringsByTutorId(String tutorId);
     Long countTutoringsByTuteeId(String tuteeId);
 }
\ No newline at end of file
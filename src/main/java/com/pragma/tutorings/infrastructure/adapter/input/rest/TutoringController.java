@@ -4,9 +4,15 @@ import com.pragma.shared.context.UserContextHelper;
 import com.pragma.shared.dto.OkResponseDto;
 import com.pragma.shared.service.MessageService;
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringDetail;
+import com.pragma.tutorings.domain.model.TutoringPage;
+import com.pragma.tutorings.domain.model.TutoringPageCursor;
+import com.pragma.tutorings.domain.model.TutoringPageQuery;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.domain.port.input.CancelTutoringUseCase;
 import com.pragma.tutorings.domain.port.input.CompleteTutoringUseCase;
 import com.pragma.tutorings.domain.port.input.CreateTutoringUseCase;
+import com.pragma.tutorings.domain.port.input.GetTutoringDetailUseCase;
 import com.pragma.tutorings.domain.port.input.GetTutoringsUseCase;
 import com.pragma.tutorings.domain.port.input.RequestCancellationUseCase;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CompleteTutoringDto;
@@ -14,22 +20,23 @@ import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.CreateTutoring
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.RequestCancellationDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDetailDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringPageDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.UpdateTutoringStatusDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDetailDtoMapper;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDtoMapper;
-import com.pragma.feedbacks.domain.port.input.GetFeedbacksUseCase;
-import com.pragma.tutoring_sessions.domain.port.input.GetTutoringSessionsUseCase;
-import com.pragma.feedbacks.domain.model.Feedback;
-import com.pragma.tutoring_sessions.domain.model.TutoringSession;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.List;
 
 @RestController
@@ -43,8 +50,7 @@ public class TutoringController {
     private final CancelTutoringUseCase cancelTutoringUseCase;
     private final RequestCancellationUseCase requestCancellationUseCase;
     private final GetTutoringsUseCase getTutoringsUseCase;
-    private final GetFeedbacksUseCase getFeedbacksUseCase;
-    private final GetTutoringSessionsUseCase getTutoringSessionsUseCase;
+    private final GetTutoringDetailUseCase getTutoringDetailUseCase;
     private final TutoringDtoMapper tutoringDtoMapper;
     private final TutoringDetailDtoMapper tutoringDetailDtoMapper;
     private final MessageService messageService;
@@ -168,22 +174,53 @@ public class TutoringController {
         }
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<OkResponseDto<TutoringPageDto>> getTutoringPage(
+            @RequestParam(required = false) TutoringStatus status,
+            @RequestParam(required = false) String chapterId,
+            @RequestParam(required = false) String tutorId,
+            @RequestParam(required = false) String tuteeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        User currentUser = UserContextHelper.getCurrentUserOrThrow();
+        log.info("User {} retrieving tutorings page", currentUser.getEmail());
+
+        // Both dates are inclusive days
+        TutoringPageQuery query = new TutoringPageQuery(status, chapterId, tutorId, tuteeId,
+                startOf(from), to != null ? startOf(to.plusDays(1)) : null,
+                cursor != null ? TutoringPageCursor.decode(cursor) : null, limit);
+        TutoringPage page = getTutoringsUseCase.getTutoringPage(query);
+        List<TutoringDto> tutoringDtos = tutoringDtoMapper.toDtoList(page.getTutorings());
+
+        log.info("User {} retrieved {} tutorings of the page", currentUser.getEmail(), tutoringDtos.size());
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(OkResponseDto.of(messageService.getMessage("general.success"),
+                        new TutoringPageDto(tutoringDtos, page.getNext() != null ? page.getNext().encode() : null)));
+    }
+
     @GetMapping("/{id}/detail")
     public ResponseEntity<OkResponseDto<TutoringDetailDto>> getTutoringDetail(@PathVariable String id) {
         User currentUser = UserContextHelper.getCurrentUserOrThrow();
         log.info("User {} retrieving tutoring detail for ID: {}", currentUser.getEmail(), id);
         
-        Tutoring tutoring = getTutoringsUseCase.getTutoringById(id);
-        List<TutoringSession> sessions = getTutoringSessionsUseCase.getSessionsByTutoringId(id);
-        List<Feedback> feedbacks = getFeedbacksUseCase.getFeedbacksByTutoringId(id);
+        TutoringDetail detail = getTutoringDetailUseCase.getTutoringDetail(id);
         
-        TutoringDetailDto detailDto = tutoringDetailDtoMapper.toDetailDto(tutoring, sessions, feedbacks);
+        TutoringDetailDto detailDto = tutoringDetailDtoMapper.toDetailDto(
+                detail.getTutoring(), detail.getSessions(), detail.getFeedbacks());
         
         log.info("User {} retrieved tutoring detail with {} sessions and {} feedbacks", 
-                currentUser.getEmail(), sessions.size(), feedbacks.size());
+                currentUser.getEmail(), detail.getSessions().size(), detail.getFeedbacks().size());
         
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(OkResponseDto.of("Detalle de tutoría obtenido exitosamente", detailDto));
     }
+
+    private static Date startOf(LocalDate day) {
+        return day != null ? Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant()) : null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.pragma.tutorings.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TutoringPageDto {
+    private List<TutoringDto> tutorings;
+    private String nextCursor;
+}
@@ -3,6 +3,7 @@ package com.pragma.tutorings.infrastructure.adapter.input.rest.mapper;
 import com.pragma.feedbacks.domain.model.Feedback;
 import com.pragma.feedbacks.infrastructure.adapter.input.rest.dto.FeedbackDto;
 import com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper.FeedbackDtoMapper;
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.skills.infrastructure.adapter.input.rest.mapper.SkillDtoMapper;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
 import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.TutoringSessionDto;
@@ -10,6 +11,7 @@ import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.mapper.Tut
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDetailDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -18,7 +20,26 @@ import java.util.List;
 @Mapper(componentModel = "spring", uses = {UserDtoMapper.class, SkillDtoMapper.class, TutoringSessionDtoMapper.class, FeedbackDtoMapper.class})
 public interface TutoringDetailDtoMapper {
 
-    @Mapping(target = "sessions", source = "sessions")
-    @Mapping(target = "feedbacks", source = "feedbacks")
-    TutoringDetailDto toDetailDto(Tutoring tutoring, List<TutoringSession> sessions, List<Feedback> feedbacks);
+    /**
+     * Maps the detail with one {@link IdentityMappingContext}, so the tutoring shared by all the
+     * feedbacks, and each participant, is converted once however many feedbacks there are.
+     */
+    default TutoringDetailDto toDetailDto(Tutoring tutoring, List<TutoringSession> sessions, List<Feedback> feedbacks) {
+        if (tutoring == null) {
+            return null;
+        }
+        IdentityMappingContext context = new IdentityMappingContext();
+        TutoringDetailDto detail = toDetailDto(tutoring, context);
+        detail.setSessions(toSessionDtoList(sessions));
+        detail.setFeedbacks(toFeedbackDtoList(feedbacks, context));
+        return detail;
+    }
+
+    @Mapping(target = "sessions", ignore = true)
+    @Mapping(target = "feedbacks", ignore = true)
+    TutoringDetailDto toDetailDto(Tutoring tutoring, @Context IdentityMappingContext context);
+
+    List<TutoringSessionDto> toSessionDtoList(List<TutoringSession> sessions);
+
+    List<FeedbackDto> toFeedbackDtoList(List<Feedback> feedbacks, @Context IdentityMappingContext context);
 }
\ No newline at end of file
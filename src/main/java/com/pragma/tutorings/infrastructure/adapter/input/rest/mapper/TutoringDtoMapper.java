@@ -1,10 +1,13 @@
 package com.pragma.tutorings.infrastructure.adapter.input.rest.mapper;
 
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.skills.infrastructure.adapter.input.rest.mapper.SkillDtoMapper;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
+import org.mapstruct.Named;
 import org.mapstruct.factory.Mappers;
 
 import java.util.List;
@@ -13,6 +16,17 @@ import java.util.List;
 public interface TutoringDtoMapper {
     TutoringDtoMapper INSTANCE = Mappers.getMapper(TutoringDtoMapper.class);
 
-    TutoringDto toDto(Tutoring tutoring);
-    List<TutoringDto> toDtoList(List<Tutoring> tutorings);
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    default TutoringDto toDto(Tutoring tutoring) {
+        return toDto(tutoring, new IdentityMappingContext());
+    }
+
+    TutoringDto toDto(Tutoring tutoring, @Context IdentityMappingContext context);
+
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    default List<TutoringDto> toDtoList(List<Tutoring> tutorings) {
+        return toDtoList(tutorings, new IdentityMappingContext());
+    }
+
+    List<TutoringDto> toDtoList(List<Tutoring> tutorings, @Context IdentityMappingContext context);
 }
\ No newline at end of file
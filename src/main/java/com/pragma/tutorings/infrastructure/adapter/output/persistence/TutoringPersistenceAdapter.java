@@ -1,28 +1,69 @@
 package com.pragma.tutorings.infrastructure.adapter.output.persistence;
 
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.shared.migration.DataMigrations;
+import com.pragma.skills.domain.model.Skill;
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringPageCursor;
+import com.pragma.tutorings.domain.model.TutoringPageQuery;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.domain.port.output.TutoringRepository;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.repository.SpringDataTutoringRepository;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.repository.SpringDataUserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class TutoringPersistenceAdapter implements TutoringRepository {
 
+    private static final String TUTORING_COLUMNS =
+        "t.id, t.start_date, t.expected_end_date, t.status, t.objectives, t.finalActUrl, t.createdAt, t.updatedAt";
+
+    /**
+     * Flat rows of the tutoring listing: the tutoring with its tutor and tutee and their
+     * chapters, read as scalars so no entity, eager association or skill collection is loaded.
+     */
+    private static final String TUTORING_ROWS =
+        "SELECT " + TUTORING_COLUMNS + ", " + userColumns("tu", "tc") + ", " + userColumns("te", "ec") + " " +
+        "FROM TutoringEntity t JOIN t.tutorId tu LEFT JOIN tu.chapter tc " +
+        "JOIN t.tuteeId te LEFT JOIN te.chapter ec";
+    private static final String SKILLS_OF_TUTORINGS =
+        "SELECT t.id, s.id, s.name FROM TutoringEntity t JOIN t.skills s WHERE t.id IN :ids ORDER BY s.name";
+    private static final int USER_COLUMN_COUNT = 11;
+    static final String SLOT_BACKFILL_MIGRATION = "active_tutoring_count_backfill";
+
     private final SpringDataTutoringRepository tutoringRepository;
     private final SpringDataUserRepository userRepository;
     private final TutoringMapper tutoringMapper;
+    private final EntityManager entityManager;
+    private final DataMigrations dataMigrations;
 
+    /**
+     * Transactional so that the tutor, tutee and skills of a merged tutoring are loaded while
+     * it is mapped back.
+     */
     @Override
+    @Transactional
     public Tutoring save(Tutoring tutoring) {
         TutoringEntity entity = tutoringMapper.toEntity(tutoring);
         TutoringEntity savedEntity = tutoringRepository.save(entity);
@@ -62,6 +103,44 @@ public class TutoringPersistenceAdapter implements TutoringRepository {
         return tutoringRepository.countByTutorIdAndStatus(tutorId, TutoringStatus.Activa);
     }
 
+    /**
+     * A conditional UPDATE on the tutor row: the check and the increment are one statement, so
+     * concurrent creations for the same tutor queue on its row lock instead of both reading a
+     * count below the limit. Joins the caller's transaction, so the slot is given back if the
+     * tutoring is not created.
+     */
+    @Override
+    @Transactional
+    public boolean reserveTutorSlot(String tutorId) {
+        return userRepository.reserveTutoringSlot(tutorId) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void releaseTutorSlot(String tutorId) {
+        userRepository.releaseTutoringSlot(tutorId);
+    }
+
+    /**
+     * Fills the slot column for tutorings created before it existed, once per database: later
+     * starts, including every instance of a rolling deploy, skip it. The dev MySQL schema gets
+     * the column and this backfill from {@code db/mysql/V1__active_tutoring_count.sql}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTutorSlots() {
+        dataMigrations.runOnce(SLOT_BACKFILL_MIGRATION, this::recountTutorSlots);
+    }
+
+    /**
+     * Brings the slot counts in line with the active tutorings, writing only the tutors whose
+     * count drifted; also usable to correct changes made outside the service.
+     */
+    @Transactional
+    public void recountTutorSlots() {
+        int corrected = userRepository.recountTutoringSlots(TutoringStatus.Activa.name());
+        log.info("Tutor slots recounted: {} tutors corrected", corrected);
+    }
+
     @Override
     public Long countTutoringsByTutorId(String tutorId) {
         return tutoringRepository.countByTutorId(tutorId);
@@ -77,4 +156,89 @@ public class TutoringPersistenceAdapter implements TutoringRepository {
         List<TutoringEntity> entities = tutoringRepository.findAll();
         return tutoringMapper.toDomainList(entities);
     }
+
+    /**
+     * Two statements per page whatever the history size: the page rows, sought past the cursor
+     * on the (created_at, id) index instead of skipped, and the skills of just those tutorings.
+     * Only the filters that are set become conditions, so each one can use its index.
+     */
+    @Override
+    public List<Tutoring> findPage(TutoringPageQuery pageQuery, int maxResults) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+        if (pageQuery.getStatus() != null) {
+            conditions.add("t.status = :status");
+            parameters.put("status", pageQuery.getStatus());
+        }
+        if (pageQuery.getChapterId() != null) {
+            conditions.add("ec.id = :chapterId");
+            parameters.put("chapterId", pageQuery.getChapterId());
+        }
+        if (pageQuery.getTutorId() != null) {
+            conditions.add("tu.id = :tutorId");
+            parameters.put("tutorId", pageQuery.getTutorId());
+        }
+        if (pageQuery.getTuteeId() != null) {
+            conditions.add("te.id = :tuteeId");
+            parameters.put("tuteeId", pageQuery.getTuteeId());
+        }
+        if (pageQuery.getFrom() != null) {
+            conditions.add("t.createdAt >= :from");
+            parameters.put("from", pageQuery.getFrom());
+        }
+        if (pageQuery.getTo() != null) {
+            conditions.add("t.createdAt < :to");
+            parameters.put("to", pageQuery.getTo());
+        }
+        TutoringPageCursor after = pageQuery.getAfter();
+        if (after != null) {
+            conditions.add("(t.createdAt < :afterCreatedAt OR (t.createdAt = :afterCreatedAt AND t.id < :afterId))");
+            parameters.put("afterCreatedAt", after.getCreatedAt());
+            parameters.put("afterId", after.getId());
+        }
+
+        StringBuilder jpql = new StringBuilder(TUTORING_ROWS);
+        if (!conditions.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        jpql.append(" ORDER BY t.createdAt DESC, t.id DESC");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        parameters.forEach(query::setParameter);
+        List<Tutoring> tutorings = query.setMaxResults(maxResults).getResultList().stream()
+                .map(TutoringPersistenceAdapter::toTutoring)
+                .toList();
+        if (tutorings.isEmpty()) {
+            return tutorings;
+        }
+
+        Map<String, Tutoring> tutoringsById = new HashMap<>();
+        tutorings.forEach(tutoring -> tutoringsById.put(tutoring.getId(), tutoring));
+        entityManager.createQuery(SKILLS_OF_TUTORINGS, Object[].class)
+                .setParameter("ids", tutoringsById.keySet())
+                .getResultList()
+                .forEach(row -> tutoringsById.get((String) row[0]).getSkills()
+                        .add(new Skill((String) row[1], (String) row[2])));
+        return tutorings;
+    }
+
+    private static String userColumns(String user, String chapter) {
+        return user + ".id, " + user + ".firstName, " + user + ".lastName, " + user + ".email, " +
+            user + ".googleUserId, " + user + ".slackId, " + chapter + ".id, " + chapter + ".name, " +
+            user + ".rol, " + user + ".activeTutoringLimit, " + user + ".seniority";
+    }
+
+    private static Tutoring toTutoring(Object[] row) {
+        return new Tutoring((String) row[0], toUser(row, 8), toUser(row, 8 + USER_COLUMN_COUNT), new ArrayList<>(),
+                (Date) row[1], (Date) row[2], (TutoringStatus) row[3], (String) row[4], (String) row[5],
+                (Date) row[6], (Date) row[7]);
+    }
+
+    private static User toUser(Object[] row, int offset) {
+        Chapter chapter = row[offset + 6] != null ? new Chapter((String) row[offset + 6], (String) row[offset + 7]) : null;
+        return new User((String) row[offset], (String) row[offset + 1], (String) row[offset + 2],
+                (String) row[offset + 3], (String) row[offset + 4], (String) row[offset + 5], chapter,
+                (RolUsuario) row[offset + 8], ((Number) row[offset + 9]).intValue(),
+                ((Number) row[offset + 10]).intValue(), 0L);
+    }
 }
\ No newline at end of file
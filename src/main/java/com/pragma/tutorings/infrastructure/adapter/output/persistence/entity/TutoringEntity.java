@@ -7,6 +7,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.io.Serializable;
 import java.util.Date;
@@ -14,22 +15,42 @@ import java.util.List;
 
 
 @Entity
-@Table(name = "tutoring")
+@Table(name = "tutoring", indexes = {
+        @Index(name = "idx_tutoring_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_tutoring_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_tutoring_tutor_created_at", columnList = "tutor_id_id, created_at"),
+        @Index(name = "idx_tutoring_tutee_created_at", columnList = "tutee_id_id, created_at")
+})
+@NamedEntityGraph(name = TutoringEntity.WITH_PARTICIPANTS_AND_SKILLS, attributeNodes = {
+        @NamedAttributeNode("tutorId"),
+        @NamedAttributeNode("tuteeId"),
+        @NamedAttributeNode("skills")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TutoringEntity implements Serializable {
+    /**
+     * Everything a tutoring is mapped with: tutor, tutee and skills. The chapters of tutor and
+     * tutee are not fetched, they come from the chapter catalog.
+     */
+    public static final String WITH_PARTICIPANTS_AND_SKILLS = "Tutoring.withParticipantsAndSkills";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tutor_id_id")
     private UsersEntity tutorId; // "ID del usuario que actúa como tutor"
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tutee_id_id")
     private UsersEntity tuteeId; // "ID del usuario que actúa como tutorado"
 
+    // Loaded for many tutorings at once when reached through a feedback or session
     @ManyToMany
+    @BatchSize(size = 50)
     private List<SkillEntity> skills; // "skills que se van a tutorar"
 
     @Column(name = "start_date")
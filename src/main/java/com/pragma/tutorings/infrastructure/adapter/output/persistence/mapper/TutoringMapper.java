@@ -1,11 +1,14 @@
 package com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper;
 
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapper;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.mapstruct.factory.Mappers;
 
 import java.util.List;
@@ -20,11 +23,24 @@ public interface TutoringMapper {
     @Mapping(source = "expectedEndDate", target = "expected_end_date")
     TutoringEntity toEntity(Tutoring tutoring);
 
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    default Tutoring toDomain(TutoringEntity entity) {
+        return toDomain(entity, new IdentityMappingContext());
+    }
+
     @Mapping(source = "tutorId", target = "tutor")
     @Mapping(source = "tuteeId", target = "tutee")
     @Mapping(source = "start_date", target = "startDate")
     @Mapping(source = "expected_end_date", target = "expectedEndDate")
-    Tutoring toDomain(TutoringEntity entity);
+    Tutoring toDomain(TutoringEntity entity, @Context IdentityMappingContext context);
+
+    /**
+     * Tutorings of one list that share a tutor or tutee share its mapped user.
+     */
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    default List<Tutoring> toDomainList(List<TutoringEntity> entities) {
+        return toDomainList(entities, new IdentityMappingContext());
+    }
 
-    List<Tutoring> toDomainList(List<TutoringEntity> entities);
+    List<Tutoring> toDomainList(List<TutoringEntity> entities, @Context IdentityMappingContext context);
 }
\ No newline at end of file
@@ -3,16 +3,29 @@ package com.pragma.tutorings.infrastructure.adapter.output.persistence.repositor
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SpringDataTutoringRepository extends JpaRepository<TutoringEntity, String> {
+    @Override
+    @EntityGraph(TutoringEntity.WITH_PARTICIPANTS_AND_SKILLS)
+    Optional<TutoringEntity> findById(String id);
+
+    @Override
+    @EntityGraph(TutoringEntity.WITH_PARTICIPANTS_AND_SKILLS)
+    List<TutoringEntity> findAll();
+
+    @EntityGraph(TutoringEntity.WITH_PARTICIPANTS_AND_SKILLS)
     List<TutoringEntity> findByTutorId(UsersEntity tutorId);
+
+    @EntityGraph(TutoringEntity.WITH_PARTICIPANTS_AND_SKILLS)
     List<TutoringEntity> findByTuteeId(UsersEntity tuteeId);
 
     @Query("SELECT COUNT(t) FROM TutoringEntity t WHERE t.tutorId.id = :tutorId AND t.status = :status")
@@ -1,6 +1,8 @@
 package com.pragma.tutorings_requests.application.service;
 
 import com.pragma.shared.context.UserContextHelper;
+import com.pragma.statistics.domain.port.input.RecordRequestTransitionUseCase;
+import com.pragma.statistics.domain.port.input.UpdateDashboardCountersUseCase;
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
 import com.pragma.tutorings_requests.domain.port.input.CreateTutoringRequestUseCase;
@@ -11,6 +13,7 @@ import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Date;
 import java.util.List;
@@ -24,8 +27,11 @@ public class TutoringRequestService implements
         GetTutoringRequestsUseCase {
 
     private final TutoringRequestRepository tutoringRequestRepository;
+    private final UpdateDashboardCountersUseCase updateDashboardCountersUseCase;
+    private final RecordRequestTransitionUseCase recordRequestTransitionUseCase;
 
     @Override
+    @Transactional
     public TutoringRequest createTutoringRequest(TutoringRequest tutoringRequest) {
         try {
             log.info("Procesando solicitud de tutoría con ID: {}", tutoringRequest.getId());
@@ -36,11 +42,13 @@ public class TutoringRequestService implements
             // Establecer el estado por defecto como Pendiente
             tutoringRequest.setRequestStatus(RequestStatus.Pendiente);
             
-            // Establecer fechas de creación y actualización
+            // Establecer fechas de creación, actualización y cambio de estado
             tutoringRequest.setCreatedAt(new Date());
             tutoringRequest.setUpdatedAt(new Date());
+            tutoringRequest.setStatusChangedAt(tutoringRequest.getCreatedAt());
             
             TutoringRequest savedRequest = tutoringRequestRepository.save(tutoringRequest);
+            updateDashboardCountersUseCase.tutoringRequestStatusChanged(savedRequest, null);
             log.info("Solicitud de tutoría guardada exitosamente con ID: {}", savedRequest.getId());
             
             return savedRequest;
@@ -51,6 +59,7 @@ public class TutoringRequestService implements
     }
     
     @Override
+    @Transactional
     public TutoringRequest updateStatus(String requestId, RequestStatus newStatus) {
         try {
             log.info("Actualizando estado de solicitud de tutoría con ID: {} a estado: {}", requestId, newStatus);
@@ -71,6 +80,7 @@ public class TutoringRequestService implements
                 
                 log.info("Eliminando solicitud de tutoría cancelada sin tutoría asignada con ID: {}", requestId);
                 tutoringRequestRepository.delete(requestId);
+                updateDashboardCountersUseCase.tutoringRequestDeleted(tutoringRequest);
                 log.info("Solicitud de tutoría eliminada completamente del sistema");
                 
                 // Retornar la solicitud con estado cancelado para indicar que fue procesada
@@ -79,10 +89,16 @@ public class TutoringRequestService implements
             }
             
             // Para otros casos, actualizar el estado normalmente
+            RequestStatus previousStatus = tutoringRequest.getRequestStatus();
+            Date previousStatusSince = tutoringRequest.getStatusChangedAt();
+            Date now = new Date();
             tutoringRequest.setRequestStatus(newStatus);
-            tutoringRequest.setUpdatedAt(new Date());
+            tutoringRequest.setUpdatedAt(now);
+            tutoringRequest.setStatusChangedAt(now);
             
             TutoringRequest updatedRequest = tutoringRequestRepository.save(tutoringRequest);
+            updateDashboardCountersUseCase.tutoringRequestStatusChanged(updatedRequest, previousStatus);
+            recordRequestTransitionUseCase.requestStatusChanged(updatedRequest, previousStatus, previousStatusSince);
             log.info("Estado de solicitud de tutoría actualizado exitosamente a: {}", newStatus);
             
             return updatedRequest;
@@ -23,4 +23,5 @@ public class TutoringRequest {
     private String assignedTutoringId;
     private Date createdAt;
     private Date updatedAt;
+    private Date statusChangedAt;
 }
\ No newline at end of file
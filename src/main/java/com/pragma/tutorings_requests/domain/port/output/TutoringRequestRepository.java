@@ -3,6 +3,7 @@ package com.pragma.tutorings_requests.domain.port.output;
 import com.pragma.tutorings_requests.domain.model.TutoringRequest;
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,10 @@ public interface TutoringRequestRepository {
     List<TutoringRequest> findAll();
     List<TutoringRequest> findWithFilters(String tuteeId, String skillId, RequestStatus status, String chapterId);
     void delete(String id);
+
+    /**
+     * Moves the request to {@code target} only while it is still in {@code expected}, in a single
+     * conditional UPDATE; false when another transaction changed its status first.
+     */
+    boolean changeStatusIfCurrent(String id, RequestStatus expected, RequestStatus target, Date changedAt);
 }
\ No newline at end of file
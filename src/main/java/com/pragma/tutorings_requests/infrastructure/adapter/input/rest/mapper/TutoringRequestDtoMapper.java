@@ -1,5 +1,6 @@
 package com.pragma.tutorings_requests.infrastructure.adapter.input.rest.mapper;
 
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.skills.domain.model.Skill;
 import com.pragma.skills.domain.port.input.FindSkillUseCase;
 import com.pragma.skills.infrastructure.adapter.input.rest.mapper.SkillDtoMapper;
@@ -31,8 +32,13 @@ public abstract class  TutoringRequestDtoMapper {
     @Mapping(target = "requestStatus", ignore = true)
     public abstract TutoringRequest toModel(CreateTutoringRequestDto dto);
     
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    public TutoringRequestDto toDto(TutoringRequest tutoringRequest) {
+        return toDto(tutoringRequest, new IdentityMappingContext());
+    }
+
     @Mapping(target = "skills", source = "skills")
-    public abstract TutoringRequestDto toDto(TutoringRequest tutoringRequest);
+    public abstract TutoringRequestDto toDto(TutoringRequest tutoringRequest, @Context IdentityMappingContext context);
 
     @AfterMapping
     protected void findAndSetTutte(CreateTutoringRequestDto dto, @MappingTarget TutoringRequest tutoringRequest) {
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -90,4 +91,15 @@ public class TutoringRequestPersistenceAdapter implements TutoringRequestReposit
     public void delete(String id) {
         repository.deleteById(id);
     }
+
+    /**
+     * The status check and the write are one statement, so of two transactions moving the same
+     * request only the first to take its row lock sees the expected status. Joins the caller's
+     * transaction, so the change is undone if the caller fails afterwards.
+     */
+    @Override
+    @Transactional
+    public boolean changeStatusIfCurrent(String id, RequestStatus expected, RequestStatus target, Date changedAt) {
+        return repository.changeStatusIfCurrent(id, expected, target, changedAt) == 1;
+    }
 }
\ No newline at end of file
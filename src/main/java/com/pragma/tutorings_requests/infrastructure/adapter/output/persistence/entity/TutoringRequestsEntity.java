@@ -16,15 +16,25 @@ import java.util.List;
 
 @Entity
 @Table(name = "tutoring_requests")
+@NamedEntityGraph(name = TutoringRequestsEntity.WITH_TUTEE_AND_SKILLS, attributeNodes = {
+        @NamedAttributeNode("tutee"),
+        @NamedAttributeNode("skills")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class TutoringRequestsEntity implements Serializable {
+    /**
+     * Everything a request is mapped with. The assigned tutoring is only mapped by id, which its
+     * lazy reference holds without being loaded.
+     */
+    public static final String WITH_TUTEE_AND_SKILLS = "TutoringRequest.withTuteeAndSkills";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tutee_id")
     private UsersEntity tutee; // "ID del usuario que realiza la solicitud"
 
@@ -46,7 +56,7 @@ public class TutoringRequestsEntity implements Serializable {
     @Enumerated(EnumType.STRING)
     private RequestStatus requestStatus; // "Estado de la solicitud (Enviada(default), Aprobada, Asignada, Rechazada)"
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name ="assigned_tutoring_id",
             referencedColumnName ="id")
     private TutoringEntity assignedTutoringId; // "ID de la tutoría resultante de esta solicitud (puede ser NULL)"
@@ -58,6 +68,10 @@ public class TutoringRequestsEntity implements Serializable {
     @Column(name = "updated_at")
     @Temporal(TemporalType.TIMESTAMP)
     private Date updatedAt;
+
+    @Column(name = "status_changed_at")
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date statusChangedAt; // "Fecha en que la solicitud entró en su estado actual"
     
     @PrePersist
     protected void onCreate() {
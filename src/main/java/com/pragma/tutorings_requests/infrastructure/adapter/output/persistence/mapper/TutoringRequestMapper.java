@@ -1,5 +1,6 @@
 package com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.mapper;
 
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.skills.domain.model.Skill;
 import com.pragma.skills.infrastructure.adapter.output.persistence.entity.SkillEntity;
 import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapper;
@@ -26,10 +27,15 @@ public abstract class TutoringRequestMapper {
     @Mapping(target = "assignedTutoringId", ignore = true)
     public abstract TutoringRequestsEntity toEntity(TutoringRequest tutoringRequest);
 
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    public TutoringRequest toDomain(TutoringRequestsEntity entity) {
+        return toDomain(entity, new IdentityMappingContext());
+    }
+
     @Mapping(target = "skills", source = "skills")
     @Mapping(target = "tutee", source = "tutee")
     @Mapping(target = "assignedTutoringId", expression = "java(mapAssignedTutoringId(entity))")
-    public abstract TutoringRequest toDomain(TutoringRequestsEntity entity);
+    public abstract TutoringRequest toDomain(TutoringRequestsEntity entity, @Context IdentityMappingContext context);
     
     protected String mapAssignedTutoringId(TutoringRequestsEntity entity) {
         return entity.getAssignedTutoringId() != null ? entity.getAssignedTutoringId().getId() : null;
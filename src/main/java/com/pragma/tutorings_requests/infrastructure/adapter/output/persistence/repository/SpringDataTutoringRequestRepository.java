@@ -2,16 +2,28 @@ package com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.
 
 import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
 import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.entity.TutoringRequestsEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SpringDataTutoringRequestRepository extends JpaRepository<TutoringRequestsEntity, String> {
+    @Override
+    @EntityGraph(TutoringRequestsEntity.WITH_TUTEE_AND_SKILLS)
+    Optional<TutoringRequestsEntity> findById(String id);
+
+    @Override
+    @EntityGraph(TutoringRequestsEntity.WITH_TUTEE_AND_SKILLS)
+    List<TutoringRequestsEntity> findAll();
+
+    @EntityGraph(TutoringRequestsEntity.WITH_TUTEE_AND_SKILLS)
     @Query("SELECT DISTINCT tr FROM TutoringRequestsEntity tr " +
            "LEFT JOIN tr.skills s " +
            "WHERE (:tuteeId IS NULL OR tr.tutee.id = :tuteeId) " +
@@ -27,4 +39,12 @@ public interface SpringDataTutoringRequestRepository extends JpaRepository<Tutor
     @Modifying
     @Query(value = "UPDATE tutoring_requests SET assigned_tutoring_id = :tutoringId WHERE id = :requestId", nativeQuery = true)
     void updateAssignedTutoringId(@Param("requestId") String requestId, @Param("tutoringId") String tutoringId);
+
+    @Modifying
+    @Query("UPDATE TutoringRequestsEntity tr SET tr.requestStatus = :target, tr.statusChangedAt = :changedAt " +
+           "WHERE tr.id = :requestId AND tr.requestStatus = :expected")
+    int changeStatusIfCurrent(@Param("requestId") String requestId,
+                              @Param("expected") RequestStatus expected,
+                              @Param("target") RequestStatus target,
+                              @Param("changedAt") Date changedAt);
 }
\ No newline at end of file
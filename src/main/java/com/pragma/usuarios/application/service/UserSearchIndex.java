@@ -0,0 +1,338 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserSearchResult;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Trigram inverted index over the email, first name and last name of every user.
+ * <p>
+ * Text is lower-cased, stripped of accents and reduced to a 41-symbol alphabet, so a trigram
+ * fits a dense array slot and each posting list is a growable {@code int[]} of document ids in
+ * ascending order. Every word is indexed with a leading space, so two-letter queries match the
+ * start of a word. A query matches the users whose posting lists contain all of its trigrams;
+ * candidates are then checked against the text itself and ranked.
+ * <p>
+ * A bulk {@link #build(Collection)} stores documents in ranking order (shorter text first), so a
+ * search can stop as soon as its top results all have the highest possible score. Users put
+ * afterwards are appended and always checked. Replacing a user appends a new document and
+ * leaves a tombstone behind; the next build compacts them.
+ * <p>
+ * Memory: about 50 trigrams per user (some 250 bytes of postings with growth slack) plus about
+ * 500 bytes for the user's strings and the normalized text, so around 75 MB at 100k users, as
+ * reported by {@link #estimatedBytes()}. Not thread-safe; the owner serializes writes against reads.
+ */
+class UserSearchIndex {
+
+    static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final String ALPHABET = " abcdefghijklmnopqrstuvwxyz0123456789.@-_";
+    private static final int BASE = ALPHABET.length();
+    private static final int[] SYMBOL_CODES = new int[128];
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern EMAIL_SEPARATORS = Pattern.compile("[.@_-]+");
+    private static final char FIELD_SEPARATOR = '\n';
+    private static final String WORD_SEPARATORS = " .@-_" + FIELD_SEPARATOR;
+
+    static {
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            SYMBOL_CODES[ALPHABET.charAt(i)] = i;
+        }
+    }
+
+    private final int[][] postings = new int[BASE * BASE * BASE][];
+    private final int[] postingSizes = new int[BASE * BASE * BASE];
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<String, Integer> documentByUserId = new HashMap<>();
+    private int rankedDocuments;
+    private long postingBytes;
+    private long textBytes;
+
+    /**
+     * Builds an index holding the given users in ranking order, which lets searches stop
+     * early instead of checking every candidate.
+     */
+    static UserSearchIndex build(Collection<User> users) {
+        List<Document> sorted = new ArrayList<>(users.size());
+        for (User user : users) {
+            sorted.add(Document.of(user));
+        }
+        sorted.sort(Comparator.comparingInt((Document document) -> document.text().length())
+                .thenComparing(Document::text));
+        UserSearchIndex index = new UserSearchIndex();
+        for (Document document : sorted) {
+            index.remove(document.user().getId());
+            index.add(document);
+        }
+        index.rankedDocuments = index.documents.size();
+        return index;
+    }
+
+    /**
+     * Adds the user, replacing the previous version of it if any.
+     */
+    void put(User user) {
+        remove(user.getId());
+        add(Document.of(user));
+    }
+
+    private void add(Document document) {
+        String[] fields = document.text().split(String.valueOf(FIELD_SEPARATOR), -1);
+        int documentId = documents.size();
+        documents.add(document);
+        documentByUserId.put(document.user().getId(), documentId);
+        textBytes += document.estimatedBytes();
+        for (int trigram : trigramsOf(fields[0], fields[1], fields[2])) {
+            append(trigram, documentId);
+        }
+    }
+
+    void remove(String userId) {
+        Integer previous = documentByUserId.remove(userId);
+        if (previous != null) {
+            textBytes -= documents.get(previous).estimatedBytes();
+            documents.set(previous, null);
+        }
+    }
+
+    List<UserSearchResult> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : normalize(query).split(" ")) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<Integer> queryTrigrams = new LinkedHashSet<>();
+        for (String token : tokens) {
+            if (token.length() == MIN_TOKEN_LENGTH) {
+                queryTrigrams.add(trigram(" " + token, 0));
+            } else {
+                for (int i = 0; i + 3 <= token.length(); i++) {
+                    queryTrigrams.add(trigram(token, i));
+                }
+            }
+        }
+
+        int maxScore = 3 * tokens.size();
+        PriorityQueue<Ranked> best = new PriorityQueue<>(limit + 1);
+        int[] candidates = candidates(queryTrigrams);
+        for (int i = 0; i < candidates.length; i++) {
+            int documentId = candidates[i];
+            if (documentId < rankedDocuments && best.size() == limit && best.peek().score() == maxScore) {
+                // Ranked documents that follow can only tie and lose on length; skip to the ones added since
+                int added = Arrays.binarySearch(candidates, i, candidates.length, rankedDocuments);
+                i = (added >= 0 ? added : -added - 1) - 1;
+                continue;
+            }
+            Document document = documents.get(documentId);
+            if (document == null) {
+                continue;
+            }
+            int score = document.score(tokens);
+            if (score == 0) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(new Ranked(document, score));
+            } else if (best.peek().isWorseThan(document, score)) {
+                best.poll();
+                best.add(new Ranked(document, score));
+            }
+        }
+        List<UserSearchResult> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Ranked ranked = best.poll();
+            results.add(new UserSearchResult(ranked.document().user(), ranked.score()));
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    int size() {
+        return documentByUserId.size();
+    }
+
+    /**
+     * Documents left behind by replaced or removed users.
+     */
+    int tombstones() {
+        return documents.size() - documentByUserId.size();
+    }
+
+    long estimatedBytes() {
+        return postingBytes + textBytes;
+    }
+
+    /**
+     * Intersects the posting lists, starting from the shortest one and probing the others.
+     */
+    private int[] candidates(Set<Integer> trigrams) {
+        Integer[] byLength = trigrams.toArray(Integer[]::new);
+        Arrays.sort(byLength, Comparator.comparingInt(trigram -> postingSizes[trigram]));
+        if (postingSizes[byLength[0]] == 0) {
+            return new int[0];
+        }
+        int[] candidates = Arrays.copyOf(postings[byLength[0]], postingSizes[byLength[0]]);
+        int count = candidates.length;
+        for (int i = 1; i < byLength.length && count > 0; i++) {
+            int[] posting = postings[byLength[i]];
+            int size = postingSizes[byLength[i]];
+            int kept = 0;
+            int from = 0;
+            for (int j = 0; j < count && from < size; j++) {
+                // Candidates ascend, so each probe only needs the rest of the list
+                int found = Arrays.binarySearch(posting, from, size, candidates[j]);
+                if (found >= 0) {
+                    candidates[kept++] = candidates[j];
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            count = kept;
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    private void append(int trigram, int documentId) {
+        int[] posting = postings[trigram];
+        int size = postingSizes[trigram];
+        if (posting == null) {
+            posting = new int[2];
+            postingBytes += 16 + 2 * Integer.BYTES;
+        } else if (size == posting.length) {
+            int grown = size + (size >> 1) + 1;
+            postingBytes += (long) (grown - size) * Integer.BYTES;
+            posting = Arrays.copyOf(posting, grown);
+        }
+        posting[size] = documentId;
+        postings[trigram] = posting;
+        postingSizes[trigram] = size + 1;
+    }
+
+    private static Set<Integer> trigramsOf(String email, String firstName, String lastName) {
+        Set<Integer> trigrams = new LinkedHashSet<>();
+        List<String> words = new ArrayList<>();
+        words.add(email);
+        words.addAll(Arrays.asList(EMAIL_SEPARATORS.split(email)));
+        words.addAll(Arrays.asList(firstName.split(" ")));
+        words.addAll(Arrays.asList(lastName.split(" ")));
+        for (String word : words) {
+            String padded = " " + word;
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(trigram(padded, i));
+            }
+        }
+        return trigrams;
+    }
+
+    private static int trigram(String text, int start) {
+        return (code(text.charAt(start)) * BASE + code(text.charAt(start + 1))) * BASE + code(text.charAt(start + 2));
+    }
+
+    private static int code(char c) {
+        return c < SYMBOL_CODES.length ? SYMBOL_CODES[c] : 0;
+    }
+
+    /**
+     * Lower case without accents, every character outside the alphabet turned into a space.
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD))
+                .replaceAll("");
+        StringBuilder normalized = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            normalized.append(c < SYMBOL_CODES.length && ALPHABET.indexOf(c) >= 0 ? c : ' ');
+        }
+        return normalized.toString().trim().replaceAll(" +", " ");
+    }
+
+    /**
+     * A user with its normalized email, first name and last name joined by {@link #FIELD_SEPARATOR}.
+     */
+    private record Document(User user, String text) {
+
+        static Document of(User user) {
+            return new Document(user, normalize(user.getEmail()) + FIELD_SEPARATOR + normalize(user.getFirstName())
+                    + FIELD_SEPARATOR + normalize(user.getLastName()));
+        }
+
+        /**
+         * Per query word: 3 when a field starts with it, 2 when a word does, 1 when it only
+         * appears inside a word. 0 when any query word is missing.
+         */
+        int score(List<String> tokens) {
+            int total = 0;
+            for (String token : tokens) {
+                int best = 0;
+                for (int at = text.indexOf(token); at >= 0 && best < 3; at = text.indexOf(token, at + 1)) {
+                    char before = at == 0 ? FIELD_SEPARATOR : text.charAt(at - 1);
+                    best = Math.max(best, before == FIELD_SEPARATOR ? 3 : WORD_SEPARATORS.indexOf(before) >= 0 ? 2 : 1);
+                }
+                if (best == 0) {
+                    return 0;
+                }
+                total += best;
+            }
+            return total;
+        }
+
+        /**
+         * Object headers and references, plus the stored strings of the user and the joined text.
+         */
+        long estimatedBytes() {
+            long bytes = 2 * 32L + 40 + text.length();
+            for (String field : new String[]{user.getId(), user.getEmail(), user.getFirstName(), user.getLastName()}) {
+                bytes += field == null ? 0 : 40 + field.length();
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Ordered worst first, so the head of the queue is the next result to evict: lower score,
+     * then longer text, then later email.
+     */
+    private record Ranked(Document document, int score) implements Comparable<Ranked> {
+
+        boolean isWorseThan(Document other, int otherScore) {
+            if (score != otherScore) {
+                return score < otherScore;
+            }
+            String text = document.text();
+            if (text.length() != other.text().length()) {
+                return text.length() > other.text().length();
+            }
+            return text.compareTo(other.text()) > 0;
+        }
+
+        @Override
+        public int compareTo(Ranked other) {
+            if (isWorseThan(other.document(), other.score())) {
+                return -1;
+            }
+            return other.isWorseThan(document, score) ? 1 : 0;
+        }
+    }
+}
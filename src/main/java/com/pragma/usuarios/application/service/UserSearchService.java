@@ -0,0 +1,186 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.shared.config.UserSearchProperties;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserSearchResult;
+import com.pragma.usuarios.domain.port.input.SearchUsersUseCase;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Typeahead over the users' email, first name and last name, answered from an in-memory
+ * {@link UserSearchIndex}. The index is built at startup and periodically from the database,
+ * and kept current between builds by the user change events of this instance. Until the first
+ * build completes, or when the index is disabled or would exceed its memory guard, searches
+ * fall back to an email LIKE query.
+ */
+@Service
+@Slf4j
+public class UserSearchService implements SearchUsersUseCase {
+
+    private final UserSearchProperties properties;
+    private final UserRepository userRepository;
+
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private final Object rebuildLock = new Object();
+    private volatile UserSearchIndex index;
+    private List<User> changedDuringRebuild;
+
+    public UserSearchService(UserSearchProperties properties, UserRepository userRepository,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.userRepository = userRepository;
+        Gauge.builder("users.search.index.size", this, service -> service.readIndex(UserSearchIndex::size))
+                .description("Users held in the in-memory search index")
+                .register(meterRegistry);
+        Gauge.builder("users.search.index.bytes", this, service -> service.readIndex(UserSearchIndex::estimatedBytes))
+                .description("Estimated heap used by the in-memory search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<UserSearchResult> searchUsers(String query, Integer limit) {
+        int maxResults = resolveLimit(limit);
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        UserSearchIndex current = index;
+        if (current == null) {
+            log.debug("Índice de búsqueda de usuarios no disponible, buscando por email en la base de datos");
+            return userRepository.findByFilters(null, null, null, query.trim()).stream()
+                    .limit(maxResults)
+                    .map(user -> new UserSearchResult(user, 0))
+                    .toList();
+        }
+        indexLock.readLock().lock();
+        try {
+            return current.search(query, maxResults);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes a change once it is committed, so a change that rolls back never reaches search.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getUser();
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            UserSearchIndex current = index;
+            if (current != null) {
+                indexLock.writeLock().lock();
+                try {
+                    current.put(user);
+                } finally {
+                    indexLock.writeLock().unlock();
+                }
+            }
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(user);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.users.search.rebuild-interval:PT30M}",
+            initialDelayString = "${app.users.search.rebuild-interval:PT30M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Builds a new index from every stored user and swaps it in. Users changed while the
+     * build is running are applied to the new index before the swap.
+     */
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            index = null;
+            return;
+        }
+        synchronized (rebuildLock) {
+            changedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            List<User> users = new ArrayList<>();
+            userRepository.streamAll(user -> {
+                if (users.size() == properties.getMaxIndexedUsers()) {
+                    throw new IndexLimitExceededException();
+                }
+                users.add(user);
+            });
+            UserSearchIndex rebuilt = UserSearchIndex.build(users);
+            synchronized (rebuildLock) {
+                changedDuringRebuild.forEach(rebuilt::put);
+                index = rebuilt;
+            }
+            log.info("Índice de búsqueda de usuarios reconstruido: usuarios={}, bytesEstimados={}",
+                    rebuilt.size(), rebuilt.estimatedBytes());
+        } catch (IndexLimitExceededException e) {
+            index = null;
+            log.warn("Hay más de {} usuarios, el índice de búsqueda en memoria no se construye y se busca en la base de datos",
+                    properties.getMaxIndexedUsers());
+        } catch (RuntimeException e) {
+            log.error("Error al reconstruir el índice de búsqueda de usuarios, se mantiene el anterior: {}", e.getMessage(), e);
+        } finally {
+            synchronized (rebuildLock) {
+                changedDuringRebuild = null;
+            }
+        }
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return properties.getDefaultLimit();
+        }
+        if (limit < 1 || limit > properties.getMaxLimit()) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + properties.getMaxLimit());
+        }
+        return limit;
+    }
+
+    private double readIndex(ToDoubleFunction<UserSearchIndex> metric) {
+        UserSearchIndex current = index;
+        if (current == null) {
+            return 0;
+        }
+        indexLock.readLock().lock();
+        try {
+            return metric.applyAsDouble(current);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stops the user stream once the memory guard is exceeded.
+     */
+    private static final class IndexLimitExceededException extends RuntimeException {
+        private IndexLimitExceededException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.pragma.usuarios.application.service;
 
+import com.pragma.statistics.domain.port.input.UpdateDashboardCountersUseCase;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
 import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserDirectoryCursor;
+import com.pragma.usuarios.domain.model.UserDirectoryPage;
+import com.pragma.usuarios.domain.model.UserDirectoryQuery;
+import com.pragma.usuarios.domain.model.UserWithTutoringCount;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import com.pragma.usuarios.domain.port.input.CreateUserUseCase;
+import com.pragma.usuarios.domain.port.input.ExportUsersUseCase;
 import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
 import com.pragma.usuarios.domain.port.input.FindUserByGoogleIdUseCase;
 import com.pragma.usuarios.domain.port.input.GetAllUsersWithTutoringCountUseCase;
@@ -15,22 +22,29 @@ import com.pragma.usuarios.domain.port.output.UserRepository;
 import com.pragma.usuarios.infrastructure.adapter.output.external.dto.PragmaUserDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserWithTutoringCountDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
-import com.pragma.tutorings.domain.port.output.TutoringRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUserByIdUseCase, 
-        FindUserByGoogleIdUseCase, UpdateUserRoleUseCase, UpdateTutoringLimitUseCase, GetAllUsersWithTutoringCountUseCase, GetExternalUserUseCase {
+        FindUserByGoogleIdUseCase, UpdateUserRoleUseCase, UpdateTutoringLimitUseCase, GetAllUsersWithTutoringCountUseCase, GetExternalUserUseCase,
+        ExportUsersUseCase {
+
+    static final int MAX_DIRECTORY_PAGE_SIZE = 500;
 
     private final UserRepository userRepository;
-    private final TutoringRepository tutoringRepository;
     private final UserDtoMapper userDtoMapper;
     private final ExternalUserRepository externalUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UpdateDashboardCountersUseCase updateDashboardCountersUseCase;
 
     @Override
     public User createUser(User user) {
@@ -38,10 +52,13 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
         user.setRol(RolUsuario.Tutorado);
         user.setActiveTutoringLimit(0);
         
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        publishChange(UserChangedEvent.ChangeType.CREATED, savedUser);
+        return savedUser;
     }
 
     @Override
+    @Transactional
     public Optional<User> updateUser(String id, User updatedUser) {
         return userRepository.findById(id)
                 .map(existingUser -> {
@@ -65,7 +82,10 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
                     // Mantener los campos que no deben actualizarse
                     // email, rol y activeTutoringLimit se omiten intencionalmente
 
-                    return userRepository.save(existingUser);
+                    User savedUser = userRepository.save(existingUser);
+                    userRepository.advanceSessionEpoch(id);
+                    publishChange(UserChangedEvent.ChangeType.UPDATED, savedUser);
+                    return savedUser;
                 });
     }
     
@@ -75,11 +95,17 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
     }
     
     @Override
+    @Transactional
     public Optional<User> updateUserRole(String id, RolUsuario role) {
         return userRepository.findById(id)
                 .map(existingUser -> {
+                    RolUsuario previousRole = existingUser.getRol();
                     existingUser.setRol(role);
-                    return userRepository.save(existingUser);
+                    User savedUser = userRepository.save(existingUser);
+                    userRepository.advanceSessionEpoch(id);
+                    updateDashboardCountersUseCase.userRoleChanged(savedUser, previousRole);
+                    publishChange(UserChangedEvent.ChangeType.ROLE_CHANGED, savedUser);
+                    return savedUser;
                 });
     }
     
@@ -89,7 +115,9 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
                 .filter(existingUser -> existingUser.getRol() == RolUsuario.Tutor)
                 .map(existingUser -> {
                     existingUser.setActiveTutoringLimit(activeTutoringLimit);
-                    return userRepository.save(existingUser);
+                    User savedUser = userRepository.save(existingUser);
+                    publishChange(UserChangedEvent.ChangeType.TUTORING_LIMIT_CHANGED, savedUser);
+                    return savedUser;
                 });
     }
     
@@ -100,36 +128,50 @@ public class UserService implements CreateUserUseCase, UpdateUserUseCase, FindUs
 
     @Override
     public List<UserWithTutoringCountDto> getAllUsersWithTutoringCount() {
-        return userRepository.findAll().stream()
-                .map(user -> {
-                    long tutorCount = tutoringRepository.countTutoringsByTutorId(user.getId());
-                    long tuteeCount = tutoringRepository.countTutoringsByTuteeId(user.getId());
-                    
-                    UserWithTutoringCountDto dto = userDtoMapper.toUserWithTutoringCountDto(user);
-                    dto.setTutoringsAsTutor(tutorCount);
-                    dto.setTutoringsAsTutee(tuteeCount);
-                    return dto;
-                })
-                .collect(java.util.stream.Collectors.toList());
+        return toDtos(userRepository.findAllWithTutoringCounts(null, null, null, null));
     }
 
     @Override
     public List<UserWithTutoringCountDto> getAllUsersWithTutoringCountFiltered(String chapterId, String rol, Integer seniority, String email) {
-        return userRepository.findByFilters(chapterId, rol, seniority, email).stream()
-                .map(user -> {
-                    long tutorCount = tutoringRepository.countTutoringsByTutorId(user.getId());
-                    long tuteeCount = tutoringRepository.countTutoringsByTuteeId(user.getId());
-                    
-                    UserWithTutoringCountDto dto = userDtoMapper.toUserWithTutoringCountDto(user);
-                    dto.setTutoringsAsTutor(tutorCount);
-                    dto.setTutoringsAsTutee(tuteeCount);
-                    return dto;
-                })
-                .collect(java.util.stream.Collectors.toList());
+        return toDtos(userRepository.findAllWithTutoringCounts(chapterId, rol, seniority, email));
+    }
+
+    @Override
+    public UserDirectoryPage getUserDirectory(UserDirectoryQuery query) {
+        if (query.getLimit() < 1 || query.getLimit() > MAX_DIRECTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + MAX_DIRECTORY_PAGE_SIZE);
+        }
+        if (query.getAfter() != null && query.getAfter().getSort() != query.getSort()) {
+            throw new IllegalArgumentException("El cursor no corresponde al orden solicitado");
+        }
+        // One extra row tells whether there is a next page without a count query
+        List<UserWithTutoringCount> users = userRepository.findWithTutoringCounts(query, query.getLimit() + 1);
+        if (users.size() <= query.getLimit()) {
+            return new UserDirectoryPage(users, null);
+        }
+        List<UserWithTutoringCount> page = users.subList(0, query.getLimit());
+        return new UserDirectoryPage(List.copyOf(page),
+                UserDirectoryCursor.after(query.getSort(), page.get(page.size() - 1)));
+    }
+
+    @Override
+    public void exportUsersWithTutoringCount(String chapterId, String rol, Integer seniority, String email,
+                                             Consumer<UserWithTutoringCount> sink) {
+        userRepository.streamWithTutoringCounts(chapterId, rol, seniority, email, sink);
     }
 
     @Override
     public Optional<PragmaUserDto> getExternalUserByEmail(String email) {
         return externalUserRepository.findUserByEmail(email);
     }
-}
\ No newline at end of file
+
+    private List<UserWithTutoringCountDto> toDtos(List<UserWithTutoringCount> users) {
+        return users.stream()
+                .map(userDtoMapper::toUserWithTutoringCountDto)
+                .collect(Collectors.toList());
+    }
+
+    private void publishChange(UserChangedEvent.ChangeType changeType, User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(changeType, user));
+    }
+}
@@ -0,0 +1,376 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.CreateChapterUseCase;
+import com.pragma.chapter.domain.port.input.GetAllChaptersUseCase;
+import com.pragma.shared.config.UserSyncProperties;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserSyncDiff;
+import com.pragma.usuarios.domain.model.UserSyncOutcome;
+import com.pragma.usuarios.domain.model.UserSyncReport;
+import com.pragma.usuarios.domain.port.input.SyncUsersUseCase;
+import com.pragma.usuarios.domain.port.output.ExternalUserRepository;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import com.pragma.usuarios.infrastructure.adapter.output.external.dto.PragmaUserDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bulk sync of local users from the external Pragma directory.
+ * <p>
+ * Emails are processed in batches: the local users of a batch are read with one query, their
+ * directory profiles are fetched by at most {@code concurrency} virtual threads, and the users
+ * whose name, chapter or seniority differ are written together in JDBC batches. Profiles are
+ * mapped the same way as on registration; directory chapters missing locally are created by
+ * name. Users are only updated, never created, because a user needs the Google ID it gets when
+ * registering. Without emails, every local user is synced, which stands in for paging through
+ * the directory.
+ * <p>
+ * One sync runs at a time, in the background, and its report is kept until the next one
+ * starts. Emails are counted in {@code users.sync.emails} by outcome and runs are timed in
+ * {@code users.sync.duration}.
+ */
+@Service
+@Slf4j
+public class UserSyncService implements SyncUsersUseCase {
+
+    private final UserSyncProperties properties;
+    private final UserRepository userRepository;
+    private final ExternalUserRepository externalUserRepository;
+    private final GetAllChaptersUseCase getAllChaptersUseCase;
+    private final CreateChapterUseCase createChapterUseCase;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final AtomicReference<SyncRun> lastRun = new AtomicReference<>();
+
+    @Autowired
+    public UserSyncService(UserSyncProperties properties, UserRepository userRepository,
+                           ExternalUserRepository externalUserRepository, GetAllChaptersUseCase getAllChaptersUseCase,
+                           CreateChapterUseCase createChapterUseCase, ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry) {
+        this(properties, userRepository, externalUserRepository, getAllChaptersUseCase, createChapterUseCase,
+                eventPublisher, meterRegistry, Clock.systemUTC());
+    }
+
+    UserSyncService(UserSyncProperties properties, UserRepository userRepository,
+                    ExternalUserRepository externalUserRepository, GetAllChaptersUseCase getAllChaptersUseCase,
+                    CreateChapterUseCase createChapterUseCase, ApplicationEventPublisher eventPublisher,
+                    MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.userRepository = userRepository;
+        this.externalUserRepository = externalUserRepository;
+        this.getAllChaptersUseCase = getAllChaptersUseCase;
+        this.createChapterUseCase = createChapterUseCase;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<UserSyncReport> startSync(List<String> emails, boolean dryRun) {
+        SyncRun run = claim(emails, dryRun);
+        if (run == null) {
+            return Optional.empty();
+        }
+        Thread.ofVirtual().name("user-sync").start(() -> execute(run));
+        return Optional.of(run.report());
+    }
+
+    @Override
+    public Optional<UserSyncReport> getLastSync() {
+        return Optional.ofNullable(lastRun.get()).map(SyncRun::report);
+    }
+
+    /**
+     * Runs a sync on the calling thread and returns its final report.
+     */
+    UserSyncReport sync(List<String> emails, boolean dryRun) {
+        SyncRun run = claim(emails, dryRun);
+        if (run == null) {
+            throw new IllegalStateException("Ya hay una sincronización de usuarios en curso");
+        }
+        execute(run);
+        return run.report();
+    }
+
+    private SyncRun claim(List<String> emails, boolean dryRun) {
+        if (emails != null && emails.size() > properties.getMaxEmails()) {
+            throw new IllegalArgumentException(
+                    "Se pueden sincronizar como máximo " + properties.getMaxEmails() + " emails por solicitud");
+        }
+        SyncRun run = new SyncRun(emails, dryRun, properties.getMaxReportedDiffs(), clock);
+        SyncRun previous;
+        do {
+            previous = lastRun.get();
+            if (previous != null && previous.isRunning()) {
+                return null;
+            }
+        } while (!lastRun.compareAndSet(previous, run));
+        return run;
+    }
+
+    private void execute(SyncRun run) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try (ExecutorService fetchers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<String> emails = resolveEmails(run.requestedEmails);
+            run.started(emails.size());
+            log.info("Sincronización de usuarios con el directorio iniciada: emails={}, dryRun={}",
+                    emails.size(), run.dryRun);
+
+            Map<String, Chapter> chaptersByName = new HashMap<>();
+            for (Chapter chapter : getAllChaptersUseCase.getAllChapters()) {
+                chaptersByName.putIfAbsent(key(chapter.getName()), chapter);
+            }
+            Semaphore permits = new Semaphore(Math.max(1, properties.getConcurrency()));
+            int batchSize = Math.max(1, properties.getBatchSize());
+            for (int from = 0; from < emails.size(); from += batchSize) {
+                syncBatch(run, emails.subList(from, Math.min(from + batchSize, emails.size())),
+                        chaptersByName, fetchers, permits);
+            }
+            run.finished(UserSyncReport.Status.COMPLETED, null);
+            UserSyncReport report = run.report();
+            log.info("Sincronización de usuarios con el directorio terminada: {} emails en {} s ({} emails/s), resultados={}",
+                    report.getProcessed(), Duration.between(report.getStartedAt(), report.getFinishedAt()).toSeconds(),
+                    String.format(Locale.ROOT, "%.1f", report.getEmailsPerSecond()), report.getCounts());
+        } catch (RuntimeException e) {
+            run.finished(UserSyncReport.Status.FAILED, e.getMessage());
+            log.error("La sincronización de usuarios con el directorio falló tras {} emails: {}",
+                    run.report().getProcessed(), e.getMessage(), e);
+        } finally {
+            sample.stop(Timer.builder("users.sync.duration")
+                    .description("Duration of bulk user syncs from the external directory")
+                    .tag("status", run.report().getStatus().name())
+                    .register(meterRegistry));
+        }
+    }
+
+    private List<String> resolveEmails(List<String> requested) {
+        if (requested == null || requested.isEmpty()) {
+            List<String> emails = new ArrayList<>();
+            userRepository.streamAll(user -> emails.add(user.getEmail()));
+            return emails;
+        }
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String email : requested) {
+            if (email != null && !email.isBlank()) {
+                unique.putIfAbsent(key(email), email.trim());
+            }
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private void syncBatch(SyncRun run, List<String> emails, Map<String, Chapter> chaptersByName,
+                           ExecutorService fetchers, Semaphore permits) {
+        Map<String, User> localUsers = new HashMap<>();
+        for (User user : userRepository.findByEmails(emails)) {
+            localUsers.put(key(user.getEmail()), user);
+        }
+        List<Future<Optional<PragmaUserDto>>> profiles = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            profiles.add(fetchers.submit(() -> fetch(email, permits)));
+        }
+
+        List<User> changed = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            String email = emails.get(i);
+            Optional<PragmaUserDto> profile;
+            try {
+                profile = profiles.get(i).get();
+            } catch (ExecutionException e) {
+                log.debug("No se pudo consultar {} en el directorio: {}", email, e.getCause().getMessage());
+                record(run, email, UserSyncOutcome.FAILED, List.of());
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Sincronización de usuarios interrumpida", e);
+            }
+            User user = localUsers.get(key(email));
+            if (profile.isEmpty()) {
+                record(run, email, UserSyncOutcome.NOT_IN_DIRECTORY, List.of());
+            } else if (user == null) {
+                record(run, email, UserSyncOutcome.NOT_REGISTERED, List.of());
+            } else {
+                List<UserSyncDiff.FieldChange> changes = applyProfile(run, user, profile.get(), chaptersByName);
+                if (changes.isEmpty()) {
+                    record(run, email, UserSyncOutcome.UNCHANGED, changes);
+                } else {
+                    changed.add(user);
+                    record(run, email, UserSyncOutcome.UPDATED, changes);
+                }
+            }
+        }
+
+        if (!run.dryRun && !changed.isEmpty()) {
+            userRepository.updateProfiles(changed);
+            changed.forEach(user -> eventPublisher.publishEvent(
+                    new UserChangedEvent(UserChangedEvent.ChangeType.UPDATED, user)));
+        }
+    }
+
+    private Optional<PragmaUserDto> fetch(String email, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        try {
+            return externalUserRepository.fetchUserByEmail(email);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Copies the directory profile onto the user the way registration does: full name as first
+     * name, and chapter and seniority from the first chapter listed.
+     */
+    private List<UserSyncDiff.FieldChange> applyProfile(SyncRun run, User user, PragmaUserDto profile,
+                                                        Map<String, Chapter> chaptersByName) {
+        List<UserSyncDiff.FieldChange> changes = new ArrayList<>();
+        if (profile.getFullName() != null && !profile.getFullName().equals(user.getFirstName())) {
+            changes.add(new UserSyncDiff.FieldChange("firstName", user.getFirstName(), profile.getFullName()));
+            user.setFirstName(profile.getFullName());
+        }
+        if (profile.getChapters() == null || profile.getChapters().isEmpty()) {
+            return changes;
+        }
+        PragmaUserDto.Chapter mainChapter = profile.getChapters().get(0);
+        if (mainChapter.getChapterName() != null && !mainChapter.getChapterName().isBlank()) {
+            Chapter chapter = resolveChapter(run, mainChapter.getChapterName(), chaptersByName);
+            String currentName = user.getChapter() != null ? user.getChapter().getName() : null;
+            if (currentName == null || !key(currentName).equals(key(chapter.getName()))) {
+                changes.add(new UserSyncDiff.FieldChange("chapter", currentName, chapter.getName()));
+                user.setChapter(chapter);
+            }
+        }
+        if (mainChapter.getSeniorityId() != null && mainChapter.getSeniorityId() != user.getSeniority()) {
+            changes.add(new UserSyncDiff.FieldChange("seniority", String.valueOf(user.getSeniority()),
+                    String.valueOf(mainChapter.getSeniorityId())));
+            user.setSeniority(mainChapter.getSeniorityId());
+        }
+        return changes;
+    }
+
+    private Chapter resolveChapter(SyncRun run, String name, Map<String, Chapter> chaptersByName) {
+        Chapter chapter = chaptersByName.get(key(name));
+        if (chapter != null) {
+            return chapter;
+        }
+        if (run.dryRun) {
+            chapter = new Chapter(null, name.trim());
+        } else {
+            chapter = createChapterUseCase.createChapter(new Chapter(null, name.trim()));
+            log.info("Chapter {} creado desde el directorio de Pragma", chapter.getName());
+        }
+        chaptersByName.put(key(name), chapter);
+        run.chapterCreated();
+        return chapter;
+    }
+
+    private void record(SyncRun run, String email, UserSyncOutcome outcome, List<UserSyncDiff.FieldChange> changes) {
+        run.record(email, outcome, changes);
+        Counter.builder("users.sync.emails")
+                .description("Emails processed by bulk user syncs by outcome")
+                .tag("outcome", outcome.name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String key(String value) {
+        return Objects.requireNonNullElse(value, "").trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * State of one sync, written by the sync thread and read by report requests.
+     */
+    private static final class SyncRun {
+
+        private final List<String> requestedEmails;
+        private final boolean dryRun;
+        private final int maxReportedDiffs;
+        private final Clock clock;
+        private final Instant startedAt;
+        private final Map<UserSyncOutcome, Integer> counts = new EnumMap<>(UserSyncOutcome.class);
+        private final List<UserSyncDiff> diffs = new ArrayList<>();
+        private UserSyncReport.Status status = UserSyncReport.Status.RUNNING;
+        private Instant finishedAt;
+        private int requested;
+        private int processed;
+        private int chaptersCreated;
+        private boolean diffsTruncated;
+        private String error;
+
+        private SyncRun(List<String> requestedEmails, boolean dryRun, int maxReportedDiffs, Clock clock) {
+            this.requestedEmails = requestedEmails != null ? List.copyOf(requestedEmails) : List.of();
+            this.dryRun = dryRun;
+            this.maxReportedDiffs = maxReportedDiffs;
+            this.clock = clock;
+            this.startedAt = clock.instant();
+            for (UserSyncOutcome outcome : UserSyncOutcome.values()) {
+                counts.put(outcome, 0);
+            }
+        }
+
+        synchronized boolean isRunning() {
+            return status == UserSyncReport.Status.RUNNING;
+        }
+
+        synchronized void started(int emails) {
+            requested = emails;
+        }
+
+        synchronized void record(String email, UserSyncOutcome outcome, List<UserSyncDiff.FieldChange> changes) {
+            processed++;
+            counts.merge(outcome, 1, Integer::sum);
+            if (outcome == UserSyncOutcome.UNCHANGED) {
+                return;
+            }
+            if (diffs.size() < maxReportedDiffs) {
+                diffs.add(new UserSyncDiff(email, outcome, List.copyOf(changes)));
+            } else {
+                diffsTruncated = true;
+            }
+        }
+
+        synchronized void chapterCreated() {
+            chaptersCreated++;
+        }
+
+        synchronized void finished(UserSyncReport.Status finalStatus, String failure) {
+            status = finalStatus;
+            error = failure;
+            finishedAt = clock.instant();
+        }
+
+        synchronized UserSyncReport report() {
+            Instant end = finishedAt != null ? finishedAt : clock.instant();
+            double seconds = Duration.between(startedAt, end).toMillis() / 1000.0;
+            double emailsPerSecond = seconds > 0 ? processed / seconds : 0;
+            return new UserSyncReport(status, dryRun, startedAt, finishedAt, requested, processed,
+                    new EnumMap<>(counts), chaptersCreated, emailsPerSecond, List.copyOf(diffs), diffsTruncated, error);
+        }
+    }
+}
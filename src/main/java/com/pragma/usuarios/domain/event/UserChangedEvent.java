@@ -0,0 +1,24 @@
+package com.pragma.usuarios.domain.event;
+
+import com.pragma.usuarios.domain.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the user service after a user has been created or modified.
+ * Listeners use it to keep derived, in-memory views of users consistent.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final ChangeType changeType;
+    private final User user;
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        ROLE_CHANGED,
+        TUTORING_LIMIT_CHANGED
+    }
+}
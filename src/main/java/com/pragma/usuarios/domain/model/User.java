@@ -20,4 +20,5 @@ public class User {
     private RolUsuario rol;
     private int activeTutoringLimit;
     private int seniority;
+    private long sessionEpoch;
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.pragma.usuarios.domain.model;
+
+import com.pragma.usuarios.domain.model.enums.UserDirectorySort;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last user of a directory page: the sort key and id of that user.
+ * Clients receive it as an opaque token and send it back to get the next page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDirectoryCursor {
+
+    private static final String SEPARATOR = "\n";
+
+    private UserDirectorySort sort;
+    private String sortValue;
+    private String id;
+
+    public static UserDirectoryCursor after(UserDirectorySort sort, UserWithTutoringCount last) {
+        String sortValue = switch (sort) {
+            case EMAIL -> last.getUser().getEmail();
+            case TUTORINGS_AS_TUTOR -> Long.toString(last.getTutoringsAsTutor());
+            case TUTORINGS_AS_TUTEE -> Long.toString(last.getTutoringsAsTutee());
+        };
+        return new UserDirectoryCursor(sort, sortValue, last.getUser().getId());
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserDirectoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 3);
+            UserDirectoryCursor cursor = new UserDirectoryCursor(UserDirectorySort.valueOf(parts[0]), parts[1], parts[2]);
+            if (cursor.getSort() != UserDirectorySort.EMAIL) {
+                Long.parseLong(cursor.getSortValue());
+            }
+            return cursor;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid user directory cursor", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.pragma.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDirectoryPage {
+    private List<UserWithTutoringCount> users;
+    /**
+     * Cursor of the next page, or null when this is the last one.
+     */
+    private UserDirectoryCursor next;
+}
@@ -0,0 +1,24 @@
+package com.pragma.usuarios.domain.model;
+
+import com.pragma.usuarios.domain.model.enums.UserDirectorySort;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of the user directory: the same filters as the full listing, a sort key and
+ * direction, and the cursor returned with the previous page (null for the first one).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDirectoryQuery {
+    private String chapterId;
+    private String rol;
+    private Integer seniority;
+    private String email;
+    private UserDirectorySort sort;
+    private boolean descending;
+    private UserDirectoryCursor after;
+    private int limit;
+}
@@ -0,0 +1,16 @@
+package com.pragma.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResult {
+    private User user;
+    /**
+     * Relevance of the match; higher is better. Only comparable within one search.
+     */
+    private int score;
+}
@@ -0,0 +1,32 @@
+package com.pragma.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Difference found by a directory sync for one email.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSyncDiff {
+    private String email;
+    private UserSyncOutcome outcome;
+    /**
+     * Fields of the local user that differ from the directory; empty unless the outcome is
+     * {@link UserSyncOutcome#UPDATED}.
+     */
+    private List<FieldChange> changes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FieldChange {
+        private String field;
+        private String before;
+        private String after;
+    }
+}
@@ -0,0 +1,17 @@
+package com.pragma.usuarios.domain.model;
+
+/**
+ * What a directory sync did with one email.
+ */
+public enum UserSyncOutcome {
+    /** The local user differed from its directory profile and was updated. */
+    UPDATED,
+    /** The local user already matched its directory profile. */
+    UNCHANGED,
+    /** The directory knows the email but no local user has it; users are created on registration. */
+    NOT_REGISTERED,
+    /** The directory does not know the email. */
+    NOT_IN_DIRECTORY,
+    /** The directory lookup failed; the local user was left as it was. */
+    FAILED
+}
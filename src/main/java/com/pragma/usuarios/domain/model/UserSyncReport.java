@@ -0,0 +1,46 @@
+package com.pragma.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Progress and result of a bulk sync of users from the external directory.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSyncReport {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private Status status;
+    /**
+     * Whether differences were only reported, without writing them.
+     */
+    private boolean dryRun;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private int requested;
+    private int processed;
+    private Map<UserSyncOutcome, Integer> counts;
+    private int chaptersCreated;
+    /**
+     * Emails processed per second since the sync started.
+     */
+    private double emailsPerSecond;
+    /**
+     * Emails that were not {@link UserSyncOutcome#UNCHANGED}, up to the configured maximum.
+     */
+    private List<UserSyncDiff> diffs;
+    private boolean diffsTruncated;
+    private String error;
+}
@@ -0,0 +1,14 @@
+package com.pragma.usuarios.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserWithTutoringCount {
+    private User user;
+    private long tutoringsAsTutor;
+    private long tutoringsAsTutee;
+}
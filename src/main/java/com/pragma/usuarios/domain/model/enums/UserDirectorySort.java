@@ -0,0 +1,10 @@
+package com.pragma.usuarios.domain.model.enums;
+
+/**
+ * Sort keys of the user directory. Ties are always broken by user id.
+ */
+public enum UserDirectorySort {
+    EMAIL,
+    TUTORINGS_AS_TUTOR,
+    TUTORINGS_AS_TUTEE
+}
@@ -0,0 +1,14 @@
+package com.pragma.usuarios.domain.port.input;
+
+import com.pragma.usuarios.domain.model.UserWithTutoringCount;
+
+import java.util.function.Consumer;
+
+public interface ExportUsersUseCase {
+    /**
+     * Passes every user matching the filters (all optional), ordered by email, to the sink
+     * as it is read, without holding the result in memory.
+     */
+    void exportUsersWithTutoringCount(String chapterId, String rol, Integer seniority, String email,
+                                      Consumer<UserWithTutoringCount> sink);
+}
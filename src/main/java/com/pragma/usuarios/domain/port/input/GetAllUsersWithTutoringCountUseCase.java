@@ -1,5 +1,7 @@
 package com.pragma.usuarios.domain.port.input;
 
+import com.pragma.usuarios.domain.model.UserDirectoryPage;
+import com.pragma.usuarios.domain.model.UserDirectoryQuery;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserWithTutoringCountDto;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import java.util.List;
@@ -7,4 +9,5 @@ import java.util.List;
 public interface GetAllUsersWithTutoringCountUseCase {
     List<UserWithTutoringCountDto> getAllUsersWithTutoringCount();
     List<UserWithTutoringCountDto> getAllUsersWithTutoringCountFiltered(String chapterId, String rol, Integer seniority, String email);
+    UserDirectoryPage getUserDirectory(UserDirectoryQuery query);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.pragma.usuarios.domain.port.input;
+
+import com.pragma.usuarios.domain.model.UserSearchResult;
+
+import java.util.List;
+
+public interface SearchUsersUseCase {
+    /**
+     * Users whose email, first name or last name contain every word of the query, best
+     * matches first. Words shorter than two characters are ignored.
+     *
+     * @param limit maximum number of results, or null for the configured default
+     */
+    List<UserSearchResult> searchUsers(String query, Integer limit);
+}
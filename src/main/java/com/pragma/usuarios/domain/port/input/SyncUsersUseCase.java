@@ -0,0 +1,22 @@
+package com.pragma.usuarios.domain.port.input;
+
+import com.pragma.usuarios.domain.model.UserSyncReport;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SyncUsersUseCase {
+
+    /**
+     * Starts syncing the given emails from the external directory in the background, or every
+     * local user when no emails are given.
+     *
+     * @return the report of the started sync, or empty when another sync is still running
+     */
+    Optional<UserSyncReport> startSync(List<String> emails, boolean dryRun);
+
+    /**
+     * Report of the running sync, or of the last one that finished.
+     */
+    Optional<UserSyncReport> getLastSync();
+}
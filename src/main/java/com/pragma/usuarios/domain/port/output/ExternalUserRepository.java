@@ -6,4 +6,13 @@ import java.util.Optional;
 
 public interface ExternalUserRepository {
     Optional<PragmaUserDto> findUserByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Asks the directory for the email without going through the lookup cache, for bulk reads
+     * that would otherwise evict every cached user.
+     *
+     * @return the profile, or empty when the directory does not know the email
+     * @throws RuntimeException when the lookup fails, so a failure is not taken for an unknown email
+     */
+    Optional<PragmaUserDto> fetchUserByEmail(String email);
+}
@@ -1,9 +1,13 @@
 package com.pragma.usuarios.domain.port.output;
 
 import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserDirectoryQuery;
+import com.pragma.usuarios.domain.model.UserWithTutoringCount;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserRepository {
     User save(User account);
@@ -12,4 +16,49 @@ public interface UserRepository {
     Optional<User> findByGoogleUserId(String googleUserId);
     List<User> findAll();
     List<User> findByFilters(String chapterId, String rol, Integer seniority, String email);
-}
\ No newline at end of file
+    List<String> findAllGoogleUserIds();
+
+    /**
+     * Users matching the filters (all optional) with their tutoring counts as tutor and as
+     * tutee, ordered by email, read with a single grouped query.
+     */
+    List<UserWithTutoringCount> findAllWithTutoringCounts(String chapterId, String rol, Integer seniority, String email);
+
+    /**
+     * Up to {@code maxResults} users after the query cursor, in the query order, with their
+     * tutoring counts, read with a single grouped query.
+     */
+    List<UserWithTutoringCount> findWithTutoringCounts(UserDirectoryQuery query, int maxResults);
+
+    /**
+     * Same rows and order as {@link #findAllWithTutoringCounts}, passed to the consumer one at a
+     * time while they are read from a forward-only cursor.
+     */
+    void streamWithTutoringCounts(String chapterId, String rol, Integer seniority, String email,
+                                  Consumer<UserWithTutoringCount> consumer);
+
+    /**
+     * Every user passed to the consumer one at a time while read from a forward-only cursor,
+     * with its chapter but without loading entities.
+     */
+    void streamAll(Consumer<User> consumer);
+
+    /**
+     * Users whose email is one of the given ones, read with a single query without loading
+     * entities.
+     */
+    List<User> findByEmails(Collection<String> emails);
+
+    /**
+     * Writes the profile fields (first name, last name, chapter and seniority) of existing
+     * users in one transaction, advancing their session epochs; role, tutoring limit and
+     * identifiers are left as stored.
+     */
+    void updateProfiles(Collection<User> users);
+
+    /**
+     * Advances the session epoch of the user, so session tokens issued to it before this change
+     * are no longer accepted.
+     */
+    void advanceSessionEpoch(String id);
+}
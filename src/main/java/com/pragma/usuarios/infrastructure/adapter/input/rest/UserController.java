@@ -3,7 +3,11 @@ package com.pragma.usuarios.infrastructure.adapter.input.rest;
 import com.pragma.shared.context.UserContext;
 import com.pragma.shared.context.UserContextHelper;
 import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserDirectoryCursor;
+import com.pragma.usuarios.domain.model.UserDirectoryPage;
+import com.pragma.usuarios.domain.model.UserDirectoryQuery;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.model.enums.UserDirectorySort;
 import com.pragma.usuarios.domain.port.input.CreateUserUseCase;
 import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
 import com.pragma.usuarios.domain.port.input.GetAllUsersWithTutoringCountUseCase;
@@ -16,6 +20,7 @@ import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.CreateUserDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UpdateTutoringLimitDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UpdateUserRequestDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UpdateUserRoleDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserDirectoryPageDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserWithTutoringCountDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
@@ -86,8 +91,12 @@ public class UserController {
     public ResponseEntity<com.pragma.shared.dto.OkResponseDto<UserDto>> getCurrentUser() {
         User currentUser = UserContextHelper.getCurrentUserOrThrow();
         log.debug("User {} requesting own profile", currentUser.getEmail());
-        UserDto userDto = userDtoMapper.toDto(currentUser);
-        return ResponseEntity.ok(com.pragma.shared.dto.OkResponseDto.of("Usuario obtenido exitosamente", userDto));
+
+        // A session token principal only carries its claims, so the profile is read from the store
+        return findUserByIdUseCase.findUserById(currentUser.getId())
+                .map(user -> ResponseEntity.ok(com.pragma.shared.dto.OkResponseDto.of("Usuario obtenido exitosamente",
+                        userDtoMapper.toDto(user))))
+                .orElse(ResponseEntity.notFound().build());
     }
     
     @PatchMapping("/role")
@@ -151,4 +160,33 @@ public class UserController {
         
         return ResponseEntity.ok(users);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/directory")
+    public ResponseEntity<UserDirectoryPageDto> getUserDirectory(
+            @RequestParam(required = false) String chapterId,
+            @RequestParam(required = false) String rol,
+            @RequestParam(required = false) Integer seniority,
+            @RequestParam(required = false) String email,
+            @RequestParam(defaultValue = "EMAIL") UserDirectorySort sort,
+            @RequestParam(defaultValue = "ASC") String direction,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor) {
+        log.info("Admin {} requesting user directory sorted by {} {}", UserContextHelper.getCurrentUserEmail(), sort, direction);
+
+        // Only admins can access this endpoint
+        UserContextHelper.requireAdminRole();
+
+        UserDirectoryQuery query = new UserDirectoryQuery(chapterId, rol, seniority, email, sort,
+                "DESC".equalsIgnoreCase(direction), cursor != null ? UserDirectoryCursor.decode(cursor) : null, limit);
+        UserDirectoryPage page = getAllUsersWithTutoringCountUseCase.getUserDirectory(query);
+
+        List<UserWithTutoringCountDto> users = page.getUsers().stream()
+                .map(userDtoMapper::toUserWithTutoringCountDto)
+                .toList();
+
+        log.info("Admin {} successfully retrieved {} users of the directory",
+                UserContextHelper.getCurrentUserEmail(), users.size());
+
+        return ResponseEntity.ok(new UserDirectoryPageDto(users, page.getNext() != null ? page.getNext().encode() : null));
+    }
+}
@@ -0,0 +1,116 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.shared.config.UserExportProperties;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.security.exception.RateLimitExceededException;
+import com.pragma.usuarios.domain.port.input.ExportUsersUseCase;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.export.UserExportFormat;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.export.UserExportWriter;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exports the user directory with the same filters as {@code GET /api/v1/users}, streaming
+ * each user to the response as it is read instead of building the whole list first.
+ * Only a few exports stream at once; further requests are rejected with 429 until one finishes.
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+@Slf4j
+public class UserExportController {
+
+    private static final String EXPORT_SLOT_INTERCEPTOR = UserExportController.class.getName() + ".EXPORT_SLOT";
+
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final UserDtoMapper userDtoMapper;
+    private final ObjectMapper objectMapper;
+    private final UserExportProperties exportProperties;
+    private final Semaphore exportSlots;
+
+    public UserExportController(ExportUsersUseCase exportUsersUseCase, UserDtoMapper userDtoMapper,
+                                ObjectMapper objectMapper, UserExportProperties exportProperties) {
+        this.exportUsersUseCase = exportUsersUseCase;
+        this.userDtoMapper = userDtoMapper;
+        this.objectMapper = objectMapper;
+        this.exportProperties = exportProperties;
+        this.exportSlots = new Semaphore(Math.max(1, exportProperties.getMaxConcurrentExports()));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) String chapterId,
+            @RequestParam(required = false) String rol,
+            @RequestParam(required = false) Integer seniority,
+            @RequestParam(required = false) String email,
+            @RequestParam(defaultValue = "NDJSON") UserExportFormat format,
+            HttpServletRequest request) {
+        String adminEmail = UserContextHelper.getCurrentUserEmail();
+        log.info("Admin {} exporting users as {} with filters chapterId: {} || rol: {} || seniority: {} || email: {}",
+                adminEmail, format, chapterId, rol, seniority, email);
+
+        // Only admins can access this endpoint
+        UserContextHelper.requireAdminRole();
+
+        if (!exportSlots.tryAcquire()) {
+            log.warn("Admin {} export rejected: {} exports already running",
+                    adminEmail, exportProperties.getMaxConcurrentExports());
+            throw new RateLimitExceededException("Hay demasiadas exportaciones en curso, intente de nuevo más tarde",
+                    exportProperties.getRetryAfter().toSeconds());
+        }
+
+        // The slot is held until the last row is written, and also freed when the async request
+        // ends without the body ever running (executor rejection, timeout, client gone)
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable releaseSlot = () -> {
+            if (released.compareAndSet(false, true)) {
+                exportSlots.release();
+            }
+        };
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_SLOT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        releaseSlot.run();
+                    }
+                });
+
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+                UserExportWriter exportWriter = new UserExportWriter(format, objectMapper, writer);
+                exportWriter.writeHeader();
+                exportUsersUseCase.exportUsersWithTutoringCount(chapterId, rol, seniority, email,
+                        user -> exportWriter.write(userDtoMapper.toUserWithTutoringCountDto(user)));
+                writer.flush();
+                log.info("Admin {} successfully exported {} users", adminEmail, exportWriter.getRows());
+            } finally {
+                releaseSlot.run();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + format.getFileExtension() + "\"")
+                .body(body);
+    }
+}
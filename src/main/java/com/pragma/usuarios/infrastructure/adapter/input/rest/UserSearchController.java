@@ -0,0 +1,44 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest;
+
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.usuarios.domain.port.input.SearchUsersUseCase;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserSearchResultDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Typeahead lookup of users by email, first name or last name, best matches first.
+ */
+@RestController
+@RequestMapping("/api/v1/users")
+@RequiredArgsConstructor
+@Slf4j
+public class UserSearchController {
+
+    private final SearchUsersUseCase searchUsersUseCase;
+    private final UserDtoMapper userDtoMapper;
+
+    @GetMapping("/search")
+    public ResponseEntity<List<UserSearchResultDto>> searchUsers(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer limit) {
+        log.debug("Admin {} searching users with query: {} || limit: {}",
+                UserContextHelper.getCurrentUserEmail(), query, limit);
+
+        // Only admins can access this endpoint
+        UserContextHelper.requireAdminRole();
+
+        List<UserSearchResultDto> results = searchUsersUseCase.searchUsers(query, limit).stream()
+                .map(userDtoMapper::toSearchResultDto)
+                .toList();
+        return ResponseEntity.ok(results);
+    }
+}
@@ -0,0 +1,57 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest;
+
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.usuarios.domain.port.input.SyncUsersUseCase;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserSyncReportDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserSyncRequestDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk sync of users from the external Pragma directory. The sync runs in the background; its
+ * progress and final report are read with GET.
+ */
+@RestController
+@RequestMapping("/api/v1/users/sync")
+@RequiredArgsConstructor
+@Slf4j
+public class UserSyncController {
+
+    private final SyncUsersUseCase syncUsersUseCase;
+    private final UserDtoMapper userDtoMapper;
+
+    @PostMapping
+    public ResponseEntity<UserSyncReportDto> startSync(@Valid @RequestBody UserSyncRequestDto requestDto) {
+        int emails = requestDto.getEmails() != null ? requestDto.getEmails().size() : 0;
+        log.info("Admin {} starting user sync from the directory: emails={}, dryRun={}",
+                UserContextHelper.getCurrentUserEmail(), emails, requestDto.isDryRun());
+
+        // Only admins can access this endpoint
+        UserContextHelper.requireAdminRole();
+
+        return syncUsersUseCase.startSync(requestDto.getEmails(), requestDto.isDryRun())
+                .map(report -> ResponseEntity.status(HttpStatus.ACCEPTED).body(userDtoMapper.toSyncReportDto(report)))
+                .orElse(ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @GetMapping
+    public ResponseEntity<UserSyncReportDto> getLastSync() {
+        log.debug("Admin {} requesting the last user sync report", UserContextHelper.getCurrentUserEmail());
+
+        // Only admins can access this endpoint
+        UserContextHelper.requireAdminRole();
+
+        return syncUsersUseCase.getLastSync()
+                .map(report -> ResponseEntity.ok(userDtoMapper.toSyncReportDto(report)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,15 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDirectoryPageDto {
+    private List<UserWithTutoringCountDto> users;
+    private String nextCursor;
+}
@@ -2,6 +2,7 @@ package com.pragma.usuarios.infrastructure.adapter.input.rest.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.pragma.chapter.infrastructure.adapter.input.rest.dto.ChapterDto;
+import com.pragma.shared.serialization.IncludedResource;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@IncludedResource("users")
 public class UserDto {
     private String id;
     private String firstName;
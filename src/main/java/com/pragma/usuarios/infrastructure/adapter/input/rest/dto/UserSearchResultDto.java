@@ -0,0 +1,13 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResultDto {
+    private UserDto user;
+    private int score;
+}
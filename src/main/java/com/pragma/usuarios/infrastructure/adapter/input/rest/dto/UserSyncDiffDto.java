@@ -0,0 +1,26 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.usuarios.domain.model.UserSyncOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSyncDiffDto {
+    private String email;
+    private UserSyncOutcome outcome;
+    private List<FieldChangeDto> changes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FieldChangeDto {
+        private String field;
+        private String before;
+        private String after;
+    }
+}
@@ -0,0 +1,29 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest.dto;
+
+import com.pragma.usuarios.domain.model.UserSyncOutcome;
+import com.pragma.usuarios.domain.model.UserSyncReport;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSyncReportDto {
+    private UserSyncReport.Status status;
+    private boolean dryRun;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private int requested;
+    private int processed;
+    private Map<UserSyncOutcome, Integer> counts;
+    private int chaptersCreated;
+    private double emailsPerSecond;
+    private List<UserSyncDiffDto> diffs;
+    private boolean diffsTruncated;
+    private String error;
+}
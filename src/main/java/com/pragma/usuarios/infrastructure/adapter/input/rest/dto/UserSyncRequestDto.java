@@ -0,0 +1,23 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest.dto;
+
+import jakarta.validation.constraints.Email;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSyncRequestDto {
+    /**
+     * Emails to sync; when empty every local user is synced.
+     */
+    private List<@Email(message = "Email should be valid") String> emails;
+
+    /**
+     * Only report the differences, without writing them.
+     */
+    private boolean dryRun;
+}
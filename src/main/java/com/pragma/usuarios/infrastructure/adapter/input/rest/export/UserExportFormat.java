@@ -0,0 +1,17 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest.export;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+@Getter
+@RequiredArgsConstructor
+public enum UserExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+}
@@ -0,0 +1,103 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserWithTutoringCountDto;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Writes exported users one line at a time, either as NDJSON (one JSON object per line) or as
+ * RFC 4180 CSV with a header row and CRLF line breaks. Nothing but the current row is held in
+ * memory. CSV text cells that a spreadsheet would evaluate as a formula are prefixed with a quote.
+ */
+public class UserExportWriter {
+
+    static final String CSV_HEADER = "id,firstName,lastName,email,slackId,chapterId,chapterName,rol,"
+            + "activeTutoringLimit,seniority,tutoringsAsTutor,tutoringsAsTutee";
+
+    private final UserExportFormat format;
+    private final ObjectWriter jsonWriter;
+    private final Writer out;
+    private long rows;
+
+    public UserExportWriter(UserExportFormat format, ObjectMapper objectMapper, Writer out) {
+        this.format = format;
+        this.jsonWriter = objectMapper.writerFor(UserWithTutoringCountDto.class);
+        this.out = out;
+    }
+
+    public void writeHeader() {
+        if (format == UserExportFormat.CSV) {
+            writeLine(CSV_HEADER);
+        }
+    }
+
+    public void write(UserWithTutoringCountDto user) {
+        try {
+            writeLine(format == UserExportFormat.CSV ? toCsv(user) : jsonWriter.writeValueAsString(user));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rows++;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    private void writeLine(String line) {
+        try {
+            out.write(line);
+            out.write(format == UserExportFormat.CSV ? "\r\n" : "\n");
+        } catch (IOException e) {
+            // Usually the client went away; stops reading the remaining rows
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toCsv(UserWithTutoringCountDto user) {
+        StringBuilder line = new StringBuilder(128);
+        appendField(line, user.getId());
+        appendField(line, user.getFirstName());
+        appendField(line, user.getLastName());
+        appendField(line, user.getEmail());
+        appendField(line, user.getSlackId());
+        appendField(line, user.getChapter() != null ? user.getChapter().getId() : null);
+        appendField(line, user.getChapter() != null ? user.getChapter().getName() : null);
+        appendField(line, user.getRol() != null ? user.getRol().name() : null);
+        line.append(',').append(user.getActiveTutoringLimit());
+        line.append(',').append(user.getSeniority());
+        line.append(',').append(user.getTutoringsAsTutor());
+        line.append(',').append(user.getTutoringsAsTutee());
+        return line.substring(1);
+    }
+
+    private static void appendField(StringBuilder line, String value) {
+        line.append(',');
+        if (value == null) {
+            return;
+        }
+        if (isFormula(value)) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    /**
+     * Text a spreadsheet could evaluate as a formula when it opens the file.
+     */
+    private static boolean isFormula(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
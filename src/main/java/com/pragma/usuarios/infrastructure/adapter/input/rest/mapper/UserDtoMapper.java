@@ -3,11 +3,19 @@ package com.pragma.usuarios.infrastructure.adapter.input.rest.mapper;
 import com.pragma.chapter.domain.model.Chapter;
 import com.pragma.chapter.domain.port.input.FindChapterUseCase;
 import com.pragma.chapter.infrastructure.adapter.input.rest.mapper.ChapterDtoMapper;
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserSearchResult;
+import com.pragma.usuarios.domain.model.UserSyncDiff;
+import com.pragma.usuarios.domain.model.UserSyncReport;
+import com.pragma.usuarios.domain.model.UserWithTutoringCount;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.CreateUserDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UpdateUserRequestDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserSearchResultDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserSyncDiffDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserSyncReportDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserWithTutoringCountDto;
 import com.pragma.usuarios.infrastructure.adapter.output.external.dto.PragmaUserDto;
 import org.mapstruct.*;
@@ -40,12 +48,33 @@ public abstract class UserDtoMapper {
     @Mapping(target = "chapter", ignore = true)
     public abstract User toModel(UpdateUserRequestDto dto);
     
-    public abstract UserDto toDto(User user);
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    public UserDto toDto(User user) {
+        return toDto(user, new IdentityMappingContext());
+    }
+
+    public abstract UserDto toDto(User user, @Context IdentityMappingContext context);
+
+    @Mapping(target = "user", qualifiedByName = IdentityMappingContext.ENTRY_POINT)
+    public abstract UserSearchResultDto toSearchResultDto(UserSearchResult result);
+
+    public abstract UserSyncReportDto toSyncReportDto(UserSyncReport report);
+
+    public abstract UserSyncDiffDto toSyncDiffDto(UserSyncDiff diff);
+
+    public abstract UserSyncDiffDto.FieldChangeDto toFieldChangeDto(UserSyncDiff.FieldChange change);
     
     @Mapping(target = "tutoringsAsTutor", ignore = true)
     @Mapping(target = "tutoringsAsTutee", ignore = true)
     public abstract UserWithTutoringCountDto toUserWithTutoringCountDto(User user);
 
+    public UserWithTutoringCountDto toUserWithTutoringCountDto(UserWithTutoringCount userWithCount) {
+        UserWithTutoringCountDto dto = toUserWithTutoringCountDto(userWithCount.getUser());
+        dto.setTutoringsAsTutor(userWithCount.getTutoringsAsTutor());
+        dto.setTutoringsAsTutee(userWithCount.getTutoringsAsTutee());
+        return dto;
+    }
+
     public User toModelFromExternal(CreateUserDto dto, PragmaUserDto externalUser) {
         User user = new User();
         user.setEmail(dto.getEmail());
@@ -1,53 +1,146 @@
 package com.pragma.usuarios.infrastructure.adapter.output.external;
 
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.pragma.shared.cache.StaleWhileErrorCache;
 import com.pragma.shared.config.ExternalApiProperties;
+import com.pragma.shared.resilience.Bulkhead;
+import com.pragma.shared.resilience.CircuitBreaker;
+import com.pragma.shared.resilience.CircuitBreakerRegistry;
+import com.pragma.shared.resilience.ResilienceException;
 import com.pragma.usuarios.domain.port.output.ExternalUserRepository;
 import com.pragma.usuarios.infrastructure.adapter.output.external.dto.PragmaUserDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Locale;
 import java.util.Optional;
 
+/**
+ * Looks users up in the Creci API. Answers are cached per email, found users for longer than
+ * unknown emails, and concurrent lookups of the same email share one call.
+ * <p>
+ * Calls go through a circuit breaker and run on a dedicated bulkhead executor, so a slow API
+ * holds neither request threads nor more than a bounded number of connections. When a call
+ * fails or is rejected, the last known answer is served instead; without one the lookup
+ * returns empty. Calls are timed in {@code external.creci.requests} by outcome.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class PragmaUserAdapter implements ExternalUserRepository {
 
+    static final String METRIC_PREFIX = "external.creci";
+
     private final ExternalApiProperties apiProperties;
     private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final StaleWhileErrorCache<String, Optional<PragmaUserDto>> cache;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    @Autowired
+    public PragmaUserAdapter(ExternalApiProperties apiProperties, RestTemplate restTemplate,
+                             MeterRegistry meterRegistry, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this(apiProperties, restTemplate, meterRegistry, circuitBreakerRegistry, Ticker.systemTicker());
+    }
+
+    PragmaUserAdapter(ExternalApiProperties apiProperties, RestTemplate restTemplate,
+                      MeterRegistry meterRegistry, CircuitBreakerRegistry circuitBreakerRegistry, Ticker ticker) {
+        this.apiProperties = apiProperties;
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(METRIC_PREFIX, apiProperties.getCircuitBreaker());
+        this.bulkhead = new Bulkhead(METRIC_PREFIX, apiProperties.getBulkhead(), meterRegistry);
+        ExternalApiProperties.Cache cacheConfig = apiProperties.getCache();
+        this.cache = cacheConfig.isEnabled()
+                ? new StaleWhileErrorCache<>(METRIC_PREFIX, cacheConfig.getMaxSize(), cacheConfig.getStaleTtl(),
+                        meterRegistry, ticker)
+                : null;
+    }
 
     @Override
     public Optional<PragmaUserDto> findUserByEmail(String email) {
         try {
-            String url = apiProperties.getServiceUrl() + "/prod/administration/pragmatic/" + email;
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("accept", "application/json, text/plain, */*");
-            headers.set("x-api-key-prod", apiProperties.getServiceKey());
-            
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            log.debug("Calling external API: {}", url);
+            if (cache == null) {
+                return fetch(email).value();
+            }
+            return cache.get(email.trim().toLowerCase(Locale.ROOT), key -> fetch(email));
+        } catch (ResilienceException e) {
+            log.debug("External API not called for email {}: {}", email, e.getReason());
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Error calling external API for email {}: {}", email, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<PragmaUserDto> fetchUserByEmail(String email) {
+        return fetch(email).value();
+    }
+
+    @PreDestroy
+    public void close() {
+        bulkhead.close();
+    }
+
+    private StaleWhileErrorCache.Loaded<Optional<PragmaUserDto>> fetch(String email) {
+        try {
+            return circuitBreaker.call(() -> bulkhead.call(() -> request(email)));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling the external API", e);
+        } catch (Exception e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private StaleWhileErrorCache.Loaded<Optional<PragmaUserDto>> request(String email) {
+        String url = apiProperties.getServiceUrl() + "/prod/administration/pragmatic/" + email;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("accept", "application/json, text/plain, */*");
+        headers.set("x-api-key-prod", apiProperties.getServiceKey());
+
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        log.debug("Calling external API: {}", url);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
             ResponseEntity<PragmaUserDto> response = restTemplate.exchange(
                 url, HttpMethod.GET, entity, PragmaUserDto.class);
-            
+
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                outcome = "success";
                 log.debug("Successfully retrieved user data for email: {}", response.getBody());
-                return Optional.of(response.getBody());
+                return new StaleWhileErrorCache.Loaded<>(Optional.of(response.getBody()), apiProperties.getCache().getTtl());
             }
-            
+
+            outcome = "not_found";
             log.warn("No user data found for email: {}", email);
-            return Optional.empty();
-            
-        } catch (Exception e) {
-            log.error("Error calling external API for email {}: {}", email, e.getMessage());
-            return Optional.empty();
+            return new StaleWhileErrorCache.Loaded<>(Optional.empty(), apiProperties.getCache().getNotFoundTtl());
+
+        } catch (HttpClientErrorException.NotFound e) {
+            outcome = "not_found";
+            log.warn("No user data found for email: {}", email);
+            return new StaleWhileErrorCache.Loaded<>(Optional.empty(), apiProperties.getCache().getNotFoundTtl());
+        } finally {
+            sample.stop(Timer.builder(METRIC_PREFIX + ".requests")
+                    .description("Calls to the Creci API by outcome")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,70 @@
 package com.pragma.usuarios.infrastructure.adapter.output.persistence;
 
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
 import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserDirectoryCursor;
+import com.pragma.usuarios.domain.model.UserDirectoryQuery;
+import com.pragma.usuarios.domain.model.UserWithTutoringCount;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.model.enums.UserDirectorySort;
 import com.pragma.usuarios.domain.port.output.UserRepository;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.repository.SpringDataUserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class UserPersistenceAdapter implements UserRepository {
 
+    private static final String TUTOR_COUNT = "COALESCE(asTutor.total, 0)";
+    private static final String TUTEE_COUNT = "COALESCE(asTutee.total, 0)";
+    private static final String USER_COLUMNS =
+        "u.id, u.firstName, u.lastName, u.email, u.googleUserId, u.slackId, c.id, c.name, " +
+        "u.rol, u.activeTutoringLimit, u.seniority";
+
+    /**
+     * Every user joined with its tutor and tutee counts, each pre-aggregated over its own tutoring
+     * column so the grouping can use that column's index and the outer query needs no GROUP BY.
+     */
+    private static final String USERS_WITH_TUTORING_COUNTS =
+        "SELECT " + USER_COLUMNS + ", " + TUTOR_COUNT + ", " + TUTEE_COUNT + " " +
+        "FROM UsersEntity u LEFT JOIN u.chapter c " +
+        "LEFT JOIN (SELECT t.tutorId.id AS userId, COUNT(t) AS total FROM TutoringEntity t " +
+        "GROUP BY t.tutorId.id) asTutor ON asTutor.userId = u.id " +
+        "LEFT JOIN (SELECT t.tuteeId.id AS userId, COUNT(t) AS total FROM TutoringEntity t " +
+        "GROUP BY t.tuteeId.id) asTutee ON asTutee.userId = u.id " +
+        "WHERE (:chapterId IS NULL OR c.id = :chapterId) AND " +
+        "(:rol IS NULL OR LOWER(CAST(u.rol AS string)) = LOWER(:rol)) AND " +
+        "(:seniority IS NULL OR u.seniority = :seniority) AND " +
+        "(:email IS NULL OR LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%')))";
+    private static final String ALL_USERS = "SELECT " + USER_COLUMNS + " FROM UsersEntity u LEFT JOIN u.chapter c";
+    private static final String USERS_BY_EMAIL = ALL_USERS + " WHERE u.email IN :emails";
+    private static final String ORDER_BY_EMAIL = " ORDER BY u.email, u.id";
+
+    /**
+     * Rows fetched per round trip while streaming users.
+     */
+    static final int STREAM_FETCH_SIZE = 500;
+
     private final SpringDataUserRepository repository;
     private final UserMapper mapper;
+    private final EntityManager entityManager;
 
     @Override
     public User save(User User) {
@@ -57,4 +104,139 @@ public class UserPersistenceAdapter implements UserRepository {
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<String> findAllGoogleUserIds() {
+        return repository.findAllGoogleUserIds();
+    }
+
+    @Override
+    public List<UserWithTutoringCount> findAllWithTutoringCounts(String chapterId, String rol, Integer seniority, String email) {
+        TypedQuery<Object[]> query = entityManager.createQuery(
+            USERS_WITH_TUTORING_COUNTS + ORDER_BY_EMAIL, Object[].class);
+        bindFilters(query, chapterId, rol, seniority, email);
+        return toUsersWithTutoringCount(query.getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamWithTutoringCounts(String chapterId, String rol, Integer seniority, String email,
+                                         Consumer<UserWithTutoringCount> consumer) {
+        TypedQuery<Object[]> query = entityManager.createQuery(
+            USERS_WITH_TUTORING_COUNTS + ORDER_BY_EMAIL, Object[].class);
+        bindFilters(query, chapterId, rol, seniority, email);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        // Projections are not managed, so the persistence context stays empty however many rows are read
+        try (Stream<Object[]> rows = query.getResultStream()) {
+            rows.map(UserPersistenceAdapter::toUserWithTutoringCount).forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<UserWithTutoringCount> findWithTutoringCounts(UserDirectoryQuery directoryQuery, int maxResults) {
+        String sortExpression = sortExpressionOf(directoryQuery.getSort());
+        UserDirectoryCursor after = directoryQuery.getAfter();
+        // Seek past the cursor instead of skipping rows
+        String keyset = after == null ? "" : " AND (" + sortExpression + (directoryQuery.isDescending() ? " < " : " > ")
+            + ":afterValue OR (" + sortExpression + " = :afterValue AND u.id > :afterId))";
+        boolean countSort = directoryQuery.getSort() != UserDirectorySort.EMAIL;
+
+        StringBuilder jpql = new StringBuilder(USERS_WITH_TUTORING_COUNTS).append(keyset);
+        jpql.append(" ORDER BY ").append(sortExpression).append(directoryQuery.isDescending() ? " DESC" : " ASC")
+            .append(", u.id ASC");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        bindFilters(query, directoryQuery.getChapterId(), directoryQuery.getRol(), directoryQuery.getSeniority(),
+            directoryQuery.getEmail());
+        if (after != null) {
+            query.setParameter("afterValue", countSort ? Long.valueOf(after.getSortValue()) : after.getSortValue());
+            query.setParameter("afterId", after.getId());
+        }
+        return toUsersWithTutoringCount(query.setMaxResults(maxResults).getResultList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<User> consumer) {
+        TypedQuery<Object[]> query = entityManager.createQuery(ALL_USERS, Object[].class);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        try (Stream<Object[]> rows = query.getResultStream()) {
+            rows.map(UserPersistenceAdapter::toUser).forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<User> findByEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(USERS_BY_EMAIL, Object[].class)
+                .setParameter("emails", emails)
+                .getResultList().stream()
+                .map(UserPersistenceAdapter::toUser)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the users with one query and changes the managed entities, so the flush at commit
+     * writes only the changed rows, in JDBC batches, without a merge lookup per user.
+     */
+    @Override
+    @Transactional
+    public void updateProfiles(Collection<User> users) {
+        if (users.isEmpty()) {
+            return;
+        }
+        Map<String, User> usersById = users.stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        for (UsersEntity entity : repository.findAllById(usersById.keySet())) {
+            User user = usersById.get(entity.getId());
+            entity.setFirstName(user.getFirstName());
+            entity.setLastName(user.getLastName());
+            entity.setSeniority(user.getSeniority());
+            entity.setChapter(user.getChapter() != null && user.getChapter().getId() != null
+                    ? entityManager.getReference(ChapterEntity.class, user.getChapter().getId())
+                    : null);
+        }
+        repository.advanceSessionEpochs(usersById.keySet());
+    }
+
+    @Override
+    @Transactional
+    public void advanceSessionEpoch(String id) {
+        repository.advanceSessionEpochs(List.of(id));
+    }
+
+    private static String sortExpressionOf(UserDirectorySort sort) {
+        return switch (sort) {
+            case EMAIL -> "u.email";
+            case TUTORINGS_AS_TUTOR -> TUTOR_COUNT;
+            case TUTORINGS_AS_TUTEE -> TUTEE_COUNT;
+        };
+    }
+
+    private static void bindFilters(TypedQuery<Object[]> query, String chapterId, String rol, Integer seniority, String email) {
+        query.setParameter("chapterId", chapterId);
+        query.setParameter("rol", rol);
+        query.setParameter("seniority", seniority);
+        query.setParameter("email", email);
+    }
+
+    private static List<UserWithTutoringCount> toUsersWithTutoringCount(List<Object[]> rows) {
+        return rows.stream()
+                .map(UserPersistenceAdapter::toUserWithTutoringCount)
+                .collect(Collectors.toList());
+    }
+
+    private static UserWithTutoringCount toUserWithTutoringCount(Object[] row) {
+        return new UserWithTutoringCount(toUser(row), ((Number) row[11]).longValue(), ((Number) row[12]).longValue());
+    }
+
+    private static User toUser(Object[] row) {
+        Chapter chapter = row[6] != null ? new Chapter((String) row[6], (String) row[7]) : null;
+        return new User((String) row[0], (String) row[1], (String) row[2], (String) row[3],
+                (String) row[4], (String) row[5], chapter, (RolUsuario) row[8],
+                ((Number) row[9]).intValue(), ((Number) row[10]).intValue(), 0L);
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serializable;
 
@@ -35,7 +36,7 @@ public class UsersEntity implements Serializable {
     @Column(name = "slack_id")
     private String slackId; // "ID de usuario de Slack"
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private ChapterEntity chapter; // "chapter principal"
 
     @Column(name = "rol")
@@ -45,6 +46,16 @@ public class UsersEntity implements Serializable {
     @Column(name = "active_tutoring_limit")
     private int activeTutoringLimit; // Número máximo de tutorías activas para un tutor"
 
+    // Solo se escribe con UPDATE condicionales al reservar o liberar un cupo, nunca al guardar el usuario
+    @ColumnDefault("0")
+    @Column(name = "active_tutoring_count", nullable = false, insertable = false, updatable = false)
+    private int activeTutoringCount; // Tutorías activas del tutor que ocupan su límite
+
     @Column(name = "seniority")
     private int seniority; // Nivel de seniority del usuario
+
+    // Solo se incrementa con un UPDATE al cambiar el rol o el perfil; los tokens de sesión con una época anterior se rechazan
+    @ColumnDefault("0")
+    @Column(name = "session_epoch", nullable = false, insertable = false, updatable = false)
+    private long sessionEpoch; // Época de sesión del usuario
 }
\ No newline at end of file
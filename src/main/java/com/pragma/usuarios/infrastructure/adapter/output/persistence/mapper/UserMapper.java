@@ -1,7 +1,8 @@
 package com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper;
 
+import com.pragma.chapter.infrastructure.adapter.output.persistence.ChapterCatalog;
 import com.pragma.chapter.infrastructure.adapter.output.persistence.mapper.ChapterMapper;
-import com.pragma.chapter.infrastructure.adapter.output.persistence.repository.SpringDataChapterRepository;
+import com.pragma.shared.mapping.IdentityMappingContext;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
 import org.mapstruct.*;
@@ -13,7 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 public abstract class UserMapper {
 
     @Autowired
-    private SpringDataChapterRepository chapterRepository;
+    private ChapterCatalog chapterCatalog;
     
     @Autowired
     private ChapterMapper chapterMapper;
@@ -21,20 +22,35 @@ public abstract class UserMapper {
     @Mapping(target = "chapter", ignore = true)
     public abstract UsersEntity toEntity(User user);
 
-    public abstract User toDomain(UsersEntity entity);
+    @Named(IdentityMappingContext.ENTRY_POINT)
+    public User toDomain(UsersEntity entity) {
+        return toDomain(entity, new IdentityMappingContext());
+    }
+
+    @Mapping(target = "chapter", ignore = true)
+    public abstract User toDomain(UsersEntity entity, @Context IdentityMappingContext context);
 
+    /**
+     * Chapters come from the in-memory catalog, so mapping a user (alone or nested in a tutoring
+     * or feedback) does not query its chapter, in either direction.
+     */
     @AfterMapping
     protected void setChapterReference(User user, @MappingTarget UsersEntity entity) {
         if (user.getChapter() != null && user.getChapter().getId() != null) {
-            chapterRepository.findById(user.getChapter().getId())
+            chapterCatalog.findById(user.getChapter().getId())
                 .ifPresent(entity::setChapter);
         }
     }
     
+    /**
+     * Only the id of the lazy chapter is read, which does not load it.
+     */
     @AfterMapping
     protected void mapChapterToDomain(UsersEntity entity, @MappingTarget User user) {
         if (entity.getChapter() != null) {
-            user.setChapter(chapterMapper.toDomain(entity.getChapter()));
+            chapterCatalog.findById(entity.getChapter().getId())
+                .map(chapterMapper::toDomain)
+                .ifPresent(user::setChapter);
         }
     }
 }
\ No newline at end of file
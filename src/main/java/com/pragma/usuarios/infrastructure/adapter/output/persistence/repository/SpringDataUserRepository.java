@@ -3,10 +3,12 @@ package com.pragma.usuarios.infrastructure.adapter.output.persistence.repository
 import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +26,40 @@ public interface SpringDataUserRepository extends JpaRepository<UsersEntity, Str
                                    @Param("rol") String rol, 
                                    @Param("seniority") Integer seniority, 
                                    @Param("email") String email);
-}
\ No newline at end of file
+
+    @Query("SELECT u.googleUserId FROM UsersEntity u")
+    List<String> findAllGoogleUserIds();
+
+    /**
+     * Takes one active-tutoring slot of the tutor only while it is below its limit; returns 0
+     * when the tutor is full. The row lock of the UPDATE serializes concurrent reservations.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET active_tutoring_count = active_tutoring_count + 1 " +
+                   "WHERE id = :tutorId AND active_tutoring_count < active_tutoring_limit", nativeQuery = true)
+    int reserveTutoringSlot(@Param("tutorId") String tutorId);
+
+    @Modifying
+    @Query(value = "UPDATE users SET active_tutoring_count = active_tutoring_count - 1 " +
+                   "WHERE id = :tutorId AND active_tutoring_count > 0", nativeQuery = true)
+    int releaseTutoringSlot(@Param("tutorId") String tutorId);
+
+    /**
+     * Sets the slots of every tutor whose count drifted from its tutorings in {@code status};
+     * returns the number of tutors corrected.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET active_tutoring_count = " +
+                   "(SELECT COUNT(*) FROM tutoring t WHERE t.tutor_id_id = users.id AND t.status = :status) " +
+                   "WHERE active_tutoring_count <> " +
+                   "(SELECT COUNT(*) FROM tutoring t WHERE t.tutor_id_id = users.id AND t.status = :status)", nativeQuery = true)
+    int recountTutoringSlots(@Param("status") String status);
+
+    /**
+     * Advances the session epoch of the users; saving a user never writes this column, so
+     * concurrent changes cannot lose an increment.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET session_epoch = session_epoch + 1 WHERE id IN (:ids)", nativeQuery = true)
+    int advanceSessionEpochs(@Param("ids") Collection<String> ids);
+}
@@ -0,0 +1,21 @@
+-- Cupos de tutorías activas por tutor (perfil dev, MySQL 8).
+-- Aplicar una sola vez, antes de desplegar la versión que reserva cupos con active_tutoring_count.
+-- La fila de data_migrations marca el recuento como hecho, así ninguna instancia lo repite al arrancar.
+
+ALTER TABLE users ADD COLUMN active_tutoring_count INT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS data_migrations (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    applied_at DATETIME(6) NOT NULL
+);
+
+START TRANSACTION;
+
+UPDATE users u
+SET u.active_tutoring_count = (
+    SELECT COUNT(*) FROM tutoring t WHERE t.tutor_id_id = u.id AND t.status = 'Activa'
+);
+
+INSERT INTO data_migrations (name, applied_at) VALUES ('active_tutoring_count_backfill', NOW(6));
+
+COMMIT;
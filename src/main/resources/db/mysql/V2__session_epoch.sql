@@ -0,0 +1,5 @@
+-- Época de sesión por usuario (perfil dev, MySQL 8).
+-- Los tokens de sesión llevan la época con la que se emitieron y se rechazan cuando el rol o el
+-- perfil del usuario cambian; los usuarios existentes empiezan en 0.
+
+ALTER TABLE users ADD COLUMN session_epoch BIGINT NOT NULL DEFAULT 0;
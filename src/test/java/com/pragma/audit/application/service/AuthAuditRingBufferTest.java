@@ -0,0 +1,132 @@
+package com.pragma.audit.application.service;
+
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthAuditRingBufferTest {
+
+    @Test
+    void constructor_ShouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(8, new AuthAuditRingBuffer(5).capacity());
+        assertEquals(8, new AuthAuditRingBuffer(8).capacity());
+    }
+
+    @Test
+    void drain_ShouldReturnEventsInOfferOrder() {
+        // Given
+        AuthAuditRingBuffer buffer = new AuthAuditRingBuffer(4);
+        offer(buffer, "user-1");
+        offer(buffer, "user-2");
+        offer(buffer, "user-3");
+        List<String> userIds = new ArrayList<>();
+
+        // When
+        int drained = buffer.drain(slot -> userIds.add(slot.getUserId()), 10);
+
+        // Then
+        assertEquals(3, drained);
+        assertEquals(List.of("user-1", "user-2", "user-3"), userIds);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void drain_ShouldStopAtMaxEvents() {
+        // Given
+        AuthAuditRingBuffer buffer = new AuthAuditRingBuffer(4);
+        offer(buffer, "user-1");
+        offer(buffer, "user-2");
+
+        // When
+        int drained = buffer.drain(slot -> { }, 1);
+
+        // Then
+        assertEquals(1, drained);
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    void offer_WhenFull_ShouldRejectAndCountDrop() {
+        // Given
+        AuthAuditRingBuffer buffer = new AuthAuditRingBuffer(2);
+        assertTrue(offer(buffer, "user-1"));
+        assertTrue(offer(buffer, "user-2"));
+
+        // When
+        boolean accepted = offer(buffer, "user-3");
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(2, buffer.acceptedCount());
+        assertEquals(1, buffer.rejectedCount());
+    }
+
+    @Test
+    void offer_AfterDrain_ShouldReuseSlots() {
+        // Given
+        AuthAuditRingBuffer buffer = new AuthAuditRingBuffer(2);
+        offer(buffer, "user-1");
+        offer(buffer, "user-2");
+        buffer.drain(slot -> { }, 2);
+        List<String> userIds = new ArrayList<>();
+
+        // When
+        assertTrue(offer(buffer, "user-3"));
+        buffer.drain(slot -> userIds.add(slot.getUserId()), 2);
+
+        // Then
+        assertEquals(List.of("user-3"), userIds);
+    }
+
+    @Test
+    void offer_FromConcurrentProducers_ShouldDeliverEveryAcceptedEventOnce() throws Exception {
+        // Given
+        AuthAuditRingBuffer buffer = new AuthAuditRingBuffer(256);
+        int producers = 4;
+        int eventsPerProducer = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        Set<String> received = new HashSet<>();
+
+        // When
+        try {
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < eventsPerProducer; i++) {
+                        while (!offer(buffer, producer + "-" + i)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received.size() < producers * eventsPerProducer && System.nanoTime() < deadline) {
+                buffer.drain(slot -> assertTrue(received.add(slot.getUserId()), "duplicate " + slot.getUserId()), 64);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(producers * eventsPerProducer, received.size());
+    }
+
+    private static boolean offer(AuthAuditRingBuffer buffer, String userId) {
+        return buffer.offer(System.currentTimeMillis(), AuthOutcome.SUCCESS, userId, "GET", "/api/v1/users/me",
+                "127.0.0.1", "JUnit", null);
+    }
+}
@@ -0,0 +1,187 @@
+package com.pragma.audit.application.service;
+
+import com.pragma.audit.domain.model.AuthAuditEvent;
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import com.pragma.audit.domain.port.output.AuthAuditEventRepository;
+import com.pragma.shared.config.AuthenticationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthAuditServiceTest {
+
+    @Mock
+    private AuthAuditEventRepository auditEventRepository;
+
+    private AuthenticationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuthenticationProperties();
+        // Record every success so the pipeline tests are deterministic
+        properties.getAudit().setSuccessSampleRate(1.0);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void flush_ShouldSanitizeUserAgentBeforeSaving() {
+        // Given
+        AuthAuditService service = new AuthAuditService(properties, auditEventRepository, meterRegistry);
+        List<List<AuthAuditEvent>> savedBatches = captureSavedBatches();
+        service.recordAuthEvent(AuthOutcome.SUCCESS, "user-1", "GET", "/api/v1/users/me",
+                "203.0.113.9", "Agent\r\nInjected", null);
+
+        // When
+        int flushed = service.flush();
+
+        // Then
+        assertEquals(1, flushed);
+        AuthAuditEvent event = savedBatches.get(0).get(0);
+        assertEquals(AuthOutcome.SUCCESS, event.getOutcome());
+        assertEquals("user-1", event.getUserId());
+        assertEquals("203.0.113.9", event.getClientIp());
+        assertEquals("Agent__Injected", event.getUserAgent());
+        assertNotNull(event.getOccurredAt());
+        assertEquals(1.0, meterRegistry.get("auth.audit.events").tag("result", "written").counter().count());
+    }
+
+    @Test
+    void flush_ShouldWriteAtMostOneBatch() {
+        // Given
+        properties.getAudit().setBatchSize(2);
+        AuthAuditService service = new AuthAuditService(properties, auditEventRepository, meterRegistry);
+        for (int i = 0; i < 3; i++) {
+            service.recordAuthEvent(AuthOutcome.SUCCESS, "user-" + i, "GET", "/api", "127.0.0.1", null, null);
+        }
+
+        // When
+        int first = service.flush();
+        int second = service.flush();
+
+        // Then
+        assertEquals(2, first);
+        assertEquals(1, second);
+        verify(auditEventRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void flush_WhenRepositoryFails_ShouldCountFailedEventsAndKeepRunning() {
+        // Given
+        AuthAuditService service = new AuthAuditService(properties, auditEventRepository, meterRegistry);
+        doThrow(new RuntimeException("db down")).when(auditEventRepository).saveAll(anyList());
+        service.recordAuthEvent(AuthOutcome.USER_NOT_FOUND, null, "GET", "/api", "127.0.0.1", null, "not found");
+
+        // When
+        int flushed = service.flush();
+
+        // Then
+        assertEquals(1, flushed);
+        assertEquals(0, service.pendingEvents());
+        assertEquals(1.0, meterRegistry.get("auth.audit.events").tag("result", "failed").counter().count());
+    }
+
+    @Test
+    void recordAuthEvent_WhenBufferFull_ShouldDropAndExposeDropCounter() {
+        // Given
+        properties.getAudit().setBufferSize(2);
+        AuthAuditService service = new AuthAuditService(properties, auditEventRepository, meterRegistry);
+
+        // When
+        boolean first = service.recordAuthEvent(AuthOutcome.SUCCESS, "u", "GET", "/api", "ip", null, null);
+        boolean second = service.recordAuthEvent(AuthOutcome.SUCCESS, "u", "GET", "/api", "ip", null, null);
+        boolean third = service.recordAuthEvent(AuthOutcome.SUCCESS, "u", "GET", "/api", "ip", null, null);
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(1, service.droppedEvents());
+        assertEquals(1.0, meterRegistry.get("auth.audit.events").tag("result", "dropped").functionCounter().count());
+    }
+
+    @Test
+    void recordAuthEvent_WhenSuccessNotSampled_ShouldSkipSuccessButKeepFailures() {
+        // Given
+        properties.getAudit().setSuccessSampleRate(0.0);
+        AuthAuditService service = new AuthAuditService(properties, auditEventRepository, meterRegistry);
+
+        // When
+        boolean success = service.recordAuthEvent(AuthOutcome.SUCCESS, "u", "GET", "/api", "ip", null, null);
+        boolean failure = service.recordAuthEvent(AuthOutcome.USER_NOT_FOUND, null, "GET", "/api", "ip", null, null);
+
+        // Then
+        assertFalse(success);
+        assertTrue(failure);
+        assertEquals(1, service.pendingEvents());
+        assertEquals(1.0, meterRegistry.get("auth.audit.events").tag("result", "unsampled").counter().count());
+    }
+
+    @Test
+    void recordAuthEvent_WhenDisabled_ShouldNotEnqueue() {
+        // Given
+        properties.getAudit().setEnabled(false);
+        AuthAuditService service = new AuthAuditService(properties, auditEventRepository, meterRegistry);
+
+        // When
+        boolean accepted = service.recordAuthEvent(AuthOutcome.SUCCESS, "u", "GET", "/api", "ip", null, null);
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(0, service.flush());
+        verifyNoInteractions(auditEventRepository);
+    }
+
+    @Test
+    void stop_ShouldDrainPendingEventsBeforeReturning() {
+        // Given
+        properties.getAudit().setFlushInterval(Duration.ofMinutes(1));
+        AuthAuditService service = new AuthAuditService(properties, auditEventRepository, meterRegistry);
+        service.start();
+        service.recordAuthEvent(AuthOutcome.SUCCESS, "u", "GET", "/api", "ip", null, null);
+
+        // When
+        service.stop();
+
+        // Then
+        assertFalse(service.isRunning());
+        assertEquals(0, service.pendingEvents());
+        verify(auditEventRepository, atLeastOnce()).saveAll(anyList());
+    }
+
+    @Test
+    void searchRecentAuthEvents_ShouldClampLimitToConfiguredMaximum() {
+        // Given
+        properties.getAudit().setMaxSearchResults(50);
+        AuthAuditService service = new AuthAuditService(properties, auditEventRepository, meterRegistry);
+        when(auditEventRepository.findRecent(AuthOutcome.USER_NOT_FOUND, null, 50)).thenReturn(List.of());
+
+        // When
+        List<AuthAuditEvent> events = service.searchRecentAuthEvents(AuthOutcome.USER_NOT_FOUND, null, 10_000);
+
+        // Then
+        assertTrue(events.isEmpty());
+        verify(auditEventRepository).findRecent(AuthOutcome.USER_NOT_FOUND, null, 50);
+    }
+
+    private List<List<AuthAuditEvent>> captureSavedBatches() {
+        List<List<AuthAuditEvent>> batches = new ArrayList<>();
+        doAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.<List<AuthAuditEvent>>getArgument(0)));
+            return null;
+        }).when(auditEventRepository).saveAll(anyList());
+        return batches;
+    }
+}
@@ -0,0 +1,80 @@
+package com.pragma.audit.infrastructure.adapter.input.rest;
+
+import com.pragma.audit.domain.model.AuthAuditEvent;
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import com.pragma.audit.domain.port.input.SearchAuthEventsUseCase;
+import com.pragma.audit.infrastructure.adapter.input.rest.dto.AuthAuditEventDto;
+import com.pragma.audit.infrastructure.adapter.input.rest.mapper.AuthAuditEventDtoMapper;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.dto.OkResponseDto;
+import com.pragma.shared.service.MessageService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthAuditControllerTest {
+
+    @Mock
+    private SearchAuthEventsUseCase searchAuthEventsUseCase;
+
+    @Mock
+    private AuthAuditEventDtoMapper auditEventDtoMapper;
+
+    @Mock
+    private MessageService messageService;
+
+    @InjectMocks
+    private AuthAuditController authAuditController;
+
+    @Test
+    void searchAuthEvents_AsAdmin_ShouldReturnEvents() {
+        // Arrange
+        AuthAuditEvent event = new AuthAuditEvent("event-1", LocalDateTime.now(), AuthOutcome.USER_NOT_FOUND,
+                null, "GET", "/api/v1/users/me", "127.0.0.1", "JUnit", "not found");
+        AuthAuditEventDto dto = new AuthAuditEventDto("event-1", event.getOccurredAt(), AuthOutcome.USER_NOT_FOUND,
+                null, "GET", "/api/v1/users/me", "127.0.0.1", "JUnit", "not found");
+        when(searchAuthEventsUseCase.searchRecentAuthEvents(AuthOutcome.USER_NOT_FOUND, null, 100)).thenReturn(List.of(event));
+        when(auditEventDtoMapper.toDtoList(List.of(event))).thenReturn(List.of(dto));
+        when(messageService.getMessage("audit.events.retrieved")).thenReturn("Eventos obtenidos");
+
+        try (MockedStatic<UserContextHelper> mockedUserContext = mockStatic(UserContextHelper.class)) {
+            mockedUserContext.when(UserContextHelper::getCurrentUserEmail).thenReturn("admin@example.com");
+            mockedUserContext.when(UserContextHelper::requireAdminRole).thenAnswer(invocation -> null);
+
+            // Act
+            ResponseEntity<OkResponseDto<List<AuthAuditEventDto>>> response =
+                    authAuditController.searchAuthEvents(AuthOutcome.USER_NOT_FOUND, null, 100);
+
+            // Assert
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(List.of(dto), response.getBody().getData());
+            assertEquals("Eventos obtenidos", response.getBody().getMessage());
+        }
+    }
+
+    @Test
+    void searchAuthEvents_AsNonAdmin_ShouldThrowSecurityException() {
+        try (MockedStatic<UserContextHelper> mockedUserContext = mockStatic(UserContextHelper.class)) {
+            // Arrange
+            mockedUserContext.when(UserContextHelper::requireAdminRole)
+                    .thenThrow(new SecurityException("Se requieren privilegios de administrador"));
+
+            // Act & Assert
+            assertThrows(SecurityException.class,
+                    () -> authAuditController.searchAuthEvents(null, null, 100));
+            verifyNoInteractions(searchAuthEventsUseCase);
+        }
+    }
+}
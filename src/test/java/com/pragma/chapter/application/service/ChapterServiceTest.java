@@ -1,5 +1,6 @@
 package com.pragma.chapter.application.service;
 
+import com.pragma.chapter.domain.event.ChapterChangedEvent;
 import com.pragma.chapter.domain.model.Chapter;
 import com.pragma.chapter.domain.port.output.ChapterRepository;
 import com.pragma.shared.service.MessageService;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,6 +31,9 @@ public class ChapterServiceTest {
     @Mock
     private MessageService mockmessageService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Test the findChapterById method when the chapter is not found.
      * This test verifies that an empty Optional is returned when attempting to find a chapter with a non-existent ID.
@@ -64,6 +69,7 @@ public class ChapterServiceTest {
         Chapter result = chapterService.createChapter(inputChapter);
 
         verify(chapterRepository).save(inputChapter);
+        verify(eventPublisher).publishEvent(any(ChapterChangedEvent.class));
         assertEquals(inputChapter, result);
     }
 
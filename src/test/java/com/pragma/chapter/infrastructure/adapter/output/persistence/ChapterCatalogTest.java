@@ -0,0 +1,88 @@
+package com.pragma.chapter.infrastructure.adapter.output.persistence;
+
+import com.pragma.chapter.domain.event.ChapterChangedEvent;
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.repository.SpringDataChapterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChapterCatalogTest {
+
+    @Mock
+    private SpringDataChapterRepository chapterRepository;
+
+    private ChapterCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new ChapterCatalog(chapterRepository);
+    }
+
+    @Test
+    void findById_ShouldServeEveryLookupFromOneLoad() {
+        // Arrange
+        when(chapterRepository.findAll()).thenReturn(List.of(
+                new ChapterEntity("backend", "Backend"), new ChapterEntity("qa", "QA")));
+
+        // Act
+        Optional<ChapterEntity> backend = catalog.findById("backend");
+        Optional<ChapterEntity> qa = catalog.findById("qa");
+        catalog.findById("backend");
+
+        // Assert
+        assertEquals(new ChapterEntity("backend", "Backend"), backend.orElseThrow());
+        assertEquals("QA", qa.orElseThrow().getName());
+        verify(chapterRepository, times(1)).findAll();
+        verify(chapterRepository, never()).findById(any());
+    }
+
+    @Test
+    void findById_WithUnknownId_ShouldReadThroughOnceAndKeepTheChapter() {
+        // Arrange
+        when(chapterRepository.findAll()).thenReturn(List.of(new ChapterEntity("backend", "Backend")));
+        when(chapterRepository.findById("data")).thenReturn(Optional.of(new ChapterEntity("data", "Data")));
+        when(chapterRepository.findById("missing")).thenReturn(Optional.empty());
+
+        // Act
+        Optional<ChapterEntity> first = catalog.findById("data");
+        Optional<ChapterEntity> second = catalog.findById("data");
+        Optional<ChapterEntity> missing = catalog.findById("missing");
+
+        // Assert
+        assertEquals("Data", first.orElseThrow().getName());
+        assertEquals("Data", second.orElseThrow().getName());
+        assertTrue(missing.isEmpty());
+        verify(chapterRepository, times(1)).findById("data");
+        assertEquals(2, catalog.size());
+    }
+
+    @Test
+    void onChapterChanged_ShouldReloadOnNextLookup() {
+        // Arrange
+        when(chapterRepository.findAll())
+                .thenReturn(List.of(new ChapterEntity("backend", "Backend")))
+                .thenReturn(List.of(new ChapterEntity("backend", "Backend"), new ChapterEntity("data", "Data")));
+        catalog.warmUp();
+
+        // Act
+        catalog.onChapterChanged(new ChapterChangedEvent(ChapterChangedEvent.ChangeType.CREATED, new Chapter("data", "Data")));
+        Optional<ChapterEntity> data = catalog.findById("data");
+
+        // Assert
+        assertEquals("Data", data.orElseThrow().getName());
+        verify(chapterRepository, times(2)).findAll();
+        verify(chapterRepository, never()).findById(any());
+    }
+}
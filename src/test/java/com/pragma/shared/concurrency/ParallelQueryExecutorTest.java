@@ -0,0 +1,154 @@
+package com.pragma.shared.concurrency;
+
+import com.pragma.shared.config.ParallelQueryProperties;
+import com.pragma.shared.context.UserContext;
+import com.pragma.shared.exception.QueryDeadlineExceededException;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelQueryExecutorTest {
+
+    private ParallelQueryProperties properties;
+    private ParallelQueryExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ParallelQueryProperties();
+        executor = new ParallelQueryExecutor(properties, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+        UserContext.clear();
+    }
+
+    @Test
+    void join_ShouldRunForkedCallsConcurrently() {
+        // Both calls only finish once the other one has started
+        CountDownLatch started = new CountDownLatch(2);
+
+        try (ParallelQueryExecutor.Scope scope = executor.newScope()) {
+            Supplier<String> first = scope.fork(() -> awaitBoth(started, "first"));
+            Supplier<String> second = scope.fork(() -> awaitBoth(started, "second"));
+            scope.join();
+
+            assertEquals("first", first.get());
+            assertEquals("second", second.get());
+        }
+        assertEquals(2, executor.availablePermits());
+    }
+
+    @Test
+    void join_ShouldRethrowFirstFailureAndCancelSiblings() throws Exception {
+        CountDownLatch siblingStarted = new CountDownLatch(1);
+        CountDownLatch siblingInterrupted = new CountDownLatch(1);
+
+        try (ParallelQueryExecutor.Scope scope = executor.newScope()) {
+            scope.fork(() -> blockUntilInterrupted(siblingStarted, siblingInterrupted));
+            scope.fork(() -> {
+                siblingStarted.await(5, TimeUnit.SECONDS);
+                throw new IllegalStateException("query failed");
+            });
+
+            IllegalStateException error = assertThrows(IllegalStateException.class, scope::join);
+            assertEquals("query failed", error.getMessage());
+        }
+        assertTrue(siblingInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void join_ShouldFailWhenCallExceedsDeadline() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (ParallelQueryExecutor.Scope scope = executor.newScope()) {
+            scope.fork(() -> blockUntilInterrupted(started, interrupted), Duration.ofMillis(50));
+
+            QueryDeadlineExceededException error = assertThrows(QueryDeadlineExceededException.class, scope::join);
+            assertEquals(Duration.ofMillis(50), error.getDeadline());
+        }
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void fork_ShouldWaitForPermitWithinDeadline() {
+        ParallelQueryExecutor single = new ParallelQueryExecutor(properties, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ParallelQueryExecutor.Scope scope = single.newScope()) {
+            scope.fork(() -> release.await(5, TimeUnit.SECONDS));
+            scope.fork(() -> "never runs", Duration.ofMillis(50));
+
+            assertThrows(QueryDeadlineExceededException.class, scope::join);
+        } finally {
+            release.countDown();
+            single.close();
+        }
+    }
+
+    @Test
+    void fork_ShouldRunInlineWhenDisabled() {
+        properties.setEnabled(false);
+        Thread caller = Thread.currentThread();
+
+        try (ParallelQueryExecutor.Scope scope = executor.newScope()) {
+            Supplier<Thread> thread = scope.fork(Thread::currentThread);
+            scope.join();
+
+            assertSame(caller, thread.get());
+        }
+    }
+
+    @Test
+    void fork_ShouldPropagateUserContext() {
+        User user = new User();
+        user.setId("user-1");
+        UserContext.setCurrentUser(user);
+
+        try (ParallelQueryExecutor.Scope scope = executor.newScope()) {
+            Supplier<String> userId = scope.fork(() -> UserContext.getCurrentUser().getId());
+            scope.join();
+
+            assertEquals("user-1", userId.get());
+        }
+    }
+
+    @Test
+    void get_ShouldFailBeforeJoin() {
+        CountDownLatch release = new CountDownLatch(1);
+        try (ParallelQueryExecutor.Scope scope = executor.newScope()) {
+            Supplier<Boolean> result = scope.fork(() -> release.await(5, TimeUnit.SECONDS));
+
+            assertThrows(IllegalStateException.class, result::get);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static String awaitBoth(CountDownLatch started, String value) throws InterruptedException {
+        started.countDown();
+        if (!started.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("calls did not run concurrently");
+        }
+        return value;
+    }
+
+    private static Void blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            Thread.sleep(Duration.ofSeconds(30));
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return null;
+    }
+}
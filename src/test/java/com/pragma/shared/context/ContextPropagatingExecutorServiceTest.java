@@ -0,0 +1,98 @@
+package com.pragma.shared.context;
+
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextPropagatingExecutorServiceTest {
+
+    private ExecutorService executor;
+    private User adminUser;
+
+    @BeforeEach
+    void setUp() {
+        UserContext.clear();
+        adminUser = new User();
+        adminUser.setId("admin-id");
+        adminUser.setEmail("admin@example.com");
+        adminUser.setRol(RolUsuario.Administrador);
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void submit_OnVirtualThreads_ShouldExposeSubmittingUserToUserContextHelper() throws Exception {
+        // Given
+        executor = new ContextPropagatingExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+        UserContext.setCurrentUser(adminUser);
+
+        // When
+        Future<Boolean> isAdmin = executor.submit(UserContextHelper::isCurrentUserAdmin);
+        Future<String> userId = executor.submit(() -> UserContext.getCurrentUser().getId());
+
+        // Then
+        assertTrue(isAdmin.get(5, TimeUnit.SECONDS));
+        assertEquals("admin-id", userId.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void invokeAll_ShouldPropagateUserToEveryChildTask() throws Exception {
+        // Given
+        executor = new ContextPropagatingExecutorService(Executors.newFixedThreadPool(4));
+        UserContext.setCurrentUser(adminUser);
+        Callable<String> task = () -> UserContext.getCurrentUser().getEmail();
+
+        // When
+        List<Future<String>> results = executor.invokeAll(List.of(task, task, task, task));
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("admin@example.com", result.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void execute_ShouldLeavePooledWorkerThreadWithoutUserAfterTask() throws Exception {
+        // Given
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        executor = new ContextPropagatingExecutorService(pool);
+        UserContext.setCurrentUser(adminUser);
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        UserContext.clear();
+
+        // When
+        Future<Boolean> hasUser = pool.submit(UserContext::hasCurrentUser);
+
+        // Then
+        assertFalse(hasUser.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_WithoutUserInContext_ShouldRunTaskWithoutUser() throws Exception {
+        // Given
+        executor = new ContextPropagatingExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+
+        // When
+        Future<Boolean> hasUser = executor.submit(UserContext::hasCurrentUser);
+
+        // Then
+        assertFalse(hasUser.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,77 @@
+package com.pragma.shared.context;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the user context.
+ * {@code requestCycle} is the interceptor pattern used before context propagation existed
+ * (set, read from the controller, clear); the other benchmarks measure the scoped binding and
+ * the capture done when a task is handed to another thread.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.pragma.shared.context.UserContextBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserContextBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = new User("user-id", "John", "Doe", "john.doe@example.com", "google-123", null,
+                new Chapter("chapter-1", "Backend"), RolUsuario.Administrador, 3, 2, 0L);
+    }
+
+    @Benchmark
+    public void requestCycle(Blackhole blackhole) {
+        UserContext.setCurrentUser(user);
+        blackhole.consume(UserContextHelper.isCurrentUserAdmin());
+        blackhole.consume(UserContextHelper.getCurrentUserId());
+        UserContext.clear();
+    }
+
+    @Benchmark
+    public void scopedRequestCycle(Blackhole blackhole) {
+        UserContext.runWithUser(user, () -> {
+            blackhole.consume(UserContextHelper.isCurrentUserAdmin());
+            blackhole.consume(UserContextHelper.getCurrentUserId());
+        });
+    }
+
+    @Benchmark
+    public void propagatedChildTask(Blackhole blackhole) {
+        UserContext.setCurrentUser(user);
+        Runnable child = UserContext.wrap(() -> blackhole.consume(UserContextHelper.getCurrentUserId()));
+        UserContext.clear();
+        child.run();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserContextBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
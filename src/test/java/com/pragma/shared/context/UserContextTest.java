@@ -251,4 +251,54 @@ class UserContextTest {
             executor.shutdown();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void runWithUser_ShouldBindUserOnlyForTheTaskAndRestorePreviousUser() {
+        // Given
+        User outerUser = new User();
+        outerUser.setId("outer-user");
+        UserContext.setCurrentUser(outerUser);
+        AtomicReference<User> seenInside = new AtomicReference<>();
+
+        // When
+        UserContext.runWithUser(testUser, () -> seenInside.set(UserContext.getCurrentUser()));
+
+        // Then
+        assertEquals(testUser, seenInside.get());
+        assertEquals(outerUser, UserContext.getCurrentUser());
+    }
+
+    @Test
+    void callWithUser_WhenTaskFails_ShouldStillRestorePreviousBinding() {
+        // When
+        assertThrows(IllegalStateException.class, () -> UserContext.callWithUser(testUser, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // Then
+        assertFalse(UserContext.hasCurrentUser());
+    }
+
+    @Test
+    void wrap_ShouldCarryCapturedUserToAnotherThreadWithoutLeakingIt() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        UserContext.setCurrentUser(testUser);
+        Runnable wrapped = UserContext.wrap(() -> { });
+        AtomicReference<User> seenInTask = new AtomicReference<>();
+        AtomicReference<User> seenAfterTask = new AtomicReference<>();
+
+        try {
+            // When
+            executor.submit(UserContext.wrap(() -> seenInTask.set(UserContext.getCurrentUser()))).get(5, TimeUnit.SECONDS);
+            executor.submit(wrapped).get(5, TimeUnit.SECONDS);
+            executor.submit(() -> seenAfterTask.set(UserContext.getCurrentUser())).get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(testUser, seenInTask.get());
+            assertNull(seenAfterTask.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.pragma.shared.controller;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.shared.dto.NormalizedResponseDto;
+import com.pragma.shared.dto.OkResponseDto;
+import com.pragma.shared.serialization.NormalizedResponseModule;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class NormalizedResponseAdviceTest {
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter(JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new NormalizedResponseModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+        mockMvc = MockMvcBuilders.standaloneSetup(new SharedTutorController())
+                .setControllerAdvice(new NormalizedResponseAdvice())
+                .setMessageConverters(converter)
+                .build();
+    }
+
+    @Test
+    void withNormalizedAcceptHeader_ShouldWriteNormalizedResponse() throws Exception {
+        mockMvc.perform(get("/tutorings").accept(NormalizedResponseDto.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(NormalizedResponseDto.MEDIA_TYPE))
+                .andExpect(jsonPath("$.message").value("Exitoso"))
+                .andExpect(jsonPath("$.data[0].tutor.type").value("users"))
+                .andExpect(jsonPath("$.data[1].tutor.id").value("tutor-1"))
+                .andExpect(jsonPath("$.data[0].tutor.firstName").doesNotExist())
+                .andExpect(jsonPath("$.included.users['tutor-1'].firstName").value("Ana"));
+    }
+
+    @Test
+    void withNormalizedQueryParameter_ShouldWriteNormalizedJson() throws Exception {
+        mockMvc.perform(get("/tutorings").param(NormalizedResponseDto.QUERY_PARAMETER, "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data[0].tutor.type").value("users"))
+                .andExpect(jsonPath("$.included.users['tutor-1'].firstName").value("Ana"));
+    }
+
+    @Test
+    void withoutOptIn_ShouldWriteRegularEnvelope() throws Exception {
+        mockMvc.perform(get("/tutorings").param(NormalizedResponseDto.QUERY_PARAMETER, "false"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data[0].tutor.firstName").value("Ana"))
+                .andExpect(jsonPath("$.data[1].tutor.firstName").value("Ana"))
+                .andExpect(jsonPath("$.included").doesNotExist());
+    }
+
+    @RestController
+    static class SharedTutorController {
+
+        @GetMapping("/tutorings")
+        OkResponseDto<List<TutoringDto>> tutorings() {
+            UserDto tutor = new UserDto("tutor-1", "Ana", "Tutor", "ana@pragma.com", null, null, null, RolUsuario.Tutor, 3, 2);
+            TutoringDto first = new TutoringDto();
+            first.setId("tutoring-1");
+            first.setTutor(tutor);
+            TutoringDto second = new TutoringDto();
+            second.setId("tutoring-2");
+            second.setTutor(tutor);
+            return OkResponseDto.of("Exitoso", List.of(first, second));
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.pragma.shared.context.UserContextHelper;
 import com.pragma.shared.service.MessageService;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
 import com.pragma.chapter.domain.model.Chapter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,9 +17,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Optional;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
 
 @WebMvcTest(ProfileController.class)
 class ProfileControllerTest {
@@ -32,6 +36,9 @@ class ProfileControllerTest {
     @MockBean
     private MessageService messageService;
 
+    @MockBean
+    private FindUserByIdUseCase findUserByIdUseCase;
+
     private User testUser;
     private User adminUser;
     private Chapter testChapter;
@@ -72,6 +79,7 @@ class ProfileControllerTest {
     void getCurrentUserProfile_WithAuthenticatedUser_ShouldReturnProfile() throws Exception {
         // Given
         UserContext.setCurrentUser(testUser);
+        when(findUserByIdUseCase.findUserById("user-1")).thenReturn(Optional.of(testUser));
 
         // When & Then
         mockMvc.perform(get("/api/v1/profile/me")
@@ -87,6 +95,26 @@ class ProfileControllerTest {
                 .andExpect(jsonPath("$.data.activeTutoringLimit", is(3)));
     }
 
+    @Test
+    void getCurrentUserProfile_WithSessionTokenPrincipal_ShouldReturnStoredProfile() throws Exception {
+        // Given - a principal rebuilt from session token claims carries no names or limit
+        User claimsUser = new User();
+        claimsUser.setId("user-1");
+        claimsUser.setEmail("john.doe@example.com");
+        claimsUser.setRol(RolUsuario.Tutorado);
+        claimsUser.setChapter(new Chapter("chapter-1", null));
+        UserContext.setCurrentUser(claimsUser);
+        when(findUserByIdUseCase.findUserById("user-1")).thenReturn(Optional.of(testUser));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/profile/me")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.firstName", is("John")))
+                .andExpect(jsonPath("$.data.lastName", is("Doe")))
+                .andExpect(jsonPath("$.data.activeTutoringLimit", is(3)));
+    }
+
     @Test
     void getCurrentUserProfile_WithoutAuthenticatedUser_ShouldReturnUnauthorized() throws Exception {
         // Given - no user in context
@@ -0,0 +1,190 @@
+package com.pragma.shared.mapping;
+
+import com.pragma.chapter.domain.port.input.FindChapterUseCase;
+import com.pragma.chapter.infrastructure.adapter.input.rest.mapper.ChapterDtoMapperImpl;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.ChapterCatalog;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.mapper.ChapterMapperImpl;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.repository.SpringDataChapterRepository;
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper.FeedbackDtoMapper;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper.FeedbackDtoMapperImpl;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.FeedbackEntity;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper.FeedbackMapper;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper.FeedbackMapperImpl;
+import com.pragma.skills.infrastructure.adapter.input.rest.mapper.SkillDtoMapperImpl;
+import com.pragma.skills.infrastructure.adapter.output.persistence.entity.SkillEntity;
+import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapperImpl;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.mapper.TutoringSessionDtoMapperImpl;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.TutoringSessionsEntity;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.mapper.TutoringSessionMapper;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.mapper.TutoringSessionMapperImpl;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDetailDto;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDetailDtoMapper;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDetailDtoMapperImpl;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDtoMapperImpl;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapperImpl;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapperImpl;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapperImpl;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Mapping of a tutoring detail, from the entities one read returns to the response body, with
+ * {@code size} sessions and as many feedbacks over the same tutoring.
+ * {@code perItemMapping} maps each session and feedback on its own, as before the identity
+ * context, which builds one tutoring, tutor, tutee and skill list per row in both layers;
+ * {@code sharedContextMapping} is the current path, with one context per list and per response.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.pragma.shared.mapping.TutoringDetailMappingBenchmark}; the GC profiler is
+ * enabled, so {@code gc.alloc.rate.norm} gives the bytes allocated per mapped detail.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TutoringDetailMappingBenchmark {
+
+    @Param({"200"})
+    private int size;
+
+    private AnnotationConfigApplicationContext mappers;
+    private TutoringMapper tutoringMapper;
+    private TutoringSessionMapper sessionMapper;
+    private FeedbackMapper feedbackMapper;
+    private TutoringDetailDtoMapper detailDtoMapper;
+    private FeedbackDtoMapper feedbackDtoMapper;
+
+    private TutoringEntity tutoring;
+    private List<TutoringSessionsEntity> sessions;
+    private List<FeedbackEntity> feedbacks;
+
+    @Setup
+    public void setUp() {
+        ChapterEntity chapter = new ChapterEntity("chapter-1", "Backend");
+        SpringDataChapterRepository chapterRepository = Mockito.mock(SpringDataChapterRepository.class);
+        when(chapterRepository.findAll()).thenReturn(List.of(chapter));
+
+        mappers = new AnnotationConfigApplicationContext();
+        mappers.registerBean(ChapterCatalog.class, () -> new ChapterCatalog(chapterRepository));
+        mappers.registerBean(FindChapterUseCase.class, () -> Mockito.mock(FindChapterUseCase.class));
+        mappers.register(ChapterMapperImpl.class, UserMapperImpl.class, SkillMapperImpl.class, TutoringMapperImpl.class,
+                TutoringSessionMapperImpl.class, FeedbackMapperImpl.class, ChapterDtoMapperImpl.class,
+                UserDtoMapperImpl.class, SkillDtoMapperImpl.class, TutoringDtoMapperImpl.class,
+                TutoringSessionDtoMapperImpl.class, FeedbackDtoMapperImpl.class, TutoringDetailDtoMapperImpl.class);
+        mappers.refresh();
+        tutoringMapper = mappers.getBean(TutoringMapper.class);
+        sessionMapper = mappers.getBean(TutoringSessionMapper.class);
+        feedbackMapper = mappers.getBean(FeedbackMapper.class);
+        detailDtoMapper = mappers.getBean(TutoringDetailDtoMapper.class);
+        feedbackDtoMapper = mappers.getBean(FeedbackDtoMapper.class);
+
+        UsersEntity tutor = user("tutor", chapter, RolUsuario.Tutor);
+        UsersEntity tutee = user("tutee", chapter, RolUsuario.Tutorado);
+        tutoring = new TutoringEntity();
+        tutoring.setId("tutoring-1");
+        tutoring.setTutorId(tutor);
+        tutoring.setTuteeId(tutee);
+        tutoring.setSkills(List.of(new SkillEntity("skill-1", "Java", null), new SkillEntity("skill-2", "Spring", null),
+                new SkillEntity("skill-3", "SQL", null)));
+        tutoring.setStatus(TutoringStatus.Activa);
+        tutoring.setObjectives("Objetivos de la tutoría");
+
+        sessions = new ArrayList<>();
+        feedbacks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            TutoringSessionsEntity session = new TutoringSessionsEntity();
+            session.setId("session-" + i);
+            session.setTutoringId(tutoring);
+            session.setDatetime("2024-03-01T10:00");
+            session.setDurationMinutes(60);
+            session.setSessionStatus(TutoringsSessionStatus.Realizada);
+            sessions.add(session);
+
+            FeedbackEntity feedback = new FeedbackEntity();
+            feedback.setId("feedback-" + i);
+            feedback.setEvaluatorId(i % 2 == 0 ? tutee : tutor);
+            feedback.setTutoringId(tutoring);
+            feedback.setEvaluationDate(new Date());
+            feedback.setScore("5");
+            feedback.setComments("Buena sesión");
+            feedbacks.add(feedback);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        mappers.close();
+    }
+
+    @Benchmark
+    public TutoringDetailDto perItemMapping() {
+        Tutoring detail = tutoringMapper.toDomain(tutoring);
+        List<TutoringSession> sessionModels = sessions.stream().map(sessionMapper::toModel).toList();
+        List<Feedback> feedbackModels = feedbacks.stream().map(feedbackMapper::toDomain).toList();
+        TutoringDetailDto dto = detailDtoMapper.toDetailDto(detail, sessionModels, List.of());
+        dto.setFeedbacks(feedbackModels.stream().map(feedbackDtoMapper::toDto).toList());
+        return dto;
+    }
+
+    @Benchmark
+    public TutoringDetailDto sharedContextMapping() {
+        Tutoring detail = tutoringMapper.toDomain(tutoring);
+        List<TutoringSession> sessionModels = sessionMapper.toModelList(sessions);
+        List<Feedback> feedbackModels = feedbackMapper.toDomainList(feedbacks);
+        return detailDtoMapper.toDetailDto(detail, sessionModels, feedbackModels);
+    }
+
+    private static UsersEntity user(String key, ChapterEntity chapter, RolUsuario rol) {
+        UsersEntity user = new UsersEntity();
+        user.setId(key + "-id");
+        user.setFirstName(key);
+        user.setLastName("Test");
+        user.setEmail(key + "@pragma.com");
+        user.setGoogleUserId("google-" + key);
+        user.setChapter(chapter);
+        user.setRol(rol);
+        return user;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TutoringDetailMappingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.pragma.shared.resilience;
+
+import com.pragma.shared.config.BulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+    private ExecutorService callers;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        BulkheadProperties config = new BulkheadProperties();
+        config.setMaxConcurrentCalls(1);
+        config.setMaxQueuedCalls(1);
+        config.setTimeout(Duration.ofSeconds(5));
+        bulkhead = new Bulkhead("test", config, meterRegistry);
+        callers = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        bulkhead.close();
+    }
+
+    @Test
+    void call_ShouldReturnTheResultFromTheBulkheadThread() throws Exception {
+        // When
+        String thread = bulkhead.call(() -> Thread.currentThread().getName());
+
+        // Then
+        assertTrue(thread.startsWith("test-bulkhead-"));
+    }
+
+    @Test
+    void call_ShouldRethrowTheCallFailure() {
+        // When
+        IOException thrown = assertThrows(IOException.class, () -> bulkhead.call(() -> {
+            throw new IOException("connection reset");
+        }));
+
+        // Then
+        assertEquals("connection reset", thrown.getMessage());
+    }
+
+    @Test
+    void call_WhenThreadsAndQueueAreTaken_ShouldRejectAtOnce() throws Exception {
+        // Given
+        CountDownLatch running = new CountDownLatch(1);
+        callers.submit(() -> bulkhead.call(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        callers.submit(() -> bulkhead.call(() -> "queued"));
+        awaitQueued(1);
+
+        // When
+        ResilienceException rejected = assertThrows(ResilienceException.class, () -> bulkhead.call(() -> "rejected"));
+
+        // Then
+        assertEquals(ResilienceException.Reason.BULKHEAD_FULL, rejected.getReason());
+        assertEquals(1.0, meterRegistry.get("test.bulkhead.rejections").counter().count());
+        assertEquals(1.0, meterRegistry.get("test.bulkhead.active").gauge().value());
+    }
+
+    @Test
+    void call_WhenSlowerThanTheTimeout_ShouldCancelIt() {
+        // Given
+        BulkheadProperties config = new BulkheadProperties();
+        config.setTimeout(Duration.ofMillis(50));
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (Bulkhead fast = new Bulkhead("fast", config, new SimpleMeterRegistry())) {
+            // When
+            ResilienceException thrown = assertThrows(ResilienceException.class, () -> fast.call(() -> {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+            }));
+
+            // Then
+            assertEquals(ResilienceException.Reason.TIMEOUT, thrown.getReason());
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            fail(e);
+        }
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("test.bulkhead.queued").gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, "call was never queued");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.pragma.shared.resilience;
+
+import com.pragma.shared.config.CircuitBreakerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerProperties config;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-03-03T10:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        config = new CircuitBreakerProperties();
+        config.setSlidingWindowSize(4);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(50);
+        config.setOpenDuration(Duration.ofSeconds(30));
+        config.setHalfOpenProbes(2);
+        breaker = new CircuitBreaker("test", config, meterRegistry, clock);
+    }
+
+    @Test
+    void call_ShouldStayClosedUntilTheWindowHoldsTheMinimumCalls() throws Exception {
+        // When
+        failure();
+        failure();
+        failure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(3, breaker.snapshot().failedCalls());
+    }
+
+    @Test
+    void call_ShouldOpenAtTheFailureRateAndRejectWithoutCalling() throws Exception {
+        // Given
+        succeed();
+        succeed();
+        failure();
+        failure();
+
+        // When
+        ResilienceException rejected = assertThrows(ResilienceException.class,
+                () -> breaker.call(() -> boom("must not be called")));
+
+        // Then
+        assertEquals(ResilienceException.Reason.CIRCUIT_OPEN, rejected.getReason());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(clock.instant().plusSeconds(30), breaker.snapshot().openUntil());
+        assertEquals(1.0, meterRegistry.get("test.circuit.rejections").counter().count());
+    }
+
+    @Test
+    void call_ShouldSlideTheWindowOverOldOutcomes() throws Exception {
+        // Given
+        failure();
+        succeed();
+        succeed();
+        succeed();
+
+        // When
+        succeed();
+        failure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(25.0, breaker.snapshot().failureRatePercent());
+    }
+
+    @Test
+    void call_AfterOpenDuration_ShouldCloseWhenEveryProbeSucceeds() throws Exception {
+        // Given
+        open();
+        clock.advance(Duration.ofSeconds(30));
+
+        // When
+        succeed();
+        CircuitBreaker.State afterFirstProbe = breaker.getState();
+        succeed();
+
+        // Then
+        assertEquals(CircuitBreaker.State.HALF_OPEN, afterFirstProbe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.snapshot().bufferedCalls());
+        assertEquals(List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED),
+                breaker.snapshot().recentTransitions().stream().map(CircuitBreaker.Transition::to).toList());
+        assertEquals(1.0, meterRegistry.get("test.circuit.transitions")
+                .tag("from", "HALF_OPEN").tag("to", "CLOSED").counter().count());
+    }
+
+    @Test
+    void call_WhenAProbeFails_ShouldOpenAgain() throws Exception {
+        // Given
+        open();
+        clock.advance(Duration.ofSeconds(31));
+
+        // When
+        failure();
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(clock.instant().plusSeconds(30), breaker.snapshot().openUntil());
+    }
+
+    @Test
+    void call_WhileHalfOpen_ShouldLimitConcurrentProbes() throws Exception {
+        // Given
+        open();
+        clock.advance(Duration.ofSeconds(30));
+
+        // When
+        ResilienceException[] rejected = new ResilienceException[1];
+        breaker.call(() -> breaker.call(() -> {
+            rejected[0] = assertThrows(ResilienceException.class, () -> breaker.call(() -> "third probe"));
+            return "second probe";
+        }));
+
+        // Then
+        assertEquals(ResilienceException.Reason.CIRCUIT_OPEN, rejected[0].getReason());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void call_WhenBulkheadIsFull_ShouldNotCountAsFailure() {
+        // When
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ResilienceException.class, () -> breaker.call(() -> {
+                throw new ResilienceException("test", ResilienceException.Reason.BULKHEAD_FULL);
+            }));
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.snapshot().bufferedCalls());
+    }
+
+    private void open() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            failure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private void succeed() throws Exception {
+        assertEquals("ok", breaker.call(() -> "ok"));
+    }
+
+    private void failure() {
+        assertThrows(IllegalStateException.class, () -> breaker.call(() -> boom("boom")));
+    }
+
+    private static String boom(String message) {
+        throw new IllegalStateException(message);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
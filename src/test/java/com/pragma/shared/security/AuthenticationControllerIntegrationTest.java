@@ -92,6 +92,10 @@ class AuthenticationControllerIntegrationTest {
         adminUser.setRol(RolUsuario.Administrador);
         adminUser.setActiveTutoringLimit(10);
 
+        // Profiles served by /me are read by id
+        when(userService.findUserById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userService.findUserById(adminUser.getId())).thenReturn(Optional.of(adminUser));
+
         // Setup message service responses
         when(messageService.getMessage("auth.header.missing"))
                 .thenReturn("Authorization header is required");
@@ -0,0 +1,50 @@
+package com.pragma.shared.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ForInsertedValues_ShouldNeverReturnFalse() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("google-" + i);
+        }
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("google-" + i));
+        }
+        assertEquals(10_000, filter.getInsertions());
+    }
+
+    @Test
+    void mightContain_ForUnknownValues_ShouldStayNearConfiguredFalsePositiveRate() {
+        // Arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("google-" + i);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("scanner-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Assert
+        assertTrue(falsePositives / 100_000.0 < 0.02);
+        assertTrue(filter.expectedFalsePositiveProbability() < 0.02);
+    }
+
+    @Test
+    void constructor_WithInvalidProbability_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+    }
+}
@@ -99,6 +99,10 @@ class GoogleAuthInterceptorIntegrationTest {
         adminUser.setRol(RolUsuario.Administrador);
         adminUser.setActiveTutoringLimit(10);
 
+        // Profiles served by /me are read by id
+        when(userService.findUserById(testUser.getId())).thenReturn(Optional.of(testUser));
+        when(userService.findUserById(adminUser.getId())).thenReturn(Optional.of(adminUser));
+
         // Setup default message service responses
         when(messageService.getMessage("auth.header.missing"))
                 .thenReturn("Authorization header is required");
@@ -1,28 +1,45 @@
 package com.pragma.shared.security;
 
+import com.pragma.audit.domain.model.enums.AuthOutcome;
+import com.pragma.audit.domain.port.input.RecordAuthEventUseCase;
+import com.pragma.shared.config.AuthenticationProperties;
 import com.pragma.shared.context.UserContext;
+import com.pragma.shared.context.UserContextHelper;
 import com.pragma.shared.security.exception.InvalidAuthorizationException;
 import com.pragma.shared.security.exception.MissingAuthorizationException;
+import com.pragma.shared.security.exception.RateLimitExceededException;
 import com.pragma.shared.security.exception.UserNotFoundException;
+import com.pragma.shared.security.ratelimit.RateLimiter;
+import com.pragma.shared.security.route.RouteAccess;
+import com.pragma.shared.security.route.RoutePolicyResolver;
+import com.pragma.shared.security.session.SessionClaims;
+import com.pragma.shared.security.session.SessionTokenService;
 import com.pragma.shared.service.MessageService;
 import com.pragma.usuarios.application.service.UserService;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.output.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +60,25 @@ class GoogleAuthInterceptorTest {
     @Mock
     private com.pragma.shared.config.AuthenticationProperties authProperties;
 
+    @Spy
+    private PrincipalCache principalCache = new PrincipalCache(new AuthenticationProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private KnownPrincipalFilter knownPrincipalFilter = new KnownPrincipalFilter(
+            new AuthenticationProperties(), mock(UserRepository.class), new SimpleMeterRegistry());
+
+    @Mock
+    private SessionTokenService sessionTokenService;
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @Mock
+    private RecordAuthEventUseCase recordAuthEventUseCase;
+
+    @Spy
+    private RoutePolicyResolver routePolicyResolver = new RoutePolicyResolver(routeTableProperties());
+
     @InjectMocks
     private GoogleAuthInterceptor googleAuthInterceptor;
 
@@ -65,6 +101,10 @@ class GoogleAuthInterceptorTest {
         // Mock AuthenticationProperties - using lenient to avoid unnecessary stubbing errors
         lenient().when(authProperties.getHeaderName()).thenReturn(AUTHORIZATION_HEADER);
 
+        // Route policies are resolved on the request path; tests of a specific route stub their own URI
+        lenient().when(request.getContextPath()).thenReturn("");
+        lenient().when(request.getRequestURI()).thenReturn("/api/v1/skills");
+
         // Clear user context before each test
         UserContext.clear();
     }
@@ -92,6 +132,92 @@ class GoogleAuthInterceptorTest {
         verify(userService).findUserByGoogleId(TEST_GOOGLE_USER_ID);
     }
 
+    @Test
+    void preHandle_WithValidGoogleId_ShouldRecordSuccessAuditEventWithRemoteAddress() throws Exception {
+        // Arrange
+        lenient().when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(TEST_GOOGLE_USER_ID);
+        lenient().when(request.getHeader("X-Forwarded-For")).thenReturn("203.0.113.9, 10.0.0.1");
+        lenient().when(request.getRemoteAddr()).thenReturn("10.0.0.1");
+        lenient().when(request.getHeader("User-Agent")).thenReturn("Mozilla/5.0");
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/api/v1/users/me");
+        when(userService.findUserByGoogleId(TEST_GOOGLE_USER_ID)).thenReturn(Optional.of(testUser));
+
+        // Act
+        googleAuthInterceptor.preHandle(request, response, new Object());
+
+        // Assert
+        verify(recordAuthEventUseCase).recordAuthEvent(AuthOutcome.SUCCESS, "user123", "GET", "/api/v1/users/me",
+                "10.0.0.1", "Mozilla/5.0", null);
+    }
+
+    @Test
+    void preHandle_InSignedSessionModeWithValidToken_ShouldAuthenticateFromClaims() throws Exception {
+        // Arrange
+        when(authProperties.getMode()).thenReturn(AuthenticationProperties.Mode.SIGNED_SESSION);
+        when(authProperties.getSession()).thenReturn(new AuthenticationProperties.Session());
+        lenient().when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        lenient().when(request.getHeader("X-Session-Token")).thenReturn("signed-token");
+        SessionClaims claims = new SessionClaims("user123", TEST_GOOGLE_USER_ID, RolUsuario.Tutor, "chapter-1",
+                "john.doe@example.com", 0, System.currentTimeMillis(), System.currentTimeMillis() + 60_000);
+        when(sessionTokenService.verify("signed-token")).thenReturn(Optional.of(claims));
+        principalCache.get(TEST_GOOGLE_USER_ID, id -> Optional.of(testUser));
+
+        // Act
+        boolean result = googleAuthInterceptor.preHandle(request, response, new Object());
+
+        // Assert
+        assertTrue(result);
+        assertEquals("user123", UserContext.getCurrentUser().getId());
+        assertEquals(RolUsuario.Tutor, UserContext.getCurrentUser().getRol());
+        assertEquals("chapter-1", UserContext.getCurrentUser().getChapter().getId());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void preHandle_InSignedSessionModeWithTokenFromAnOlderSessionEpoch_ShouldLookUpUserAndIssueToken() throws Exception {
+        // Arrange: the role was changed on another instance, which advanced the stored epoch
+        when(authProperties.getMode()).thenReturn(AuthenticationProperties.Mode.SIGNED_SESSION);
+        when(authProperties.getSession()).thenReturn(new AuthenticationProperties.Session());
+        lenient().when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        lenient().when(request.getHeader("X-Session-Token")).thenReturn("signed-token");
+        lenient().when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(TEST_GOOGLE_USER_ID);
+        SessionClaims claims = new SessionClaims("user123", TEST_GOOGLE_USER_ID, RolUsuario.Tutor, null,
+                "john.doe@example.com", 0, System.currentTimeMillis(), System.currentTimeMillis() + 60_000);
+        when(sessionTokenService.verify("signed-token")).thenReturn(Optional.of(claims));
+        testUser.setSessionEpoch(1);
+        when(userService.findUserByGoogleId(TEST_GOOGLE_USER_ID)).thenReturn(Optional.of(testUser));
+        when(sessionTokenService.issue(testUser)).thenReturn("new-token");
+
+        // Act
+        boolean result = googleAuthInterceptor.preHandle(request, response, new Object());
+
+        // Assert
+        assertTrue(result);
+        assertEquals(RolUsuario.Tutorado, UserContext.getCurrentUser().getRol());
+        verify(userService).findUserByGoogleId(TEST_GOOGLE_USER_ID);
+        verify(response).setHeader("X-Session-Token", "new-token");
+    }
+
+    @Test
+    void preHandle_InSignedSessionModeWithoutToken_ShouldLookUpUserAndIssueToken() throws Exception {
+        // Arrange
+        when(authProperties.getMode()).thenReturn(AuthenticationProperties.Mode.SIGNED_SESSION);
+        when(authProperties.getSession()).thenReturn(new AuthenticationProperties.Session());
+        lenient().when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        lenient().when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(TEST_GOOGLE_USER_ID);
+        when(userService.findUserByGoogleId(TEST_GOOGLE_USER_ID)).thenReturn(Optional.of(testUser));
+        when(sessionTokenService.issue(testUser)).thenReturn("new-token");
+
+        // Act
+        boolean result = googleAuthInterceptor.preHandle(request, response, new Object());
+
+        // Assert
+        assertTrue(result);
+        assertEquals(testUser, UserContext.getCurrentUser());
+        verify(response).setHeader("X-Session-Token", "new-token");
+    }
+
     @Test
     void preHandle_WithMissingAuthorizationHeader_ShouldThrowMissingAuthorizationException() {
         // Arrange
@@ -173,6 +299,132 @@ class GoogleAuthInterceptorTest {
         verify(messageService).getMessage("auth.user.not.found", "User not registered in the system");
     }
 
+    @Test
+    void preHandle_WithUserNotFound_ShouldRecordFailureAuditEvent() {
+        // Arrange
+        lenient().when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(TEST_GOOGLE_USER_ID);
+        lenient().when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(userService.findUserByGoogleId(TEST_GOOGLE_USER_ID)).thenReturn(Optional.empty());
+        when(messageService.getMessage("auth.user.not.registered")).thenReturn("User not registered in the system");
+
+        // Act
+        assertThrows(UserNotFoundException.class,
+                () -> googleAuthInterceptor.preHandle(request, response, new Object()));
+
+        // Assert
+        verify(recordAuthEventUseCase).recordAuthEvent(eq(AuthOutcome.USER_NOT_FOUND), isNull(), any(), any(),
+                eq("127.0.0.1"), any(), eq("User not registered in the system"));
+    }
+
+    @Test
+    void preHandle_WithIdRejectedByKnownPrincipalFilter_ShouldNotQueryUserService() {
+        // Arrange
+        lenient().when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(TEST_GOOGLE_USER_ID);
+        lenient().when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        doReturn(true).when(knownPrincipalFilter).isDefinitelyUnknown(TEST_GOOGLE_USER_ID);
+        when(messageService.getMessage("auth.user.not.registered")).thenReturn("User not registered in the system");
+
+        // Act & Assert
+        UserNotFoundException exception = assertThrows(
+            UserNotFoundException.class,
+            () -> googleAuthInterceptor.preHandle(request, response, new Object())
+        );
+
+        assertEquals("User not registered in the system", exception.getMessage());
+        assertNull(UserContext.getCurrentUser());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void preHandle_WhenUserExceedsRateLimit_ShouldThrowRateLimitExceededException() {
+        // Arrange
+        lenient().when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(TEST_GOOGLE_USER_ID);
+        when(request.getRequestURI()).thenReturn("/api/v1/statistics/dashboard");
+        lenient().when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(userService.findUserByGoogleId(TEST_GOOGLE_USER_ID)).thenReturn(Optional.of(testUser));
+        when(rateLimiter.acquire("statistics", "user123")).thenReturn(1_500_000_000L);
+        when(messageService.getMessage("rate.limit.exceeded", 2L)).thenReturn("Too many requests, retry in 2 seconds");
+
+        // Act & Assert
+        RateLimitExceededException exception = assertThrows(
+            RateLimitExceededException.class,
+            () -> googleAuthInterceptor.preHandle(request, response, new Object())
+        );
+
+        assertEquals(2L, exception.getRetryAfterSeconds());
+        assertEquals("Too many requests, retry in 2 seconds", exception.getMessage());
+        assertNull(UserContext.getCurrentUser());
+    }
+
+    @Test
+    void preHandle_WithUserCreationRequest_ShouldRateLimitByClientIp() throws Exception {
+        // Arrange
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/api/v1/users");
+        when(request.getRemoteAddr()).thenReturn("10.0.0.7");
+
+        // Act
+        boolean result = googleAuthInterceptor.preHandle(request, response, new Object());
+
+        // Assert
+        assertTrue(result);
+        verify(rateLimiter).acquire("user-registration", "10.0.0.7");
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void preHandle_WithClientSuppliedForwardedFor_ShouldRateLimitByRemoteAddress() throws Exception {
+        // Arrange: rotating the header must not give the client a fresh bucket
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getRequestURI()).thenReturn("/api/v1/users");
+        lenient().when(request.getHeader("X-Forwarded-For")).thenReturn("198.51.100.1", "198.51.100.2");
+        when(request.getRemoteAddr()).thenReturn("10.0.0.7");
+
+        // Act
+        googleAuthInterceptor.preHandle(request, response, new Object());
+        googleAuthInterceptor.preHandle(request, response, new Object());
+
+        // Assert
+        verify(rateLimiter, times(2)).acquire("user-registration", "10.0.0.7");
+    }
+
+    @Test
+    void preHandle_WithPreflightRequest_ShouldSkipAuthentication() throws Exception {
+        // Arrange
+        when(request.getMethod()).thenReturn("OPTIONS");
+        lenient().when(request.getRequestURI()).thenReturn("/api/v1/statistics/dashboard");
+
+        // Act
+        boolean result = googleAuthInterceptor.preHandle(request, response, new Object());
+
+        // Assert
+        assertTrue(result);
+        verifyNoInteractions(userService, rateLimiter);
+    }
+
+    @Test
+    void preHandle_WithAdminRouteAndNonAdminUser_ShouldThrowSecurityExceptionAndClearContext() {
+        // Arrange
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/api/v1/audit/auth-events");
+        lenient().when(request.getHeader(AUTHORIZATION_HEADER)).thenReturn(TEST_GOOGLE_USER_ID);
+        lenient().when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        when(userService.findUserByGoogleId(TEST_GOOGLE_USER_ID)).thenReturn(Optional.of(testUser));
+
+        try (MockedStatic<UserContextHelper> userContextHelper = mockStatic(UserContextHelper.class)) {
+            userContextHelper.when(UserContextHelper::requireAdminRole)
+                    .thenThrow(new SecurityException("Admin privileges required"));
+
+            // Act & Assert
+            assertThrows(SecurityException.class,
+                    () -> googleAuthInterceptor.preHandle(request, response, new Object()));
+
+            assertNull(UserContext.getCurrentUser());
+            verify(recordAuthEventUseCase).recordAuthEvent(eq(AuthOutcome.FORBIDDEN), isNull(), eq("GET"),
+                    eq("/api/v1/audit/auth-events"), eq("127.0.0.1"), any(), eq("Admin privileges required"));
+        }
+    }
+
     @Test
     void preHandle_WithDatabaseError_ShouldThrowRuntimeException() {
         // Arrange
@@ -312,4 +564,13 @@ class GoogleAuthInterceptorTest {
         assertEquals(complexUser, UserContext.getCurrentUser());
         verify(userService).findUserByGoogleId(complexGoogleId);
     }
-}
\ No newline at end of file
+
+    private static AuthenticationProperties routeTableProperties() {
+        AuthenticationProperties properties = new AuthenticationProperties();
+        properties.setRoutes(List.of(
+                new AuthenticationProperties.Route("POST", "/api/v1/users", RouteAccess.PUBLIC, "user-registration"),
+                new AuthenticationProperties.Route(null, "/api/v1/statistics/**", RouteAccess.AUTHENTICATED, "statistics"),
+                new AuthenticationProperties.Route(null, "/api/v1/audit/**", RouteAccess.ADMIN, null)));
+        return properties;
+    }
+}
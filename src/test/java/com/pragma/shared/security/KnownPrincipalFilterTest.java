@@ -0,0 +1,192 @@
+package com.pragma.shared.security;
+
+import com.pragma.shared.config.AuthenticationProperties;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KnownPrincipalFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationProperties authProperties;
+    private KnownPrincipalFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authProperties = new AuthenticationProperties();
+        filter = new KnownPrincipalFilter(authProperties, userRepository, meterRegistry);
+    }
+
+    @Test
+    void isDefinitelyUnknown_BeforeFirstRebuild_ShouldLetEveryIdThrough() {
+        // Act & Assert
+        assertFalse(filter.isDefinitelyUnknown("random-id"));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void isDefinitelyUnknown_WithMissLookupsDisabled_ShouldRejectUnregisteredIds() {
+        // Arrange
+        authProperties.getNegativeCache().setMissLookupsPerSecond(0);
+        filter = new KnownPrincipalFilter(authProperties, userRepository, meterRegistry);
+        when(userRepository.findAllGoogleUserIds()).thenReturn(List.of("google-1", "google-2"));
+        filter.rebuild();
+
+        // Act & Assert
+        assertFalse(filter.isDefinitelyUnknown("google-1"));
+        assertFalse(filter.isDefinitelyUnknown("google-2"));
+        assertTrue(filter.isDefinitelyUnknown("random-id"));
+        assertEquals(1.0, rejections("bloom-filter"));
+    }
+
+    @Test
+    void isDefinitelyUnknown_OnFilterMiss_ShouldLetLookupsThroughUntilTheBudgetIsSpent() {
+        // Arrange
+        authProperties.getNegativeCache().setMissLookupBurst(1);
+        authProperties.getNegativeCache().setMissLookupsPerSecond(0.001);
+        filter = new KnownPrincipalFilter(authProperties, userRepository, meterRegistry);
+        when(userRepository.findAllGoogleUserIds()).thenReturn(List.of("google-1"));
+        filter.rebuild();
+
+        // Act & Assert
+        assertFalse(filter.isDefinitelyUnknown("random-1"));
+        assertTrue(filter.isDefinitelyUnknown("random-2"));
+        assertEquals(1.0, meterRegistry.get("auth.principal.bloom.miss.lookups").counter().count());
+        assertEquals(1.0, rejections("bloom-filter"));
+    }
+
+    @Test
+    void recordKnown_ForUserRegisteredOnAnotherInstance_ShouldAcceptItWithoutFurtherLookups() {
+        // Arrange
+        authProperties.getNegativeCache().setMissLookupBurst(1);
+        authProperties.getNegativeCache().setMissLookupsPerSecond(0.001);
+        filter = new KnownPrincipalFilter(authProperties, userRepository, meterRegistry);
+        when(userRepository.findAllGoogleUserIds()).thenReturn(List.of("google-1"));
+        filter.rebuild();
+        assertFalse(filter.isDefinitelyUnknown("registered-elsewhere"));
+
+        // Act
+        filter.recordKnown("registered-elsewhere");
+
+        // Assert: accepted again although the lookup budget is spent
+        assertFalse(filter.isDefinitelyUnknown("registered-elsewhere"));
+        assertEquals(0.0, rejections("bloom-filter"));
+    }
+
+    @Test
+    void recordUnknown_AfterConfirmedFilterMiss_ShouldRejectFromNegativeCacheWithoutCountingFalsePositive() {
+        // Arrange
+        when(userRepository.findAllGoogleUserIds()).thenReturn(List.of("google-1"));
+        filter.rebuild();
+        assertFalse(filter.isDefinitelyUnknown("random-id"));
+
+        // Act
+        filter.recordUnknown("random-id");
+
+        // Assert
+        assertTrue(filter.isDefinitelyUnknown("random-id"));
+        assertEquals(1.0, rejections("negative-cache"));
+        assertEquals(0.0, meterRegistry.get("auth.principal.bloom.false.positives").counter().count());
+    }
+
+    @Test
+    void recordUnknown_ShouldRejectRepeatedLookupsFromNegativeCache() {
+        // Arrange: a tiny, loose filter so an unregistered ID collides with the registered one
+        authProperties.getNegativeCache().setExpectedInsertions(2);
+        authProperties.getNegativeCache().setFalsePositiveProbability(0.5);
+        filter = new KnownPrincipalFilter(authProperties, userRepository, meterRegistry);
+        when(userRepository.findAllGoogleUserIds()).thenReturn(List.of("google-1"));
+        filter.rebuild();
+        String falsePositive = falsePositiveOf(new BloomFilter(2, 0.5), "google-1");
+        assertFalse(filter.isDefinitelyUnknown(falsePositive));
+
+        // Act
+        filter.recordUnknown(falsePositive);
+
+        // Assert
+        assertTrue(filter.isDefinitelyUnknown(falsePositive));
+        assertEquals(1.0, rejections("negative-cache"));
+        assertEquals(0.0, rejections("bloom-filter"));
+        assertEquals(1.0, meterRegistry.get("auth.principal.bloom.false.positives").counter().count());
+    }
+
+    @Test
+    void onUserChanged_WhenUserCreated_ShouldAcceptNewIdAndClearNegativeEntry() {
+        // Arrange
+        when(userRepository.findAllGoogleUserIds()).thenReturn(List.of("google-1"));
+        filter.rebuild();
+        filter.recordUnknown("new-google-id");
+        User created = new User();
+        created.setGoogleUserId("new-google-id");
+
+        // Act
+        filter.onUserChanged(new UserChangedEvent(UserChangedEvent.ChangeType.CREATED, created));
+
+        // Assert
+        assertFalse(filter.isDefinitelyUnknown("new-google-id"));
+    }
+
+    @Test
+    void rebuild_WhenRepositoryFails_ShouldKeepPreviousFilter() {
+        // Arrange
+        authProperties.getNegativeCache().setMissLookupsPerSecond(0);
+        filter = new KnownPrincipalFilter(authProperties, userRepository, meterRegistry);
+        when(userRepository.findAllGoogleUserIds())
+                .thenReturn(List.of("google-1"))
+                .thenThrow(new RuntimeException("Database unavailable"));
+        filter.rebuild();
+
+        // Act
+        filter.rebuild();
+
+        // Assert
+        assertFalse(filter.isDefinitelyUnknown("google-1"));
+        assertTrue(filter.isDefinitelyUnknown("random-id"));
+    }
+
+    @Test
+    void isDefinitelyUnknown_WhenDisabled_ShouldNeverReject() {
+        // Arrange
+        authProperties.getNegativeCache().setEnabled(false);
+
+        // Act
+        filter.rebuild();
+
+        // Assert
+        assertFalse(filter.isDefinitelyUnknown("random-id"));
+        verifyNoInteractions(userRepository);
+    }
+
+    /**
+     * Finds an unregistered ID that a filter built like the one under test lets through.
+     */
+    private static String falsePositiveOf(BloomFilter mirror, String registered) {
+        mirror.put(registered);
+        return IntStream.range(0, 10_000)
+                .mapToObj(i -> "unregistered-" + i)
+                .filter(mirror::mightContain)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("auth.principal.rejections").tag("reason", reason).counter().count();
+    }
+}
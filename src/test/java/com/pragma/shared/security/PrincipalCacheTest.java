@@ -0,0 +1,150 @@
+package com.pragma.shared.security;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.shared.config.AuthenticationProperties;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private static final String GOOGLE_ID = "google123";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationProperties authProperties;
+    private User testUser;
+    private AtomicInteger loads;
+    private Function<String, Optional<User>> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        authProperties = new AuthenticationProperties();
+
+        testUser = new User();
+        testUser.setId("user123");
+        testUser.setEmail("john.doe@example.com");
+        testUser.setGoogleUserId(GOOGLE_ID);
+        testUser.setChapter(new Chapter("chapter-1", "Backend"));
+        testUser.setRol(RolUsuario.Tutorado);
+
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return GOOGLE_ID.equals(id) ? Optional.of(testUser) : Optional.empty();
+        };
+    }
+
+    @Test
+    void get_WhenCalledTwice_ShouldLoadOnlyOnce() {
+        // Arrange
+        PrincipalCache cache = new PrincipalCache(authProperties, meterRegistry);
+
+        // Act
+        Optional<User> first = cache.get(GOOGLE_ID, loader);
+        Optional<User> second = cache.get(GOOGLE_ID, loader);
+
+        // Assert
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(testUser, second.get());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void get_WhenUserIsUnknown_ShouldNotCacheEmptyResult() {
+        // Arrange
+        PrincipalCache cache = new PrincipalCache(authProperties, meterRegistry);
+
+        // Act
+        cache.get("unknown", loader);
+        Optional<User> result = cache.get("unknown", loader);
+
+        // Assert
+        assertFalse(result.isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenCallerModifiesReturnedUser_ShouldKeepCachedEntryIntact() {
+        // Arrange
+        PrincipalCache cache = new PrincipalCache(authProperties, meterRegistry);
+        cache.get(GOOGLE_ID, loader).orElseThrow().setRol(RolUsuario.Administrador);
+
+        // Act
+        User cached = cache.get(GOOGLE_ID, loader).orElseThrow();
+
+        // Assert
+        assertEquals(RolUsuario.Tutorado, cached.getRol());
+    }
+
+    @Test
+    void onUserChanged_ShouldInvalidateCachedPrincipal() {
+        // Arrange
+        PrincipalCache cache = new PrincipalCache(authProperties, meterRegistry);
+        cache.get(GOOGLE_ID, loader);
+
+        // Act
+        cache.onUserChanged(new UserChangedEvent(UserChangedEvent.ChangeType.ROLE_CHANGED, testUser));
+        cache.get(GOOGLE_ID, loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenMaxSizeExceeded_ShouldEvictEntries() {
+        // Arrange
+        authProperties.getPrincipalCache().setMaxSize(1);
+        PrincipalCache cache = new PrincipalCache(authProperties, meterRegistry);
+        Function<String, Optional<User>> anyUserLoader = id -> Optional.of(new User(id, null, null, null, id, null, null, RolUsuario.Tutorado, 0, 0, 0L));
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            cache.get("google-" + i, anyUserLoader);
+        }
+        cache.cleanUp();
+
+        // Assert
+        FunctionCounter evictions = meterRegistry.find("cache.evictions").tag("cache", PrincipalCache.CACHE_NAME).functionCounter();
+        assertNotNull(evictions);
+        assertTrue(evictions.count() > 0);
+    }
+
+    @Test
+    void get_WhenDisabled_ShouldAlwaysDelegateToLoader() {
+        // Arrange
+        authProperties.getPrincipalCache().setEnabled(false);
+        authProperties.getPrincipalCache().setTtl(Duration.ofMinutes(1));
+        PrincipalCache cache = new PrincipalCache(authProperties, meterRegistry);
+
+        // Act
+        cache.get(GOOGLE_ID, loader);
+        cache.get(GOOGLE_ID, loader);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    private double gets(String result) {
+        FunctionCounter counter = meterRegistry.find("cache.gets")
+                .tag("cache", PrincipalCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter();
+        assertNotNull(counter);
+        return counter.count();
+    }
+}
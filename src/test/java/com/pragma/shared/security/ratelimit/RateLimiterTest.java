@@ -0,0 +1,109 @@
+package com.pragma.shared.security.ratelimit;
+
+import com.pragma.shared.config.AuthenticationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private AuthenticationProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuthenticationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        properties.getRateLimit().getRules().add(rule("statistics", 2));
+        properties.getRateLimit().getRules().add(rule("default", 100));
+    }
+
+    @Test
+    void acquire_WhenClientExceedsCapacity_ShouldRejectAndCountRejection() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(properties, meterRegistry);
+
+        // When
+        long first = rateLimiter.acquire("statistics", "user-1");
+        long second = rateLimiter.acquire("statistics", "user-1");
+        long third = rateLimiter.acquire("statistics", "user-1");
+
+        // Then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertTrue(third > 0);
+        assertEquals(1.0, meterRegistry.get("auth.rate.limit.rejections").tag("rule", "statistics").counter().count());
+        assertEquals(0.0, meterRegistry.get("auth.rate.limit.rejections").tag("rule", "default").counter().count());
+    }
+
+    @Test
+    void acquire_ShouldKeepSeparateBucketsPerClient() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(properties, meterRegistry);
+        rateLimiter.acquire("statistics", "user-1");
+        rateLimiter.acquire("statistics", "user-1");
+
+        // When
+        long otherClient = rateLimiter.acquire("statistics", "user-2");
+
+        // Then
+        assertEquals(0, otherClient);
+    }
+
+    @Test
+    void acquire_ShouldKeepSeparateBucketsPerRateClass() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(properties, meterRegistry);
+        rateLimiter.acquire("statistics", "user-1");
+        rateLimiter.acquire("statistics", "user-1");
+
+        // When
+        long otherClass = rateLimiter.acquire("default", "user-1");
+
+        // Then
+        assertEquals(0, otherClass);
+    }
+
+    @Test
+    void acquire_WithoutRateClassOrWithUnknownOne_ShouldAllow() {
+        // Given
+        RateLimiter rateLimiter = new RateLimiter(properties, meterRegistry);
+
+        // When / Then
+        for (int i = 0; i < 200; i++) {
+            assertEquals(0, rateLimiter.acquire(null, "user-1"));
+            assertEquals(0, rateLimiter.acquire("undefined", "user-1"));
+        }
+    }
+
+    @Test
+    void acquire_WhenDisabled_ShouldAlwaysAllow() {
+        // Given
+        properties.getRateLimit().setEnabled(false);
+        RateLimiter rateLimiter = new RateLimiter(properties, meterRegistry);
+
+        // When / Then
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, rateLimiter.acquire("statistics", "user-1"));
+        }
+    }
+
+    @Test
+    void constructor_WithUnnamedRule_ShouldThrowException() {
+        // Given
+        properties.getRateLimit().getRules().add(rule(null, 5));
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> new RateLimiter(properties, meterRegistry));
+    }
+
+    private static AuthenticationProperties.Rule rule(String name, int capacity) {
+        AuthenticationProperties.Rule rule = new AuthenticationProperties.Rule();
+        rule.setName(name);
+        rule.setCapacity(capacity);
+        rule.setRefillPerSecond(0.01);
+        return rule;
+    }
+}
@@ -0,0 +1,103 @@
+package com.pragma.shared.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryConsume_ShouldAllowBurstUpToCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 1.0, 0);
+
+        // When / Then
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertTrue(bucket.tryConsume(0) > 0);
+    }
+
+    @Test
+    void tryConsume_WhenEmpty_ShouldReturnTimeUntilNextToken() {
+        // Given
+        TokenBucket bucket = new TokenBucket(1, 2.0, 0);
+        bucket.tryConsume(0);
+
+        // When
+        long waitNanos = bucket.tryConsume(0);
+
+        // Then
+        assertEquals(SECOND / 2, waitNanos);
+    }
+
+    @Test
+    void tryConsume_ShouldRefillOverTime() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 1.0, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // When / Then
+        assertTrue(bucket.tryConsume(SECOND / 2) > 0);
+        assertEquals(0, bucket.tryConsume(SECOND));
+        assertTrue(bucket.tryConsume(SECOND) > 0);
+    }
+
+    @Test
+    void tryConsume_AfterLongIdle_ShouldNotAccumulateMoreThanCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 10.0, 0);
+        long later = 60 * SECOND;
+
+        // When / Then
+        assertEquals(0, bucket.tryConsume(later));
+        assertEquals(0, bucket.tryConsume(later));
+        assertTrue(bucket.tryConsume(later) > 0);
+    }
+
+    @Test
+    void tryConsume_FromConcurrentThreads_ShouldNeverGrantMoreThanCapacity() throws Exception {
+        // Given
+        TokenBucket bucket = new TokenBucket(100, 0.001, 0);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (bucket.tryConsume(0) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(100, granted.get());
+    }
+
+    @Test
+    void constructor_WithNonPositiveCapacity_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1.0, 0));
+    }
+}
@@ -0,0 +1,95 @@
+package com.pragma.shared.security.route;
+
+import com.pragma.shared.config.AuthenticationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of deciding how a request is authenticated.
+ * {@code antPathMatcher} reproduces the previous decision path: include/exclude Ant patterns,
+ * the hardcoded OPTIONS and user-creation bypasses, then a first-match scan of Ant patterns for
+ * the rate limit rule. {@code compiledTrie} is a single lookup in the compiled route table.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.pragma.shared.security.route.RoutePolicyBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutePolicyBenchmark {
+
+    private static final List<String> INCLUDE = List.of("/api/**");
+    private static final List<String> EXCLUDE = List.of("/actuator/**");
+    private static final List<String> RATE_RULE_PATTERNS = List.of(
+            "/api/v1/statistics/**", "/api/v1/audit/**", "/api/v1/tutorings/*/complete", "/api/v1/users");
+
+    @Param({"GET /api/v1/statistics/dashboard", "PATCH /api/v1/tutorings/abc-123/complete",
+            "POST /api/v1/users", "GET /api/v1/skills"})
+    public String request;
+
+    private String method;
+    private String path;
+    private AntPathMatcher antPathMatcher;
+    private RoutePolicyResolver resolver;
+
+    @Setup
+    public void setUp() {
+        method = request.substring(0, request.indexOf(' '));
+        path = request.substring(request.indexOf(' ') + 1);
+        antPathMatcher = new AntPathMatcher();
+
+        AuthenticationProperties properties = new AuthenticationProperties();
+        properties.setRoutes(List.of(
+                new AuthenticationProperties.Route("POST", "/api/v1/users", RouteAccess.PUBLIC, "user-registration"),
+                new AuthenticationProperties.Route(null, "/api/v1/statistics/**", RouteAccess.AUTHENTICATED, "statistics"),
+                new AuthenticationProperties.Route(null, "/api/v1/audit/**", RouteAccess.ADMIN, null),
+                new AuthenticationProperties.Route(null, "/api/v1/tutorings/*/complete", RouteAccess.AUTHENTICATED, "writes")));
+        resolver = new RoutePolicyResolver(properties);
+    }
+
+    @Benchmark
+    public Object antPathMatcher() {
+        boolean intercepted = INCLUDE.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path))
+                && EXCLUDE.stream().noneMatch(pattern -> antPathMatcher.match(pattern, path));
+        if (!intercepted || "OPTIONS".equalsIgnoreCase(method)
+                || ("POST".equalsIgnoreCase(method) && "/api/v1/users".equals(path))) {
+            return null;
+        }
+        for (String pattern : RATE_RULE_PATTERNS) {
+            if (antPathMatcher.match(pattern, path)) {
+                return pattern;
+            }
+        }
+        return path;
+    }
+
+    @Benchmark
+    public RoutePolicy compiledTrie() {
+        return resolver.resolve(method, path);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RoutePolicyBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
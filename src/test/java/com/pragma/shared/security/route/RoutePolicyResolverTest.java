@@ -0,0 +1,161 @@
+package com.pragma.shared.security.route;
+
+import com.pragma.shared.config.AuthenticationProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutePolicyResolverTest {
+
+    @Test
+    void resolve_ShouldPreferMethodSpecificRouteOverAnyMethod() {
+        // Given
+        RoutePolicyResolver resolver = resolver(
+                route(null, "/api/v1/users", RouteAccess.AUTHENTICATED, null),
+                route("POST", "/api/v1/users", RouteAccess.PUBLIC, "user-registration"));
+
+        // When
+        RoutePolicy post = resolver.resolve("POST", "/api/v1/users");
+        RoutePolicy get = resolver.resolve("GET", "/api/v1/users");
+
+        // Then
+        assertEquals(RouteAccess.PUBLIC, post.getAccess());
+        assertEquals("user-registration", post.getRateClass());
+        assertEquals(RouteAccess.AUTHENTICATED, get.getAccess());
+    }
+
+    @Test
+    void resolve_ShouldPreferLiteralOverWildcardRegardlessOfOrder() {
+        // Given
+        RoutePolicyResolver resolver = resolver(
+                route(null, "/api/v1/users/**", RouteAccess.AUTHENTICATED, "users"),
+                route(null, "/api/v1/users/{id}", RouteAccess.AUTHENTICATED, "user-by-id"),
+                route("GET", "/api/v1/users/me", RouteAccess.AUTHENTICATED, "me"));
+
+        // When / Then
+        assertEquals("me", resolver.resolve("GET", "/api/v1/users/me").getRateClass());
+        assertEquals("user-by-id", resolver.resolve("GET", "/api/v1/users/42").getRateClass());
+        assertEquals("user-by-id", resolver.resolve("PUT", "/api/v1/users/me").getRateClass());
+        assertEquals("users", resolver.resolve("GET", "/api/v1/users/42/skills").getRateClass());
+    }
+
+    @Test
+    void resolve_WithTrailingDoubleWildcard_ShouldMatchZeroOrMoreSegments() {
+        // Given
+        RoutePolicyResolver resolver = resolver(route(null, "/api/v1/audit/**", RouteAccess.ADMIN, null));
+
+        // When / Then
+        assertTrue(resolver.resolve("GET", "/api/v1/audit").isAdminOnly());
+        assertTrue(resolver.resolve("GET", "/api/v1/audit/auth-events").isAdminOnly());
+        assertTrue(resolver.resolve("GET", "/api/v1/audit/a/b/c").isAdminOnly());
+        assertFalse(resolver.resolve("GET", "/api/v1/auditing").isAdminOnly());
+    }
+
+    @Test
+    void resolve_ShouldBacktrackWhenSpecificBranchDoesNotMatch() {
+        // Given
+        RoutePolicyResolver resolver = resolver(
+                route(null, "/api/v1/tutorings/*/complete", RouteAccess.AUTHENTICATED, "complete"),
+                route("POST", "/api/v1/tutorings/page", RouteAccess.AUTHENTICATED, "page-post"));
+
+        // When
+        RoutePolicy policy = resolver.resolve("PATCH", "/api/v1/tutorings/page/complete");
+
+        // Then
+        assertEquals("complete", policy.getRateClass());
+    }
+
+    @Test
+    void resolve_WithUnmatchedPath_ShouldRequireAuthentication() {
+        // Given
+        RoutePolicyResolver resolver = resolver(route("POST", "/api/v1/users", RouteAccess.PUBLIC, null));
+
+        // When
+        RoutePolicy policy = resolver.resolve("GET", "/api/v1/skills");
+
+        // Then
+        assertSame(RoutePolicy.DEFAULT, policy);
+    }
+
+    @Test
+    void resolve_WithPreflightRequest_ShouldBePublic() {
+        // Given
+        RoutePolicyResolver resolver = resolver(route(null, "/api/**", RouteAccess.ADMIN, null));
+
+        // When / Then
+        assertSame(RoutePolicy.PREFLIGHT, resolver.resolve("OPTIONS", "/api/v1/users"));
+    }
+
+    @Test
+    void resolve_WithDefaultProperties_ShouldKeepUserRegistrationPublic() {
+        // Given
+        RoutePolicyResolver resolver = new RoutePolicyResolver(new AuthenticationProperties());
+
+        // When / Then
+        assertTrue(resolver.resolve("POST", "/api/v1/users").isPublic());
+        assertFalse(resolver.resolve("GET", "/api/v1/users").isPublic());
+        assertFalse(resolver.resolve("POST", "/api/v1/users/extra").isPublic());
+    }
+
+    @Test
+    void resolve_WithRequest_ShouldCacheMatchInRequestAttribute() {
+        // Given
+        RoutePolicyResolver resolver = resolver(route(null, "/api/**", RouteAccess.AUTHENTICATED, "api"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/skills");
+
+        // When
+        RoutePolicy policy = resolver.resolve(request);
+
+        // Then
+        assertEquals("api", policy.getRateClass());
+        assertSame(policy, request.getAttribute(RoutePolicyResolver.REQUEST_ATTRIBUTE));
+
+        // And a second resolution reads the attribute instead of matching again
+        request.setRequestURI("/other");
+        assertSame(policy, resolver.resolve(request));
+    }
+
+    @Test
+    void resolve_WithEncodedOrParameterizedPath_ShouldMatchLikeTheHandlerMapping() {
+        // Given
+        RoutePolicyResolver resolver = resolver(
+                route(null, "/api/v1/audit/**", RouteAccess.ADMIN, null),
+                route("GET", "/api/v1/statistics/dashboard", RouteAccess.AUTHENTICATED, "statistics"));
+
+        // When / Then
+        assertEquals("statistics", resolver.resolve(new MockHttpServletRequest("GET", "/api/v1/%73tatistics/dashboard")).getRateClass());
+        assertEquals("statistics", resolver.resolve(new MockHttpServletRequest("GET", "/api/v1/statistics;x/dashboard")).getRateClass());
+        assertTrue(resolver.resolve(new MockHttpServletRequest("GET", "/api/v1/%61udit/auth-events")).isAdminOnly());
+        assertTrue(resolver.resolve(new MockHttpServletRequest("GET", "/api/v1/audit;jsessionid=1/auth-events")).isAdminOnly());
+    }
+
+    @Test
+    void resolve_WithContextPath_ShouldMatchThePathWithinTheApplication() {
+        // Given
+        RoutePolicyResolver resolver = resolver(route(null, "/api/v1/audit/**", RouteAccess.ADMIN, null));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tutorias/api/v1/audit/auth-events");
+        request.setContextPath("/tutorias");
+
+        // When / Then
+        assertTrue(resolver.resolve(request).isAdminOnly());
+    }
+
+    @Test
+    void constructor_WithDoubleWildcardInMiddle_ShouldThrowException() {
+        assertThrows(IllegalStateException.class,
+                () -> resolver(route(null, "/api/**/users", RouteAccess.AUTHENTICATED, null)));
+    }
+
+    private static RoutePolicyResolver resolver(AuthenticationProperties.Route... routes) {
+        AuthenticationProperties properties = new AuthenticationProperties();
+        properties.setRoutes(List.of(routes));
+        return new RoutePolicyResolver(properties);
+    }
+
+    private static AuthenticationProperties.Route route(String method, String pattern, RouteAccess access, String rateClass) {
+        return new AuthenticationProperties.Route(method, pattern, access, rateClass);
+    }
+}
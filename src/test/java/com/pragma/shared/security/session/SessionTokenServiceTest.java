@@ -0,0 +1,134 @@
+package com.pragma.shared.security.session;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.shared.config.AuthenticationProperties;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionTokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private AuthenticationProperties authProperties;
+    private SessionTokenService tokenService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        authProperties = new AuthenticationProperties();
+        authProperties.setMode(AuthenticationProperties.Mode.SIGNED_SESSION);
+        authProperties.getSession().setSecret(SECRET);
+        tokenService = new SessionTokenService(authProperties);
+
+        testUser = new User();
+        testUser.setId("user123");
+        testUser.setGoogleUserId("google123");
+        testUser.setEmail("john.doe@example.com");
+        testUser.setRol(RolUsuario.Tutor);
+        testUser.setChapter(new Chapter("chapter-1", "Backend"));
+    }
+
+    @Test
+    void verify_WithIssuedToken_ShouldReturnClaims() {
+        // Arrange
+        String token = tokenService.issue(testUser);
+
+        // Act
+        Optional<SessionClaims> claims = tokenService.verify(token);
+
+        // Assert
+        assertTrue(claims.isPresent());
+        assertEquals("user123", claims.get().getUserId());
+        assertEquals(RolUsuario.Tutor, claims.get().getRole());
+        assertEquals("chapter-1", claims.get().getChapterId());
+        assertEquals("john.doe@example.com", claims.get().getEmail());
+    }
+
+    @Test
+    void verify_WithUserWithoutChapter_ShouldReturnClaimsWithoutChapter() {
+        // Arrange
+        testUser.setChapter(null);
+        String token = tokenService.issue(testUser);
+
+        // Act
+        User principal = tokenService.verify(token).orElseThrow().toUser();
+
+        // Assert
+        assertNull(principal.getChapter());
+        assertEquals("user123", principal.getId());
+    }
+
+    @Test
+    void verify_WithTamperedPayload_ShouldRejectToken() {
+        // Arrange
+        String token = tokenService.issue(testUser);
+        testUser.setRol(RolUsuario.Administrador);
+        String forged = tokenService.issue(testUser);
+        String tampered = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        // Act & Assert
+        assertTrue(tokenService.verify(tampered).isEmpty());
+    }
+
+    @Test
+    void verify_WithTokenSignedByAnotherKey_ShouldRejectToken() {
+        // Arrange
+        AuthenticationProperties otherProperties = new AuthenticationProperties();
+        otherProperties.getSession().setSecret("fedcba9876543210fedcba9876543210");
+        String foreignToken = new SessionTokenService(otherProperties).issue(testUser);
+
+        // Act & Assert
+        assertTrue(tokenService.verify(foreignToken).isEmpty());
+    }
+
+    @Test
+    void verify_WithMalformedToken_ShouldRejectToken() {
+        assertTrue(tokenService.verify("not-a-token").isEmpty());
+        assertTrue(tokenService.verify("a.b.c").isEmpty());
+        assertTrue(tokenService.verify("!!!.???").isEmpty());
+    }
+
+    @Test
+    void verify_WithExpiredToken_ShouldRejectToken() {
+        // Arrange
+        String token = tokenService.issue(testUser);
+        SessionTokenService laterService = new SessionTokenService(authProperties,
+                Clock.offset(Clock.systemUTC(), authProperties.getSession().getTtl().plus(Duration.ofSeconds(1))));
+
+        // Act & Assert
+        assertTrue(laterService.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_ShouldCarryTheSessionEpochTheTokenWasIssuedAt() {
+        // Arrange
+        testUser.setSessionEpoch(7);
+        String token = tokenService.issue(testUser);
+        testUser.setSessionEpoch(8);
+
+        // Act
+        SessionClaims claims = tokenService.verify(token).orElseThrow();
+
+        // Assert
+        assertEquals(7, claims.getSessionEpoch());
+        assertEquals("google123", claims.getGoogleUserId());
+        assertEquals(7, claims.toUser().getSessionEpoch());
+    }
+
+    @Test
+    void constructor_WithShortSecret_ShouldFail() {
+        // Arrange
+        authProperties.getSession().setSecret("too-short");
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new SessionTokenService(authProperties));
+    }
+}
@@ -0,0 +1,152 @@
+package com.pragma.shared.serialization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.chapter.infrastructure.adapter.input.rest.dto.ChapterDto;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.dto.FeedbackDto;
+import com.pragma.shared.dto.NormalizedResponseDto;
+import com.pragma.shared.dto.OkResponseDto;
+import com.pragma.skills.infrastructure.adapter.input.rest.dto.SkillDto;
+import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.dto.TutoringSessionDto;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDetailDto;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization time of the regular and the normalized envelope for two responses of an active
+ * tutor: a list of {@code size} tutorings with the same tutor, and a tutoring detail with
+ * {@code size} sessions and feedbacks. The payload size of each form is printed before the run.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.pragma.shared.serialization.NormalizedResponseBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NormalizedResponseBenchmark {
+
+    @Param({"200"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private OkResponseDto<List<TutoringDto>> tutorings;
+    private OkResponseDto<TutoringDetailDto> detail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = objectMapper();
+        tutorings = tutorings(size);
+        detail = detail(size);
+    }
+
+    @Benchmark
+    public byte[] regularTutorings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tutorings);
+    }
+
+    @Benchmark
+    public byte[] normalizedTutorings() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new NormalizedResponseDto<>(tutorings));
+    }
+
+    @Benchmark
+    public byte[] regularDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] normalizedDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new NormalizedResponseDto<>(detail));
+    }
+
+    private static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new NormalizedResponseModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    private static OkResponseDto<List<TutoringDto>> tutorings(int size) {
+        ChapterDto backend = new ChapterDto("chapter-1", "Backend");
+        UserDto tutor = user("tutor", backend, RolUsuario.Tutor);
+        List<SkillDto> skills = List.of(new SkillDto("skill-1", "Java"), new SkillDto("skill-2", "Spring Boot"));
+        List<TutoringDto> tutorings = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            // An active tutor mentors a handful of tutees, repeatedly
+            tutorings.add(tutoring("tutoring-" + i, tutor, user("tutee-" + (i % 10), backend, RolUsuario.Tutorado), skills));
+        }
+        return OkResponseDto.of("Exitoso", tutorings);
+    }
+
+    private static OkResponseDto<TutoringDetailDto> detail(int size) {
+        ChapterDto backend = new ChapterDto("chapter-1", "Backend");
+        UserDto tutor = user("tutor", backend, RolUsuario.Tutor);
+        UserDto tutee = user("tutee", backend, RolUsuario.Tutorado);
+        List<SkillDto> skills = List.of(new SkillDto("skill-1", "Java"), new SkillDto("skill-2", "Spring Boot"));
+        TutoringDto tutoring = tutoring("tutoring-1", tutor, tutee, skills);
+        List<TutoringSessionDto> sessions = new ArrayList<>();
+        List<FeedbackDto> feedbacks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            sessions.add(new TutoringSessionDto("session-" + i, "2024-03-01T10:00", 60, "https://meet.example.com/" + i,
+                    "Temas de la sesión", "Notas de la sesión", TutoringsSessionStatus.Realizada));
+            feedbacks.add(new FeedbackDto("feedback-" + i, i % 2 == 0 ? tutee : tutor, new Date(), tutoring, "5",
+                    "Muy buena sesión"));
+        }
+        return OkResponseDto.of("Exitoso", new TutoringDetailDto(tutoring.getId(), tutor, tutee, skills, new Date(),
+                new Date(), TutoringStatus.Activa, "Objetivos", null, new Date(), new Date(), sessions, feedbacks));
+    }
+
+    private static TutoringDto tutoring(String id, UserDto tutor, UserDto tutee, List<SkillDto> skills) {
+        return new TutoringDto(id, tutor, tutee, skills, new Date(), new Date(), TutoringStatus.Activa,
+                "Objetivos de la tutoría", null, new Date(), new Date());
+    }
+
+    private static UserDto user(String key, ChapterDto chapter, RolUsuario rol) {
+        return new UserDto(key + "-id", key, "Test", key + "@pragma.com.co", "U" + key, "google-" + key, chapter, rol, 3, 2);
+    }
+
+    public static void main(String[] args) throws RunnerException, JsonProcessingException {
+        ObjectMapper objectMapper = objectMapper();
+        OkResponseDto<List<TutoringDto>> tutorings = tutorings(200);
+        OkResponseDto<TutoringDetailDto> detail = detail(200);
+        System.out.printf("tutorings: %d bytes regular, %d bytes normalized%n",
+                objectMapper.writeValueAsBytes(tutorings).length,
+                objectMapper.writeValueAsBytes(new NormalizedResponseDto<>(tutorings)).length);
+        System.out.printf("detail: %d bytes regular, %d bytes normalized%n",
+                objectMapper.writeValueAsBytes(detail).length,
+                objectMapper.writeValueAsBytes(new NormalizedResponseDto<>(detail)).length);
+
+        new Runner(new OptionsBuilder()
+                .include(NormalizedResponseBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,114 @@
+package com.pragma.shared.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pragma.chapter.infrastructure.adapter.input.rest.dto.ChapterDto;
+import com.pragma.shared.dto.NormalizedResponseDto;
+import com.pragma.shared.dto.OkResponseDto;
+import com.pragma.skills.infrastructure.adapter.input.rest.dto.SkillDto;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NormalizedResponseSerializerTest {
+
+    private ObjectMapper objectMapper;
+    private OkResponseDto<List<TutoringDto>> response;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new NormalizedResponseModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        ChapterDto backend = new ChapterDto("chapter-1", "Backend");
+        UserDto tutor = user("tutor-1", backend);
+        SkillDto java = new SkillDto("skill-1", "Java");
+        List<TutoringDto> tutorings = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            UserDto tutee = user("tutee-" + (i % 4), backend);
+            tutorings.add(new TutoringDto("tutoring-" + i, tutor, tutee, List.of(java, new SkillDto("skill-2", "Spring")),
+                    new Date(), new Date(), TutoringStatus.Activa, "Objetivos", null, new Date(), new Date()));
+        }
+        response = OkResponseDto.of("Exitoso", tutorings);
+    }
+
+    @Test
+    void regularResponse_ShouldEmbedResources() throws Exception {
+        // When
+        JsonNode json = objectMapper.valueToTree(response);
+
+        // Then
+        assertEquals("Ana", json.at("/data/0/tutor/firstName").asText());
+        assertEquals("Backend", json.at("/data/0/tutor/chapter/name").asText());
+        assertFalse(json.has("included"));
+    }
+
+    @Test
+    void normalizedResponse_ShouldReferenceResourcesAndIncludeEachOnce() throws Exception {
+        // When
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(new NormalizedResponseDto<>(response)));
+
+        // Then
+        assertEquals("Exitoso", json.get("message").asText());
+        assertTrue(json.hasNonNull("timestamp"));
+        assertEquals(40, json.get("data").size());
+        assertEquals("tutoring-0", json.at("/data/0/id").asText());
+        assertEquals("users", json.at("/data/0/tutor/type").asText());
+        assertEquals("tutor-1", json.at("/data/0/tutor/id").asText());
+        assertFalse(json.at("/data/0/tutor").has("firstName"));
+        assertEquals("skills", json.at("/data/0/skills/0/type").asText());
+
+        JsonNode included = json.get("included");
+        assertEquals(5, included.get("users").size());
+        assertEquals(2, included.get("skills").size());
+        assertEquals("Ana", included.at("/users/tutor-1/firstName").asText());
+        // Resources referenced from included resources are included as well
+        assertEquals("chapters", included.at("/users/tutor-1/chapter/type").asText());
+        assertEquals("Backend", included.at("/chapters/chapter-1/name").asText());
+    }
+
+    @Test
+    void normalizedResponse_ShouldBeSmallerWhenResourcesRepeat() throws Exception {
+        // When
+        int regular = objectMapper.writeValueAsBytes(response).length;
+        int normalized = objectMapper.writeValueAsBytes(new NormalizedResponseDto<>(response)).length;
+
+        // Then
+        assertTrue(normalized * 3 < regular * 2, "regular: " + regular + " bytes, normalized: " + normalized + " bytes");
+    }
+
+    @Test
+    void normalizedResponse_ShouldEmbedResourcesWithoutId() throws Exception {
+        // Given
+        UserDto unsaved = user(null, null);
+
+        // When
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+                new NormalizedResponseDto<>(OkResponseDto.of("Exitoso", unsaved))));
+
+        // Then
+        assertEquals("Ana", json.at("/data/firstName").asText());
+        assertEquals(0, json.get("included").size());
+    }
+
+    private static UserDto user(String id, ChapterDto chapter) {
+        return new UserDto(id, "Ana", "Pérez", id + "@pragma.com.co", null, "google-" + id, chapter, RolUsuario.Tutor, 3, 4);
+    }
+}
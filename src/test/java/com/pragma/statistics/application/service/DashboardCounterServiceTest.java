@@ -0,0 +1,297 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.GetAllChaptersUseCase;
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.statistics.domain.model.DashboardCounter;
+import com.pragma.statistics.domain.model.DashboardStatistics;
+import com.pragma.statistics.domain.model.enums.CounterDimension;
+import com.pragma.statistics.domain.port.output.DashboardCounterRepository;
+import com.pragma.statistics.domain.port.output.StatisticsRepository;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardCounterServiceTest {
+
+    @Mock
+    private StatisticsRepository statisticsRepository;
+
+    @Mock
+    private GetAllChaptersUseCase getAllChaptersUseCase;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryCounterRepository counterRepository;
+    private StatisticsProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardCounterService service;
+
+    private final Chapter backend = new Chapter("backend", "Backend");
+    private final Chapter frontend = new Chapter("frontend", "Frontend");
+
+    @BeforeEach
+    void setUp() {
+        counterRepository = new InMemoryCounterRepository();
+        properties = new StatisticsProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        service = new DashboardCounterService(properties, counterRepository, statisticsRepository,
+                getAllChaptersUseCase, userRepository, transactionManager, meterRegistry);
+    }
+
+    @Test
+    void tutoringRequestStatusChanged_ShouldMoveCountInGlobalAndChapterScope() {
+        // Given
+        TutoringRequest request = request(user("tutee-1", backend, RolUsuario.Tutorado), RequestStatus.Aprobada);
+
+        // When
+        service.tutoringRequestStatusChanged(request, RequestStatus.Pendiente);
+
+        // Then
+        assertEquals(-1, counterRepository.value("*", CounterDimension.REQUEST, "Pendiente"));
+        assertEquals(1, counterRepository.value("*", CounterDimension.REQUEST, "Aprobada"));
+        assertEquals(-1, counterRepository.value("backend", CounterDimension.REQUEST, "Pendiente"));
+        assertEquals(1, counterRepository.value("backend", CounterDimension.REQUEST, "Aprobada"));
+    }
+
+    @Test
+    void tutoringRequestStatusChanged_ShouldLookUpChapterWhenOnlyTuteeIdIsKnown() {
+        // Given
+        User tuteeReference = new User();
+        tuteeReference.setId("tutee-1");
+        when(userRepository.findById("tutee-1")).thenReturn(Optional.of(user("tutee-1", frontend, RolUsuario.Tutorado)));
+
+        // When
+        service.tutoringRequestStatusChanged(request(tuteeReference, RequestStatus.Pendiente), null);
+
+        // Then
+        assertEquals(1, counterRepository.value("*", CounterDimension.REQUEST, "Pendiente"));
+        assertEquals(1, counterRepository.value("frontend", CounterDimension.REQUEST, "Pendiente"));
+    }
+
+    @Test
+    void tutoringRequestDeleted_ShouldDecrementCurrentStatus() {
+        // When
+        service.tutoringRequestDeleted(request(user("tutee-1", backend, RolUsuario.Tutorado), RequestStatus.Pendiente));
+
+        // Then
+        assertEquals(-1, counterRepository.value("*", CounterDimension.REQUEST, "Pendiente"));
+        assertEquals(-1, counterRepository.value("backend", CounterDimension.REQUEST, "Pendiente"));
+        assertEquals(0, counterRepository.value("*", CounterDimension.REQUEST, "Cancelada"));
+    }
+
+    @Test
+    void tutoringStatusChanged_ShouldCountTutoringOnceInEachParticipantChapter() {
+        // Given
+        Tutoring crossChapter = tutoring(user("tutor-1", backend, RolUsuario.Tutor),
+                user("tutee-1", frontend, RolUsuario.Tutorado), TutoringStatus.Activa);
+        Tutoring sameChapter = tutoring(user("tutor-2", backend, RolUsuario.Tutor),
+                user("tutee-2", backend, RolUsuario.Tutorado), TutoringStatus.Activa);
+
+        // When
+        service.tutoringStatusChanged(crossChapter, null);
+        service.tutoringStatusChanged(sameChapter, null);
+
+        // Then
+        assertEquals(2, counterRepository.value("*", CounterDimension.TUTORING, "Activa"));
+        assertEquals(2, counterRepository.value("backend", CounterDimension.TUTORING, "Activa"));
+        assertEquals(1, counterRepository.value("frontend", CounterDimension.TUTORING, "Activa"));
+    }
+
+    @Test
+    void userRoleChanged_ShouldCountTutorsPerChapter() {
+        // When
+        service.userRoleChanged(user("user-1", backend, RolUsuario.Tutor), RolUsuario.Tutorado);
+        service.userRoleChanged(user("user-2", backend, RolUsuario.Administrador), RolUsuario.Tutor);
+        service.userRoleChanged(user("user-3", backend, RolUsuario.Tutor), RolUsuario.Tutor);
+
+        // Then
+        assertEquals(0, counterRepository.value("backend", CounterDimension.TUTOR, DashboardStatistics.ACTIVE_TUTORS_KEY));
+        assertEquals(0, counterRepository.value("*", CounterDimension.TUTOR, "Backend"));
+        assertEquals(4, counterRepository.incrementCalls);
+    }
+
+    @Test
+    void getDashboardFromCounters_ShouldBeEmptyUntilReconciled() {
+        assertTrue(service.getDashboardFromCounters(null).isEmpty());
+    }
+
+    @Test
+    void reconcile_ShouldSeedCountersAndServeDashboardFromThem() {
+        // Given
+        stubSource(Map.of("Pendiente", 3L), Map.of("Activa", 2L), Map.of("Backend", 1L),
+                Map.of("Pendiente", 1L), Map.of("Activa", 1L), Map.of(DashboardStatistics.ACTIVE_TUTORS_KEY, 1L));
+
+        // When
+        service.reconcile();
+        DashboardStatistics global = service.getDashboardFromCounters(null).orElseThrow();
+        DashboardStatistics chapter = service.getDashboardFromCounters("backend").orElseThrow();
+
+        // Then
+        assertTrue(service.isReconciled());
+        assertEquals(0, service.lastDrift());
+        assertEquals(3L, global.getRequestsByStatus().get("Pendiente"));
+        assertEquals(0L, global.getRequestsByStatus().get("Aprobada"));
+        assertEquals(RequestStatus.values().length, global.getRequestsByStatus().size());
+        assertEquals(2L, global.getTutoringsByStatus().get("Activa"));
+        assertEquals(Map.of("Backend", 1L), global.getActiveTutorsByChapter());
+        assertEquals(1L, chapter.getRequestsByStatus().get("Pendiente"));
+        assertEquals(Map.of(DashboardStatistics.ACTIVE_TUTORS_KEY, 1L), chapter.getActiveTutorsByChapter());
+    }
+
+    @Test
+    void reconcile_ShouldCorrectAndReportDrift() {
+        // Given
+        stubSource(Map.of("Pendiente", 3L), Map.of(), Map.of(),
+                Map.of("Pendiente", 1L), Map.of(), Map.of(DashboardStatistics.ACTIVE_TUTORS_KEY, 0L));
+        service.reconcile();
+        counterRepository.increment("*", CounterDimension.REQUEST, "Pendiente", 5);
+        counterRepository.increment("backend", CounterDimension.TUTOR, DashboardStatistics.ACTIVE_TUTORS_KEY, 2);
+
+        // When
+        service.reconcile();
+
+        // Then
+        assertEquals(2, service.lastDrift());
+        assertEquals(2.0, meterRegistry.get("statistics.counters.drift").gauge().value());
+        assertEquals(2.0, meterRegistry.get("statistics.counters.corrections").counter().count());
+        assertEquals(3, counterRepository.value("*", CounterDimension.REQUEST, "Pendiente"));
+        assertEquals(0, counterRepository.value("backend", CounterDimension.TUTOR, DashboardStatistics.ACTIVE_TUTORS_KEY));
+    }
+
+    @Test
+    void reconcile_ShouldSetValuesUnderLockInOneTransactionPerScope() {
+        // Given
+        stubSource(Map.of("Pendiente", 3L), Map.of(), Map.of(),
+                Map.of("Pendiente", 1L), Map.of(), Map.of());
+        service.reconcile();
+        counterRepository.increment("*", CounterDimension.REQUEST, "Pendiente", 5);
+
+        // When: a second instance reconciles the already corrected counters
+        service.reconcile();
+        service.reconcile();
+
+        // Then
+        assertEquals(3, counterRepository.value("*", CounterDimension.REQUEST, "Pendiente"));
+        assertEquals(0, service.lastDrift());
+        assertEquals(1.0, meterRegistry.get("statistics.counters.corrections").counter().count());
+        assertEquals(List.of("*", "backend", "*", "backend", "*", "backend"), counterRepository.lockedScopes);
+        verify(transactionManager, times(6)).commit(any());
+    }
+
+    @Test
+    void disabledCounters_ShouldIgnoreWritesAndNotServeDashboard() {
+        // Given
+        properties.getCounters().setEnabled(false);
+
+        // When
+        service.tutoringRequestStatusChanged(request(user("tutee-1", backend, RolUsuario.Tutorado), RequestStatus.Pendiente), null);
+        service.reconcile();
+
+        // Then
+        assertEquals(0, counterRepository.incrementCalls);
+        assertTrue(counterRepository.lockedScopes.isEmpty());
+        assertTrue(service.getDashboardFromCounters(null).isEmpty());
+        verifyNoInteractions(statisticsRepository);
+    }
+
+    private void stubSource(Map<String, Long> globalRequests, Map<String, Long> globalTutorings,
+                            Map<String, Long> globalTutors, Map<String, Long> chapterRequests,
+                            Map<String, Long> chapterTutorings, Map<String, Long> chapterTutors) {
+        when(getAllChaptersUseCase.getAllChapters()).thenReturn(List.of(backend));
+        when(statisticsRepository.loadDashboardStatistics(null))
+                .thenReturn(new DashboardStatistics(globalRequests, globalTutorings, globalTutors));
+        when(statisticsRepository.loadDashboardStatistics("backend"))
+                .thenReturn(new DashboardStatistics(chapterRequests, chapterTutorings, chapterTutors));
+    }
+
+    private static User user(String id, Chapter chapter, RolUsuario rol) {
+        User user = new User();
+        user.setId(id);
+        user.setChapter(chapter);
+        user.setRol(rol);
+        return user;
+    }
+
+    private static TutoringRequest request(User tutee, RequestStatus status) {
+        TutoringRequest request = new TutoringRequest();
+        request.setTutee(tutee);
+        request.setRequestStatus(status);
+        return request;
+    }
+
+    private static Tutoring tutoring(User tutor, User tutee, TutoringStatus status) {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setTutor(tutor);
+        tutoring.setTutee(tutee);
+        tutoring.setStatus(status);
+        return tutoring;
+    }
+
+    private static final class InMemoryCounterRepository implements DashboardCounterRepository {
+
+        private final Map<String, DashboardCounter> counters = new LinkedHashMap<>();
+        private final List<String> lockedScopes = new ArrayList<>();
+        private int incrementCalls;
+
+        @Override
+        public void increment(String scope, CounterDimension dimension, String key, long delta) {
+            incrementCalls++;
+            counters.computeIfAbsent(scope + "|" + dimension + "|" + key,
+                    id -> new DashboardCounter(scope, dimension, key, 0)).setCount(value(scope, dimension, key) + delta);
+        }
+
+        @Override
+        public void set(String scope, CounterDimension dimension, String key, long count) {
+            counters.computeIfAbsent(scope + "|" + dimension + "|" + key,
+                    id -> new DashboardCounter(scope, dimension, key, 0)).setCount(count);
+        }
+
+        @Override
+        public List<DashboardCounter> lockScope(String scope) {
+            lockedScopes.add(scope);
+            return findByScope(scope);
+        }
+
+        @Override
+        public List<DashboardCounter> findByScope(String scope) {
+            List<DashboardCounter> result = new ArrayList<>();
+            for (DashboardCounter counter : counters.values()) {
+                if (counter.getScope().equals(scope)) {
+                    result.add(new DashboardCounter(scope, counter.getDimension(), counter.getKey(), counter.getCount()));
+                }
+            }
+            return result;
+        }
+
+        private long value(String scope, CounterDimension dimension, String key) {
+            DashboardCounter counter = counters.get(scope + "|" + dimension + "|" + key);
+            return counter != null ? counter.getCount() : 0;
+        }
+    }
+}
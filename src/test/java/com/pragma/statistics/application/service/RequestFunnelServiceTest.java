@@ -0,0 +1,181 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.statistics.domain.model.DwellTimeHistogram;
+import com.pragma.statistics.domain.model.DwellTimePercentiles;
+import com.pragma.statistics.domain.model.LatencyHistogram;
+import com.pragma.statistics.domain.model.RequestFunnelStatistics;
+import com.pragma.statistics.domain.model.enums.FunnelStage;
+import com.pragma.statistics.domain.port.output.FunnelHistogramRepository;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.usuarios.domain.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestFunnelServiceTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private InMemoryHistogramRepository histogramRepository;
+    private StatisticsProperties properties;
+    private RequestFunnelService service;
+
+    @BeforeEach
+    void setUp() {
+        histogramRepository = new InMemoryHistogramRepository();
+        properties = new StatisticsProperties();
+        service = new RequestFunnelService(properties, histogramRepository);
+    }
+
+    @Test
+    void requestStatusChanged_ShouldRecordDwellTimeOfLeftStage() {
+        // Given
+        Date now = new Date();
+        TutoringRequest request = request(RequestStatus.Aprobada, now, new Date(now.getTime() - 5 * HOUR), "backend", "java");
+
+        // When
+        service.requestStatusChanged(request, RequestStatus.Pendiente, new Date(now.getTime() - 2 * HOUR));
+
+        // Then
+        DwellTimePercentiles pending = service.getRequestFunnel(null, null).getStages().get(FunnelStage.PENDIENTE);
+        assertEquals(1, pending.getCount());
+        assertEquals(7_200, pending.getP50Seconds(), 7_200 / 32);
+        assertEquals(1, service.getRequestFunnel("backend", "java").getStages().get(FunnelStage.PENDIENTE).getCount());
+        assertEquals(0, service.getRequestFunnel("backend", "java").getStages().get(FunnelStage.TIME_TO_ASSIGNMENT).getCount());
+        assertEquals(0, service.getRequestFunnel("frontend", null).getStages().get(FunnelStage.PENDIENTE).getCount());
+    }
+
+    @Test
+    void requestStatusChanged_ToAsignada_ShouldAlsoRecordTimeToAssignment() {
+        // Given
+        Date now = new Date();
+        TutoringRequest request = request(RequestStatus.Asignada, now, new Date(now.getTime() - 48 * HOUR), "backend", "java");
+
+        // When
+        service.requestStatusChanged(request, RequestStatus.Conversando, new Date(now.getTime() - HOUR));
+
+        // Then
+        Map<FunnelStage, DwellTimePercentiles> stages = service.getRequestFunnel(null, "java").getStages();
+        assertEquals(1, stages.get(FunnelStage.CONVERSANDO).getCount());
+        assertEquals(48 * 3_600, stages.get(FunnelStage.TIME_TO_ASSIGNMENT).getP99Seconds(), 48 * 3_600 / 32);
+    }
+
+    @Test
+    void requestStatusChanged_ShouldIgnoreTransitionsOutsideThePipeline() {
+        // Given
+        Date now = new Date();
+        TutoringRequest request = request(RequestStatus.Cancelada, now, new Date(now.getTime() - HOUR), "backend", "java");
+
+        // When
+        service.requestStatusChanged(request, RequestStatus.Asignada, new Date(now.getTime() - HOUR));
+
+        // Then
+        assertEquals(0, service.pendingHistograms());
+    }
+
+    @Test
+    void flush_ShouldMergePendingHistogramsIntoStoredOnes() {
+        // Given
+        Date now = new Date();
+        service.requestStatusChanged(request(RequestStatus.Aprobada, now, now, "backend", "java"),
+                RequestStatus.Pendiente, new Date(now.getTime() - HOUR));
+        service.flush();
+        service.requestStatusChanged(request(RequestStatus.Aprobada, now, now, "backend", "java"),
+                RequestStatus.Pendiente, new Date(now.getTime() - 3 * HOUR));
+
+        // When
+        RequestFunnelStatistics beforeFlush = service.getRequestFunnel("backend", null);
+        service.flush();
+        RequestFunnelStatistics afterFlush = service.getRequestFunnel("backend", null);
+
+        // Then
+        assertEquals(0, service.pendingHistograms());
+        assertEquals(2, beforeFlush.getStages().get(FunnelStage.PENDIENTE).getCount());
+        assertEquals(2, afterFlush.getStages().get(FunnelStage.PENDIENTE).getCount());
+        assertEquals(2, histogramRepository.stored.get("PENDIENTE|backend|*").getTotalCount());
+    }
+
+    @Test
+    void flush_ShouldKeepHistogramsWhenStoreFails() {
+        // Given
+        Date now = new Date();
+        service.requestStatusChanged(request(RequestStatus.Aprobada, now, now, "backend", "java"),
+                RequestStatus.Pendiente, new Date(now.getTime() - HOUR));
+        int pendingBefore = service.pendingHistograms();
+        histogramRepository.failNextMerge = true;
+
+        // When
+        service.flush();
+
+        // Then
+        assertEquals(pendingBefore, service.pendingHistograms());
+        assertEquals(1, service.getRequestFunnel(null, null).getStages().get(FunnelStage.PENDIENTE).getCount());
+    }
+
+    @Test
+    void disabledFunnel_ShouldNotRecord() {
+        properties.getFunnel().setEnabled(false);
+        Date now = new Date();
+
+        service.requestStatusChanged(request(RequestStatus.Aprobada, now, now, "backend", "java"),
+                RequestStatus.Pendiente, new Date(now.getTime() - HOUR));
+
+        assertEquals(0, service.pendingHistograms());
+    }
+
+    private static TutoringRequest request(RequestStatus status, Date statusChangedAt, Date createdAt,
+                                           String chapterId, String skillId) {
+        User tutee = new User();
+        tutee.setId("tutee-1");
+        tutee.setChapter(new Chapter(chapterId, chapterId));
+        TutoringRequest request = new TutoringRequest();
+        request.setTutee(tutee);
+        request.setSkills(List.of(new Skill(skillId, skillId)));
+        request.setRequestStatus(status);
+        request.setCreatedAt(createdAt);
+        request.setStatusChangedAt(statusChangedAt);
+        return request;
+    }
+
+    private static final class InMemoryHistogramRepository implements FunnelHistogramRepository {
+
+        private final Map<String, LatencyHistogram> stored = new HashMap<>();
+        private boolean failNextMerge;
+
+        @Override
+        public void mergeAll(Collection<DwellTimeHistogram> deltas) {
+            if (failNextMerge) {
+                failNextMerge = false;
+                throw new IllegalStateException("Row was updated by another transaction");
+            }
+            for (DwellTimeHistogram delta : deltas) {
+                stored.computeIfAbsent(delta.getStage() + "|" + delta.getChapterKey() + "|" + delta.getSkillKey(),
+                        key -> new LatencyHistogram()).merge(delta.getHistogram());
+            }
+        }
+
+        @Override
+        public List<DwellTimeHistogram> findByChapterAndSkill(String chapterKey, String skillKey) {
+            List<DwellTimeHistogram> result = new ArrayList<>();
+            stored.forEach((key, histogram) -> {
+                String[] parts = key.split("\\|");
+                if (parts[1].equals(chapterKey) && parts[2].equals(skillKey)) {
+                    result.add(new DwellTimeHistogram(FunnelStage.valueOf(parts[0]), chapterKey, skillKey, histogram.copy()));
+                }
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.pragma.statistics.application.service;
+
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.statistics.domain.model.RollupSourceRecord;
+import com.pragma.statistics.domain.model.StatisticsRollup;
+import com.pragma.statistics.domain.model.StatisticsTimeSeries;
+import com.pragma.statistics.domain.model.enums.RollupGranularity;
+import com.pragma.statistics.domain.model.enums.RollupSubject;
+import com.pragma.statistics.domain.port.output.RollupSourceRepository;
+import com.pragma.statistics.domain.port.output.StatisticsRollupRepository;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsRollupServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+
+    private InMemorySourceRepository sourceRepository;
+    private InMemoryRollupRepository rollupRepository;
+    private StatisticsProperties properties;
+    private StatisticsRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        sourceRepository = new InMemorySourceRepository();
+        rollupRepository = new InMemoryRollupRepository();
+        properties = new StatisticsProperties();
+        service = new StatisticsRollupService(properties, rollupRepository, sourceRepository);
+    }
+
+    @Test
+    void refresh_WithoutWatermark_ShouldBuildDailyAndWeeklyRollups() {
+        // Given
+        sourceRepository.add(RollupSubject.REQUEST, record("r1", MONDAY, "Pendiente", Set.of("backend"), Set.of("java")));
+        sourceRepository.add(RollupSubject.REQUEST, record("r2", MONDAY, "Aprobada", Set.of("backend"), Set.of("java", "sql")));
+        sourceRepository.add(RollupSubject.REQUEST, record("r3", MONDAY.plusDays(2), "Pendiente", Set.of("frontend"), Set.of()));
+
+        // When
+        service.refresh();
+
+        // Then
+        StatisticsTimeSeries daily = service.getTimeSeries(RollupSubject.REQUEST, RollupGranularity.DAY,
+                MONDAY, MONDAY.plusDays(2), null, null);
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2)), daily.getBuckets());
+        assertEquals(List.of(1L, 0L, 1L), daily.getSeriesByStatus().get("Pendiente"));
+        assertEquals(List.of(1L, 0L, 0L), daily.getSeriesByStatus().get("Aprobada"));
+        assertEquals(RequestStatus.values().length, daily.getSeriesByStatus().size());
+
+        StatisticsTimeSeries weekly = service.getTimeSeries(RollupSubject.REQUEST, RollupGranularity.WEEK,
+                MONDAY.plusDays(1), MONDAY.plusDays(6), "backend", "java");
+        assertEquals(List.of(MONDAY), weekly.getBuckets());
+        assertEquals(List.of(1L), weekly.getSeriesByStatus().get("Pendiente"));
+        assertEquals(List.of(1L), weekly.getSeriesByStatus().get("Aprobada"));
+        assertTrue(rollupRepository.findWatermark(RollupSubject.REQUEST).isPresent());
+    }
+
+    @Test
+    void refresh_ShouldCountItemOnceInTotalsWhenItBelongsToSeveralChapters() {
+        // Given
+        sourceRepository.add(RollupSubject.TUTORING,
+                record("t1", MONDAY, "Activa", Set.of("backend", "frontend"), Set.of("java")));
+
+        // When
+        service.refresh();
+
+        // Then
+        assertEquals(List.of(1L), activa(null, null));
+        assertEquals(List.of(1L), activa("backend", null));
+        assertEquals(List.of(1L), activa("frontend", "java"));
+        assertEquals(List.of(0L), activa("qa", null));
+    }
+
+    @Test
+    void refresh_WithWatermark_ShouldRecomputeOnlyDaysOfUpdatedItems() {
+        // Given
+        sourceRepository.add(RollupSubject.REQUEST, record("r1", MONDAY, "Pendiente", Set.of("backend"), Set.of()));
+        sourceRepository.add(RollupSubject.REQUEST, record("r2", MONDAY.plusDays(1), "Pendiente", Set.of("backend"), Set.of()));
+        service.refresh();
+        sourceRepository.queriedRanges.clear();
+
+        // When
+        sourceRepository.update(RollupSubject.REQUEST, "r2", "Aprobada");
+        service.refresh();
+
+        // Then
+        assertNotNull(sourceRepository.lastSince.get(RollupSubject.REQUEST));
+        assertEquals(List.of(MONDAY.plusDays(1) + "/" + MONDAY.plusDays(2)), sourceRepository.queriedRanges);
+        StatisticsTimeSeries weekly = service.getTimeSeries(RollupSubject.REQUEST, RollupGranularity.WEEK,
+                MONDAY, MONDAY, null, null);
+        assertEquals(List.of(1L), weekly.getSeriesByStatus().get("Pendiente"));
+        assertEquals(List.of(1L), weekly.getSeriesByStatus().get("Aprobada"));
+    }
+
+    @Test
+    void rebuild_ShouldRemoveCountsOfDeletedItems() {
+        // Given
+        sourceRepository.add(RollupSubject.REQUEST, record("r1", MONDAY, "Pendiente", Set.of("backend"), Set.of()));
+        service.refresh();
+        sourceRepository.delete(RollupSubject.REQUEST, "r1");
+
+        // When
+        service.rebuild();
+
+        // Then
+        StatisticsTimeSeries daily = service.getTimeSeries(RollupSubject.REQUEST, RollupGranularity.DAY,
+                MONDAY, MONDAY, null, null);
+        assertEquals(List.of(0L), daily.getSeriesByStatus().get("Pendiente"));
+        assertTrue(rollupRepository.rollups.isEmpty());
+    }
+
+    @Test
+    void getTimeSeries_ShouldLoadRollupsWrittenByAnotherInstance() {
+        // Given
+        rollupRepository.rollups.add(new StatisticsRollup(RollupSubject.REQUEST, RollupGranularity.DAY, MONDAY,
+                StatisticsRollup.ALL, StatisticsRollup.ALL, "Pendiente", 7));
+
+        // When
+        StatisticsTimeSeries daily = service.getTimeSeries(RollupSubject.REQUEST, RollupGranularity.DAY,
+                MONDAY, MONDAY, null, null);
+
+        // Then
+        assertEquals(List.of(7L), daily.getSeriesByStatus().get("Pendiente"));
+    }
+
+    @Test
+    void getTimeSeries_ShouldRejectInvalidRanges() {
+        properties.getRollups().setMaxBuckets(10);
+
+        assertThrows(IllegalArgumentException.class, () -> service.getTimeSeries(RollupSubject.REQUEST,
+                RollupGranularity.DAY, MONDAY, MONDAY.minusDays(1), null, null));
+        assertThrows(IllegalArgumentException.class, () -> service.getTimeSeries(RollupSubject.REQUEST,
+                RollupGranularity.DAY, MONDAY, MONDAY.plusDays(10), null, null));
+        assertEquals(2, service.getTimeSeries(RollupSubject.REQUEST, RollupGranularity.WEEK,
+                MONDAY, MONDAY.plusDays(10), null, null).getBuckets().size());
+    }
+
+    private List<Long> activa(String chapterId, String skillId) {
+        return service.getTimeSeries(RollupSubject.TUTORING, RollupGranularity.DAY, MONDAY, MONDAY,
+                chapterId, skillId).getSeriesByStatus().get("Activa");
+    }
+
+    private static RollupSourceRecord record(String id, LocalDate createdDay, String status,
+                                             Set<String> chapterIds, Set<String> skillIds) {
+        return new RollupSourceRecord(id, createdDay, status, chapterIds, skillIds);
+    }
+
+    private static final class InMemorySourceRepository implements RollupSourceRepository {
+
+        private final Map<RollupSubject, List<RollupSourceRecord>> records = new EnumMap<>(RollupSubject.class);
+        private final Map<RollupSubject, List<String>> updatedIds = new EnumMap<>(RollupSubject.class);
+        private final Map<RollupSubject, LocalDateTime> lastSince = new EnumMap<>(RollupSubject.class);
+        private final List<String> queriedRanges = new ArrayList<>();
+
+        void add(RollupSubject subject, RollupSourceRecord record) {
+            records.computeIfAbsent(subject, s -> new ArrayList<>()).add(record);
+        }
+
+        void update(RollupSubject subject, String id, String status) {
+            records.get(subject).stream().filter(r -> r.getId().equals(id)).forEach(r -> r.setStatus(status));
+            updatedIds.computeIfAbsent(subject, s -> new ArrayList<>()).add(id);
+        }
+
+        void delete(RollupSubject subject, String id) {
+            records.get(subject).removeIf(r -> r.getId().equals(id));
+        }
+
+        @Override
+        public Set<LocalDate> findCreationDaysUpdatedSince(RollupSubject subject, LocalDateTime since) {
+            lastSince.put(subject, since);
+            List<String> updated = updatedIds.getOrDefault(subject, List.of());
+            Set<LocalDate> days = new TreeSet<>();
+            for (RollupSourceRecord record : records.getOrDefault(subject, List.of())) {
+                if (since == null || updated.contains(record.getId())) {
+                    days.add(record.getCreatedDay());
+                }
+            }
+            updatedIds.remove(subject);
+            return days;
+        }
+
+        @Override
+        public List<RollupSourceRecord> findCreatedBetween(RollupSubject subject, LocalDate fromDay, LocalDate toDay) {
+            queriedRanges.add(fromDay + "/" + toDay);
+            return records.getOrDefault(subject, List.of()).stream()
+                    .filter(r -> !r.getCreatedDay().isBefore(fromDay) && r.getCreatedDay().isBefore(toDay))
+                    .toList();
+        }
+    }
+
+    private static final class InMemoryRollupRepository implements StatisticsRollupRepository {
+
+        private final List<StatisticsRollup> rollups = new ArrayList<>();
+        private final Map<RollupSubject, LocalDateTime> watermarks = new EnumMap<>(RollupSubject.class);
+
+        @Override
+        public void replaceBuckets(RollupSubject subject, RollupGranularity granularity,
+                                   Collection<LocalDate> bucketStarts, List<StatisticsRollup> replacement) {
+            rollups.removeIf(r -> r.getSubject() == subject && r.getGranularity() == granularity
+                    && bucketStarts.contains(r.getBucketStart()));
+            rollups.addAll(replacement);
+        }
+
+        @Override
+        public List<StatisticsRollup> findAll() {
+            return new ArrayList<>(rollups);
+        }
+
+        @Override
+        public Optional<LocalDateTime> findWatermark(RollupSubject subject) {
+            return Optional.ofNullable(watermarks.get(subject));
+        }
+
+        @Override
+        public void saveWatermark(RollupSubject subject, LocalDateTime watermark) {
+            watermarks.put(subject, watermark);
+        }
+    }
+}
@@ -1,15 +1,40 @@
 package com.pragma.statistics.application.service;
 
+import com.pragma.shared.concurrency.ParallelQueryExecutor;
+import com.pragma.shared.config.ParallelQueryProperties;
+import com.pragma.shared.config.StatisticsProperties;
+import com.pragma.statistics.domain.model.DashboardStatistics;
+import com.pragma.statistics.domain.port.input.GetDashboardCountersUseCase;
 import com.pragma.statistics.domain.port.output.StatisticsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -18,9 +43,31 @@ class StatisticsServiceTest {
     @Mock
     private StatisticsRepository statisticsRepository;
 
-    @InjectMocks
+    @Mock
+    private GetDashboardCountersUseCase getDashboardCountersUseCase;
+
+    private StatisticsProperties properties;
+    private ParallelQueryExecutor parallelQueryExecutor;
     private StatisticsService statisticsService;
 
+    @BeforeEach
+    void setUp() {
+        properties = new StatisticsProperties();
+        parallelQueryExecutor = new ParallelQueryExecutor(new ParallelQueryProperties(), 4);
+        statisticsService = newService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statisticsService.close();
+        parallelQueryExecutor.close();
+    }
+
+    private StatisticsService newService() {
+        return new StatisticsService(statisticsRepository, getDashboardCountersUseCase, parallelQueryExecutor,
+            properties, new SimpleMeterRegistry());
+    }
+
     @Test
     void shouldReturnDashboardStatistics() {
         // Given
@@ -40,4 +87,182 @@ class StatisticsServiceTest {
         assertEquals(tutoringsByStatus, result.getTutoringsByStatus());
         assertEquals(activeTutorsByChapter, result.getActiveTutorsByChapter());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldFailGlobalDashboardWhenOneQueryFails() {
+        // Given
+        // The failure cancels the sibling queries, which may not have run yet
+        lenient().when(statisticsRepository.countRequestsByStatus(null)).thenReturn(Map.of());
+        when(statisticsRepository.countTutoringsByStatus(null)).thenThrow(new IllegalStateException("db down"));
+        lenient().when(statisticsRepository.countActiveTutorsByChapter(null)).thenReturn(Map.of());
+        properties.getDashboardCache().setEnabled(false);
+        statisticsService = newService();
+
+        // When / Then
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+            () -> statisticsService.getDashboardStatistics(null));
+        assertEquals("db down", error.getMessage());
+    }
+
+    @Test
+    void shouldDelegateChapterScopedDashboardToRepository() {
+        // Given
+        DashboardStatistics statistics = new DashboardStatistics(
+            Map.of("Pendiente", 2L), Map.of("Activa", 1L), Map.of("activeTutors", 4L));
+        when(statisticsRepository.loadDashboardStatistics("backend")).thenReturn(statistics);
+
+        // When
+        var result = statisticsService.getDashboardStatistics("backend");
+
+        // Then
+        assertSame(statistics, result);
+    }
+
+    @Test
+    void shouldServeDashboardFromCountersWhenAvailable() {
+        // Given
+        DashboardStatistics statistics = new DashboardStatistics(
+            Map.of("Pendiente", 7L), Map.of("Activa", 3L), Map.of("Backend", 2L));
+        when(getDashboardCountersUseCase.getDashboardFromCounters(null)).thenReturn(Optional.of(statistics));
+
+        // When
+        var result = statisticsService.getDashboardStatistics(null);
+
+        // Then
+        assertSame(statistics, result);
+        verifyNoInteractions(statisticsRepository);
+    }
+
+    @Test
+    void shouldCacheSnapshotPerChapter() {
+        // Given
+        when(statisticsRepository.loadDashboardStatistics("backend")).thenReturn(snapshot(1L));
+        stubGlobalQueries(2L);
+
+        // When
+        DashboardStatistics first = statisticsService.getDashboardStatistics("backend");
+        DashboardStatistics second = statisticsService.getDashboardStatistics("backend");
+        DashboardStatistics global = statisticsService.getDashboardStatistics(null);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(2L, global.getRequestsByStatus().get("Pendiente"));
+        verify(statisticsRepository, times(1)).loadDashboardStatistics("backend");
+        verify(statisticsRepository, times(1)).countRequestsByStatus(null);
+    }
+
+    @Test
+    void shouldComputeSnapshotsOnTheDashboardLoaderPool() {
+        // Given
+        AtomicReference<String> loaderThread = new AtomicReference<>();
+        when(statisticsRepository.loadDashboardStatistics("backend")).thenAnswer(invocation -> {
+            loaderThread.set(Thread.currentThread().getName());
+            return snapshot(1L);
+        });
+
+        // When
+        statisticsService.getDashboardStatistics("backend");
+
+        // Then
+        assertTrue(loaderThread.get().startsWith("dashboard-loader-"), loaderThread.get());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMissesIntoSingleComputation() throws Exception {
+        // Given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        DashboardStatistics statistics = snapshot(1L);
+        when(statisticsRepository.loadDashboardStatistics("backend")).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return statistics;
+        });
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<DashboardStatistics>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> statisticsService.getDashboardStatistics("backend")));
+            }
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            releaseLoad.countDown();
+
+            // Then
+            for (Future<DashboardStatistics> result : results) {
+                assertSame(statistics, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(statisticsRepository, times(1)).loadDashboardStatistics("backend");
+    }
+
+    @Test
+    void shouldServeStaleSnapshotWhileRefreshing() throws Exception {
+        // Given
+        properties.getDashboardCache().setTtl(Duration.ofMillis(20));
+        statisticsService = newService();
+        DashboardStatistics stale = snapshot(1L);
+        DashboardStatistics fresh = snapshot(2L);
+        CompletableFuture<Void> releaseRefresh = new CompletableFuture<>();
+        when(statisticsRepository.loadDashboardStatistics("backend"))
+            .thenReturn(stale)
+            .thenAnswer(invocation -> {
+                releaseRefresh.get(5, TimeUnit.SECONDS);
+                return fresh;
+            });
+        statisticsService.getDashboardStatistics("backend");
+        Thread.sleep(50);
+
+        // When
+        DashboardStatistics duringRefresh = statisticsService.getDashboardStatistics("backend");
+        releaseRefresh.complete(null);
+
+        // Then
+        assertSame(stale, duringRefresh);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statisticsService.getDashboardStatistics("backend") != fresh && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertSame(fresh, statisticsService.getDashboardStatistics("backend"));
+    }
+
+    @Test
+    void shouldNotCacheFailedComputation() {
+        // Given
+        when(statisticsRepository.loadDashboardStatistics("backend"))
+            .thenThrow(new IllegalStateException("database unavailable"))
+            .thenReturn(snapshot(1L));
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> statisticsService.getDashboardStatistics("backend"));
+        assertEquals(1L, statisticsService.getDashboardStatistics("backend").getRequestsByStatus().get("Pendiente"));
+    }
+
+    @Test
+    void shouldComputeOnEveryCallWhenCacheDisabled() {
+        // Given
+        properties.getDashboardCache().setEnabled(false);
+        statisticsService = newService();
+        stubGlobalQueries(1L);
+
+        // When
+        statisticsService.getDashboardStatistics(null);
+        statisticsService.getDashboardStatistics(null);
+
+        // Then
+        verify(statisticsRepository, times(2)).countRequestsByStatus(null);
+    }
+
+    private void stubGlobalQueries(long pending) {
+        when(statisticsRepository.countRequestsByStatus(null)).thenReturn(Map.of("Pendiente", pending));
+        when(statisticsRepository.countTutoringsByStatus(null)).thenReturn(Map.of());
+        when(statisticsRepository.countActiveTutorsByChapter(null)).thenReturn(Map.of());
+    }
+
+    private static DashboardStatistics snapshot(long pending) {
+        return new DashboardStatistics(Map.of("Pendiente", pending), Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,81 @@
+package com.pragma.statistics.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void valueAtPercentile_ShouldBeExactForSmallValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(5, histogram.valueAtPercentile(50));
+        assertEquals(9, histogram.valueAtPercentile(90));
+        assertEquals(10, histogram.valueAtPercentile(99));
+        assertEquals(10, histogram.maxValue());
+    }
+
+    @Test
+    void valueAtPercentile_ShouldStayWithinRelativeErrorForLargeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 60);
+        }
+
+        assertWithinError(50_000L * 60, histogram.valueAtPercentile(50));
+        assertWithinError(90_000L * 60, histogram.valueAtPercentile(90));
+        assertWithinError(99_000L * 60, histogram.valueAtPercentile(99));
+    }
+
+    @Test
+    void bucketIndexes_ShouldBeContiguousAndCoverEveryValue() {
+        assertEquals(0, LatencyHistogram.lowestValueOf(0));
+        for (int index = 1; index < 1_800; index++) {
+            long lowest = LatencyHistogram.lowestValueOf(index);
+            assertEquals(LatencyHistogram.highestValueOf(index - 1) + 1, lowest);
+            assertEquals(index, LatencyHistogram.indexOf(lowest));
+            assertEquals(index, LatencyHistogram.indexOf(LatencyHistogram.highestValueOf(index)));
+        }
+    }
+
+    @Test
+    void merge_ShouldEqualRecordingIntoOneHistogram() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        LatencyHistogram combined = new LatencyHistogram();
+        for (long value = 0; value < 1_000; value++) {
+            (value % 3 == 0 ? first : second).record(value * 37);
+            combined.record(value * 37);
+        }
+
+        first.merge(second);
+
+        assertEquals(combined.getTotalCount(), first.getTotalCount());
+        assertEquals(combined.encode(), first.encode());
+        assertEquals(combined.valueAtPercentile(90), first.valueAtPercentile(90));
+    }
+
+    @Test
+    void decode_ShouldRestoreEncodedHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(3);
+        histogram.record(86_400);
+
+        LatencyHistogram decoded = LatencyHistogram.decode(histogram.encode());
+
+        assertEquals(3, decoded.getTotalCount());
+        assertEquals(histogram.encode(), decoded.encode());
+        assertEquals(0, LatencyHistogram.decode(null).getTotalCount());
+        assertEquals(0, new LatencyHistogram().valueAtPercentile(99));
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / LatencyHistogram.SUB_BUCKETS,
+                "expected about " + expected + " but was " + actual);
+    }
+}
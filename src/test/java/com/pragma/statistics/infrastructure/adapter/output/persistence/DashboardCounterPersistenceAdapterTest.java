@@ -0,0 +1,94 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence;
+
+import com.pragma.statistics.domain.model.DashboardCounter;
+import com.pragma.statistics.domain.model.enums.CounterDimension;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.mapper.DashboardCounterMapperImpl;
+import com.pragma.statistics.infrastructure.adapter.output.persistence.repository.SpringDataDashboardCounterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Increments dashboard counters against the test database, each increment in its own committed
+ * transaction as a business write would run it.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({DashboardCounterPersistenceAdapter.class, DashboardCounterMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DashboardCounterPersistenceAdapterTest {
+
+    private static final String SCOPE = "counter-test";
+
+    @Autowired
+    private DashboardCounterPersistenceAdapter counterPersistenceAdapter;
+
+    @Autowired
+    private SpringDataDashboardCounterRepository counterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        counterRepository.deleteAll(counterRepository.findByScope(SCOPE));
+    }
+
+    @Test
+    void incrementShouldCreateTheCounterAndThenAddToIt() {
+        increment("Pendiente", 2);
+        increment("Pendiente", 3);
+        increment("Aprobada", 1);
+
+        assertEquals(5, count("Pendiente"));
+        assertEquals(1, count("Aprobada"));
+    }
+
+    @Test
+    void setShouldReplaceTheValueOfTheLockedCounters() {
+        increment("Pendiente", 5);
+
+        List<DashboardCounter> locked = new TransactionTemplate(transactionManager).execute(status -> {
+            List<DashboardCounter> counters = counterPersistenceAdapter.lockScope(SCOPE);
+            counterPersistenceAdapter.set(SCOPE, CounterDimension.REQUEST, "Pendiente", 3);
+            counterPersistenceAdapter.set(SCOPE, CounterDimension.REQUEST, "Aprobada", 1);
+            return counters;
+        });
+        increment("Pendiente", 1);
+
+        assertEquals(1, locked.size());
+        assertEquals(4, count("Pendiente"));
+        assertEquals(1, count("Aprobada"));
+    }
+
+    @Test
+    void lockScopeShouldRequireATransaction() {
+        assertThrows(IllegalTransactionStateException.class, () -> counterPersistenceAdapter.lockScope(SCOPE));
+    }
+
+    private void increment(String key, long delta) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                counterPersistenceAdapter.increment(SCOPE, CounterDimension.REQUEST, key, delta));
+    }
+
+    private long count(String key) {
+        return counterPersistenceAdapter.findByScope(SCOPE).stream()
+                .filter(counter -> counter.getKey().equals(key))
+                .mapToLong(DashboardCounter::getCount)
+                .findFirst()
+                .orElse(0);
+    }
+}
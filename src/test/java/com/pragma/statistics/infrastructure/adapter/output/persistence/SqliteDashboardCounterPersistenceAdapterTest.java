@@ -0,0 +1,18 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the counter checks on the SQLite database of the local profile, whose upsert is a native
+ * statement instead of the translated HQL one.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:sqlite:${java.io.tmpdir}/dashboard-counter-test.db",
+        "spring.datasource.driver-class-name=org.sqlite.JDBC",
+        "spring.jpa.database-platform=org.hibernate.community.dialect.SQLiteDialect",
+        "spring.sql.init.mode=never"
+})
+class SqliteDashboardCounterPersistenceAdapterTest extends DashboardCounterPersistenceAdapterTest {
+}
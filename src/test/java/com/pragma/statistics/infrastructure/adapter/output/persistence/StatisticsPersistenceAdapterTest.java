@@ -0,0 +1,139 @@
+package com.pragma.statistics.infrastructure.adapter.output.persistence;
+
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.statistics.domain.model.DashboardStatistics;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.entity.TutoringRequestsEntity;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies the grouped statistics queries against the test database and pins the number of
+ * statements a dashboard load issues, so a per-status query loop cannot come back unnoticed.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(StatisticsPersistenceAdapter.class)
+class StatisticsPersistenceAdapterTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private StatisticsPersistenceAdapter statisticsPersistenceAdapter;
+
+    private Statistics hibernateStatistics;
+    private String chapterId;
+
+    @BeforeEach
+    void setUp() {
+        ChapterEntity chapter = testEntityManager.persist(new ChapterEntity(null, "Stats Chapter"));
+        ChapterEntity otherChapter = testEntityManager.persist(new ChapterEntity(null, "Stats Other Chapter"));
+        chapterId = chapter.getId();
+
+        UsersEntity tutor = persistUser("stats-tutor", chapter, RolUsuario.Tutor);
+        UsersEntity tutee = persistUser("stats-tutee", chapter, RolUsuario.Tutorado);
+        UsersEntity outsideTutor = persistUser("stats-outside-tutor", otherChapter, RolUsuario.Tutor);
+        UsersEntity outsideTutee = persistUser("stats-outside-tutee", otherChapter, RolUsuario.Tutorado);
+
+        persistRequest(tutee, RequestStatus.Pendiente);
+        persistRequest(tutee, RequestStatus.Pendiente);
+        persistRequest(tutee, RequestStatus.Aprobada);
+        persistRequest(outsideTutee, RequestStatus.Pendiente);
+
+        persistTutoring(tutor, tutee, TutoringStatus.Activa);
+        persistTutoring(tutor, outsideTutee, TutoringStatus.Completada);
+        persistTutoring(outsideTutor, outsideTutee, TutoringStatus.Cancelada);
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        hibernateStatistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        hibernateStatistics.clear();
+    }
+
+    @Test
+    void chapterDashboardShouldUseSingleStatement() {
+        DashboardStatistics result = statisticsPersistenceAdapter.loadDashboardStatistics(chapterId);
+
+        assertEquals(1, hibernateStatistics.getPrepareStatementCount());
+        assertEquals(2L, result.getRequestsByStatus().get(RequestStatus.Pendiente.name()));
+        assertEquals(1L, result.getRequestsByStatus().get(RequestStatus.Aprobada.name()));
+        assertEquals(0L, result.getRequestsByStatus().get(RequestStatus.Cancelada.name()));
+        assertEquals(RequestStatus.values().length, result.getRequestsByStatus().size());
+        assertEquals(1L, result.getTutoringsByStatus().get(TutoringStatus.Activa.name()));
+        assertEquals(1L, result.getTutoringsByStatus().get(TutoringStatus.Completada.name()));
+        assertEquals(0L, result.getTutoringsByStatus().get(TutoringStatus.Cancelada.name()));
+        assertEquals(TutoringStatus.values().length, result.getTutoringsByStatus().size());
+        assertEquals(Map.of("activeTutors", 1L), result.getActiveTutorsByChapter());
+    }
+
+    @Test
+    void globalDashboardShouldUseOneStatementPerDimension() {
+        DashboardStatistics result = statisticsPersistenceAdapter.loadDashboardStatistics(null);
+
+        assertEquals(3, hibernateStatistics.getPrepareStatementCount());
+        assertEquals(RequestStatus.values().length, result.getRequestsByStatus().size());
+        assertEquals(TutoringStatus.values().length, result.getTutoringsByStatus().size());
+        assertEquals(1L, result.getActiveTutorsByChapter().get("Stats Chapter"));
+        assertEquals(1L, result.getActiveTutorsByChapter().get("Stats Other Chapter"));
+    }
+
+    @Test
+    void groupedCountsShouldMatchChapterDashboard() {
+        Map<String, Long> requests = statisticsPersistenceAdapter.countRequestsByStatus(chapterId);
+        Map<String, Long> tutorings = statisticsPersistenceAdapter.countTutoringsByStatus(chapterId);
+        Map<String, Long> tutors = statisticsPersistenceAdapter.countActiveTutorsByChapter(chapterId);
+
+        assertEquals(3, hibernateStatistics.getPrepareStatementCount());
+        DashboardStatistics dashboard = statisticsPersistenceAdapter.loadDashboardStatistics(chapterId);
+        assertEquals(dashboard.getRequestsByStatus(), requests);
+        assertEquals(dashboard.getTutoringsByStatus(), tutorings);
+        assertEquals(dashboard.getActiveTutorsByChapter(), tutors);
+    }
+
+    private UsersEntity persistUser(String key, ChapterEntity chapter, RolUsuario rol) {
+        UsersEntity user = new UsersEntity();
+        user.setFirstName(key);
+        user.setLastName("Test");
+        user.setEmail(key + "@pragma.com");
+        user.setGoogleUserId("google-" + key);
+        user.setChapter(chapter);
+        user.setRol(rol);
+        return testEntityManager.persist(user);
+    }
+
+    private void persistRequest(UsersEntity tutee, RequestStatus status) {
+        TutoringRequestsEntity request = new TutoringRequestsEntity();
+        request.setTutee(tutee);
+        request.setNeedsDescription("Necesito apoyo");
+        request.setRequestDate(new Date());
+        request.setRequestStatus(status);
+        testEntityManager.persist(request);
+    }
+
+    private void persistTutoring(UsersEntity tutor, UsersEntity tutee, TutoringStatus status) {
+        TutoringEntity tutoring = new TutoringEntity();
+        tutoring.setTutorId(tutor);
+        tutoring.setTuteeId(tutee);
+        tutoring.setStatus(status);
+        testEntityManager.persist(tutoring);
+    }
+}
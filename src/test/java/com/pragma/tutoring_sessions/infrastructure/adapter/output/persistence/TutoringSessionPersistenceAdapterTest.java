@@ -120,7 +120,7 @@ class TutoringSessionPersistenceAdapterTest {
         // Arrange
         List<TutoringSessionsEntity> entities = Arrays.asList(tutoringSessionsEntity);
         when(repository.findByTutoringId(any(TutoringEntity.class))).thenReturn(entities);
-        when(mapper.toModel(tutoringSessionsEntity)).thenReturn(tutoringSession);
+        when(mapper.toModelList(entities)).thenReturn(List.of(tutoringSession));
 
         // Act
         List<TutoringSession> result = adapter.findByTutoringId(tutoringId);
@@ -130,7 +130,7 @@ class TutoringSessionPersistenceAdapterTest {
         assertEquals(1, result.size());
         assertEquals(sessionId, result.get(0).getId());
         verify(repository).findByTutoringId(any(TutoringEntity.class));
-        verify(mapper).toModel(tutoringSessionsEntity);
+        verify(mapper).toModelList(entities);
     }
 
     @Test
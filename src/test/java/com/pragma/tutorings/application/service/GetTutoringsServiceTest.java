@@ -0,0 +1,85 @@
+package com.pragma.tutorings.application.service;
+
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringPage;
+import com.pragma.tutorings.domain.model.TutoringPageCursor;
+import com.pragma.tutorings.domain.model.TutoringPageQuery;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.output.TutoringRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetTutoringsServiceTest {
+
+    @Mock
+    private TutoringRepository tutoringRepository;
+
+    @InjectMocks
+    private GetTutoringsService getTutoringsService;
+
+    @Test
+    void getTutoringPage_WhenMoreTutoringsThanLimit_ShouldReturnCursorOfLastTutoring() {
+        // Arrange
+        TutoringPageQuery query = new TutoringPageQuery(TutoringStatus.Activa, null, null, null, null, null, null, 2);
+        List<Tutoring> rows = List.of(tutoring("3", 3000L), tutoring("2", 2000L), tutoring("1", 1000L));
+        when(tutoringRepository.findPage(query, 3)).thenReturn(rows);
+
+        // Act
+        TutoringPage page = getTutoringsService.getTutoringPage(query);
+
+        // Assert
+        assertEquals(List.of(rows.get(0), rows.get(1)), page.getTutorings());
+        assertEquals(new TutoringPageCursor(new Date(2000L), "2"), page.getNext());
+        assertEquals(page.getNext(), TutoringPageCursor.decode(page.getNext().encode()));
+    }
+
+    @Test
+    void getTutoringPage_OnLastPage_ShouldNotReturnCursor() {
+        // Arrange
+        TutoringPageQuery query = new TutoringPageQuery(null, null, null, null, null, null, null, 2);
+        when(tutoringRepository.findPage(query, 3)).thenReturn(List.of(tutoring("1", 1000L)));
+
+        // Act
+        TutoringPage page = getTutoringsService.getTutoringPage(query);
+
+        // Assert
+        assertEquals(1, page.getTutorings().size());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void getTutoringPage_WithInvalidLimitOrRange_ShouldBeRejected() {
+        TutoringPageQuery tooLarge = new TutoringPageQuery(null, null, null, null, null, null, null,
+                GetTutoringsService.MAX_PAGE_SIZE + 1);
+        TutoringPageQuery reversed = new TutoringPageQuery(null, null, null, null, new Date(2000L), new Date(1000L),
+                null, 10);
+
+        assertThrows(IllegalArgumentException.class, () -> getTutoringsService.getTutoringPage(tooLarge));
+        assertThrows(IllegalArgumentException.class, () -> getTutoringsService.getTutoringPage(reversed));
+        verify(tutoringRepository, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    void decode_WithMalformedCursor_ShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TutoringPageCursor.decode("not a cursor"));
+    }
+
+    private static Tutoring tutoring(String id, long createdAt) {
+        Tutoring tutoring = new Tutoring();
+        tutoring.setId(id);
+        tutoring.setCreatedAt(new Date(createdAt));
+        return tutoring;
+    }
+}
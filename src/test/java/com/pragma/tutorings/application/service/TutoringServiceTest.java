@@ -1,5 +1,7 @@
 package com.pragma.tutorings.application.service;
 
+import com.pragma.statistics.domain.port.input.RecordRequestTransitionUseCase;
+import com.pragma.statistics.domain.port.input.UpdateDashboardCountersUseCase;
 import com.pragma.skills.domain.model.Skill;
 import com.pragma.tutorings.domain.model.Tutoring;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
@@ -38,6 +40,12 @@ class TutoringServiceTest {
     @Mock
     private FindUserByIdUseCase findUserByIdUseCase;
 
+    @Mock
+    private UpdateDashboardCountersUseCase updateDashboardCountersUseCase;
+
+    @Mock
+    private RecordRequestTransitionUseCase recordRequestTransitionUseCase;
+
     @InjectMocks
     private TutoringService tutoringService;
 
@@ -93,7 +101,9 @@ class TutoringServiceTest {
         // Arrange
         when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
         when(tutoringRequestRepository.findById("request-id")).thenReturn(Optional.of(tutoringRequest));
-        when(tutoringRepository.countActiveTutoringByTutorId("tutor-id")).thenReturn(2L);
+        when(tutoringRequestRepository.changeStatusIfCurrent(eq("request-id"), eq(RequestStatus.Conversando),
+                eq(RequestStatus.Asignada), any(Date.class))).thenReturn(true);
+        when(tutoringRepository.reserveTutorSlot("tutor-id")).thenReturn(true);
         when(tutoringRepository.save(any(Tutoring.class))).thenReturn(tutoring);
         when(tutoringRequestRepository.save(any(TutoringRequest.class))).thenReturn(tutoringRequest);
 
@@ -113,6 +123,10 @@ class TutoringServiceTest {
         verify(tutoringRequestRepository).save(any(TutoringRequest.class));
         assertEquals(RequestStatus.Asignada, tutoringRequest.getRequestStatus());
         assertEquals("tutoring-id", tutoringRequest.getAssignedTutoringId());
+        verify(updateDashboardCountersUseCase).tutoringStatusChanged(tutoring, null);
+        verify(updateDashboardCountersUseCase).tutoringRequestStatusChanged(tutoringRequest, RequestStatus.Conversando);
+        verify(recordRequestTransitionUseCase).requestStatusChanged(tutoringRequest, RequestStatus.Conversando, null);
+        assertNotNull(tutoringRequest.getStatusChangedAt());
     }
 
     @Test
@@ -180,7 +194,9 @@ class TutoringServiceTest {
         // Arrange
         when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
         when(tutoringRequestRepository.findById("request-id")).thenReturn(Optional.of(tutoringRequest));
-        when(tutoringRepository.countActiveTutoringByTutorId("tutor-id")).thenReturn(5L); // Igual al límite
+        when(tutoringRequestRepository.changeStatusIfCurrent(eq("request-id"), eq(RequestStatus.Conversando),
+                eq(RequestStatus.Asignada), any(Date.class))).thenReturn(true);
+        when(tutoringRepository.reserveTutorSlot("tutor-id")).thenReturn(false); // Límite alcanzado
 
         // Act & Assert
         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
@@ -191,13 +207,34 @@ class TutoringServiceTest {
         verify(tutoringRepository, never()).save(any(Tutoring.class));
     }
 
+    @Test
+    void createTutoring_RequestAssignedConcurrently() {
+        // Arrange: otra asignación cambió el estado entre la lectura y el UPDATE condicional
+        when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
+        when(tutoringRequestRepository.findById("request-id")).thenReturn(Optional.of(tutoringRequest));
+        when(tutoringRequestRepository.changeStatusIfCurrent(eq("request-id"), eq(RequestStatus.Conversando),
+                eq(RequestStatus.Asignada), any(Date.class))).thenReturn(false);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            tutoringService.createTutoring("request-id", "tutor-id", "Objetivos de prueba");
+        });
+
+        assertEquals("La solicitud de tutoría ya fue asignada", exception.getMessage());
+        verify(tutoringRepository, never()).reserveTutorSlot(any());
+        verify(tutoringRepository, never()).save(any(Tutoring.class));
+        verify(tutoringRequestRepository, never()).save(any(TutoringRequest.class));
+    }
+
     @Test
     void createTutoring_AdminRoleSuccess() {
         // Arrange
         tutor.setRol(RolUsuario.Administrador);
         when(findUserByIdUseCase.findUserById("tutor-id")).thenReturn(Optional.of(tutor));
         when(tutoringRequestRepository.findById("request-id")).thenReturn(Optional.of(tutoringRequest));
-        when(tutoringRepository.countActiveTutoringByTutorId("tutor-id")).thenReturn(2L);
+        when(tutoringRequestRepository.changeStatusIfCurrent(eq("request-id"), eq(RequestStatus.Conversando),
+                eq(RequestStatus.Asignada), any(Date.class))).thenReturn(true);
+        when(tutoringRepository.reserveTutorSlot("tutor-id")).thenReturn(true);
         when(tutoringRepository.save(any(Tutoring.class))).thenReturn(tutoring);
         when(tutoringRequestRepository.save(any(TutoringRequest.class))).thenReturn(tutoringRequest);
 
@@ -1,5 +1,6 @@
 package com.pragma.tutorings.application.service;
 
+import com.pragma.statistics.domain.port.input.UpdateDashboardCountersUseCase;
 import com.pragma.feedbacks.domain.model.Feedback;
 import com.pragma.feedbacks.domain.port.output.FeedbackRepository;
 import com.pragma.tutorings.domain.model.Tutoring;
@@ -36,6 +37,9 @@ class TutoringStatusServiceTest {
     @Mock
     private FeedbackRepository feedbackRepository;
 
+    @Mock
+    private UpdateDashboardCountersUseCase updateDashboardCountersUseCase;
+
     @InjectMocks
     private TutoringStatusService tutoringStatusService;
 
@@ -135,6 +139,8 @@ class TutoringStatusServiceTest {
         assertNotNull(result);
         assertEquals(TutoringStatus.Completada, result.getStatus());
         verify(tutoringRepository).save(any(Tutoring.class));
+        verify(tutoringRepository).releaseTutorSlot("tutor-id");
+        verify(updateDashboardCountersUseCase).tutoringStatusChanged(result, TutoringStatus.Activa);
     }
 
     @Test
@@ -159,6 +165,7 @@ class TutoringStatusServiceTest {
         assertNotNull(result);
         assertEquals(TutoringStatus.Completada, result.getStatus());
         verify(tutoringRepository).save(any(Tutoring.class));
+        verify(tutoringRepository).releaseTutorSlot("tutor-id");
     }
 
     @Test
@@ -282,6 +289,7 @@ class TutoringStatusServiceTest {
         assertEquals(TutoringStatus.EnCancelacion, result.getStatus());
         verify(feedbackRepository).save(any(Feedback.class));
         verify(tutoringRepository).save(any(Tutoring.class));
+        verify(tutoringRepository).releaseTutorSlot("tutor-id");
     }
 
     @Test
@@ -305,6 +313,7 @@ class TutoringStatusServiceTest {
         assertEquals(TutoringStatus.EnCancelacion, result.getStatus());
         verify(feedbackRepository).save(any(Feedback.class));
         verify(tutoringRepository).save(any(Tutoring.class));
+        verify(tutoringRepository).releaseTutorSlot("tutor-id");
     }
 
     @Test
@@ -347,6 +356,7 @@ class TutoringStatusServiceTest {
         assertEquals(TutoringStatus.Cancelada, result.getStatus());
         verify(feedbackRepository).save(any(Feedback.class));
         verify(tutoringRepository).save(any(Tutoring.class));
+        verify(tutoringRepository, never()).releaseTutorSlot(any());
     }
 
     @Test
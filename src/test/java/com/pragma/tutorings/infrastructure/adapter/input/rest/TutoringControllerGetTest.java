@@ -1,12 +1,18 @@
 package com.pragma.tutorings.infrastructure.adapter.input.rest;
 
 import com.pragma.shared.context.UserContext;
+import com.pragma.shared.dto.NormalizedResponseDto;
 import com.pragma.shared.service.MessageService;
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringPage;
+import com.pragma.tutorings.domain.model.TutoringPageCursor;
+import com.pragma.tutorings.domain.model.TutoringPageQuery;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
 import com.pragma.tutorings.domain.port.input.GetTutoringsUseCase;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDto;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDtoMapper;
 import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserDto;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import com.pragma.chapter.domain.model.Chapter;
 import com.pragma.skills.domain.model.Skill;
@@ -14,17 +20,23 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -65,6 +77,12 @@ class TutoringControllerGetTest {
     @MockBean
     private com.pragma.tutorings.domain.port.input.RequestCancellationUseCase requestCancellationUseCase;
 
+    @MockBean
+    private com.pragma.tutorings.domain.port.input.GetTutoringDetailUseCase getTutoringDetailUseCase;
+
+    @MockBean
+    private com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDetailDtoMapper tutoringDetailDtoMapper;
+
     private User testUser;
     private Tutoring tutoring1;
     private Tutoring tutoring2;
@@ -74,7 +92,7 @@ class TutoringControllerGetTest {
         // Setup test user
         Chapter chapter = new Chapter("chapter-1", "Engineering");
         testUser = new User("user-1", "Test", "User", "test@example.com", 
-                           "google-123", "slack-123", chapter, RolUsuario.Administrador, 5, 1);
+                           "google-123", "slack-123", chapter, RolUsuario.Administrador, 5, 1, 0L);
         UserContext.setCurrentUser(testUser);
         
         // Mock the interceptor to always return true (allow request to proceed)
@@ -85,9 +103,9 @@ class TutoringControllerGetTest {
 
         // Setup test tutorings
         User tutor = new User("tutor-1", "Tutor", "One", "tutor@example.com", 
-                             "google-tutor", "slack-tutor", chapter, RolUsuario.Tutor, 3, 2);
+                             "google-tutor", "slack-tutor", chapter, RolUsuario.Tutor, 3, 2, 0L);
         User tutee = new User("tutee-1", "Tutee", "One", "tutee@example.com", 
-                             "google-tutee", "slack-tutee", chapter, RolUsuario.Tutorado, 3, 1);
+                             "google-tutee", "slack-tutee", chapter, RolUsuario.Tutorado, 3, 1, 0L);
         
         Skill skill1 = new Skill("skill-1", "Java");
         Skill skill2 = new Skill("skill-2", "Spring Boot");
@@ -132,4 +150,81 @@ class TutoringControllerGetTest {
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data").isEmpty());
     }
+
+    @Test
+    void getTutoringPage_ShouldPassFiltersAndReturnNextCursor() throws Exception {
+        // Given
+        TutoringPageCursor next = new TutoringPageCursor(new Date(1000L), "tutoring-2");
+        when(getTutoringsUseCase.getTutoringPage(any()))
+                .thenReturn(new TutoringPage(Arrays.asList(tutoring1, tutoring2), next));
+        when(tutoringDtoMapper.toDtoList(Arrays.asList(tutoring1, tutoring2)))
+                .thenReturn(Arrays.asList(new TutoringDto(), new TutoringDto()));
+        when(messageService.getMessage("general.success")).thenReturn("Exitoso");
+        String cursor = new TutoringPageCursor(new Date(5000L), "tutoring-0").encode();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/tutorings/page")
+                .header("Authorization", "google-123")
+                .param("status", "Activa")
+                .param("chapterId", "chapter-1")
+                .param("from", "2024-03-01")
+                .param("to", "2024-03-31")
+                .param("limit", "2")
+                .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tutorings.length()").value(2))
+                .andExpect(jsonPath("$.data.nextCursor").value(next.encode()));
+
+        ArgumentCaptor<TutoringPageQuery> query = ArgumentCaptor.forClass(TutoringPageQuery.class);
+        verify(getTutoringsUseCase).getTutoringPage(query.capture());
+        assertEquals(TutoringStatus.Activa, query.getValue().getStatus());
+        assertEquals("chapter-1", query.getValue().getChapterId());
+        assertEquals(startOf(LocalDate.of(2024, 3, 1)), query.getValue().getFrom());
+        // The last day is included
+        assertEquals(startOf(LocalDate.of(2024, 4, 1)), query.getValue().getTo());
+        assertEquals(new TutoringPageCursor(new Date(5000L), "tutoring-0"), query.getValue().getAfter());
+        assertEquals(2, query.getValue().getLimit());
+    }
+
+    @Test
+    void getTutoringPage_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/tutorings/page")
+                .header("Authorization", "google-123")
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid tutoring page cursor"));
+
+        verify(getTutoringsUseCase, never()).getTutoringPage(any());
+    }
+
+    @Test
+    void getTutoringPage_WithNormalizedAccept_ShouldReferenceSharedUsers() throws Exception {
+        // Given
+        UserDto tutor = new UserDto("tutor-123", "Ana", "Tutor", "tutor@pragma.com", null, null, null, RolUsuario.Tutor, 3, 2);
+        TutoringDto first = new TutoringDto();
+        first.setId("tutoring-1");
+        first.setTutor(tutor);
+        TutoringDto second = new TutoringDto();
+        second.setId("tutoring-2");
+        second.setTutor(tutor);
+        when(getTutoringsUseCase.getTutoringPage(any()))
+                .thenReturn(new TutoringPage(Arrays.asList(tutoring1, tutoring2), null));
+        when(tutoringDtoMapper.toDtoList(Arrays.asList(tutoring1, tutoring2))).thenReturn(Arrays.asList(first, second));
+        when(messageService.getMessage("general.success")).thenReturn("Exitoso");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/tutorings/page")
+                .header("Authorization", "google-123")
+                .accept(NormalizedResponseDto.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(NormalizedResponseDto.MEDIA_TYPE))
+                .andExpect(jsonPath("$.data.tutorings[0].tutor.type").value("users"))
+                .andExpect(jsonPath("$.data.tutorings[1].tutor.id").value("tutor-123"))
+                .andExpect(jsonPath("$.included.users['tutor-123'].firstName").value("Ana"));
+    }
+
+    private static Date startOf(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
 }
\ No newline at end of file
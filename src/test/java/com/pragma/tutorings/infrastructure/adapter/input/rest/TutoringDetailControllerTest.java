@@ -1,16 +1,23 @@
 package com.pragma.tutorings.infrastructure.adapter.input.rest;
 
 import com.pragma.feedbacks.domain.model.Feedback;
-import com.pragma.feedbacks.domain.port.input.GetFeedbacksUseCase;
+import com.pragma.shared.config.AuthenticationProperties;
 import com.pragma.shared.context.UserContext;
+import com.pragma.shared.security.GoogleAuthInterceptor;
 import com.pragma.shared.service.MessageService;
 import com.pragma.tutoring_sessions.domain.model.TutoringSession;
-import com.pragma.tutoring_sessions.domain.port.input.GetTutoringSessionsUseCase;
 import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringDetail;
 import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.domain.port.input.CancelTutoringUseCase;
+import com.pragma.tutorings.domain.port.input.CompleteTutoringUseCase;
+import com.pragma.tutorings.domain.port.input.CreateTutoringUseCase;
+import com.pragma.tutorings.domain.port.input.GetTutoringDetailUseCase;
 import com.pragma.tutorings.domain.port.input.GetTutoringsUseCase;
+import com.pragma.tutorings.domain.port.input.RequestCancellationUseCase;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDetailDtoMapper;
 import com.pragma.tutorings.infrastructure.adapter.input.rest.mapper.TutoringDtoMapper;
+import com.pragma.usuarios.application.service.UserService;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +33,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -41,10 +49,7 @@ class TutoringDetailControllerTest {
     private GetTutoringsUseCase getTutoringsUseCase;
 
     @MockBean
-    private GetFeedbacksUseCase getFeedbacksUseCase;
-
-    @MockBean
-    private GetTutoringSessionsUseCase getTutoringSessionsUseCase;
+    private GetTutoringDetailUseCase getTutoringDetailUseCase;
 
     @MockBean
     private TutoringDtoMapper tutoringDtoMapper;
@@ -55,11 +60,35 @@ class TutoringDetailControllerTest {
     @MockBean
     private MessageService messageService;
 
+    @MockBean
+    private CreateTutoringUseCase createTutoringUseCase;
+
+    @MockBean
+    private CompleteTutoringUseCase completeTutoringUseCase;
+
+    @MockBean
+    private CancelTutoringUseCase cancelTutoringUseCase;
+
+    @MockBean
+    private RequestCancellationUseCase requestCancellationUseCase;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private AuthenticationProperties authenticationProperties;
+
+    @MockBean
+    private GoogleAuthInterceptor googleAuthInterceptor;
+
     private User testUser;
     private Tutoring testTutoring;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
+        // The interceptor is covered by its own tests; here it lets every request through
+        when(googleAuthInterceptor.preHandle(any(), any(), any())).thenReturn(true);
+
         testUser = new User();
         testUser.setId("user-id");
         testUser.setEmail("test@example.com");
@@ -79,9 +108,8 @@ class TutoringDetailControllerTest {
         List<TutoringSession> sessions = new ArrayList<>();
         List<Feedback> feedbacks = new ArrayList<>();
 
-        when(getTutoringsUseCase.getTutoringById(anyString())).thenReturn(testTutoring);
-        when(getTutoringSessionsUseCase.getSessionsByTutoringId(anyString())).thenReturn(sessions);
-        when(getFeedbacksUseCase.getFeedbacksByTutoringId(anyString())).thenReturn(feedbacks);
+        when(getTutoringDetailUseCase.getTutoringDetail(anyString()))
+                .thenReturn(new TutoringDetail(testTutoring, sessions, feedbacks));
         when(tutoringDetailDtoMapper.toDetailDto(any(), any(), any())).thenReturn(null);
 
         // Act & Assert
@@ -89,5 +117,8 @@ class TutoringDetailControllerTest {
                         .header("Authorization", "test-google-id"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("Detalle de tutoría obtenido exitosamente"));
+
+        verify(getTutoringDetailUseCase).getTutoringDetail("tutoring-id");
+        verify(tutoringDetailDtoMapper).toDetailDto(testTutoring, sessions, feedbacks);
     }
 }
\ No newline at end of file
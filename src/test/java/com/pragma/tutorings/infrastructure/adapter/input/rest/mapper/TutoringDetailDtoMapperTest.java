@@ -0,0 +1,93 @@
+package com.pragma.tutorings.infrastructure.adapter.input.rest.mapper;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.FindChapterUseCase;
+import com.pragma.chapter.infrastructure.adapter.input.rest.mapper.ChapterDtoMapperImpl;
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.dto.FeedbackDto;
+import com.pragma.feedbacks.infrastructure.adapter.input.rest.mapper.FeedbackDtoMapperImpl;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.input.rest.mapper.SkillDtoMapperImpl;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.infrastructure.adapter.input.rest.mapper.TutoringSessionDtoMapperImpl;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.input.rest.dto.TutoringDetailDto;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest(classes = {TutoringDetailDtoMapperImpl.class, TutoringDtoMapperImpl.class, FeedbackDtoMapperImpl.class,
+        TutoringSessionDtoMapperImpl.class, UserDtoMapperImpl.class, ChapterDtoMapperImpl.class, SkillDtoMapperImpl.class})
+class TutoringDetailDtoMapperTest {
+
+    @Autowired
+    private TutoringDetailDtoMapper tutoringDetailDtoMapper;
+
+    @MockBean
+    private FindChapterUseCase findChapterUseCase;
+
+    private Tutoring tutoring;
+    private List<TutoringSession> sessions;
+    private List<Feedback> feedbacks;
+
+    @BeforeEach
+    void setUp() {
+        Chapter backend = new Chapter("chapter-1", "Backend");
+        User tutor = new User("tutor-1", "Ana", "Tutor", "ana@pragma.com", "google-1", null, backend, RolUsuario.Tutor, 3, 4, 0L);
+        User tutee = new User("tutee-1", "Luis", "Tutee", "luis@pragma.com", "google-2", null, backend, RolUsuario.Tutorado, 0, 1, 0L);
+        tutoring = new Tutoring("tutoring-1", tutor, tutee, List.of(new Skill("skill-1", "Java")), new Date(), new Date(),
+                TutoringStatus.Activa, "Objetivos", null, new Date(), new Date());
+        sessions = List.of(session("session-1"), session("session-2"));
+        feedbacks = List.of(
+                new Feedback("feedback-1", tutee, new Date(), tutoring, "5", "Muy buena"),
+                new Feedback("feedback-2", tutor, new Date(), tutoring, "4", "Buena"),
+                new Feedback("feedback-3", tutee, new Date(), tutoring, "5", "Excelente"));
+    }
+
+    @Test
+    void toDetailDto_ShouldMapSharedTutoringAndParticipantsOnce() {
+        // Act
+        TutoringDetailDto detail = tutoringDetailDtoMapper.toDetailDto(tutoring, sessions, feedbacks);
+
+        // Assert
+        assertEquals(2, detail.getSessions().size());
+        assertEquals(3, detail.getFeedbacks().size());
+        FeedbackDto first = detail.getFeedbacks().get(0);
+        assertSame(first.getTutoring(), detail.getFeedbacks().get(1).getTutoring());
+        assertSame(first.getTutoring(), detail.getFeedbacks().get(2).getTutoring());
+        assertSame(first.getEvaluator(), detail.getFeedbacks().get(2).getEvaluator());
+        assertSame(detail.getTutee(), first.getEvaluator());
+        assertSame(detail.getTutor(), first.getTutoring().getTutor());
+        assertEquals("Backend", detail.getTutor().getChapter().getName());
+    }
+
+    @Test
+    void toDetailDto_ShouldNotShareInstancesBetweenCalls() {
+        // Act
+        TutoringDetailDto firstCall = tutoringDetailDtoMapper.toDetailDto(tutoring, sessions, feedbacks);
+        TutoringDetailDto secondCall = tutoringDetailDtoMapper.toDetailDto(tutoring, sessions, feedbacks);
+
+        // Assert
+        assertNotSame(firstCall.getTutor(), secondCall.getTutor());
+        assertNotSame(firstCall.getFeedbacks().get(0).getTutoring(), secondCall.getFeedbacks().get(0).getTutoring());
+        assertEquals(firstCall, secondCall);
+    }
+
+    private TutoringSession session(String id) {
+        return new TutoringSession(id, tutoring, "2024-03-01T10:00", 60, null, null, null, TutoringsSessionStatus.Programada);
+    }
+}
@@ -0,0 +1,264 @@
+package com.pragma.tutorings.infrastructure.adapter.output.persistence;
+
+import com.pragma.chapter.infrastructure.adapter.output.persistence.ChapterCatalog;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.mapper.ChapterMapperImpl;
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.FeedbackPersistenceAdapter;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.entity.FeedbackEntity;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper.FeedbackMapperImpl;
+import com.pragma.shared.migration.DataMigrations;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.output.persistence.entity.SkillEntity;
+import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapperImpl;
+import com.pragma.tutoring_sessions.domain.model.TutoringSession;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.TutoringSessionPersistenceAdapter;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.entity.TutoringSessionsEntity;
+import com.pragma.tutoring_sessions.infrastructure.adapter.output.persistence.mapper.TutoringSessionMapperImpl;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapperImpl;
+import com.pragma.tutorings_requests.domain.model.TutoringRequest;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.domain.model.enums.TutoringsSessionStatus;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.TutoringRequestPersistenceAdapter;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.entity.TutoringRequestsEntity;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.mapper.TutoringRequestMapperImpl;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.UserPersistenceAdapter;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapperImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Statements and loaded entities of each output-port read, against the fetch plan it declares.
+ * Every read runs in a fresh persistence context and maps its result to the domain, as a
+ * request does, so any association outside the plan that the mappers reach shows up as an
+ * extra statement. Chapters are never loaded: mapped users take them from the chapter catalog.
+ * Entities shared by the rows of one read are mapped to one domain instance.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({TutoringPersistenceAdapter.class, FeedbackPersistenceAdapter.class, TutoringSessionPersistenceAdapter.class,
+        TutoringRequestPersistenceAdapter.class, UserPersistenceAdapter.class, ChapterCatalog.class,
+        ChapterMapperImpl.class, UserMapperImpl.class, SkillMapperImpl.class, TutoringMapperImpl.class,
+        FeedbackMapperImpl.class, TutoringSessionMapperImpl.class, TutoringRequestMapperImpl.class, DataMigrations.class})
+class FetchPlanStatementsTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ChapterCatalog chapterCatalog;
+
+    @Autowired
+    private TutoringPersistenceAdapter tutoringAdapter;
+
+    @Autowired
+    private FeedbackPersistenceAdapter feedbackAdapter;
+
+    @Autowired
+    private TutoringSessionPersistenceAdapter sessionAdapter;
+
+    @Autowired
+    private TutoringRequestPersistenceAdapter requestAdapter;
+
+    @Autowired
+    private UserPersistenceAdapter userAdapter;
+
+    private Statistics hibernateStatistics;
+    private UsersEntity tutor;
+    private UsersEntity tutee;
+    private TutoringEntity tutoring;
+
+    @BeforeEach
+    void setUp() {
+        ChapterEntity backend = testEntityManager.persist(new ChapterEntity(null, "Plan Backend"));
+        ChapterEntity frontend = testEntityManager.persist(new ChapterEntity(null, "Plan Frontend"));
+        tutor = persistUser("plan-tutor", backend, RolUsuario.Tutor);
+        tutee = persistUser("plan-tutee", frontend, RolUsuario.Tutorado);
+        SkillEntity java = testEntityManager.persist(new SkillEntity(null, "Plan Java", null));
+        SkillEntity spring = testEntityManager.persist(new SkillEntity(null, "Plan Spring", null));
+
+        tutoring = persistTutoring(List.of(java, spring));
+        persistTutoring(List.of(java));
+        persistTutoring(List.of());
+        persistFeedback(tutee);
+        persistFeedback(tutor);
+        persistSession();
+        persistSession();
+        persistRequest(List.of(java, spring), tutoring);
+        persistRequest(List.of(spring), null);
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+        chapterCatalog.invalidate();
+        chapterCatalog.warmUp();
+
+        hibernateStatistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void tutoringByIdShouldLoadParticipantsAndSkillsInOneStatement() {
+        Tutoring found = read(() -> tutoringAdapter.findById(tutoring.getId()).orElseThrow());
+
+        assertEquals(1, hibernateStatistics.getPrepareStatementCount());
+        assertLoads(TutoringEntity.class, 1);
+        assertLoads(UsersEntity.class, 2);
+        assertLoads(SkillEntity.class, 2);
+        assertLoads(ChapterEntity.class, 0);
+        assertEquals("Plan Backend", found.getTutor().getChapter().getName());
+        assertEquals("Plan Frontend", found.getTutee().getChapter().getName());
+        assertEquals(List.of("Plan Java", "Plan Spring"), found.getSkills().stream().map(Skill::getName).sorted().toList());
+    }
+
+    @Test
+    void tutoringsByTutorShouldLoadTheTutorThenEveryTutoringInOneStatement() {
+        List<Tutoring> found = read(() -> tutoringAdapter.findByTutorId(tutor.getId()));
+
+        assertEquals(2, hibernateStatistics.getPrepareStatementCount());
+        assertEquals(3, found.size());
+        assertLoads(TutoringEntity.class, 3);
+        assertLoads(UsersEntity.class, 2);
+        assertLoads(ChapterEntity.class, 0);
+    }
+
+    @Test
+    void feedbacksByTutoringShouldLoadEvaluatorsAndTutoringThenBatchTheSkills() {
+        List<Feedback> found = read(() -> feedbackAdapter.findByTutoringId(tutoring.getId()));
+
+        assertEquals(2, hibernateStatistics.getPrepareStatementCount());
+        assertLoads(FeedbackEntity.class, 2);
+        assertLoads(TutoringEntity.class, 1);
+        assertLoads(UsersEntity.class, 2);
+        assertLoads(SkillEntity.class, 2);
+        assertLoads(ChapterEntity.class, 0);
+        assertTrue(found.stream().allMatch(feedback -> feedback.getTutoring().getSkills().size() == 2));
+        assertEquals("plan-tutor", found.get(0).getTutoring().getTutor().getFirstName());
+        // Shared entities are mapped once per read
+        assertSame(found.get(0).getTutoring(), found.get(1).getTutoring());
+        Feedback byTutee = found.stream().filter(feedback -> "plan-tutee".equals(feedback.getEvaluator().getFirstName()))
+                .findFirst().orElseThrow();
+        assertSame(byTutee.getTutoring().getTutee(), byTutee.getEvaluator());
+    }
+
+    @Test
+    void sessionsByTutoringShouldLoadTheTutoringThenBatchTheSkills() {
+        List<TutoringSession> found = read(() -> sessionAdapter.findByTutoringId(tutoring.getId()));
+
+        assertEquals(2, hibernateStatistics.getPrepareStatementCount());
+        assertEquals(2, found.size());
+        assertLoads(TutoringSessionsEntity.class, 2);
+        assertLoads(TutoringEntity.class, 1);
+        assertLoads(UsersEntity.class, 2);
+        assertLoads(ChapterEntity.class, 0);
+        assertSame(found.get(0).getTutoring(), found.get(1).getTutoring());
+    }
+
+    @Test
+    void filteredRequestsShouldLoadTuteeAndSkillsButNotTheAssignedTutoring() {
+        List<TutoringRequest> found = read(() -> requestAdapter.findWithFilters(tutee.getId(), null, null, null));
+
+        assertEquals(1, hibernateStatistics.getPrepareStatementCount());
+        assertEquals(2, found.size());
+        assertLoads(TutoringRequestsEntity.class, 2);
+        assertLoads(UsersEntity.class, 1);
+        assertLoads(SkillEntity.class, 2);
+        assertLoads(TutoringEntity.class, 0);
+        assertLoads(ChapterEntity.class, 0);
+        assertTrue(found.stream().anyMatch(request -> tutoring.getId().equals(request.getAssignedTutoringId())));
+    }
+
+    @Test
+    void userByIdShouldNotLoadItsChapter() {
+        User found = read(() -> userAdapter.findById(tutee.getId()).orElseThrow());
+
+        assertEquals(1, hibernateStatistics.getPrepareStatementCount());
+        assertLoads(UsersEntity.class, 1);
+        assertLoads(ChapterEntity.class, 0);
+        assertEquals("Plan Frontend", found.getChapter().getName());
+    }
+
+    /**
+     * Runs one read in a fresh persistence context, counting only its own statements and loads.
+     */
+    private <T> T read(Supplier<T> useCase) {
+        testEntityManager.clear();
+        hibernateStatistics.clear();
+        return useCase.get();
+    }
+
+    private void assertLoads(Class<?> entity, long expected) {
+        assertEquals(expected, hibernateStatistics.getEntityStatistics(entity.getName()).getLoadCount(),
+                entity.getSimpleName() + " loads");
+    }
+
+    private UsersEntity persistUser(String key, ChapterEntity chapter, RolUsuario rol) {
+        UsersEntity user = new UsersEntity();
+        user.setFirstName(key);
+        user.setLastName("Test");
+        user.setEmail(key + "@pragma.com");
+        user.setGoogleUserId("google-" + key);
+        user.setChapter(chapter);
+        user.setRol(rol);
+        return testEntityManager.persist(user);
+    }
+
+    private TutoringEntity persistTutoring(List<SkillEntity> skills) {
+        TutoringEntity entity = new TutoringEntity();
+        entity.setTutorId(tutor);
+        entity.setTuteeId(tutee);
+        entity.setSkills(skills);
+        entity.setStatus(TutoringStatus.Activa);
+        return testEntityManager.persist(entity);
+    }
+
+    private void persistFeedback(UsersEntity evaluator) {
+        FeedbackEntity feedback = new FeedbackEntity();
+        feedback.setEvaluatorId(evaluator);
+        feedback.setTutoringId(tutoring);
+        feedback.setEvaluationDate(new Date());
+        feedback.setScore("5");
+        feedback.setComments("Buena tutoría");
+        testEntityManager.persist(feedback);
+    }
+
+    private void persistSession() {
+        TutoringSessionsEntity session = new TutoringSessionsEntity();
+        session.setTutoringId(tutoring);
+        session.setDatetime("2024-03-01T10:00");
+        session.setDurationMinutes(60);
+        session.setSessionStatus(TutoringsSessionStatus.Programada);
+        testEntityManager.persist(session);
+    }
+
+    private void persistRequest(List<SkillEntity> skills, TutoringEntity assigned) {
+        TutoringRequestsEntity request = new TutoringRequestsEntity();
+        request.setTutee(tutee);
+        request.setSkills(skills);
+        request.setNeedsDescription("Necesito ayuda");
+        request.setRequestDate(new Date());
+        request.setRequestStatus(assigned != null ? RequestStatus.Asignada : RequestStatus.Pendiente);
+        request.setAssignedTutoringId(assigned);
+        testEntityManager.persist(request);
+    }
+}
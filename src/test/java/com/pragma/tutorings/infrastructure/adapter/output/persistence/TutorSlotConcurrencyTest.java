@@ -0,0 +1,274 @@
+package com.pragma.tutorings.infrastructure.adapter.output.persistence;
+
+import com.pragma.shared.migration.DataMigrations;
+import com.pragma.shared.migration.SpringDataDataMigrationRepository;
+import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapper;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.repository.SpringDataTutoringRepository;
+import com.pragma.tutorings_requests.domain.model.enums.RequestStatus;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.TutoringRequestPersistenceAdapter;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.entity.TutoringRequestsEntity;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.mapper.TutoringRequestMapper;
+import com.pragma.tutorings_requests.infrastructure.adapter.output.persistence.repository.SpringDataTutoringRequestRepository;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.repository.SpringDataUserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Creates tutorings for one tutor from many threads at once, each in its own committed
+ * transaction as in production, and checks the tutor never ends with more active tutorings than
+ * its limit, nor a request with more than one tutoring.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TutoringPersistenceAdapter.class, TutoringRequestPersistenceAdapter.class, DataMigrations.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TutorSlotConcurrencyTest {
+
+    private static final int LIMIT = 5;
+    private static final int CREATIONS = 64;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TutoringPersistenceAdapter tutoringPersistenceAdapter;
+
+    @Autowired
+    private TutoringRequestPersistenceAdapter tutoringRequestPersistenceAdapter;
+
+    @Autowired
+    private SpringDataTutoringRepository tutoringRepository;
+
+    @Autowired
+    private SpringDataTutoringRequestRepository tutoringRequestRepository;
+
+    @Autowired
+    private SpringDataUserRepository userRepository;
+
+    @Autowired
+    private SpringDataDataMigrationRepository dataMigrationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private TutoringMapper tutoringMapper;
+
+    @MockBean
+    private TutoringRequestMapper tutoringRequestMapper;
+
+    @MockBean
+    private SkillMapper skillMapper;
+
+    private TransactionTemplate transactionTemplate;
+    private UsersEntity tutor;
+    private UsersEntity tutee;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        tutor = userRepository.save(user("slot-tutor", RolUsuario.Tutor, LIMIT));
+        tutee = userRepository.save(user("slot-tutee", RolUsuario.Tutorado, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tutoringRequestRepository.deleteAll(tutoringRequestRepository.findWithFilters(tutee.getId(), null, null, null));
+        tutoringRepository.deleteAll(tutoringRepository.findByTutorId(tutor));
+        userRepository.deleteAll(List.of(tutor, tutee));
+        dataMigrationRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentCreationsShouldNotExceedTheTutorLimit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> creations = new ArrayList<>();
+        try {
+            for (int i = 0; i < CREATIONS; i++) {
+                creations.add(executor.submit(() -> {
+                    start.await();
+                    return createTutoring();
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<Boolean> creation : creations) {
+                if (creation.get(30, TimeUnit.SECONDS)) {
+                    created++;
+                }
+            }
+
+            assertEquals(LIMIT, created);
+            assertEquals(LIMIT, tutoringRepository.countByTutorIdAndStatus(tutor.getId(), TutoringStatus.Activa));
+            assertEquals(LIMIT, slotsTaken());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentAssignmentsOfOneRequestShouldCreateASingleTutoring() throws Exception {
+        TutoringRequestsEntity request = new TutoringRequestsEntity();
+        request.setTutee(tutee);
+        request.setNeedsDescription("Necesidad");
+        request.setRequestDate(new Date());
+        request.setRequestStatus(RequestStatus.Conversando);
+        String requestId = tutoringRequestRepository.save(request).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> assignments = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                assignments.add(executor.submit(() -> {
+                    start.await();
+                    return assignRequest(requestId);
+                }));
+            }
+            start.countDown();
+
+            int assigned = 0;
+            for (Future<Boolean> assignment : assignments) {
+                if (assignment.get(30, TimeUnit.SECONDS)) {
+                    assigned++;
+                }
+            }
+
+            assertEquals(1, assigned);
+            assertEquals(1, tutoringRepository.countByTutorIdAndStatus(tutor.getId(), TutoringStatus.Activa));
+            assertEquals(1, slotsTaken());
+            assertEquals(RequestStatus.Asignada, tutoringRequestRepository.findById(requestId).orElseThrow().getRequestStatus());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void releasedSlotShouldBeReservedAgain() {
+        for (int i = 0; i < LIMIT; i++) {
+            assertTrue(createTutoring());
+        }
+        assertFalse(createTutoring());
+
+        transactionTemplate.executeWithoutResult(status -> tutoringPersistenceAdapter.releaseTutorSlot(tutor.getId()));
+
+        assertTrue(createTutoring());
+        assertEquals(LIMIT, slotsTaken());
+    }
+
+    @Test
+    void recountShouldMatchTheActiveTutorings() {
+        assertTrue(createTutoring());
+        assertTrue(createTutoring());
+        resetSlots();
+
+        tutoringPersistenceAdapter.recountTutorSlots();
+
+        assertEquals(2, slotsTaken());
+    }
+
+    @Test
+    void startupBackfillShouldRecountOnlyOnce() {
+        assertTrue(createTutoring());
+        resetSlots();
+
+        tutoringPersistenceAdapter.backfillTutorSlots();
+        assertEquals(1, slotsTaken());
+
+        resetSlots();
+        tutoringPersistenceAdapter.backfillTutorSlots();
+        assertEquals(0, slotsTaken());
+    }
+
+    /**
+     * One tutoring creation as the service runs it: the slot and the tutoring commit together,
+     * or neither does.
+     */
+    private boolean createTutoring() {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> createTutoringInCurrentTransaction()));
+    }
+
+    private boolean createTutoringInCurrentTransaction() {
+        if (!tutoringPersistenceAdapter.reserveTutorSlot(tutor.getId())) {
+            return false;
+        }
+        TutoringEntity tutoring = new TutoringEntity();
+        tutoring.setTutorId(tutor);
+        tutoring.setTuteeId(tutee);
+        tutoring.setStatus(TutoringStatus.Activa);
+        tutoring.setObjectives("Objetivos");
+        tutoringRepository.save(tutoring);
+        return true;
+    }
+
+    /**
+     * One assignment of the request as the service runs it: the request is claimed with the
+     * conditional status change before the tutor slot is reserved and the tutoring created.
+     */
+    private boolean assignRequest(String requestId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!tutoringRequestPersistenceAdapter.changeStatusIfCurrent(
+                    requestId, RequestStatus.Conversando, RequestStatus.Asignada, new Date())) {
+                return false;
+            }
+            return createTutoringInCurrentTransaction();
+        }));
+    }
+
+    private void resetSlots() {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createNativeQuery("UPDATE users SET active_tutoring_count = 0 WHERE id = :id")
+                .setParameter("id", tutor.getId())
+                .executeUpdate());
+    }
+
+    private int slotsTaken() {
+        return transactionTemplate.execute(status -> ((Number) entityManager
+                .createNativeQuery("SELECT active_tutoring_count FROM users WHERE id = :id")
+                .setParameter("id", tutor.getId())
+                .getSingleResult()).intValue());
+    }
+
+    private static UsersEntity user(String key, RolUsuario rol, int activeTutoringLimit) {
+        UsersEntity user = new UsersEntity();
+        user.setFirstName(key);
+        user.setLastName("Test");
+        user.setEmail(key + "@pragma.com");
+        user.setGoogleUserId("google-" + key);
+        user.setRol(rol);
+        user.setActiveTutoringLimit(activeTutoringLimit);
+        return user;
+    }
+}
@@ -0,0 +1,197 @@
+package com.pragma.tutorings.infrastructure.adapter.output.persistence;
+
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.shared.migration.DataMigrations;
+import com.pragma.skills.domain.model.Skill;
+import com.pragma.skills.infrastructure.adapter.output.persistence.entity.SkillEntity;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.TutoringPageCursor;
+import com.pragma.tutorings.domain.model.TutoringPageQuery;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the tutoring listing queries against the test database and pins every page to two
+ * statements, the rows and their skills, however many tutorings, users and skills it holds.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({TutoringPersistenceAdapter.class, DataMigrations.class})
+class TutoringPagePersistenceTest {
+
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+    private static final Date BASE = new Date(1_700_000_000_000L);
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private TutoringPersistenceAdapter tutoringPersistenceAdapter;
+
+    @MockBean
+    private TutoringMapper tutoringMapper;
+
+    private Statistics hibernateStatistics;
+    private String backendId;
+    private UsersEntity tutor;
+    private UsersEntity backendTutee;
+
+    @BeforeEach
+    void setUp() {
+        ChapterEntity backend = testEntityManager.persist(new ChapterEntity(null, "Page Backend"));
+        ChapterEntity frontend = testEntityManager.persist(new ChapterEntity(null, "Page Frontend"));
+        backendId = backend.getId();
+        tutor = persistUser("page-tutor", backend, RolUsuario.Tutor);
+        UsersEntity otherTutor = persistUser("page-other-tutor", frontend, RolUsuario.Tutor);
+        backendTutee = persistUser("page-backend-tutee", backend, RolUsuario.Tutorado);
+        UsersEntity frontendTutee = persistUser("page-frontend-tutee", frontend, RolUsuario.Tutorado);
+        SkillEntity java = testEntityManager.persist(new SkillEntity(null, "Page Java", null));
+        SkillEntity spring = testEntityManager.persist(new SkillEntity(null, "Page Spring", null));
+
+        // Day 0 is the oldest, day 4 the newest
+        persistTutoring("day-0", tutor, backendTutee, TutoringStatus.Completada, 0, List.of(java));
+        persistTutoring("day-1", otherTutor, frontendTutee, TutoringStatus.Activa, 1, List.of());
+        persistTutoring("day-2", tutor, frontendTutee, TutoringStatus.Activa, 2, List.of(spring, java));
+        persistTutoring("day-3", tutor, backendTutee, TutoringStatus.Activa, 3, List.of(spring));
+        persistTutoring("day-4", otherTutor, backendTutee, TutoringStatus.Cancelada, 4, List.of());
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        hibernateStatistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        hibernateStatistics.clear();
+    }
+
+    @Test
+    void findPageShouldWalkNewestFirstWithTwoStatementsPerPage() {
+        TutoringPageQuery query = query();
+
+        List<Tutoring> firstPage = tutoringPersistenceAdapter.findPage(query, 2);
+        query.setAfter(TutoringPageCursor.after(firstPage.get(1)));
+        List<Tutoring> secondPage = tutoringPersistenceAdapter.findPage(query, 2);
+        query.setAfter(TutoringPageCursor.after(secondPage.get(1)));
+        List<Tutoring> lastPage = tutoringPersistenceAdapter.findPage(query, 2);
+
+        assertEquals(6, hibernateStatistics.getPrepareStatementCount());
+        assertEquals(0, hibernateStatistics.getEntityLoadCount());
+        assertEquals(List.of("day-4", "day-3"), objectives(firstPage));
+        assertEquals(List.of("day-2", "day-1"), objectives(secondPage));
+        assertEquals(List.of("day-0"), objectives(lastPage));
+    }
+
+    @Test
+    void findPageShouldMapTutorTuteeAndSkillsFromTheProjection() {
+        TutoringPageQuery query = query();
+        query.setAfter(new TutoringPageCursor(new Date(BASE.getTime() + 3 * DAY), "~"));
+
+        Tutoring tutoring = tutoringPersistenceAdapter.findPage(query, 1).get(0);
+
+        assertEquals("day-3", tutoring.getObjectives());
+        assertEquals(tutor.getId(), tutoring.getTutor().getId());
+        assertEquals("page-tutor@pragma.com", tutoring.getTutor().getEmail());
+        assertEquals("Page Backend", tutoring.getTutee().getChapter().getName());
+        assertEquals(RolUsuario.Tutorado, tutoring.getTutee().getRol());
+        assertEquals(TutoringStatus.Activa, tutoring.getStatus());
+        assertEquals(BASE.getTime() + 3 * DAY, tutoring.getCreatedAt().getTime());
+        assertEquals(List.of("Page Spring"), tutoring.getSkills().stream().map(Skill::getName).toList());
+    }
+
+    @Test
+    void findPageShouldAttachEverySkillOfThePage() {
+        List<Tutoring> tutorings = tutoringPersistenceAdapter.findPage(query(), 10);
+
+        assertEquals(2, hibernateStatistics.getPrepareStatementCount());
+        Tutoring dayTwo = tutorings.stream().filter(t -> t.getObjectives().equals("day-2")).findFirst().orElseThrow();
+        assertEquals(List.of("Page Java", "Page Spring"), dayTwo.getSkills().stream().map(Skill::getName).toList());
+        assertTrue(tutorings.stream().filter(t -> t.getObjectives().equals("day-4")).findFirst().orElseThrow()
+                .getSkills().isEmpty());
+    }
+
+    @Test
+    void findPageShouldApplyEveryFilter() {
+        TutoringPageQuery byStatus = query();
+        byStatus.setStatus(TutoringStatus.Activa);
+        TutoringPageQuery byChapter = query();
+        byChapter.setChapterId(backendId);
+        TutoringPageQuery byTutorAndTutee = query();
+        byTutorAndTutee.setTutorId(tutor.getId());
+        byTutorAndTutee.setTuteeId(backendTutee.getId());
+        TutoringPageQuery byDates = query();
+        byDates.setFrom(new Date(BASE.getTime() + DAY));
+        byDates.setTo(new Date(BASE.getTime() + 3 * DAY));
+
+        assertEquals(List.of("day-3", "day-2", "day-1"), objectives(tutoringPersistenceAdapter.findPage(byStatus, 10)));
+        assertEquals(List.of("day-4", "day-3", "day-0"), objectives(tutoringPersistenceAdapter.findPage(byChapter, 10)));
+        assertEquals(List.of("day-3", "day-0"), objectives(tutoringPersistenceAdapter.findPage(byTutorAndTutee, 10)));
+        assertEquals(List.of("day-2", "day-1"), objectives(tutoringPersistenceAdapter.findPage(byDates, 10)));
+    }
+
+    @Test
+    void findPageWithoutMatchesShouldNotQuerySkills() {
+        TutoringPageQuery query = query();
+        query.setTuteeId("unknown");
+
+        assertEquals(List.of(), tutoringPersistenceAdapter.findPage(query, 10));
+        assertEquals(1, hibernateStatistics.getPrepareStatementCount());
+    }
+
+    /**
+     * The listing restricted to the tutorings of this test, which are the only ones created
+     * before {@code BASE} plus five days.
+     */
+    private static TutoringPageQuery query() {
+        return new TutoringPageQuery(null, null, null, null, BASE, new Date(BASE.getTime() + 5 * DAY), null, 10);
+    }
+
+    private static List<String> objectives(List<Tutoring> tutorings) {
+        return tutorings.stream().map(Tutoring::getObjectives).toList();
+    }
+
+    private UsersEntity persistUser(String key, ChapterEntity chapter, RolUsuario rol) {
+        UsersEntity user = new UsersEntity();
+        user.setFirstName(key);
+        user.setLastName("Test");
+        user.setEmail(key + "@pragma.com");
+        user.setGoogleUserId("google-" + key);
+        user.setChapter(chapter);
+        user.setRol(rol);
+        return testEntityManager.persist(user);
+    }
+
+    private void persistTutoring(String objectives, UsersEntity tutor, UsersEntity tutee, TutoringStatus status,
+                                 int day, List<SkillEntity> skills) {
+        TutoringEntity tutoring = new TutoringEntity();
+        tutoring.setTutorId(tutor);
+        tutoring.setTuteeId(tutee);
+        tutoring.setStatus(status);
+        tutoring.setObjectives(objectives);
+        tutoring.setSkills(skills);
+        testEntityManager.persistAndFlush(tutoring);
+        // The creation time is set on persist, so it is moved to its day afterwards
+        testEntityManager.getEntityManager()
+                .createQuery("UPDATE TutoringEntity t SET t.createdAt = :createdAt WHERE t.id = :id")
+                .setParameter("createdAt", new Date(BASE.getTime() + day * DAY))
+                .setParameter("id", tutoring.getId())
+                .executeUpdate();
+    }
+}
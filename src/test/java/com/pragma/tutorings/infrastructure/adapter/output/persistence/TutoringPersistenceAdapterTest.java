@@ -155,4 +155,22 @@ class TutoringPersistenceAdapterTest {
         // Assert
         assertEquals(0, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void reserveTutorSlot_BelowLimit() {
+        // Arrange
+        when(userRepository.reserveTutoringSlot("tutor-id")).thenReturn(1);
+
+        // Act & Assert
+        assertTrue(tutoringPersistenceAdapter.reserveTutorSlot("tutor-id"));
+    }
+
+    @Test
+    void reserveTutorSlot_LimitReached() {
+        // Arrange
+        when(userRepository.reserveTutoringSlot("tutor-id")).thenReturn(0);
+
+        // Act & Assert
+        assertFalse(tutoringPersistenceAdapter.reserveTutorSlot("tutor-id"));
+    }
+}
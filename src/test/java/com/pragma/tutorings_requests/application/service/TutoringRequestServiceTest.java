@@ -1,5 +1,7 @@
 package com.pragma.tutorings_requests.application.service;
 
+import com.pragma.statistics.domain.port.input.RecordRequestTransitionUseCase;
+import com.pragma.statistics.domain.port.input.UpdateDashboardCountersUseCase;
 import com.pragma.chapter.domain.model.Chapter;
 import com.pragma.shared.context.UserContext;
 import com.pragma.shared.context.UserContextHelper;
@@ -39,6 +41,12 @@ class TutoringRequestServiceTest {
     @Mock
     private MessageService messageService;
 
+    @Mock
+    private UpdateDashboardCountersUseCase updateDashboardCountersUseCase;
+
+    @Mock
+    private RecordRequestTransitionUseCase recordRequestTransitionUseCase;
+
     @InjectMocks
     private TutoringRequestService tutoringRequestService;
 
@@ -104,12 +112,16 @@ class TutoringRequestServiceTest {
         assertEquals(requestId, result.getId());
         assertEquals(RequestStatus.Pendiente, result.getRequestStatus());
         verify(tutoringRequestRepository, times(1)).save(any(TutoringRequest.class));
+        verify(updateDashboardCountersUseCase).tutoringRequestStatusChanged(result, null);
+        assertNotNull(result.getStatusChangedAt());
     }
 
     @Test
     void updateStatus_ToApproved_Success() {
         // Arrange
         UserContext.setCurrentUser(adminUser);
+        Date pendingSince = new Date(System.currentTimeMillis() - 60_000);
+        tutoringRequest.setStatusChangedAt(pendingSince);
         when(tutoringRequestRepository.findById(requestId)).thenReturn(Optional.of(tutoringRequest));
         when(tutoringRequestRepository.save(any(TutoringRequest.class))).thenAnswer(invocation -> {
             TutoringRequest savedRequest = invocation.getArgument(0);
@@ -125,6 +137,9 @@ class TutoringRequestServiceTest {
         assertEquals(RequestStatus.Aprobada, result.getRequestStatus());
         verify(tutoringRequestRepository, times(1)).findById(requestId);
         verify(tutoringRequestRepository, times(1)).save(any(TutoringRequest.class));
+        verify(updateDashboardCountersUseCase).tutoringRequestStatusChanged(result, RequestStatus.Pendiente);
+        verify(recordRequestTransitionUseCase).requestStatusChanged(result, RequestStatus.Pendiente, pendingSince);
+        assertTrue(result.getStatusChangedAt().after(pendingSince));
     }
 
     @Test
@@ -144,6 +159,9 @@ class TutoringRequestServiceTest {
         verify(tutoringRequestRepository, times(1)).findById(requestId);
         verify(tutoringRequestRepository, times(1)).delete(requestId);
         verify(tutoringRequestRepository, never()).save(any(TutoringRequest.class));
+        verify(updateDashboardCountersUseCase).tutoringRequestDeleted(tutoringRequest);
+        verify(updateDashboardCountersUseCase, never()).tutoringRequestStatusChanged(any(), any());
+        verifyNoInteractions(recordRequestTransitionUseCase);
     }
 
     @Test
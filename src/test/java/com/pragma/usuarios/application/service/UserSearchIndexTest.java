@@ -0,0 +1,148 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserSearchIndexTest {
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = UserSearchIndex.build(List.of(
+                user("1", "ana.gomez@pragma.com.co", "Ana", "Gómez"),
+                user("2", "mariana.ruiz@pragma.com.co", "Mariana", "Ruiz"),
+                user("3", "juan.perez@pragma.com.co", "Juan", "Pérez Anaya"),
+                user("4", "carlos.diaz@pragma.com.co", "Carlos", "Díaz")));
+    }
+
+    @Test
+    void search_ShouldRankPrefixMatchesBeforeWordAndSubstringMatches() {
+        // When
+        List<String> ids = ids(index.search("ana", 10));
+
+        // Then
+        assertEquals(List.of("1", "3", "2"), ids);
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccents() {
+        assertEquals(List.of("3"), ids(index.search("PEREZ", 10)));
+        assertEquals(List.of("1"), ids(index.search("gómez", 10)));
+    }
+
+    @Test
+    void search_WithTwoLetters_ShouldMatchWordStartsOnly() {
+        assertEquals(List.of("4"), ids(index.search("di", 10)));
+        assertTrue(index.search("ia", 10).isEmpty());
+    }
+
+    @Test
+    void search_WithSeveralWords_ShouldRequireEveryWord() {
+        assertEquals(List.of("3"), ids(index.search("juan anaya", 10)));
+        assertTrue(index.search("juan ruiz", 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldMatchInsideTheEmail() {
+        assertEquals(List.of("2"), ids(index.search("na.ru", 10)));
+    }
+
+    @Test
+    void search_ShouldHonourTheLimitAndIgnoreShortWords() {
+        assertEquals(List.of("1"), ids(index.search("ana", 1)));
+        assertTrue(index.search("a", 10).isEmpty());
+        assertTrue(index.search("", 10).isEmpty());
+    }
+
+    @Test
+    void put_ExistingUser_ShouldReplaceThePreviousVersion() {
+        // When
+        index.put(user("4", "carlos.diaz@pragma.com.co", "Carlos", "Rojas"));
+
+        // Then
+        assertEquals(List.of("4"), ids(index.search("carlos", 10)));
+        assertEquals(List.of("4"), ids(index.search("rojas", 10)));
+        assertEquals(4, index.size());
+        assertEquals(1, index.tombstones());
+    }
+
+    @Test
+    void remove_ShouldDropTheUserFromResults() {
+        // When
+        index.remove("1");
+
+        // Then
+        assertEquals(List.of("3", "2"), ids(index.search("ana", 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void search_ShouldRankUsersAddedAfterTheBuildWithTheBuiltOnes() {
+        // Given
+        index.put(user("5", "ana@pragma.com.co", "Ana", "Ríos"));
+
+        // When
+        List<String> ids = ids(index.search("ana", 2));
+
+        // Then
+        assertEquals(List.of("5", "1"), ids);
+    }
+
+    @Test
+    void build_ShouldRankLikeIncrementalPuts() {
+        // Given
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            users.add(user("id-" + i, "user" + i + ".lastname" + (i % 97) + "@pragma.com.co",
+                    "First" + (i % 50), "Last" + (i % 150)));
+        }
+        UserSearchIndex built = UserSearchIndex.build(users);
+        UserSearchIndex incremental = new UserSearchIndex();
+        users.forEach(incremental::put);
+
+        // Then
+        for (String query : List.of("us", "first1", "last12 first2", "name4", "user1999")) {
+            assertEquals(ids(incremental.search(query, 10)), ids(built.search(query, 10)), query);
+        }
+    }
+
+    @Test
+    void estimatedBytes_ShouldStayWithinTheDocumentedBudget() {
+        // Given
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            users.add(user(UUID.randomUUID().toString(), "user" + i + ".lastname" + (i % 97) + "@pragma.com.co",
+                    "First" + (i % 500), "Last" + (i % 1500)));
+        }
+
+        // When
+        UserSearchIndex large = UserSearchIndex.build(users);
+
+        // Then
+        assertEquals(users.size(), large.size());
+        assertTrue(large.estimatedBytes() / users.size() < 750, "bytes per user: " + large.estimatedBytes() / users.size());
+        assertEquals(List.of(users.get(4242).getId()), ids(large.search("user4242.", 10)));
+    }
+
+    private static List<String> ids(List<UserSearchResult> results) {
+        return results.stream().map(result -> result.getUser().getId()).toList();
+    }
+
+    private static User user(String id, String email, String firstName, String lastName) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        return user;
+    }
+}
@@ -0,0 +1,139 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.shared.config.UserSearchProperties;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserSearchResult;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserSearchProperties properties;
+    private UserSearchService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new UserSearchProperties();
+        service = new UserSearchService(properties, userRepository, meterRegistry);
+    }
+
+    @Test
+    void searchUsers_BeforeFirstRebuild_ShouldFallBackToEmailQuery() {
+        // Arrange
+        when(userRepository.findByFilters(null, null, null, "ana"))
+                .thenReturn(List.of(user("1", "ana@pragma.com.co", "Ana"), user("2", "mariana@pragma.com.co", "Mariana")));
+
+        // Act
+        List<UserSearchResult> results = service.searchUsers(" ana ", 1);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals("1", results.get(0).getUser().getId());
+    }
+
+    @Test
+    void searchUsers_AfterRebuild_ShouldAnswerFromTheIndex() {
+        // Arrange
+        stubUsers(user("1", "ana@pragma.com.co", "Ana"), user("2", "carlos@pragma.com.co", "Carlos"));
+        service.rebuild();
+
+        // Act
+        List<UserSearchResult> results = service.searchUsers("carl", null);
+
+        // Assert
+        assertEquals(List.of("2"), results.stream().map(result -> result.getUser().getId()).toList());
+        verify(userRepository, never()).findByFilters(any(), any(), any(), any());
+        assertEquals(2.0, meterRegistry.get("users.search.index.size").gauge().value());
+    }
+
+    @Test
+    void onUserChanged_ShouldUpdateTheIndex() {
+        // Arrange
+        stubUsers(user("1", "ana@pragma.com.co", "Ana"));
+        service.rebuild();
+
+        // Act
+        service.onUserChanged(new UserChangedEvent(UserChangedEvent.ChangeType.UPDATED, user("1", "ana@pragma.com.co", "Anabel")));
+        service.onUserChanged(new UserChangedEvent(UserChangedEvent.ChangeType.CREATED, user("2", "luis@pragma.com.co", "Luis")));
+
+        // Assert
+        assertEquals(1, service.searchUsers("anabel", null).size());
+        assertEquals(1, service.searchUsers("luis", null).size());
+        assertEquals(2.0, meterRegistry.get("users.search.index.size").gauge().value());
+    }
+
+    @Test
+    void rebuild_WithMoreUsersThanTheGuard_ShouldKeepUsingTheDatabase() {
+        // Arrange
+        properties.setMaxIndexedUsers(1);
+        stubUsers(user("1", "ana@pragma.com.co", "Ana"), user("2", "carlos@pragma.com.co", "Carlos"));
+        when(userRepository.findByFilters(null, null, null, "carl")).thenReturn(List.of());
+
+        // Act
+        service.rebuild();
+
+        // Assert
+        assertTrue(service.searchUsers("carl", null).isEmpty());
+        verify(userRepository).findByFilters(null, null, null, "carl");
+        assertEquals(0.0, meterRegistry.get("users.search.index.size").gauge().value());
+    }
+
+    @Test
+    void rebuild_WhenRepositoryFails_ShouldKeepPreviousIndex() {
+        // Arrange
+        stubUsers(user("1", "ana@pragma.com.co", "Ana"));
+        service.rebuild();
+        doThrow(new IllegalStateException("connection lost")).when(userRepository).streamAll(any());
+
+        // Act
+        service.rebuild();
+
+        // Assert
+        assertEquals(1, service.searchUsers("ana", null).size());
+    }
+
+    @Test
+    void searchUsers_ShouldRejectLimitsOutsideTheConfiguredRange() {
+        assertThrows(IllegalArgumentException.class, () -> service.searchUsers("ana", 0));
+        assertThrows(IllegalArgumentException.class, () -> service.searchUsers("ana", properties.getMaxLimit() + 1));
+        assertTrue(service.searchUsers("  ", null).isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubUsers(User... users) {
+        doAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(0);
+            for (User user : users) {
+                consumer.accept(user);
+            }
+            return null;
+        }).when(userRepository).streamAll(any(Consumer.class));
+    }
+
+    private static User user(String id, String email, String firstName) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setFirstName(firstName);
+        return user;
+    }
+}
@@ -2,24 +2,30 @@ package com.pragma.usuarios.application.service;
 
 import com.pragma.chapter.domain.model.Chapter;
 import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserDirectoryCursor;
+import com.pragma.usuarios.domain.model.UserDirectoryPage;
+import com.pragma.usuarios.domain.model.UserDirectoryQuery;
+import com.pragma.usuarios.domain.model.UserWithTutoringCount;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.model.enums.UserDirectorySort;
 import com.pragma.usuarios.domain.port.output.ExternalUserRepository;
 import com.pragma.usuarios.domain.port.output.UserRepository;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserWithTutoringCountDto;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
 import com.pragma.usuarios.infrastructure.adapter.output.external.dto.PragmaUserDto;
-import com.pragma.tutorings.domain.port.output.TutoringRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -28,15 +34,15 @@ class UserServiceCompleteTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private TutoringRepository tutoringRepository;
-
     @Mock
     private UserDtoMapper userDtoMapper;
 
     @Mock
     private ExternalUserRepository externalUserRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -129,12 +135,10 @@ class UserServiceCompleteTest {
     @Test
     void getAllUsersWithTutoringCountFiltered_ShouldReturnFilteredUsers() {
         // Arrange
-        List<User> users = List.of(testUser);
-        when(userRepository.findByFilters("chapter-1", "TUTORADO", 3, "john@test.com"))
-                .thenReturn(users);
-        when(tutoringRepository.countTutoringsByTutorId("1")).thenReturn(0L);
-        when(tutoringRepository.countTutoringsByTuteeId("1")).thenReturn(1L);
-        when(userDtoMapper.toUserWithTutoringCountDto(testUser)).thenReturn(testUserDto);
+        UserWithTutoringCount userWithCount = new UserWithTutoringCount(testUser, 0L, 1L);
+        when(userRepository.findAllWithTutoringCounts("chapter-1", "TUTORADO", 3, "john@test.com"))
+                .thenReturn(List.of(userWithCount));
+        when(userDtoMapper.toUserWithTutoringCountDto(userWithCount)).thenReturn(testUserDto);
 
         // Act
         List<UserWithTutoringCountDto> result = userService.getAllUsersWithTutoringCountFiltered(
@@ -147,10 +151,63 @@ class UserServiceCompleteTest {
         assertEquals(0L, result.get(0).getTutoringsAsTutor());
         assertEquals(1L, result.get(0).getTutoringsAsTutee());
         
-        verify(userRepository).findByFilters("chapter-1", "TUTORADO", 3, "john@test.com");
-        verify(tutoringRepository).countTutoringsByTutorId("1");
-        verify(tutoringRepository).countTutoringsByTuteeId("1");
-        verify(userDtoMapper).toUserWithTutoringCountDto(testUser);
+        verify(userRepository).findAllWithTutoringCounts("chapter-1", "TUTORADO", 3, "john@test.com");
+        verify(userRepository, never()).findByFilters(any(), any(), any(), any());
+        verify(userDtoMapper).toUserWithTutoringCountDto(userWithCount);
+    }
+
+    @Test
+    void getUserDirectory_WhenMoreUsersThanLimit_ShouldReturnCursorOfLastUser() {
+        // Arrange
+        User second = new User();
+        second.setId("2");
+        second.setEmail("jane@pragma.com");
+        User third = new User();
+        third.setId("3");
+        List<UserWithTutoringCount> rows = List.of(
+                new UserWithTutoringCount(testUser, 5L, 0L),
+                new UserWithTutoringCount(second, 3L, 0L),
+                new UserWithTutoringCount(third, 3L, 0L));
+        UserDirectoryQuery query = new UserDirectoryQuery(null, null, null, null,
+                UserDirectorySort.TUTORINGS_AS_TUTOR, true, null, 2);
+        when(userRepository.findWithTutoringCounts(query, 3)).thenReturn(rows);
+
+        // Act
+        UserDirectoryPage page = userService.getUserDirectory(query);
+
+        // Assert
+        assertEquals(2, page.getUsers().size());
+        assertEquals(new UserDirectoryCursor(UserDirectorySort.TUTORINGS_AS_TUTOR, "3", "2"), page.getNext());
+        assertEquals(page.getNext(), UserDirectoryCursor.decode(page.getNext().encode()));
+    }
+
+    @Test
+    void getUserDirectory_WhenLastPage_ShouldNotReturnCursor() {
+        // Arrange
+        UserDirectoryQuery query = new UserDirectoryQuery(null, null, null, null,
+                UserDirectorySort.EMAIL, false, new UserDirectoryCursor(UserDirectorySort.EMAIL, "a@pragma.com", "0"), 10);
+        when(userRepository.findWithTutoringCounts(query, 11))
+                .thenReturn(List.of(new UserWithTutoringCount(testUser, 0L, 1L)));
+
+        // Act
+        UserDirectoryPage page = userService.getUserDirectory(query);
+
+        // Assert
+        assertEquals(1, page.getUsers().size());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void getUserDirectory_WithInvalidPageOrCursor_ShouldFail() {
+        UserDirectoryQuery tooLarge = new UserDirectoryQuery(null, null, null, null,
+                UserDirectorySort.EMAIL, false, null, 501);
+        UserDirectoryQuery otherSort = new UserDirectoryQuery(null, null, null, null,
+                UserDirectorySort.EMAIL, false, new UserDirectoryCursor(UserDirectorySort.TUTORINGS_AS_TUTEE, "1", "1"), 10);
+
+        assertThrows(IllegalArgumentException.class, () -> userService.getUserDirectory(tooLarge));
+        assertThrows(IllegalArgumentException.class, () -> userService.getUserDirectory(otherSort));
+        assertThrows(IllegalArgumentException.class, () -> UserDirectoryCursor.decode("not a cursor"));
+        verify(userRepository, never()).findWithTutoringCounts(any(), anyInt());
     }
 
     @Test
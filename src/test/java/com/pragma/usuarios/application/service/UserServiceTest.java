@@ -1,6 +1,8 @@
 package com.pragma.usuarios.application.service;
 
+import com.pragma.statistics.domain.port.input.UpdateDashboardCountersUseCase;
 import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import com.pragma.usuarios.domain.port.output.UserRepository;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -22,6 +25,12 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UpdateDashboardCountersUseCase updateDashboardCountersUseCase;
+
     @InjectMocks
     private UserService userService;
 
@@ -140,6 +149,10 @@ class UserServiceTest {
         // Verify repository was called with correct parameters
         verify(userRepository).findById("1");
         verify(userRepository).save(argThat(user -> user.getRol() == RolUsuario.Tutor));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof UserChangedEvent changed
+                && changed.getChangeType() == UserChangedEvent.ChangeType.ROLE_CHANGED
+                && changed.getUser() == updatedUser));
+        verify(updateDashboardCountersUseCase).userRoleChanged(updatedUser, RolUsuario.Tutorado);
     }
     
     @Test
@@ -156,6 +169,8 @@ class UserServiceTest {
         // Verify repository was called but save was not
         verify(userRepository).findById("nonexistent");
         verify(userRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+        verifyNoInteractions(updateDashboardCountersUseCase);
     }
     
     @Test
@@ -0,0 +1,254 @@
+package com.pragma.usuarios.application.service;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.domain.port.input.CreateChapterUseCase;
+import com.pragma.chapter.domain.port.input.GetAllChaptersUseCase;
+import com.pragma.shared.config.UserSyncProperties;
+import com.pragma.usuarios.domain.event.UserChangedEvent;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserSyncDiff;
+import com.pragma.usuarios.domain.model.UserSyncOutcome;
+import com.pragma.usuarios.domain.model.UserSyncReport;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.output.ExternalUserRepository;
+import com.pragma.usuarios.domain.port.output.UserRepository;
+import com.pragma.usuarios.infrastructure.adapter.output.external.dto.PragmaUserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSyncServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ExternalUserRepository externalUserRepository;
+
+    @Mock
+    private GetAllChaptersUseCase getAllChaptersUseCase;
+
+    @Mock
+    private CreateChapterUseCase createChapterUseCase;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserSyncProperties properties;
+    private UserSyncService service;
+
+    private final Chapter backend = new Chapter("backend", "Backend");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new UserSyncProperties();
+        service = new UserSyncService(properties, userRepository, externalUserRepository, getAllChaptersUseCase,
+                createChapterUseCase, eventPublisher, meterRegistry);
+        lenient().when(getAllChaptersUseCase.getAllChapters()).thenReturn(List.of(backend));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sync_ShouldUpdateOnlyChangedUsersInOneWriteAndReportTheirDiff() {
+        // Arrange
+        User ana = user("1", "ana@pragma.com.co", "Ana", backend, 2);
+        User luis = user("2", "luis@pragma.com.co", "Luis Gómez", backend, 3);
+        when(userRepository.findByEmails(List.of("ana@pragma.com.co", "luis@pragma.com.co")))
+                .thenReturn(List.of(ana, luis));
+        when(externalUserRepository.fetchUserByEmail("ana@pragma.com.co"))
+                .thenReturn(Optional.of(profile("ana@pragma.com.co", "Ana Pérez", "Backend", 4)));
+        when(externalUserRepository.fetchUserByEmail("luis@pragma.com.co"))
+                .thenReturn(Optional.of(profile("luis@pragma.com.co", "Luis Gómez", "backend", 3)));
+
+        // Act
+        UserSyncReport report = service.sync(List.of("ana@pragma.com.co", "luis@pragma.com.co"), false);
+
+        // Assert
+        assertEquals(UserSyncReport.Status.COMPLETED, report.getStatus());
+        assertEquals(2, report.getProcessed());
+        assertEquals(1, report.getCounts().get(UserSyncOutcome.UPDATED));
+        assertEquals(1, report.getCounts().get(UserSyncOutcome.UNCHANGED));
+        assertEquals(List.of(
+                        new UserSyncDiff.FieldChange("firstName", "Ana", "Ana Pérez"),
+                        new UserSyncDiff.FieldChange("seniority", "2", "4")),
+                report.getDiffs().get(0).getChanges());
+
+        ArgumentCaptor<Collection<User>> written = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).updateProfiles(written.capture());
+        assertEquals(List.of("1"), written.getValue().stream().map(User::getId).toList());
+        assertEquals("Ana Pérez", ana.getFirstName());
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
+        verifyNoInteractions(createChapterUseCase);
+        assertEquals(1.0, meterRegistry.get("users.sync.emails").tag("outcome", "UPDATED").counter().count());
+    }
+
+    @Test
+    void sync_ShouldReportEmailsThatCannotBeUpdated() {
+        // Arrange
+        when(userRepository.findByEmails(any())).thenReturn(List.of(user("1", "gone@pragma.com.co", "Gone", backend, 1)));
+        when(externalUserRepository.fetchUserByEmail("gone@pragma.com.co")).thenReturn(Optional.empty());
+        when(externalUserRepository.fetchUserByEmail("new@pragma.com.co"))
+                .thenReturn(Optional.of(profile("new@pragma.com.co", "New", "Backend", 1)));
+        when(externalUserRepository.fetchUserByEmail("down@pragma.com.co"))
+                .thenThrow(new IllegalStateException("503 Service Unavailable"));
+
+        // Act
+        UserSyncReport report = service.sync(
+                List.of("gone@pragma.com.co", "new@pragma.com.co", "down@pragma.com.co"), false);
+
+        // Assert
+        assertEquals(UserSyncReport.Status.COMPLETED, report.getStatus());
+        assertEquals(List.of(UserSyncOutcome.NOT_IN_DIRECTORY, UserSyncOutcome.NOT_REGISTERED, UserSyncOutcome.FAILED),
+                report.getDiffs().stream().map(UserSyncDiff::getOutcome).toList());
+        verify(userRepository, never()).updateProfiles(anyCollection());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void sync_ShouldCreateEachMissingChapterOnce() {
+        // Arrange
+        when(userRepository.findByEmails(any())).thenReturn(List.of(
+                user("1", "ana@pragma.com.co", "Ana", backend, 1),
+                user("2", "luis@pragma.com.co", "Luis", null, 1)));
+        when(externalUserRepository.fetchUserByEmail(any())).thenAnswer(invocation ->
+                Optional.of(profile(invocation.getArgument(0), null, "Data", 1)));
+        Chapter data = new Chapter("data", "Data");
+        when(createChapterUseCase.createChapter(new Chapter(null, "Data"))).thenReturn(data);
+
+        // Act
+        UserSyncReport report = service.sync(List.of("ana@pragma.com.co", "luis@pragma.com.co"), false);
+
+        // Assert
+        assertEquals(1, report.getChaptersCreated());
+        assertEquals(2, report.getCounts().get(UserSyncOutcome.UPDATED));
+        assertEquals(new UserSyncDiff.FieldChange("chapter", "Backend", "Data"), report.getDiffs().get(0).getChanges().get(0));
+        assertEquals(new UserSyncDiff.FieldChange("chapter", null, "Data"), report.getDiffs().get(1).getChanges().get(0));
+        verify(createChapterUseCase, times(1)).createChapter(any());
+    }
+
+    @Test
+    void sync_OnDryRun_ShouldReportWithoutWriting() {
+        // Arrange
+        when(userRepository.findByEmails(any())).thenReturn(List.of(user("1", "ana@pragma.com.co", "Ana", backend, 1)));
+        when(externalUserRepository.fetchUserByEmail("ana@pragma.com.co"))
+                .thenReturn(Optional.of(profile("ana@pragma.com.co", "Ana", "Data", 1)));
+
+        // Act
+        UserSyncReport report = service.sync(List.of("ana@pragma.com.co"), true);
+
+        // Assert
+        assertTrue(report.isDryRun());
+        assertEquals(1, report.getChaptersCreated());
+        assertEquals(1, report.getCounts().get(UserSyncOutcome.UPDATED));
+        verify(userRepository, never()).updateProfiles(anyCollection());
+        verifyNoInteractions(createChapterUseCase, eventPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sync_WithoutEmails_ShouldSyncEveryLocalUserInBatches() {
+        // Arrange
+        properties.setBatchSize(2);
+        List<User> users = List.of(
+                user("1", "a@pragma.com.co", "A", backend, 1),
+                user("2", "b@pragma.com.co", "B", backend, 1),
+                user("3", "c@pragma.com.co", "C", backend, 1));
+        doAnswer(invocation -> {
+            users.forEach(((Consumer<User>) invocation.getArgument(0))::accept);
+            return null;
+        }).when(userRepository).streamAll(any());
+        List<List<String>> batches = new ArrayList<>();
+        when(userRepository.findByEmails(any())).thenAnswer(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            batches.add(List.copyOf(emails));
+            return users.stream().filter(user -> emails.contains(user.getEmail())).toList();
+        });
+        when(externalUserRepository.fetchUserByEmail(any())).thenAnswer(invocation ->
+                Optional.of(profile(invocation.getArgument(0), null, "Backend", 1)));
+
+        // Act
+        UserSyncReport report = service.sync(null, false);
+
+        // Assert
+        assertEquals(3, report.getRequested());
+        assertEquals(3, report.getCounts().get(UserSyncOutcome.UNCHANGED));
+        assertEquals(List.of(List.of("a@pragma.com.co", "b@pragma.com.co"), List.of("c@pragma.com.co")), batches);
+        assertTrue(report.getDiffs().isEmpty());
+    }
+
+    @Test
+    void sync_ShouldIgnoreDuplicateAndBlankEmails() {
+        // Arrange
+        when(userRepository.findByEmails(List.of("ana@pragma.com.co"))).thenReturn(List.of());
+        when(externalUserRepository.fetchUserByEmail("ana@pragma.com.co")).thenReturn(Optional.empty());
+
+        // Act
+        UserSyncReport report = service.sync(List.of(" ana@pragma.com.co", "ANA@pragma.com.co", " "), false);
+
+        // Assert
+        assertEquals(1, report.getRequested());
+        verify(externalUserRepository, times(1)).fetchUserByEmail(any());
+    }
+
+    @Test
+    void sync_WhenWritingFails_ShouldReportTheFailure() {
+        // Arrange
+        when(userRepository.findByEmails(any())).thenReturn(List.of(user("1", "ana@pragma.com.co", "Ana", backend, 1)));
+        when(externalUserRepository.fetchUserByEmail("ana@pragma.com.co"))
+                .thenReturn(Optional.of(profile("ana@pragma.com.co", "Ana Pérez", "Backend", 1)));
+        doThrow(new IllegalStateException("connection lost")).when(userRepository).updateProfiles(anyCollection());
+
+        // Act
+        UserSyncReport report = service.sync(List.of("ana@pragma.com.co"), false);
+
+        // Assert
+        assertEquals(UserSyncReport.Status.FAILED, report.getStatus());
+        assertEquals("connection lost", report.getError());
+        assertEquals(report, service.getLastSync().orElseThrow());
+    }
+
+    @Test
+    void sync_WithTooManyEmails_ShouldBeRejected() {
+        // Arrange
+        properties.setMaxEmails(1);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> service.sync(List.of("a@pragma.com.co", "b@pragma.com.co"), false));
+        assertTrue(service.getLastSync().isEmpty());
+    }
+
+    private static User user(String id, String email, String firstName, Chapter chapter, int seniority) {
+        return new User(id, firstName, null, email, "google-" + id, null, chapter, RolUsuario.Tutorado, 0, seniority, 0L);
+    }
+
+    private static PragmaUserDto profile(String email, String fullName, String chapterName, int seniorityId) {
+        PragmaUserDto.Chapter chapter = new PragmaUserDto.Chapter();
+        chapter.setChapterName(chapterName);
+        chapter.setSeniorityId(seniorityId);
+        PragmaUserDto profile = new PragmaUserDto();
+        profile.setEmail(email);
+        profile.setFullName(fullName);
+        profile.setChapters(List.of(chapter));
+        return profile;
+    }
+}
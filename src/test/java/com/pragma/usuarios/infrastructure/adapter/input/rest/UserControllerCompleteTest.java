@@ -7,6 +7,7 @@ import com.pragma.shared.service.MessageService;
 import com.pragma.usuarios.domain.model.User;
 import com.pragma.usuarios.domain.model.enums.RolUsuario;
 import com.pragma.usuarios.domain.port.input.CreateUserUseCase;
+import com.pragma.usuarios.domain.port.input.FindUserByIdUseCase;
 import com.pragma.usuarios.domain.port.input.GetExternalUserUseCase;
 import com.pragma.usuarios.domain.port.input.UpdateUserUseCase;
 import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.CreateUserDto;
@@ -39,6 +40,9 @@ class UserControllerCompleteTest {
     @Mock
     private UpdateUserUseCase updateUserUseCase;
 
+    @Mock
+    private FindUserByIdUseCase findUserByIdUseCase;
+
     @Mock
     private GetExternalUserUseCase getExternalUserUseCase;
 
@@ -188,8 +192,9 @@ class UserControllerCompleteTest {
     // Note: getExternalUser method doesn't exist in UserController, removing these tests
 
     @Test
-    void getCurrentUser_ShouldReturnCurrentUserFromContext() {
+    void getCurrentUser_ShouldReturnStoredProfileOfContextUser() {
         // Arrange
+        when(findUserByIdUseCase.findUserById("admin-1")).thenReturn(Optional.of(adminUser));
         when(userDtoMapper.toDto(adminUser)).thenReturn(testUserDto);
 
         // Act
@@ -200,4 +205,16 @@ class UserControllerCompleteTest {
         assertNotNull(response.getBody());
         assertNotNull(response.getBody().getData());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCurrentUser_WhenUserNoLongerExists_ShouldReturnNotFound() {
+        // Arrange
+        when(findUserByIdUseCase.findUserById("admin-1")).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<com.pragma.shared.dto.OkResponseDto<UserDto>> response = userController.getCurrentUser();
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
@@ -0,0 +1,201 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.shared.config.UserExportProperties;
+import com.pragma.shared.context.UserContext;
+import com.pragma.shared.context.UserContextHelper;
+import com.pragma.shared.exception.GlobalExceptionHandler;
+import com.pragma.shared.service.MessageService;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserWithTutoringCount;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.input.ExportUsersUseCase;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserWithTutoringCountDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.export.UserExportFormat;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportControllerTest {
+
+    @Mock
+    private ExportUsersUseCase exportUsersUseCase;
+
+    @Mock
+    private UserDtoMapper userDtoMapper;
+
+    @Mock
+    private MessageService messageService;
+
+    private UserExportController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        UserContextHelper.setMessageServiceForTesting(messageService);
+        UserExportProperties exportProperties = new UserExportProperties();
+        exportProperties.setMaxConcurrentExports(1);
+        controller = new UserExportController(exportUsersUseCase, userDtoMapper, new ObjectMapper(),
+                exportProperties);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler(messageService))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+        UserContextHelper.setMessageServiceForTesting(null);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportUsers_AsCsv_ShouldStreamFilteredRows() throws Exception {
+        // Arrange
+        UserContext.setCurrentUser(user("admin", RolUsuario.Administrador));
+        UserWithTutoringCount row = new UserWithTutoringCount(user("u1", RolUsuario.Tutor), 2L, 1L);
+        UserWithTutoringCountDto dto = new UserWithTutoringCountDto("u1", "Ana", "Pérez", "u1@pragma.com", null,
+                null, RolUsuario.Tutor, 1, 3, 2L, 1L);
+        when(userDtoMapper.toUserWithTutoringCountDto(row)).thenReturn(dto);
+        doAnswer(invocation -> {
+            ((Consumer<UserWithTutoringCount>) invocation.getArgument(4)).accept(row);
+            return null;
+        }).when(exportUsersUseCase).exportUsersWithTutoringCount(eq("ch-1"), eq("Tutor"), isNull(), isNull(), any());
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/users/export")
+                        .param("chapterId", "ch-1")
+                        .param("rol", "Tutor")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.csv\""))
+                .andExpect(content().string("id,firstName,lastName,email,slackId,chapterId,chapterName,rol,"
+                        + "activeTutoringLimit,seniority,tutoringsAsTutor,tutoringsAsTutee\r\n"
+                        + "u1,Ana,Pérez,u1@pragma.com,,,,Tutor,1,3,2,1\r\n"));
+    }
+
+    @Test
+    void exportUsers_WhenEveryExportSlotIsTaken_ShouldRejectWithTooManyRequests() throws Exception {
+        // Arrange
+        UserContext.setCurrentUser(user("admin", RolUsuario.Administrador));
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            running.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(exportUsersUseCase).exportUsersWithTutoringCount(any(), any(), any(), any(), any());
+        MvcResult first = mockMvc.perform(get("/api/v1/users/export")).andReturn();
+        running.await(5, TimeUnit.SECONDS);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/export"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"));
+
+        release.countDown();
+        mockMvc.perform(asyncDispatch(first)).andExpect(status().isOk());
+        MvcResult next = mockMvc.perform(get("/api/v1/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(next)).andExpect(status().isOk());
+    }
+
+    @Test
+    void exportUsers_WhenTheBodyNeverRuns_ShouldFreeTheSlotWhenTheRequestEnds() throws Exception {
+        // Arrange: the handler takes the slot, then the async executor rejects the streaming task
+        UserContext.setCurrentUser(user("admin", RolUsuario.Administrador));
+        MockHttpServletRequest rejected = new MockHttpServletRequest("GET", "/api/v1/users/export");
+        rejected.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ResponseEntity<StreamingResponseBody> export = controller.exportUsers(null, null, null, null,
+                UserExportFormat.CSV, rejected);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(rejected);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(rejected, response));
+        asyncManager.setTaskExecutor(new RejectingTaskExecutor());
+
+        // Act
+        asyncManager.startCallableProcessing(() -> {
+            export.getBody().writeTo(response.getOutputStream());
+            return null;
+        });
+        rejected.getAsyncContext().complete();
+
+        // Assert
+        verifyNoInteractions(exportUsersUseCase);
+        MvcResult next = mockMvc.perform(get("/api/v1/users/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(next)).andExpect(status().isOk());
+    }
+
+    @Test
+    void exportUsers_WithoutAdminRole_ShouldNotReadUsers() throws Exception {
+        UserContext.setCurrentUser(user("tutor", RolUsuario.Tutor));
+
+        mockMvc.perform(get("/api/v1/users/export")).andExpect(status().isForbidden());
+        verifyNoInteractions(exportUsersUseCase);
+    }
+
+    private static User user(String id, RolUsuario rol) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(id + "@pragma.com");
+        user.setRol(rol);
+        return user;
+    }
+
+    private static class RejectingTaskExecutor extends SimpleAsyncTaskExecutor {
+
+        @Override
+        public Future<?> submit(Runnable task) {
+            throw new RejectedExecutionException("Executor saturated");
+        }
+
+        @Override
+        public <T> Future<T> submit(Callable<T> task) {
+            throw new RejectedExecutionException("Executor saturated");
+        }
+    }
+}
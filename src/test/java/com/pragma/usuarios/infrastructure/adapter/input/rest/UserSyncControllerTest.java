@@ -0,0 +1,126 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest;
+
+import com.pragma.shared.context.UserContext;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.UserSyncReport;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.port.input.SyncUsersUseCase;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserSyncReportDto;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.mapper.UserDtoMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class UserSyncControllerTest {
+
+    @Mock
+    private SyncUsersUseCase syncUsersUseCase;
+
+    @Mock
+    private UserDtoMapper userDtoMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserSyncController(syncUsersUseCase, userDtoMapper)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        UserContext.clear();
+    }
+
+    @Test
+    void startSync_ShouldAcceptTheSyncAndReturnItsReport() throws Exception {
+        // Arrange
+        UserContext.setCurrentUser(user("admin", RolUsuario.Administrador));
+        UserSyncReport report = new UserSyncReport();
+        UserSyncReportDto dto = new UserSyncReportDto();
+        dto.setStatus(UserSyncReport.Status.RUNNING);
+        dto.setDryRun(true);
+        when(syncUsersUseCase.startSync(List.of("ana@pragma.com.co"), true)).thenReturn(Optional.of(report));
+        when(userDtoMapper.toSyncReportDto(report)).thenReturn(dto);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/sync")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"emails\":[\"ana@pragma.com.co\"],\"dryRun\":true}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.dryRun").value(true));
+    }
+
+    @Test
+    void startSync_WhileAnotherIsRunning_ShouldReturnConflict() throws Exception {
+        // Arrange
+        UserContext.setCurrentUser(user("admin", RolUsuario.Administrador));
+        when(syncUsersUseCase.startSync(null, false)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/sync")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void startSync_WithInvalidEmail_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        UserContext.setCurrentUser(user("admin", RolUsuario.Administrador));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/sync")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"emails\":[\"not-an-email\"]}"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(syncUsersUseCase);
+    }
+
+    @Test
+    void getLastSync_WithoutAnySync_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        UserContext.setCurrentUser(user("admin", RolUsuario.Administrador));
+        when(syncUsersUseCase.getLastSync()).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/sync"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void startSync_WithoutAdminRole_ShouldNotStartASync() {
+        UserContext.setCurrentUser(user("tutor", RolUsuario.Tutor));
+
+        assertThrows(Exception.class, () -> mockMvc.perform(post("/api/v1/users/sync")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}")));
+        verifyNoInteractions(syncUsersUseCase);
+    }
+
+    private static User user(String id, RolUsuario rol) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(id + "@pragma.com");
+        user.setRol(rol);
+        return user;
+    }
+}
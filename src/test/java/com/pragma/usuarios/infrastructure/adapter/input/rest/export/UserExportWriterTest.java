@@ -0,0 +1,93 @@
+package com.pragma.usuarios.infrastructure.adapter.input.rest.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pragma.chapter.infrastructure.adapter.input.rest.dto.ChapterDto;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.input.rest.dto.UserWithTutoringCountDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void csv_ShouldWriteHeaderAndQuoteFieldsThatNeedIt() {
+        StringWriter out = new StringWriter();
+        UserExportWriter writer = new UserExportWriter(UserExportFormat.CSV, objectMapper, out);
+
+        writer.writeHeader();
+        writer.write(user("1", "Ana, María", "O\"Neil"));
+        writer.write(user("2", "Luis", null));
+
+        assertTrue(out.toString().endsWith("\r\n"));
+        String[] lines = out.toString().split("\r\n");
+        assertEquals(UserExportWriter.CSV_HEADER, lines[0]);
+        assertEquals("1,\"Ana, María\",\"O\"\"Neil\",1@pragma.com,,ch-1,Backend,Tutor,2,3,4,5", lines[1]);
+        assertEquals("2,Luis,,2@pragma.com,,ch-1,Backend,Tutor,2,3,4,5", lines[2]);
+        assertEquals(2, writer.getRows());
+    }
+
+    @Test
+    void csv_ShouldNeutralizeCellsThatStartLikeAFormula() {
+        StringWriter out = new StringWriter();
+        UserExportWriter writer = new UserExportWriter(UserExportFormat.CSV, objectMapper, out);
+
+        writer.write(user("1", "=HYPERLINK(\"http://x\")", "+Gomez"));
+        writer.write(user("2", "-1", "@SUM(A1)"));
+
+        String[] lines = out.toString().split("\r\n");
+        assertEquals("1,\"'=HYPERLINK(\"\"http://x\"\")\",'+Gomez,1@pragma.com,,ch-1,Backend,Tutor,2,3,4,5", lines[0]);
+        assertEquals("2,'-1,'@SUM(A1),2@pragma.com,,ch-1,Backend,Tutor,2,3,4,5", lines[1]);
+    }
+
+    @Test
+    void ndjson_ShouldWriteOneObjectPerLine() throws Exception {
+        StringWriter out = new StringWriter();
+        UserExportWriter writer = new UserExportWriter(UserExportFormat.NDJSON, objectMapper, out);
+
+        writer.writeHeader();
+        writer.write(user("1", "Ana", "Line\nBreak"));
+        writer.write(user("2", "Luis", "Gómez"));
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Line\nBreak", first.get("lastName").asText());
+        assertEquals(4, first.get("tutoringsAsTutor").asLong());
+        assertEquals("2", objectMapper.readTree(lines[1]).get("id").asText());
+    }
+
+    @Test
+    void write_WhenOutputFails_ShouldThrowUnchecked() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        UserExportWriter writer = new UserExportWriter(UserExportFormat.CSV, objectMapper, failing);
+
+        assertThrows(UncheckedIOException.class, () -> writer.write(user("1", "Ana", "Pérez")));
+    }
+
+    private static UserWithTutoringCountDto user(String id, String firstName, String lastName) {
+        return new UserWithTutoringCountDto(id, firstName, lastName, id + "@pragma.com", null,
+                new ChapterDto("ch-1", "Backend"), RolUsuario.Tutor, 2, 3, 4L, 5L);
+    }
+}
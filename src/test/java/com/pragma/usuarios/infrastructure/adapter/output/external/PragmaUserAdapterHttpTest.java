@@ -0,0 +1,234 @@
+package com.pragma.usuarios.infrastructure.adapter.output.external;
+
+import com.pragma.shared.config.ExternalApiProperties;
+import com.pragma.shared.config.RestTemplateConfig;
+import com.pragma.shared.resilience.CircuitBreaker;
+import com.pragma.shared.resilience.CircuitBreakerRegistry;
+import com.pragma.usuarios.infrastructure.adapter.output.external.dto.PragmaUserDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the adapter against a local stub of the Creci API.
+ */
+class PragmaUserAdapterHttpTest {
+
+    private static final String USER_JSON = "{\"pragmatic_id\":7,\"full_name\":\"Ana Gomez\",\"email\":\"ana@pragma.com.co\"}";
+
+    private HttpServer server;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private volatile int status = 200;
+    private volatile long delayMillis;
+    private volatile CountDownLatch release;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalApiProperties apiProperties;
+    private PragmaUserAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/prod/administration/pragmatic/", this::handle);
+        server.start();
+
+        apiProperties = new ExternalApiProperties();
+        apiProperties.setServiceUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        apiProperties.setServiceKey("test-key");
+        adapter = newAdapter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.close();
+        server.stop(0);
+    }
+
+    @Test
+    void findUserByEmail_ShouldCacheTheAnswerAndReuseTheConnection() {
+        // When
+        Optional<PragmaUserDto> first = adapter.findUserByEmail("ana@pragma.com.co");
+        Optional<PragmaUserDto> second = adapter.findUserByEmail("ANA@pragma.com.co");
+        adapter.findUserByEmail("luis@pragma.com.co");
+
+        // Then
+        assertEquals("Ana Gomez", first.orElseThrow().getFullName());
+        assertEquals(first, second);
+        assertEquals(2, calls.get());
+        assertEquals(1, clientPorts.size());
+        assertEquals(2, meterRegistry.get("external.creci.requests").tag("outcome", "success").timer().count());
+        assertEquals(1.0, meterRegistry.get("external.creci.cache.lookups").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void findUserByEmail_ShouldRememberUnknownEmailsForTheNotFoundTtl() {
+        // Given
+        status = 404;
+        adapter.findUserByEmail("nobody@pragma.com.co");
+
+        // When
+        Optional<PragmaUserDto> cached = adapter.findUserByEmail("nobody@pragma.com.co");
+        advance(apiProperties.getCache().getNotFoundTtl().plusSeconds(1));
+        Optional<PragmaUserDto> reloaded = adapter.findUserByEmail("nobody@pragma.com.co");
+
+        // Then
+        assertTrue(cached.isEmpty());
+        assertTrue(reloaded.isEmpty());
+        assertEquals(2, calls.get());
+        assertEquals(2, meterRegistry.get("external.creci.requests").tag("outcome", "not_found").timer().count());
+    }
+
+    @Test
+    void findUserByEmail_WhenApiFailsAfterExpiry_ShouldServeTheStaleAnswer() {
+        // Given
+        adapter.findUserByEmail("ana@pragma.com.co");
+        advance(apiProperties.getCache().getTtl().plusSeconds(1));
+        status = 503;
+
+        // When
+        Optional<PragmaUserDto> stale = adapter.findUserByEmail("ana@pragma.com.co");
+        advance(apiProperties.getCache().getStaleTtl());
+        Optional<PragmaUserDto> gone = adapter.findUserByEmail("ana@pragma.com.co");
+
+        // Then
+        assertEquals("Ana Gomez", stale.orElseThrow().getFullName());
+        assertTrue(gone.isEmpty());
+        assertEquals(3, calls.get());
+        assertEquals(1.0, meterRegistry.get("external.creci.cache.lookups").tag("result", "stale").counter().count());
+        assertEquals(2, meterRegistry.get("external.creci.requests").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    void findUserByEmail_WhenApiHangs_ShouldGiveUpAfterTheReadTimeout() {
+        // Given
+        apiProperties.setReadTimeout(Duration.ofMillis(300));
+        adapter = newAdapter();
+        delayMillis = 5_000;
+
+        // When
+        long started = System.nanoTime();
+        Optional<PragmaUserDto> result = adapter.findUserByEmail("ana@pragma.com.co");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        assertTrue(result.isEmpty());
+        assertTrue(elapsedMillis < 2_000, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void findUserByEmail_WhenCircuitOpens_ShouldFailFastWithTheLastKnownProfile() {
+        // Given
+        apiProperties.getCircuitBreaker().setMinimumCalls(3);
+        adapter = newAdapter();
+        adapter.findUserByEmail("ana@pragma.com.co");
+        advance(apiProperties.getCache().getTtl().plusSeconds(1));
+        status = 503;
+        adapter.findUserByEmail("luis@pragma.com.co");
+        adapter.findUserByEmail("carla@pragma.com.co");
+        int callsWhenOpened = calls.get();
+
+        // When
+        Optional<PragmaUserDto> lastKnown = adapter.findUserByEmail("ana@pragma.com.co");
+        Optional<PragmaUserDto> unknown = adapter.findUserByEmail("pedro@pragma.com.co");
+
+        // Then
+        assertEquals(3, callsWhenOpened);
+        assertEquals(callsWhenOpened, calls.get());
+        assertEquals("Ana Gomez", lastKnown.orElseThrow().getFullName());
+        assertTrue(unknown.isEmpty());
+        assertEquals(2.0, meterRegistry.get("external.creci.circuit.rejections").counter().count());
+        assertEquals((double) CircuitBreaker.State.OPEN.ordinal(),
+                meterRegistry.get("external.creci.circuit.state").gauge().value());
+    }
+
+    @Test
+    void findUserByEmail_ConcurrentLookupsOfOneEmail_ShouldShareOneCall() throws Exception {
+        // Given
+        release = new CountDownLatch(1);
+        int lookups = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(lookups);
+
+        try {
+            // When
+            List<Future<Optional<PragmaUserDto>>> results = IntStream.range(0, lookups)
+                    .mapToObj(i -> executor.submit(() -> adapter.findUserByEmail("ana@pragma.com.co")))
+                    .toList();
+            waitUntil(() -> calls.get() == 1
+                    && meterRegistry.get("external.creci.cache.lookups").tag("result", "coalesced").counter().count() == lookups - 1);
+            release.countDown();
+
+            // Then
+            for (Future<Optional<PragmaUserDto>> result : results) {
+                assertEquals("Ana Gomez", result.get(5, TimeUnit.SECONDS).orElseThrow().getFullName());
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private PragmaUserAdapter newAdapter() {
+        meterRegistry = new SimpleMeterRegistry();
+        return new PragmaUserAdapter(apiProperties, RestTemplateConfig.createRestTemplate(apiProperties),
+                meterRegistry, new CircuitBreakerRegistry(meterRegistry), nanos::get);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        calls.incrementAndGet();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        try {
+            if (release != null) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = status == 200 ? USER_JSON.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met in time");
+            Thread.sleep(10);
+        }
+    }
+}
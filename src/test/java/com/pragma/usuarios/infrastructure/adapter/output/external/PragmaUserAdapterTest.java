@@ -1,7 +1,9 @@
 package com.pragma.usuarios.infrastructure.adapter.output.external;
 
 import com.pragma.shared.config.ExternalApiProperties;
+import com.pragma.shared.resilience.CircuitBreakerRegistry;
 import com.pragma.usuarios.infrastructure.adapter.output.external.dto.PragmaUserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,7 +24,6 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class PragmaUserAdapterTest {
 
-    @Mock
     private ExternalApiProperties apiProperties;
 
     @Mock
@@ -32,7 +33,10 @@ class PragmaUserAdapterTest {
 
     @BeforeEach
     void setUp() {
-        pragmaUserAdapter = new PragmaUserAdapter(apiProperties, restTemplate);
+        apiProperties = new ExternalApiProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        pragmaUserAdapter = new PragmaUserAdapter(apiProperties, restTemplate, meterRegistry,
+                new CircuitBreakerRegistry(meterRegistry));
     }
 
     @Test
@@ -42,8 +46,8 @@ class PragmaUserAdapterTest {
         String serviceUrl = "https://api.pragma.com";
         String serviceKey = "test-key";
         
-        when(apiProperties.getServiceUrl()).thenReturn(serviceUrl);
-        when(apiProperties.getServiceKey()).thenReturn(serviceKey);
+        apiProperties.setServiceUrl(serviceUrl);
+        apiProperties.setServiceKey(serviceKey);
         
         PragmaUserDto expectedUser = new PragmaUserDto();
         expectedUser.setEmail(email);
@@ -75,8 +79,8 @@ class PragmaUserAdapterTest {
     void findUserByEmail_shouldReturnEmpty_whenApiReturnsNotFound() {
         // Arrange
         String email = "notfound@pragma.com";
-        when(apiProperties.getServiceUrl()).thenReturn("https://api.pragma.com");
-        when(apiProperties.getServiceKey()).thenReturn("test-key");
+        apiProperties.setServiceUrl("https://api.pragma.com");
+        apiProperties.setServiceKey("test-key");
         
         ResponseEntity<PragmaUserDto> response = new ResponseEntity<>(null, HttpStatus.NOT_FOUND);
         when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(PragmaUserDto.class)))
@@ -93,8 +97,8 @@ class PragmaUserAdapterTest {
     void findUserByEmail_shouldReturnEmpty_whenExceptionOccurs() {
         // Arrange
         String email = "error@pragma.com";
-        when(apiProperties.getServiceUrl()).thenReturn("https://api.pragma.com");
-        when(apiProperties.getServiceKey()).thenReturn("test-key");
+        apiProperties.setServiceUrl("https://api.pragma.com");
+        apiProperties.setServiceKey("test-key");
         
         when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(PragmaUserDto.class)))
                 .thenThrow(new RuntimeException("Connection error"));
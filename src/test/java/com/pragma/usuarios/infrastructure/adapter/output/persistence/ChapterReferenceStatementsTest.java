@@ -0,0 +1,180 @@
+package com.pragma.usuarios.infrastructure.adapter.output.persistence;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.ChapterCatalog;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.mapper.ChapterMapperImpl;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.repository.SpringDataChapterRepository;
+import com.pragma.feedbacks.domain.model.Feedback;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper.FeedbackMapper;
+import com.pragma.feedbacks.infrastructure.adapter.output.persistence.mapper.FeedbackMapperImpl;
+import com.pragma.skills.infrastructure.adapter.output.persistence.mapper.SkillMapperImpl;
+import com.pragma.tutorings.domain.model.Tutoring;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapper;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.mapper.TutoringMapperImpl;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapperImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Statements issued by the write use cases that map users to entities, with the chapter taken
+ * from the in-memory catalog, against the previous mapping path that looked every mapped user's
+ * chapter up in the database. Each use case runs in a fresh persistence context, as a request
+ * does.
+ * <p>
+ * Statements per write, previous / now: user registration 2 / 1, tutoring creation 3 / 1
+ * (tutor and tutee in different chapters), feedback 3 / 1 (evaluator, tutor and tutee over two
+ * chapters).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ChapterCatalog.class, ChapterMapperImpl.class, UserMapperImpl.class, SkillMapperImpl.class,
+        TutoringMapperImpl.class, FeedbackMapperImpl.class})
+class ChapterReferenceStatementsTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private SpringDataChapterRepository chapterRepository;
+
+    @Autowired
+    private ChapterCatalog chapterCatalog;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private TutoringMapper tutoringMapper;
+
+    @Autowired
+    private FeedbackMapper feedbackMapper;
+
+    private Statistics hibernateStatistics;
+    private User tutor;
+    private User tutee;
+    private Tutoring tutoring;
+
+    @BeforeEach
+    void setUp() {
+        ChapterEntity backend = testEntityManager.persist(new ChapterEntity(null, "Refs Backend"));
+        ChapterEntity frontend = testEntityManager.persist(new ChapterEntity(null, "Refs Frontend"));
+        tutor = userMapper.toDomain(persistUser("refs-tutor", backend, RolUsuario.Tutor));
+        tutee = userMapper.toDomain(persistUser("refs-tutee", frontend, RolUsuario.Tutorado));
+
+        TutoringEntity tutoringEntity = new TutoringEntity();
+        tutoringEntity.setTutorId(testEntityManager.find(UsersEntity.class, tutor.getId()));
+        tutoringEntity.setTuteeId(testEntityManager.find(UsersEntity.class, tutee.getId()));
+        tutoringEntity.setStatus(TutoringStatus.Activa);
+        tutoring = tutoringMapper.toDomain(testEntityManager.persist(tutoringEntity));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+        chapterCatalog.invalidate();
+        chapterCatalog.warmUp();
+
+        hibernateStatistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void userRegistrationShouldNotQueryTheChapter() {
+        User registered = new User(null, "Refs New", "User", "refs-new@pragma.com", "google-refs-new", null,
+                new Chapter(tutor.getChapter().getId(), null), RolUsuario.Tutorado, 0, 1, 0L);
+
+        long previous = statements(() -> {
+            previousChapterLookups(List.of(registered));
+            return testEntityManager.persist(userMapper.toEntity(registered));
+        });
+        testEntityManager.getEntityManager().createQuery("DELETE FROM UsersEntity u WHERE u.email = 'refs-new@pragma.com'")
+                .executeUpdate();
+        long current = statements(() -> testEntityManager.persist(userMapper.toEntity(registered)));
+
+        assertEquals(2, previous);
+        assertEquals(1, current);
+        assertEquals("Refs Backend", testEntityManager.getEntityManager()
+                .createQuery("SELECT u.chapter.name FROM UsersEntity u WHERE u.email = 'refs-new@pragma.com'", String.class)
+                .getSingleResult());
+    }
+
+    @Test
+    void tutoringCreationShouldNotQueryTheChaptersOfTutorAndTutee() {
+        Tutoring created = new Tutoring(null, tutor, tutee, List.of(), new Date(), new Date(), TutoringStatus.Activa,
+                "Objetivos", null, null, null);
+
+        long previous = statements(() -> {
+            previousChapterLookups(List.of(tutor, tutee));
+            return testEntityManager.persist(tutoringMapper.toEntity(created));
+        });
+        long current = statements(() -> testEntityManager.persist(tutoringMapper.toEntity(created)));
+
+        assertEquals(3, previous);
+        assertEquals(1, current);
+    }
+
+    @Test
+    void feedbackShouldNotQueryTheChaptersOfEvaluatorAndTutoring() {
+        Feedback feedback = new Feedback(null, tutee, new Date(), tutoring, "5", "Muy buena tutoría");
+
+        long previous = statements(() -> {
+            previousChapterLookups(List.of(tutee, tutor, tutee));
+            return testEntityManager.persist(feedbackMapper.toEntity(feedback));
+        });
+        long current = statements(() -> testEntityManager.persist(feedbackMapper.toEntity(feedback)));
+
+        assertEquals(3, previous);
+        assertEquals(1, current);
+    }
+
+    /**
+     * Runs one use case in a fresh persistence context, flushed, and returns the statements it
+     * prepared.
+     */
+    private long statements(Supplier<?> useCase) {
+        testEntityManager.clear();
+        hibernateStatistics.clear();
+        useCase.get();
+        testEntityManager.flush();
+        long statements = hibernateStatistics.getPrepareStatementCount();
+        testEntityManager.clear();
+        return statements;
+    }
+
+    /**
+     * The previous mapping path: one chapter lookup per mapped user, served from the persistence
+     * context after the first lookup of each chapter.
+     */
+    private void previousChapterLookups(List<User> mappedUsers) {
+        mappedUsers.forEach(user -> chapterRepository.findById(user.getChapter().getId()));
+    }
+
+    private UsersEntity persistUser(String key, ChapterEntity chapter, RolUsuario rol) {
+        UsersEntity user = new UsersEntity();
+        user.setFirstName(key);
+        user.setLastName("Test");
+        user.setEmail(key + "@pragma.com");
+        user.setGoogleUserId("google-" + key);
+        user.setChapter(chapter);
+        user.setRol(rol);
+        return testEntityManager.persist(user);
+    }
+}
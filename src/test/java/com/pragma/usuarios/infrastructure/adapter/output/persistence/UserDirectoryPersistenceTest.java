@@ -0,0 +1,169 @@
+package com.pragma.usuarios.infrastructure.adapter.output.persistence;
+
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.tutorings.domain.model.enums.TutoringStatus;
+import com.pragma.tutorings.infrastructure.adapter.output.persistence.entity.TutoringEntity;
+import com.pragma.usuarios.domain.model.UserDirectoryCursor;
+import com.pragma.usuarios.domain.model.UserDirectoryQuery;
+import com.pragma.usuarios.domain.model.UserWithTutoringCount;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.domain.model.enums.UserDirectorySort;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Verifies the grouped user directory query against the test database and pins it to a single
+ * statement, so the per-user count queries cannot come back unnoticed.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(UserPersistenceAdapter.class)
+class UserDirectoryPersistenceTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    @MockBean
+    private UserMapper userMapper;
+
+    private Statistics hibernateStatistics;
+    private String chapterId;
+
+    @BeforeEach
+    void setUp() {
+        ChapterEntity chapter = testEntityManager.persist(new ChapterEntity(null, "Directory Chapter"));
+        ChapterEntity otherChapter = testEntityManager.persist(new ChapterEntity(null, "Directory Other Chapter"));
+        chapterId = chapter.getId();
+
+        UsersEntity busyTutor = persistUser("dir-a-busy-tutor", chapter, RolUsuario.Tutor);
+        UsersEntity tutor = persistUser("dir-b-tutor", chapter, RolUsuario.Tutor);
+        UsersEntity tutee = persistUser("dir-c-tutee", chapter, RolUsuario.Tutorado);
+        persistUser("dir-d-idle", otherChapter, RolUsuario.Tutorado);
+
+        persistTutoring(busyTutor, tutee);
+        persistTutoring(busyTutor, tutee);
+        persistTutoring(busyTutor, tutor);
+        persistTutoring(tutor, tutee);
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        hibernateStatistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        hibernateStatistics.clear();
+    }
+
+    @Test
+    void findAllWithTutoringCountsShouldCountBothRolesInSingleStatement() {
+        List<UserWithTutoringCount> users = userPersistenceAdapter.findAllWithTutoringCounts(null, null, null, "dir-");
+
+        assertEquals(1, hibernateStatistics.getPrepareStatementCount());
+        assertEquals(List.of("dir-a-busy-tutor", "dir-b-tutor", "dir-c-tutee", "dir-d-idle"), firstNames(users));
+        assertCounts(users.get(0), 3, 0);
+        assertCounts(users.get(1), 1, 1);
+        assertCounts(users.get(2), 0, 3);
+        assertCounts(users.get(3), 0, 0);
+        assertEquals("Directory Chapter", users.get(0).getUser().getChapter().getName());
+    }
+
+    @Test
+    void findAllWithTutoringCountsShouldApplyFilters() {
+        List<UserWithTutoringCount> users =
+                userPersistenceAdapter.findAllWithTutoringCounts(chapterId, "tutor", null, null);
+
+        assertEquals(List.of("dir-a-busy-tutor", "dir-b-tutor"), firstNames(users));
+    }
+
+    @Test
+    void findWithTutoringCountsShouldPageByCountWithCursor() {
+        UserDirectoryQuery query = new UserDirectoryQuery(null, null, null, "dir-",
+                UserDirectorySort.TUTORINGS_AS_TUTEE, true, null, 2);
+
+        List<UserWithTutoringCount> firstPage = userPersistenceAdapter.findWithTutoringCounts(query, 2);
+        query.setAfter(UserDirectoryCursor.after(UserDirectorySort.TUTORINGS_AS_TUTEE, firstPage.get(1)));
+        List<UserWithTutoringCount> secondPage = userPersistenceAdapter.findWithTutoringCounts(query, 2);
+        query.setAfter(UserDirectoryCursor.after(UserDirectorySort.TUTORINGS_AS_TUTEE, secondPage.get(1)));
+        List<UserWithTutoringCount> lastPage = userPersistenceAdapter.findWithTutoringCounts(query, 2);
+
+        assertEquals(3, hibernateStatistics.getPrepareStatementCount());
+        assertEquals("dir-c-tutee", firstPage.get(0).getUser().getFirstName());
+        assertEquals("dir-b-tutor", firstPage.get(1).getUser().getFirstName());
+        // The two users without tutorings as tutee are ordered by id
+        List<String> ids = new ArrayList<>(List.of(secondPage.get(0).getUser().getId(), secondPage.get(1).getUser().getId()));
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertEquals(0, secondPage.get(0).getTutoringsAsTutee());
+        assertEquals(0, secondPage.get(1).getTutoringsAsTutee());
+        assertEquals(List.of(), lastPage);
+    }
+
+    @Test
+    void findWithTutoringCountsShouldPageByEmailWithCursor() {
+        UserDirectoryQuery query = new UserDirectoryQuery(null, null, null, "dir-",
+                UserDirectorySort.EMAIL, false, null, 3);
+
+        List<UserWithTutoringCount> firstPage = userPersistenceAdapter.findWithTutoringCounts(query, 3);
+        query.setAfter(UserDirectoryCursor.after(UserDirectorySort.EMAIL, firstPage.get(2)));
+        List<UserWithTutoringCount> secondPage = userPersistenceAdapter.findWithTutoringCounts(query, 3);
+
+        assertEquals(List.of("dir-a-busy-tutor", "dir-b-tutor", "dir-c-tutee"), firstNames(firstPage));
+        assertEquals(List.of("dir-d-idle"), firstNames(secondPage));
+        assertNull(secondPage.get(0).getUser().getSlackId());
+    }
+
+    @Test
+    void streamWithTutoringCountsShouldMatchListingInSingleStatement() {
+        List<UserWithTutoringCount> streamed = new ArrayList<>();
+
+        userPersistenceAdapter.streamWithTutoringCounts(null, null, null, "dir-", streamed::add);
+
+        assertEquals(1, hibernateStatistics.getPrepareStatementCount());
+        assertEquals(userPersistenceAdapter.findAllWithTutoringCounts(null, null, null, "dir-"), streamed);
+    }
+
+    private static List<String> firstNames(List<UserWithTutoringCount> users) {
+        return users.stream().map(u -> u.getUser().getFirstName()).toList();
+    }
+
+    private static void assertCounts(UserWithTutoringCount user, long asTutor, long asTutee) {
+        assertEquals(asTutor, user.getTutoringsAsTutor());
+        assertEquals(asTutee, user.getTutoringsAsTutee());
+    }
+
+    private UsersEntity persistUser(String key, ChapterEntity chapter, RolUsuario rol) {
+        UsersEntity user = new UsersEntity();
+        user.setFirstName(key);
+        user.setLastName("Test");
+        user.setEmail(key + "@pragma.com");
+        user.setGoogleUserId("google-" + key);
+        user.setChapter(chapter);
+        user.setRol(rol);
+        return testEntityManager.persist(user);
+    }
+
+    private void persistTutoring(UsersEntity tutor, UsersEntity tutee) {
+        TutoringEntity tutoring = new TutoringEntity();
+        tutoring.setTutorId(tutor);
+        tutoring.setTuteeId(tutee);
+        tutoring.setStatus(TutoringStatus.Activa);
+        testEntityManager.persist(tutoring);
+    }
+}
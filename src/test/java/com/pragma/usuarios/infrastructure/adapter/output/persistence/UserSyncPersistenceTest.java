@@ -0,0 +1,120 @@
+package com.pragma.usuarios.infrastructure.adapter.output.persistence;
+
+import com.pragma.chapter.domain.model.Chapter;
+import com.pragma.chapter.infrastructure.adapter.output.persistence.entity.ChapterEntity;
+import com.pragma.usuarios.domain.model.User;
+import com.pragma.usuarios.domain.model.enums.RolUsuario;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.entity.UsersEntity;
+import com.pragma.usuarios.infrastructure.adapter.output.persistence.mapper.UserMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the batch reads and writes of the directory sync against the test database, and
+ * that their statement count does not grow with the number of users.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(UserPersistenceAdapter.class)
+class UserSyncPersistenceTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private UserPersistenceAdapter userPersistenceAdapter;
+
+    @MockBean
+    private UserMapper userMapper;
+
+    private Statistics hibernateStatistics;
+    private ChapterEntity chapter;
+    private ChapterEntity otherChapter;
+
+    @BeforeEach
+    void setUp() {
+        chapter = testEntityManager.persist(new ChapterEntity(null, "Sync Chapter"));
+        otherChapter = testEntityManager.persist(new ChapterEntity(null, "Sync Other Chapter"));
+        persistUser("sync-a", RolUsuario.Tutor);
+        persistUser("sync-b", RolUsuario.Tutorado);
+        persistUser("sync-c", RolUsuario.Tutorado);
+        persistUser("sync-d", RolUsuario.Tutorado);
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        hibernateStatistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        hibernateStatistics.clear();
+    }
+
+    @Test
+    void findByEmailsShouldReadMatchingUsersInSingleStatement() {
+        List<User> users = userPersistenceAdapter.findByEmails(
+                List.of("sync-a@pragma.com", "sync-c@pragma.com", "unknown@pragma.com"));
+
+        assertEquals(1, hibernateStatistics.getPrepareStatementCount());
+        assertEquals(List.of("sync-a", "sync-c"), users.stream().map(User::getFirstName).sorted().toList());
+        assertEquals("Sync Chapter", users.get(0).getChapter().getName());
+    }
+
+    @Test
+    void updateProfilesShouldWriteProfileFieldsInBatches() {
+        List<User> users = userPersistenceAdapter.findByEmails(
+                List.of("sync-a@pragma.com", "sync-b@pragma.com", "sync-c@pragma.com"));
+        for (User user : users) {
+            user.setFirstName(user.getFirstName() + " Updated");
+            user.setSeniority(4);
+            user.setChapter(new Chapter(otherChapter.getId(), otherChapter.getName()));
+            user.setRol(RolUsuario.Administrador);
+        }
+        hibernateStatistics.clear();
+
+        userPersistenceAdapter.updateProfiles(users);
+        testEntityManager.flush();
+
+        // The users, their current chapter and one batched update, however many users change
+        assertTrue(hibernateStatistics.getPrepareStatementCount() <= 3,
+                "statements: " + hibernateStatistics.getPrepareStatementCount());
+        assertEquals(3, hibernateStatistics.getEntityUpdateCount());
+
+        testEntityManager.clear();
+        List<UsersEntity> stored = testEntityManager.getEntityManager()
+                .createQuery("SELECT u FROM UsersEntity u WHERE u.email LIKE 'sync-%'", UsersEntity.class)
+                .getResultList().stream()
+                .sorted(Comparator.comparing(UsersEntity::getEmail))
+                .toList();
+        assertEquals("sync-a Updated", stored.get(0).getFirstName());
+        assertEquals(4, stored.get(0).getSeniority());
+        assertEquals(otherChapter.getId(), stored.get(0).getChapter().getId());
+        // Role is not a profile field
+        assertEquals(RolUsuario.Tutor, stored.get(0).getRol());
+        assertEquals("sync-d", stored.get(3).getFirstName());
+        assertEquals(chapter.getId(), stored.get(3).getChapter().getId());
+    }
+
+    private void persistUser(String key, RolUsuario rol) {
+        UsersEntity user = new UsersEntity();
+        user.setFirstName(key);
+        user.setLastName("Test");
+        user.setEmail(key + "@pragma.com");
+        user.setGoogleUserId("google-" + key);
+        user.setChapter(chapter);
+        user.setRol(rol);
+        testEntityManager.persist(user);
+    }
+}